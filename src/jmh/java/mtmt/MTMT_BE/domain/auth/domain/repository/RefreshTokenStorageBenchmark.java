@@ -0,0 +1,157 @@
+package mtmt.MTMT_BE.domain.auth.domain.repository;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisHash;
+import org.springframework.data.redis.core.RedisKeyValueAdapter;
+import org.springframework.data.redis.core.RedisKeyValueTemplate;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.TimeToLive;
+import org.springframework.data.redis.core.index.Indexed;
+import org.springframework.data.redis.core.mapping.RedisMappingContext;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+
+// 로그인 한번이 refresh token 저장에 사용하는 Redis 명령 수, 키 수, 메모리를 이전 저장 구조와 비교하는 측정 harness
+// legacyRedisHash: 이전 방식 (@RedisHash + @Indexed + @TimeToLive 엔티티를 Spring Data Redis 의 keyvalue 로 저장)
+// compactStore: RefreshTokenStore (사용자당 키 하나에 토큰 패밀리별 digest 와 만료 시각을 저장, 스크립트 안에서 GET + SET EX)
+// 실제 Redis 가 필요함: -Dbench.redis.host, -Dbench.redis.port (기본 localhost:6379), -Dbench.redis.database (기본 15)
+// 측정마다 지정한 database 를 FLUSHDB 하므로 버려도 되는 Redis 에서 실행해야 함
+// 결과의 commandsPerLogin, keysPerLogin, bytesPerLogin 을 비교 (시간은 logins 번 저장한 전체 시간)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RefreshTokenStorageBenchmark {
+
+    private static final long TTL_SECONDS = 1_209_600L; // refresh token 유효기간 14일
+
+    @Param({"10000"})
+    public int logins;
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private RefreshTokenStore refreshTokenStore;
+    private RedisKeyValueAdapter legacyAdapter;
+    private RedisKeyValueTemplate legacyTemplate;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration(
+                System.getProperty("bench.redis.host", "localhost"),
+                Integer.getInteger("bench.redis.port", 6379));
+        configuration.setDatabase(Integer.getInteger("bench.redis.database", 15));
+        connectionFactory = new LettuceConnectionFactory(configuration);
+        connectionFactory.afterPropertiesSet();
+
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        refreshTokenStore = new RefreshTokenStore(redisTemplate);
+
+        // 이전 애플리케이션과 같은 기본 설정의 keyvalue 저장 경로 (@EnableRedisRepositories 가 만들던 adapter)
+        RedisTemplate<byte[], byte[]> binaryTemplate = new RedisTemplate<>();
+        binaryTemplate.setConnectionFactory(connectionFactory);
+        binaryTemplate.afterPropertiesSet();
+        RedisMappingContext mappingContext = new RedisMappingContext();
+        legacyAdapter = new RedisKeyValueAdapter(binaryTemplate, mappingContext);
+        legacyAdapter.afterPropertiesSet();
+        legacyTemplate = new RedisKeyValueTemplate(legacyAdapter, mappingContext);
+
+        // 실제 refresh token(JWT) 과 비슷한 길이(약 300자)의 임의 문자열
+        byte[] random = new byte[225];
+        new SecureRandom().nextBytes(random);
+        token = Base64.getUrlEncoder().withoutPadding().encodeToString(random);
+    }
+
+    @Setup(Level.Iteration)
+    public void flush() {
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushDb();
+            return null;
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        legacyAdapter.destroy();
+        connectionFactory.destroy();
+    }
+
+    @Benchmark
+    public void legacyRedisHash(LoginCost cost) {
+        measure(cost, i -> legacyTemplate.insert(email(i), new LegacyRefreshToken(email(i), token, TTL_SECONDS)));
+    }
+
+    @Benchmark
+    public void compactStore(LoginCost cost) {
+        measure(cost, i -> refreshTokenStore.save(email(i), "bench", token, TTL_SECONDS));
+    }
+
+    // 서로 다른 사용자 logins 명이 로그인한 전후의 Redis 통계 차이를 로그인 한번 기준으로 기록
+    // INFO stats 를 가장 마지막에 읽고 가장 먼저 읽어서, 차이에는 처음 읽은 INFO stats 자신만 더해짐
+    private void measure(LoginCost cost, IntConsumer login) {
+        long keysBefore = dbSize();
+        long memoryBefore = info("memory", "used_memory");
+        long commandsBefore = info("stats", "total_commands_processed");
+
+        for (int i = 0; i < logins; i++) login.accept(i);
+
+        long commandsAfter = info("stats", "total_commands_processed");
+        long memoryAfter = info("memory", "used_memory");
+        long keysAfter = dbSize();
+
+        cost.commandsPerLogin = (double) (commandsAfter - commandsBefore - 1) / logins;
+        cost.keysPerLogin = (double) (keysAfter - keysBefore) / logins;
+        cost.bytesPerLogin = (double) (memoryAfter - memoryBefore) / logins;
+    }
+
+    private long dbSize() {
+        Long size = redisTemplate.execute((RedisCallback<Long>) connection -> connection.serverCommands().dbSize());
+        return size != null ? size : 0;
+    }
+
+    private long info(String section, String field) {
+        Properties info = redisTemplate.execute((RedisCallback<Properties>) connection -> connection.serverCommands().info(section));
+        return Long.parseLong(info.getProperty(field).trim());
+    }
+
+    private static String email(int i) {
+        return "user" + i + "@example.com";
+    }
+
+    // 로그인 한번당 Redis 비용, public 필드가 결과에 함께 출력됨 (SingleShotTime 이므로 측정 한번의 값)
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class LoginCost {
+        public double commandsPerLogin;
+        public double keysPerLogin;
+        public double bytesPerLogin;
+    }
+
+    // 이전 RefreshToken 엔티티와 같은 매핑 (keyspace 도 이전 클래스 이름 그대로)
+    @RedisHash("mtmt.MTMT_BE.domain.auth.domain.entity.RefreshToken")
+    static class LegacyRefreshToken {
+
+        @Id
+        private final String email;
+
+        @Indexed
+        private final String token;
+
+        @TimeToLive
+        private final Long ttl;
+
+        LegacyRefreshToken(String email, String token, Long ttl) {
+            this.email = email;
+            this.token = token;
+            this.ttl = ttl;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package mtmt.MTMT_BE.domain.auth.presentation.resolver;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import mtmt.MTMT_BE.domain.auth.application.dto.signup.MenteeSignUpRequest;
+import mtmt.MTMT_BE.domain.auth.application.dto.signup.MentorSignUpRequest;
+import mtmt.MTMT_BE.domain.auth.application.dto.signup.SignUpRequest;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.MethodParameter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+// 회원가입 요청 body 를 SignUpRequest 로 만드는 비용을 비교하는 벤치마크
+// mapThenConvert: 기존 방식 (body -> Map<String, Object> -> objectMapper.convertValue -> validator.validate)
+// singlePass: SignUpRequestArgumentResolver (role 로 고른 ObjectReader 로 body 스트림을 record 로 바로 읽고 검증)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SignUpRequestDecodingBenchmark {
+
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {};
+
+    @Param({"mentor", "mentee"})
+    public String role;
+
+    private ObjectMapper objectMapper;
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private SignUpRequestArgumentResolver resolver;
+    private MethodParameter parameter;
+    private byte[] body;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        objectMapper = new ObjectMapper();
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+        resolver = new SignUpRequestArgumentResolver(objectMapper, validator);
+        parameter = new MethodParameter(SignUpRequestDecodingBenchmark.class.getDeclaredMethod("handler", SignUpRequest.class), 0);
+
+        String json = role.equals("mentor")
+                ? """
+                {"email":"mentor@example.com","password":"StrongPass123","name":"홍길동","gender":"MALE","birthDate":"1990-01-01","major":"ART_DRAWING"}
+                """
+                : """
+                {"email":"mentee@example.com","password":"SecurePass456","name":"김영희","gender":"FEMALE","birthDate":"2002-05-20","interestFirst":"SPORT_BASKETBALL","interestSecond":"SPORT_BASEBALL","interestThird":"ACADEMIC_MIDTERM"}
+                """;
+        body = json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public SignUpRequest mapThenConvert() throws Exception {
+        MockHttpServletRequest request = request();
+        Map<String, Object> map = objectMapper.readValue(request.getInputStream(), MAP_TYPE);
+        SignUpRequest signUpRequest = switch (request.getParameter("role").toLowerCase()) {
+            case "mentor" -> objectMapper.convertValue(map, MentorSignUpRequest.class);
+            case "mentee" -> objectMapper.convertValue(map, MenteeSignUpRequest.class);
+            default -> throw new IllegalArgumentException();
+        };
+        Set<ConstraintViolation<SignUpRequest>> violations = validator.validate(signUpRequest);
+        if (!violations.isEmpty()) throw new IllegalStateException();
+        return signUpRequest;
+    }
+
+    @Benchmark
+    public SignUpRequest singlePass() throws Exception {
+        return resolver.resolveArgument(parameter, null, new ServletWebRequest(request()), null);
+    }
+
+    private MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/auth/signup");
+        request.setParameter("role", role);
+        request.setContentType("application/json");
+        request.setContent(body);
+        return request;
+    }
+
+    // resolver 에 전달할 MethodParameter 를 만들기 위한 메서드
+    @SuppressWarnings("unused")
+    private void handler(@SignUpBody SignUpRequest request) {
+    }
+}
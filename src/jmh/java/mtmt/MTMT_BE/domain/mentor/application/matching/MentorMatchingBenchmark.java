@@ -0,0 +1,109 @@
+package mtmt.MTMT_BE.domain.mentor.application.matching;
+
+import mtmt.MTMT_BE.domain.mentor.domain.entity.Mentor;
+import mtmt.MTMT_BE.domain.mentor.domain.repository.MentorMatchingEntry;
+import mtmt.MTMT_BE.domain.user.domain.type.Category;
+import mtmt.MTMT_BE.domain.user.domain.type.Gender;
+import mtmt.MTMT_BE.domain.user.domain.type.Location;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+// 멘토 백만명 기준 매칭 인덱스의 조회, 변경, 재구성 비용을 측정하는 벤치마크
+// 조회: 관심 분야 3개 OR (+ 지역, 성별 AND) 후 rating 상위 10명
+// 변경: 멘토 한명의 rating 이 바뀌었을때 (이벤트로 반영되는 경우)
+// 재구성: id 범위 4개를 동시에 만들어 합치는 경우 (DB 조회 비용 제외), 재구성한 인덱스 크기는 결과의 indexBytes 로 출력
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MentorMatchingBenchmark {
+
+    private static final int MENTORS = 1_000_000;
+    private static final int PARTITIONS = 4;
+
+    private MentorMatchingEntry[] entries;
+    private MentorBitmaps bitmaps;
+    private MentorMatchQuery interestsOnly;
+    private MentorMatchQuery interestsLocationGender;
+    private SplittableRandom random;
+
+    @Setup
+    public void setUp() {
+        // 분야, 지역, 성별은 균등하게, rating 은 0 ~ 1000 에서 무작위로 생성
+        SplittableRandom generator = new SplittableRandom(42);
+        Category[] categories = Category.values();
+        Location[] locations = Location.values();
+        Gender[] genders = Gender.values();
+
+        entries = new MentorMatchingEntry[MENTORS];
+        bitmaps = new MentorBitmaps();
+        for (int i = 0; i < MENTORS; i++) {
+            int rating = generator.nextInt(MentorBitmaps.MAX_RATING + 1);
+            entries[i] = new MentorMatchingEntry((long) i + 1,
+                    categories[generator.nextInt(categories.length)],
+                    locations[generator.nextInt(locations.length)],
+                    genders[generator.nextInt(genders.length)],
+                    Mentor.calculateRatingSectionFromRating(rating),
+                    rating);
+            bitmaps.put(entries[i]);
+        }
+        bitmaps.optimize();
+
+        Set<Category> interests = Set.of(Category.MUSIC_GUITAR, Category.ART_DRAWING, Category.ACADEMIC_CS);
+        interestsOnly = new MentorMatchQuery(interests, null, null, null);
+        interestsLocationGender = new MentorMatchQuery(interests, Location.SEOUL, Gender.FEMALE, null);
+        random = new SplittableRandom(7);
+    }
+
+    @Benchmark
+    public List<Long> matchInterests() {
+        return bitmaps.match(interestsOnly, 10);
+    }
+
+    @Benchmark
+    public List<Long> matchInterestsLocationGender() {
+        return bitmaps.match(interestsLocationGender, 10);
+    }
+
+    @Benchmark
+    public MentorBitmaps updateRating() {
+        MentorMatchingEntry entry = entries[random.nextInt(MENTORS)];
+        int rating = random.nextInt(MentorBitmaps.MAX_RATING + 1);
+        bitmaps.put(new MentorMatchingEntry(entry.mentorId(), entry.major(), entry.location(), entry.gender(),
+                Mentor.calculateRatingSectionFromRating(rating), rating));
+        return bitmaps;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public MentorBitmaps rebuild(IndexSize indexSize) {
+        int rangeSize = MENTORS / PARTITIONS;
+        List<MentorBitmaps> partitions = IntStream.range(0, PARTITIONS).parallel()
+                .mapToObj(partition -> {
+                    MentorBitmaps bitmaps = new MentorBitmaps();
+                    for (int i = partition * rangeSize; i < (partition + 1) * rangeSize; i++) bitmaps.put(entries[i]);
+                    return bitmaps;
+                })
+                .toList();
+
+        MentorBitmaps merged = new MentorBitmaps();
+        partitions.forEach(merged::merge);
+        merged.optimize();
+        indexSize.mentors = merged.size();
+        indexSize.indexBytes = merged.sizeInBytes();
+        return merged;
+    }
+
+    // AuxCounters 의 public 필드가 결과에 함께 출력됨 (SingleShotTime 이므로 측정 한번의 값)
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class IndexSize {
+        public long mentors;
+        public long indexBytes;
+    }
+}
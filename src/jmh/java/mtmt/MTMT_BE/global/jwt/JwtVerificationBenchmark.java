@@ -0,0 +1,83 @@
+package mtmt.MTMT_BE.global.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import mtmt.MTMT_BE.domain.user.domain.entity.User;
+import mtmt.MTMT_BE.domain.user.domain.type.Gender;
+import mtmt.MTMT_BE.domain.user.domain.type.Role;
+import mtmt.MTMT_BE.global.security.CustomUserDetails;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import javax.crypto.SecretKey;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+// JwtAuthenticationFilter 한번의 요청에서 토큰 검증에 드는 비용을 비교하는 벤치마크
+// legacy: 이전 validateToken + getUsernameFromToken + getTokenType (호출마다 파서를 새로 빌드, 파싱, 서명검증 3회)
+// verifyUncached: verify 1회 (파싱, 서명검증 1회)
+// verifyCached: 같은 토큰을 재사용하는 경우 (digest 계산 + 캐시 조회)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-benchmark-secret-key-benchmark-secret-key-0123456789";
+
+    private SecretKey key;
+    private JwtTokenProvider cachedProvider;
+    private JwtTokenProvider uncachedProvider;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        key = Keys.hmacShaKeyFor(SECRET.getBytes());
+        cachedProvider = new JwtTokenProvider(SECRET, 3_600_000L, 1_209_600_000L, 10_000);
+        uncachedProvider = new JwtTokenProvider(SECRET, 3_600_000L, 1_209_600_000L, 0);
+
+        User user = User.builder()
+                .id(1L)
+                .email("bench@example.com")
+                .password("{noop}password")
+                .name("벤치마크")
+                .role(Role.MENTOR)
+                .birthDate(LocalDate.of(2000, 1, 1))
+                .gender(Gender.MALE)
+                .age(25)
+                .build();
+        CustomUserDetails userDetails = new CustomUserDetails(user);
+        accessToken = cachedProvider.generateTokens(
+                new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()), 0L, "bench"
+        ).getAccessToken();
+
+        cachedProvider.verify(accessToken); // 캐시 워밍업
+    }
+
+    @Benchmark
+    public void legacy(Blackhole blackhole) {
+        blackhole.consume(legacyClaims(accessToken)); // validateToken
+        blackhole.consume(legacyClaims(accessToken).getSubject()); // getUsernameFromToken
+        blackhole.consume(legacyClaims(accessToken).get("tokenType", String.class)); // getTokenType
+    }
+
+    @Benchmark
+    public VerifiedToken verifyUncached() {
+        return uncachedProvider.verify(accessToken);
+    }
+
+    @Benchmark
+    public VerifiedToken verifyCached() {
+        return cachedProvider.verify(accessToken);
+    }
+
+    // 이전 JwtTokenProvider.getClaims 와 같이 호출마다 파서를 빌드 (JwtTokenProvider 는 이제 공유 파서를 사용하므로 여기서 재현)
+    private Claims legacyClaims(String token) {
+        return Jwts.parser()
+                .verifyWith(key)
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+}
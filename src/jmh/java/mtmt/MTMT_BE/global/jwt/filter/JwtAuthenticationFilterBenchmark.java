@@ -0,0 +1,94 @@
+package mtmt.MTMT_BE.global.jwt.filter;
+
+import jakarta.servlet.FilterChain;
+import mtmt.MTMT_BE.domain.user.domain.entity.User;
+import mtmt.MTMT_BE.domain.user.domain.type.Gender;
+import mtmt.MTMT_BE.domain.user.domain.type.Role;
+import mtmt.MTMT_BE.global.jwt.JwtTokenProvider;
+import mtmt.MTMT_BE.global.security.CustomUserDetails;
+import mtmt.MTMT_BE.global.security.epoch.TokenEpochStore;
+import mtmt.MTMT_BE.global.security.revocation.AccessTokenRevocationStore;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.AntPathMatcher;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+// 컨트롤러에 도달하기 전 JwtAuthenticationFilter 가 요청 하나에 추가하는 비용을 측정하는 벤치마크 (목표: 요청당 5µs 보다 충분히 작게)
+// permittedPath: 화이트 리스트 경로 (shouldNotFilter 만 실행)
+// authenticatedRequest: Bearer 토큰 추출 -> 검증(캐시 적중) -> epoch, 폐기 확인 -> SecurityContext 등록
+// legacyAntPathMatching: 기존 방식(요청마다 AntPathMatcher 로 패턴 6개를 비교) 비교용
+// Redis 는 사용하지 않음 (epoch, 폐기 여부는 로컬 메모리에서 판단되는 경로만 측정)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-benchmark-secret-key-benchmark-secret-key-0123456789";
+
+    private static final String[] LEGACY_PERMITTED_PATHS = {
+            "/auth/signup", "/auth/login", "/auth/refresh", "/health", "/swagger-ui/**", "/v3/api-docs/**"
+    };
+
+    private final AntPathMatcher antPathMatcher = new AntPathMatcher();
+    // 컨트롤러 대신 SecurityContext 만 비우는 chain (Level.Invocation TearDown 의 측정 오차를 피하기 위함)
+    private final FilterChain noOpChain = (request, response) -> SecurityContextHolder.clearContext();
+
+    private JwtAuthenticationFilter filter;
+    private MockHttpServletRequest permittedRequest;
+    private MockHttpServletRequest authenticatedRequest;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        JwtTokenProvider tokenProvider = new JwtTokenProvider(SECRET, 3_600_000L, 1_209_600_000L, 10_000);
+        filter = new JwtAuthenticationFilter(
+                tokenProvider,
+                null, // stateless principal 이므로 사용되지 않음
+                new TokenEpochStore(null, null),
+                new AccessTokenRevocationStore(null, null, 100_000, 0.001)
+        );
+
+        User user = User.builder()
+                .id(1L)
+                .email("bench@example.com")
+                .password("{noop}password")
+                .name("벤치마크")
+                .role(Role.MENTOR)
+                .birthDate(LocalDate.of(2000, 1, 1))
+                .gender(Gender.MALE)
+                .age(25)
+                .build();
+        CustomUserDetails userDetails = new CustomUserDetails(user);
+        String accessToken = tokenProvider.generateTokens(
+                new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()), 0L, "bench"
+        ).getAccessToken();
+
+        permittedRequest = new MockHttpServletRequest("POST", "/auth/login");
+        authenticatedRequest = new MockHttpServletRequest("GET", "/mentors/1");
+        authenticatedRequest.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken);
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public void permittedPath() throws Exception {
+        filter.doFilter(permittedRequest, response, noOpChain);
+    }
+
+    @Benchmark
+    public void authenticatedRequest() throws Exception {
+        filter.doFilter(authenticatedRequest, response, noOpChain);
+    }
+
+    @Benchmark
+    public boolean legacyAntPathMatching() {
+        String path = authenticatedRequest.getRequestURI();
+        return Arrays.stream(LEGACY_PERMITTED_PATHS).anyMatch(pattern -> antPathMatcher.match(pattern, path));
+    }
+}
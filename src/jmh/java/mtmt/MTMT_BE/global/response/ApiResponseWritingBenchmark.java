@@ -0,0 +1,128 @@
+package mtmt.MTMT_BE.global.response;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+// 필터, Security 핸들러, String 응답에서 ApiResponse 를 쓰는 비용(시간, 요청당 할당량)을 비교하는 벤치마크
+// 할당량은 build.gradle 의 jmh 설정에 등록된 gc profiler 의 gc.alloc.rate.norm (B/op) 값으로 확인
+// legacy*: 각 클래스가 new ObjectMapper() 로 JSON 문자열을 만든 뒤 Writer 로 다시 쓰는 기존 방식
+// 그 외: ApiResponseWriter (미리 만든 고정 오류 bytes, 캐싱된 ObjectWriter 로 output stream 에 바로 직렬화)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ApiResponseWritingBenchmark {
+
+    private ObjectMapper legacyObjectMapper;
+    private ApiResponseWriter apiResponseWriter;
+    private StringHttpMessageConverter stringConverter;
+    private MockHttpServletRequest request;
+    private DiscardingResponse response;
+
+    @Setup
+    public void setUp() {
+        legacyObjectMapper = new ObjectMapper();
+        ObjectMapper objectMapper = new ObjectMapper();
+        apiResponseWriter = new ApiResponseWriter(new ApiResponseObjectMappers(objectMapper, objectMapper, objectMapper));
+        stringConverter = new StringHttpMessageConverter(StandardCharsets.UTF_8);
+        request = new MockHttpServletRequest();
+        request.addHeader("Accept", "application/json");
+        response = new DiscardingResponse(new MockHttpServletResponse());
+    }
+
+    @Benchmark
+    public void legacyFixedError() throws IOException {
+        response.setStatus(HttpStatus.FORBIDDEN.value());
+        response.setContentType("application/json");
+        response.setCharacterEncoding("UTF-8");
+        String json = legacyObjectMapper.writeValueAsString(ApiResponse.error(HttpStatus.FORBIDDEN.value(), "Access denied"));
+        response.getWriter().write(json);
+        response.getWriter().flush();
+    }
+
+    @Benchmark
+    public void fixedError() throws IOException {
+        apiResponseWriter.writeError(request, response, FixedErrorResponse.ACCESS_DENIED);
+    }
+
+    @Benchmark
+    public void legacyCustomError() throws IOException {
+        response.setStatus(HttpStatus.NOT_FOUND.value());
+        response.setContentType("application/json");
+        response.setCharacterEncoding("UTF-8");
+        String json = legacyObjectMapper.writeValueAsString(ApiResponse.error(HttpStatus.NOT_FOUND.value(), "User not found"));
+        response.getWriter().write(json);
+        response.getWriter().flush();
+    }
+
+    @Benchmark
+    public void customError() throws IOException {
+        apiResponseWriter.writeError(request, response, HttpStatus.NOT_FOUND, "User not found");
+    }
+
+    // 기존 ApiResponseWrapper: String body -> JSON 문자열 -> StringHttpMessageConverter 가 다시 인코딩
+    @Benchmark
+    public void legacyStringBody() throws IOException {
+        String json = legacyObjectMapper.writeValueAsString(ApiResponse.success("Logout successful"));
+        stringConverter.write(json, null, new ServletServerHttpResponse(response));
+    }
+
+    @Benchmark
+    public void stringBody() throws IOException {
+        apiResponseWriter.write(new ServletServerHttpResponse(response), ApiResponse.success("Logout successful"), ApiResponseFormat.JSON);
+    }
+
+    // 응답 body 를 버리는 response (MockHttpServletResponse 의 버퍼 증가가 측정에 섞이지 않도록)
+    // 실제 컨테이너처럼 getWriter, getOutputStream 은 같은 객체를 반복해서 반환
+    static class DiscardingResponse extends HttpServletResponseWrapper {
+
+        private final ServletOutputStream outputStream = new ServletOutputStream() {
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+            }
+
+            @Override
+            public void write(int b) {
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+            }
+        };
+
+        private final PrintWriter writer = new PrintWriter(OutputStream.nullOutputStream());
+
+        DiscardingResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() {
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() {
+            return writer;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package mtmt.MTMT_BE.global.response.stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import mtmt.MTMT_BE.domain.user.application.dto.UserSummaryResponse;
+import mtmt.MTMT_BE.global.response.ApiResponse;
+import mtmt.MTMT_BE.global.response.ApiResponseObjectMappers;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+// 목록 응답을 쓰는 비용을 비교하는 벤치마크
+// materialized: 기존 방식 (목록 전체를 List 로 만든 뒤 ApiResponse 로 감싸서 한번에 직렬화) -> 모든 행이 응답이 끝날때까지 힙에 남음
+// streaming: StreamingApiResponseConverter (행을 하나씩 만들어 직렬화하고 flush-rows 마다 flush) -> 동시에 살아있는 행은 하나뿐
+// 두 방식의 총 할당량(gc.alloc.rate.norm)은 비슷하므로, 응답을 쓰는 동안 살아있는 힙은 *RetainedHeap 벤치마크의 retainedHeapBytes 로 비교
+// (materialized 는 rows 에 비례해서 커지고, streaming 은 rows 와 관계없이 일정해야 함)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StreamingApiResponseBenchmark {
+
+    @Param({"1000", "100000"})
+    public int rows;
+
+    private ObjectMapper objectMapper;
+    private StreamingApiResponseConverter converter;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        converter = new StreamingApiResponseConverter(new ApiResponseObjectMappers(objectMapper, objectMapper, objectMapper), 500);
+    }
+
+    @Benchmark
+    public void materialized() throws IOException {
+        writeMaterialized(OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public void streaming() throws IOException {
+        writeStreaming(OutputStream.nullOutputStream());
+    }
+
+    // 응답을 쓰는 중에 GC 후 남아있는 힙을 측정, 매 측정마다 full GC 를 하므로 시간은 의미 없음
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    public void materializedRetainedHeap(RetainedHeap retainedHeap) throws IOException {
+        try (OutputStream body = retainedHeap.probe()) {
+            writeMaterialized(body);
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    public void streamingRetainedHeap(RetainedHeap retainedHeap) throws IOException {
+        try (OutputStream body = retainedHeap.probe()) {
+            writeStreaming(body);
+        }
+    }
+
+    private void writeMaterialized(OutputStream body) throws IOException {
+        List<UserSummaryResponse> users = users().toList();
+        objectMapper.writeValue(body, ApiResponse.success(users));
+    }
+
+    private void writeStreaming(OutputStream body) throws IOException {
+        StreamingQuery<UserSummaryResponse> query = this::users;
+        converter.write(ApiResponse.success(query), null, MediaType.APPLICATION_JSON, new DiscardingOutputMessage(body));
+    }
+
+    private Stream<UserSummaryResponse> users() {
+        return IntStream.range(0, rows).mapToObj(i -> new UserSummaryResponse(
+                (long) i, "user" + i + "@example.com", "사용자" + i, "MENTEE", "FEMALE", "2002-05-20", 23, null));
+    }
+
+    // 응답 body 가 probeBytes 만큼 쓰여질때마다 GC 를 실행하고, 측정 시작 전보다 늘어난 사용 중인 힙의 최대값을 기록
+    // AuxCounters 의 public 필드가 결과에 retainedHeapBytes 로 함께 출력됨 (SingleShotTime 이므로 측정 한번의 값)
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class RetainedHeap {
+
+        private static final long PROBE_BYTES = 1 << 20;
+        private static final MemoryMXBean MEMORY = ManagementFactory.getMemoryMXBean();
+
+        public long retainedHeapBytes;
+
+        private long baseline;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            retainedHeapBytes = 0;
+            baseline = usedAfterGc();
+        }
+
+        OutputStream probe() {
+            return new OutputStream() {
+                private long written;
+
+                @Override
+                public void write(int b) {
+                    count(1);
+                }
+
+                @Override
+                public void write(byte[] b, int off, int len) {
+                    count(len);
+                }
+
+                @Override
+                public void close() {
+                    sample(); // 응답을 모두 쓴 시점 (materialized 는 ObjectMapper 가 닫을때까지 목록 전체를 들고 있음)
+                }
+
+                private void count(int len) {
+                    long before = written / PROBE_BYTES;
+                    written += len;
+                    if (written / PROBE_BYTES != before) sample();
+                }
+            };
+        }
+
+        private void sample() {
+            retainedHeapBytes = Math.max(retainedHeapBytes, usedAfterGc() - baseline);
+        }
+
+        private static long usedAfterGc() {
+            System.gc();
+            return MEMORY.getHeapMemoryUsage().getUsed();
+        }
+    }
+
+    // body 를 버리는 응답
+    static class DiscardingOutputMessage implements HttpOutputMessage {
+        private final HttpHeaders headers = new HttpHeaders();
+        private final OutputStream body;
+
+        DiscardingOutputMessage(OutputStream body) {
+            this.body = body;
+        }
+
+        @Override
+        public OutputStream getBody() {
+            return body;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    }
+}
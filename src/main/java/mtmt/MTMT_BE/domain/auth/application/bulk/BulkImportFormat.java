@@ -0,0 +1,26 @@
+package mtmt.MTMT_BE.domain.auth.application.bulk;
+
+import org.springframework.http.MediaType;
+
+// 일괄 등록에서 지원하는 파일 형식, 요청의 Content-Type 으로 구분
+public enum BulkImportFormat {
+
+    NDJSON(MediaType.APPLICATION_NDJSON), // 한 줄에 JSON 객체 하나 (application/x-ndjson)
+    CSV(MediaType.parseMediaType("text/csv")); // 첫 줄은 header (text/csv)
+
+    private final MediaType mediaType;
+
+    BulkImportFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public static BulkImportFormat from(String contentType) {
+        if (contentType != null) {
+            MediaType requested = MediaType.parseMediaType(contentType);
+            for (BulkImportFormat format : values()) {
+                if (format.mediaType.includes(requested)) return format;
+            }
+        }
+        throw new IllegalArgumentException("Content-Type must be application/x-ndjson or text/csv");
+    }
+}
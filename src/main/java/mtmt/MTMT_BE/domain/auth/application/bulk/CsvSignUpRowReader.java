@@ -0,0 +1,75 @@
+package mtmt.MTMT_BE.domain.auth.application.bulk;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import mtmt.MTMT_BE.domain.auth.application.dto.signup.SignUpRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+// CSV 형식의 reader, 첫 줄의 header 를 컬럼 이름으로 사용 (email,password,name,gender,birthDate,major ...)
+// 각 행을 Map 으로 읽은 뒤 역할별 SignUpRequest 타입으로 변환하므로, 변환에 실패한 행만 거절됨
+public class CsvSignUpRowReader implements SignUpRowReader {
+
+    private static final CsvMapper CSV_MAPPER = new CsvMapper();
+    private static final CsvSchema HEADER_SCHEMA = CsvSchema.emptySchema().withHeader();
+
+    private final MappingIterator<Map<String, String>> rows;
+    private final ObjectMapper objectMapper;
+    private final Class<? extends SignUpRequest> requestType;
+
+    private long row;
+
+    public CsvSignUpRowReader(InputStream inputStream, ObjectMapper objectMapper, Class<? extends SignUpRequest> requestType) {
+        try {
+            this.rows = CSV_MAPPER.readerForMapOf(String.class)
+                    .with(HEADER_SCHEMA)
+                    .readValues(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.objectMapper = objectMapper;
+        this.requestType = requestType;
+    }
+
+    @Override
+    public boolean hasNext() {
+        try {
+            return rows.hasNextValue();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public SignUpRow next() {
+        if (!hasNext()) throw new NoSuchElementException();
+        row++;
+
+        Map<String, String> columns;
+        try {
+            columns = rows.nextValue();
+        } catch (IOException e) {
+            // 잘못된 행을 만나면 MappingIterator 가 다음 행부터 다시 읽을 수 있도록 위치를 맞춰줌
+            return SignUpRow.malformed(row, "Malformed CSV row");
+        }
+
+        try {
+            return SignUpRow.parsed(row, objectMapper.convertValue(columns, requestType));
+        } catch (IllegalArgumentException e) {
+            return SignUpRow.malformed(row, "Invalid CSV columns");
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        rows.close();
+    }
+}
@@ -0,0 +1,65 @@
+package mtmt.MTMT_BE.domain.auth.application.bulk;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+import mtmt.MTMT_BE.domain.auth.application.dto.signup.SignUpRequest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.NoSuchElementException;
+
+// NDJSON(한 줄에 JSON 객체 하나) 형식의 reader, 빈 줄은 건너뜀
+// 한 줄씩 따로 파싱하므로, 잘못된 줄이 있어도 그 줄만 거절하고 다음 줄부터 계속 읽을 수 있음
+public class NdjsonSignUpRowReader implements SignUpRowReader {
+
+    private final BufferedReader reader;
+    private final ObjectReader objectReader;
+
+    private String nextLine; // 미리 읽어둔 다음 줄 (hasNext 판단용)
+    private long row;
+
+    // objectReader: objectMapper.readerFor(MentorSignUpRequest.class) 처럼 역할별 타입이 지정된 reader
+    public NdjsonSignUpRowReader(InputStream inputStream, ObjectReader objectReader) {
+        this.reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        this.objectReader = objectReader;
+    }
+
+    @Override
+    public boolean hasNext() {
+        try {
+            while (nextLine == null) {
+                String line = reader.readLine();
+                if (line == null) return false;
+                if (!line.isBlank()) nextLine = line;
+            }
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public SignUpRow next() {
+        if (!hasNext()) throw new NoSuchElementException();
+
+        String line = nextLine;
+        nextLine = null;
+        row++;
+
+        try {
+            SignUpRequest request = objectReader.readValue(line); // objectReader 는 역할에 맞는 Mentor/MenteeSignUpRequest 타입으로 생성됨
+            return SignUpRow.parsed(row, request);
+        } catch (JsonProcessingException e) {
+            return SignUpRow.malformed(row, "Malformed JSON row");
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,23 @@
+package mtmt.MTMT_BE.domain.auth.application.bulk;
+
+import mtmt.MTMT_BE.domain.auth.application.dto.signup.SignUpRequest;
+
+// 업로드된 파일의 한 행
+// 형식이 잘못되어 SignUpRequest 로 변환하지 못했다면 request 는 null 이고 error 에 이유가 담김
+public record SignUpRow(
+        long row,
+        SignUpRequest request,
+        String error
+) {
+    public static SignUpRow parsed(long row, SignUpRequest request) {
+        return new SignUpRow(row, request, null);
+    }
+
+    public static SignUpRow malformed(long row, String error) {
+        return new SignUpRow(row, null, error);
+    }
+
+    public boolean isMalformed() {
+        return request == null;
+    }
+}
@@ -0,0 +1,12 @@
+package mtmt.MTMT_BE.domain.auth.application.bulk;
+
+import java.io.IOException;
+import java.util.Iterator;
+
+// 업로드된 파일을 한 행씩 읽어 SignUpRow 로 변환하는 reader
+// 파일 전체를 메모리에 올리지 않고 요청 body 스트림에서 필요한 만큼만 읽음
+public interface SignUpRowReader extends Iterator<SignUpRow>, AutoCloseable {
+
+    @Override
+    void close() throws IOException;
+}
@@ -0,0 +1,15 @@
+package mtmt.MTMT_BE.domain.auth.application.dto.bulk;
+
+// 일괄 등록 진행 상황, chunk 하나의 처리가 끝날때마다 NDJSON 한 줄로 응답에 기록됨
+// processed, imported, rejected 는 요청 시작부터 누적된 값
+public record BulkImportChunkProgress(
+        String type,
+        int chunk,
+        long processed,
+        long imported,
+        long rejected
+) {
+    public BulkImportChunkProgress(int chunk, long processed, long imported, long rejected) {
+        this("chunk", chunk, processed, imported, rejected);
+    }
+}
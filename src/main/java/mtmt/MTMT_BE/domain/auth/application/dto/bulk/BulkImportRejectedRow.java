@@ -0,0 +1,14 @@
+package mtmt.MTMT_BE.domain.auth.application.dto.bulk;
+
+// 등록되지 못한 행, 행 번호(1부터 시작, CSV 의 header 제외)와 이유를 함께 기록
+// 거절된 행을 메모리에 모아두지 않고 chunk 처리가 끝날때마다 바로 응답에 기록함
+public record BulkImportRejectedRow(
+        String type,
+        long row,
+        String email,
+        String reason
+) {
+    public BulkImportRejectedRow(long row, String email, String reason) {
+        this("rejected", row, email, reason);
+    }
+}
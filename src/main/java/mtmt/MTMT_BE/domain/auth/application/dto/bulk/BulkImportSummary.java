@@ -0,0 +1,14 @@
+package mtmt.MTMT_BE.domain.auth.application.dto.bulk;
+
+// 일괄 등록이 끝났을때 마지막 줄로 기록되는 결과 요약
+public record BulkImportSummary(
+        String type,
+        long processed,
+        long imported,
+        long rejected,
+        long elapsedMillis
+) {
+    public BulkImportSummary(long processed, long imported, long rejected, long elapsedMillis) {
+        this("summary", processed, imported, rejected, elapsedMillis);
+    }
+}
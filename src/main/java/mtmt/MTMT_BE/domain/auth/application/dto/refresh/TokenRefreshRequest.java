@@ -0,0 +1,8 @@
+package mtmt.MTMT_BE.domain.auth.application.dto.refresh;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record TokenRefreshRequest(
+        @NotBlank(message = "Refresh token is required.")
+        String refreshToken
+) {}
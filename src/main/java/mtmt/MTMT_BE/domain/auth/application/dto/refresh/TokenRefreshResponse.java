@@ -0,0 +1,21 @@
+package mtmt.MTMT_BE.domain.auth.application.dto.refresh;
+
+import mtmt.MTMT_BE.global.jwt.JwtTokens;
+
+import java.time.LocalDateTime;
+
+public record TokenRefreshResponse(
+        String accessToken,
+        String refreshToken,
+        LocalDateTime accessTokenExpiresAt,
+        LocalDateTime refreshTokenExpiresAt
+) {
+    public TokenRefreshResponse(JwtTokens jwtTokens) {
+        this(
+                jwtTokens.getAccessToken(),
+                jwtTokens.getRefreshToken(),
+                jwtTokens.getAccessTokenExpiresAt(),
+                jwtTokens.getRefreshTokenExpiresAt()
+        );
+    }
+}
@@ -0,0 +1,68 @@
+package mtmt.MTMT_BE.domain.auth.application.factory;
+
+import mtmt.MTMT_BE.domain.auth.application.dto.signup.MenteeSignUpRequest;
+import mtmt.MTMT_BE.domain.auth.application.dto.signup.MentorSignUpRequest;
+import mtmt.MTMT_BE.domain.auth.application.dto.signup.SignUpRequest;
+import mtmt.MTMT_BE.domain.mentee.domain.entity.Mentee;
+import mtmt.MTMT_BE.domain.mentor.domain.entity.Mentor;
+import mtmt.MTMT_BE.domain.user.domain.entity.User;
+import mtmt.MTMT_BE.domain.user.domain.type.Category;
+import mtmt.MTMT_BE.domain.user.domain.type.Gender;
+import mtmt.MTMT_BE.domain.user.domain.type.Role;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+// 회원가입 요청(SignUpRequest)으로 User, Mentor, Mentee 엔티티를 만드는 클래스
+// 단건 회원가입(UserSignUpService)과 일괄 등록(UserBulkImportService)이 같은 규칙으로 엔티티를 만들도록 한 곳에 모아둠
+// 비밀번호는 이미 encoding 된 값을 전달받음 (해싱은 PasswordHashingExecutor 에서 수행)
+@Component
+public class SignUpEntityFactory {
+
+    private static final DateTimeFormatter BIRTH_DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+    private static final Integer INITIAL_RATING = 200; // 멘토 초기 레이팅
+    private static final Integer INITIAL_EXPERIENCE_POINT = 0; // 멘티 초기 경험치
+
+    // 멘토 엔티티 생성, Mentor 는 User 를 cascade 로 함께 저장함
+    public Mentor createMentor(MentorSignUpRequest request, String encodedPassword) {
+        return Mentor.builder()
+                .userId(createUser(request, Role.MENTOR, encodedPassword)) // 외래키로 user 참조
+                .bio(null)
+                .major(Category.valueOf(request.major()))
+                .rating(INITIAL_RATING)
+                .ratingSection(Mentor.calculateRatingSectionFromRating(INITIAL_RATING))
+                .build();
+    }
+
+    // 멘티 엔티티 생성, Mentee 는 User 를 cascade 로 함께 저장함
+    public Mentee createMentee(MenteeSignUpRequest request, String encodedPassword) {
+        return Mentee.builder()
+                .userId(createUser(request, Role.MENTEE, encodedPassword))
+                .exp(INITIAL_EXPERIENCE_POINT)
+                .level(Mentee.calculateLevelFromExp(INITIAL_EXPERIENCE_POINT))
+                .interestFirst(Category.valueOf(request.interestFirst()))
+                .interestSecond(Category.valueOf(request.interestSecond()))
+                .interestThird(Category.valueOf(request.interestThird()))
+                .build();
+    }
+
+    private User createUser(SignUpRequest request, Role role, String encodedPassword) {
+        // String 타입의 데이터인 birthDate를 formatter를 이용해 LocalDate 타입으로 변경
+        LocalDate birthDate = LocalDate.parse(request.birthDate(), BIRTH_DATE_FORMATTER);
+
+        // 빌더 패턴 사용
+        return User.builder()
+                .email(request.email())
+                .password(encodedPassword)
+                .name(request.name())
+                .role(role)
+                .thumbnail(null)
+                .location(null)
+                .birthDate(birthDate)
+                .gender(Gender.valueOf(request.gender()))
+                .age(User.calculateAgeFromBirthDate(birthDate))
+                .build();
+    }
+}
@@ -0,0 +1,98 @@
+package mtmt.MTMT_BE.domain.auth.application.migration;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import mtmt.MTMT_BE.domain.auth.domain.repository.RefreshTokenStore;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 이전 @RedisHash 기반 RefreshToken 저장 구조를 RefreshTokenStore 의 구조로 옮기는 일회성 마이그레이션
+// 이전 구조는 저장 한번에 다음 키들을 만들었고, 만료된 인덱스 키는 정리되지 않고 계속 쌓였다
+// - {keyspace}:{email}          hash (_class, email, token, ttl)
+// - {keyspace}                  모든 email 을 담는 set
+// - {keyspace}:token:{token}    @Indexed 필드를 위한 index set
+// - {keyspace}:{email}:idx      해당 항목이 속한 index 목록
+// - {keyspace}:{email}:phantom  만료 이벤트용 phantom 키
+// auth.refresh-token.migrate-legacy=true 로 한번 실행하면, 아직 유효한 토큰은 남은 TTL 그대로 옮기고 이전 키들은 모두 삭제한다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "auth.refresh-token.migrate-legacy", havingValue = "true")
+public class LegacyRefreshTokenMigration implements ApplicationRunner {
+
+    // @RedisHash 에 value 를 지정하지 않았으므로 keyspace 는 클래스의 전체 이름이었음
+    private static final String LEGACY_KEYSPACE = "mtmt.MTMT_BE.domain.auth.domain.entity.RefreshToken";
+    private static final int BATCH_SIZE = 500;
+
+    private final StringRedisTemplate redisTemplate;
+    private final RefreshTokenStore refreshTokenStore;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int migrated = 0;
+        int expired = 0;
+
+        // 1. keyspace set 에 등록된 email 마다 토큰을 새 구조로 옮기고 이전 키 삭제
+        try (Cursor<String> emails = redisTemplate.opsForSet()
+                .scan(LEGACY_KEYSPACE, ScanOptions.scanOptions().count(BATCH_SIZE).build())) {
+            while (emails.hasNext()) {
+                String email = emails.next();
+                String hashKey = LEGACY_KEYSPACE + ":" + email;
+
+                Object token = redisTemplate.opsForHash().get(hashKey, "token");
+                Long ttl = redisTemplate.getExpire(hashKey, TimeUnit.SECONDS);
+
+                if (token != null && ttl != null && ttl > 0) {
+                    // 이전 토큰에는 family claim 이 없으므로 LEGACY_FAMILY 에 저장, 첫 refresh 때 새 패밀리로 옮겨짐
+                    refreshTokenStore.saveIfAbsent(email, RefreshTokenStore.LEGACY_FAMILY, token.toString(), ttl);
+                    migrated++;
+                } else {
+                    expired++;
+                }
+
+                redisTemplate.delete(List.of(hashKey, hashKey + ":idx", hashKey + ":phantom"));
+            }
+        }
+
+        // 2. 정리되지 않고 남아있던 index set 삭제
+        int removedIndexes = deleteByPattern(LEGACY_KEYSPACE + ":token:*");
+
+        // 3. keyspace set 삭제
+        redisTemplate.delete(LEGACY_KEYSPACE);
+
+        log.info("Legacy refresh token migration finished: migrated={}, expired={}, removedIndexKeys={}",
+                migrated, expired, removedIndexes);
+    }
+
+    // 패턴에 맞는 키를 SCAN 으로 찾아 BATCH_SIZE 단위로 삭제 (KEYS 명령은 Redis 를 블로킹하므로 사용하지 않음)
+    private int deleteByPattern(String pattern) {
+        int removed = 0;
+        List<String> batch = new ArrayList<>(BATCH_SIZE);
+
+        try (Cursor<String> keys = redisTemplate.scan(ScanOptions.scanOptions().match(pattern).count(BATCH_SIZE).build())) {
+            while (keys.hasNext()) {
+                batch.add(keys.next());
+                if (batch.size() == BATCH_SIZE) {
+                    removed += batch.size();
+                    redisTemplate.delete(batch);
+                    batch.clear();
+                }
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            removed += batch.size();
+            redisTemplate.delete(batch);
+        }
+        return removed;
+    }
+}
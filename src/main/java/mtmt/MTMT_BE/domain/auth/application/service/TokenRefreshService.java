@@ -0,0 +1,73 @@
+package mtmt.MTMT_BE.domain.auth.application.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import mtmt.MTMT_BE.domain.auth.application.dto.refresh.TokenRefreshRequest;
+import mtmt.MTMT_BE.domain.auth.application.dto.refresh.TokenRefreshResponse;
+import mtmt.MTMT_BE.domain.auth.domain.repository.RefreshTokenStore;
+import mtmt.MTMT_BE.domain.user.application.cache.UserCacheService;
+import mtmt.MTMT_BE.domain.user.domain.entity.User;
+import mtmt.MTMT_BE.global.exception.domain.auth.UnauthorizedException;
+import mtmt.MTMT_BE.global.jwt.JwtTokenProvider;
+import mtmt.MTMT_BE.global.jwt.JwtTokens;
+import mtmt.MTMT_BE.global.jwt.VerifiedToken;
+import mtmt.MTMT_BE.global.security.CustomUserDetails;
+import mtmt.MTMT_BE.global.security.epoch.TokenEpochStore;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+// refresh token 으로 새로운 access / refresh token 을 발급하는 서비스
+// 비밀번호 검증(BCrypt)이 필요없으므로, access token 이 만료될 때마다 로그인을 다시 하는 것보다 훨씬 가볍다
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TokenRefreshService {
+
+    private final JwtTokenProvider jwtTokenProvider;
+
+    private final RefreshTokenStore refreshTokenStore;
+
+    private final UserCacheService userCacheService;
+
+    private final TokenEpochStore tokenEpochStore;
+
+    public TokenRefreshResponse refresh(TokenRefreshRequest request) {
+        // 서명, 만료 검증 후 refresh token 인지 확인
+        VerifiedToken refreshToken = jwtTokenProvider.verify(request.refreshToken());
+        if (!"REFRESH".equals(refreshToken.getTokenType())) throw new UnauthorizedException("Refresh token is required");
+
+        // refresh token 에는 권한 정보가 없으므로 사용자 정보를 캐시(L1 -> L2 -> DB)에서 조회
+        User user = userCacheService.findById(refreshToken.getUserId())
+                .orElseThrow(() -> new UnauthorizedException("User not found for refresh token"));
+        CustomUserDetails userDetails = new CustomUserDetails(user);
+
+        // 새 토큰 쌍은 같은 토큰 패밀리를 이어받음, family claim 이 없는 이전 토큰은 이번 교체에서 새 패밀리로 옮김
+        String family = refreshToken.getFamily() != null ? refreshToken.getFamily() : RefreshTokenStore.LEGACY_FAMILY;
+        String newFamily = refreshToken.getFamily() != null ? refreshToken.getFamily() : UUID.randomUUID().toString();
+        JwtTokens jwtTokens = jwtTokenProvider.generateTokens(
+                UsernamePasswordAuthenticationToken.authenticated(userDetails, null, userDetails.getAuthorities()),
+                tokenEpochStore.currentEpoch(user.getId()),
+                newFamily
+        );
+        long ttl = ChronoUnit.SECONDS.between(LocalDateTime.now(), jwtTokens.getRefreshTokenExpiresAt());
+
+        // 비교, 저장, TTL 초기화, 재사용 감지를 한번의 Redis 왕복으로 처리
+        // 저장소의 키는 검증된 토큰의 subject(email)와 family claim 으로 부터 만들어짐
+        return switch (refreshTokenStore.rotate(refreshToken.getSubject(), family, newFamily,
+                request.refreshToken(), jwtTokens.getRefreshToken(), ttl)) {
+            case ROTATED -> new TokenRefreshResponse(jwtTokens);
+            case NOT_FOUND -> throw new UnauthorizedException("Refresh token has been revoked");
+            case REUSED -> {
+                // 이미 사용된 토큰이 다시 들어왔다면 탈취 가능성이 있으므로, 스크립트가 사용자의 모든 토큰 패밀리를 폐기하고
+                // token epoch 를 올려 이미 발급된 access token 까지 모두 무효화 (어느 기기의 토큰이 유출되었는지 알 수 없음)
+                log.warn("Refresh token reuse detected for userId {}, family {}", user.getId(), family);
+                tokenEpochStore.bump(user.getId());
+                throw new UnauthorizedException("Refresh token reuse detected");
+            }
+        };
+    }
+}
@@ -0,0 +1,51 @@
+package mtmt.MTMT_BE.domain.auth.application.service;
+
+import lombok.RequiredArgsConstructor;
+import mtmt.MTMT_BE.domain.auth.domain.repository.RefreshTokenStore;
+import mtmt.MTMT_BE.domain.user.application.cache.UserCacheService;
+import mtmt.MTMT_BE.domain.user.domain.entity.User;
+import mtmt.MTMT_BE.global.exception.domain.auth.UnauthorizedException;
+import mtmt.MTMT_BE.global.exception.domain.user.UserNotFoundException;
+import mtmt.MTMT_BE.global.jwt.VerifiedToken;
+import mtmt.MTMT_BE.global.security.epoch.TokenEpochStore;
+import mtmt.MTMT_BE.global.security.revocation.AccessTokenRevocationStore;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+// 로그아웃, 운영자의 사용자 토큰 강제 폐기를 담당하는 서비스
+@Service
+@RequiredArgsConstructor
+public class TokenRevocationService {
+
+    private final AccessTokenRevocationStore revocationStore;
+
+    private final RefreshTokenStore refreshTokenStore;
+
+    private final TokenEpochStore tokenEpochStore;
+
+    private final UserCacheService userCacheService;
+
+    // 현재 요청에 사용된 access token 을 폐기하고, 같은 토큰 패밀리(로그아웃한 기기)의 refresh token 도 삭제
+    public void logout() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        // JwtAuthenticationFilter 가 credentials 에 검증된 토큰을 담아둠
+        if (authentication == null || !(authentication.getCredentials() instanceof VerifiedToken token)) {
+            throw new UnauthorizedException("Authentication required");
+        }
+
+        revocationStore.revoke(token);
+        refreshTokenStore.delete(token.getSubject(),
+                token.getFamily() != null ? token.getFamily() : RefreshTokenStore.LEGACY_FAMILY);
+    }
+
+    // 사용자의 token epoch 를 올려 발급된 모든 access token 을 즉시 무효화하고, 모든 토큰 패밀리의 refresh token 도 삭제
+    public void revokeUser(Long userId) {
+        User user = userCacheService.findById(userId)
+                .orElseThrow(() -> new UserNotFoundException("User not found. id: " + userId));
+
+        tokenEpochStore.bump(user.getId());
+        refreshTokenStore.deleteAll(user.getEmail());
+    }
+}
@@ -0,0 +1,250 @@
+package mtmt.MTMT_BE.domain.auth.application.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import mtmt.MTMT_BE.domain.auth.application.bulk.BulkImportFormat;
+import mtmt.MTMT_BE.domain.auth.application.bulk.CsvSignUpRowReader;
+import mtmt.MTMT_BE.domain.auth.application.bulk.NdjsonSignUpRowReader;
+import mtmt.MTMT_BE.domain.auth.application.bulk.SignUpRow;
+import mtmt.MTMT_BE.domain.auth.application.bulk.SignUpRowReader;
+import mtmt.MTMT_BE.domain.auth.application.dto.bulk.BulkImportChunkProgress;
+import mtmt.MTMT_BE.domain.auth.application.dto.bulk.BulkImportRejectedRow;
+import mtmt.MTMT_BE.domain.auth.application.dto.bulk.BulkImportSummary;
+import mtmt.MTMT_BE.domain.auth.application.dto.signup.MenteeSignUpRequest;
+import mtmt.MTMT_BE.domain.auth.application.dto.signup.MentorSignUpRequest;
+import mtmt.MTMT_BE.domain.auth.application.dto.signup.SignUpRequest;
+import mtmt.MTMT_BE.domain.auth.application.factory.SignUpEntityFactory;
+import mtmt.MTMT_BE.domain.mentee.domain.entity.Mentee;
+import mtmt.MTMT_BE.domain.mentee.domain.repository.MenteeRepository;
+import mtmt.MTMT_BE.domain.mentor.domain.entity.Mentor;
+import mtmt.MTMT_BE.domain.mentor.domain.repository.MentorRepository;
+import mtmt.MTMT_BE.domain.user.application.registry.RegisteredEmailFilter;
+import mtmt.MTMT_BE.domain.user.domain.entity.User;
+import mtmt.MTMT_BE.domain.user.domain.repository.UserRepository;
+import mtmt.MTMT_BE.domain.user.domain.type.Role;
+import mtmt.MTMT_BE.global.exception.domain.user.InvalidRoleException;
+import mtmt.MTMT_BE.global.exception.utils.ConstraintViolations;
+import mtmt.MTMT_BE.global.security.hashing.PasswordHashingExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+// 멘토, 멘티를 NDJSON 또는 CSV 파일로 한번에 등록하는 서비스 (학교 단위 일괄 등록)
+// 파일을 chunkSize 행씩 읽어서 처리하고, chunk 가 끝날때마다 진행 상황과 거절된 행을 응답에 바로 기록함
+// -> 파일 크기와 상관없이 메모리에는 chunk 하나 분량만 올라감
+// chunk 처리 순서: 형식, 값 검증 -> 파일 내 중복 및 기존 가입 이메일 확인 (IN 쿼리 한번) -> 비밀번호 병렬 해싱 -> JDBC batch insert (트랜잭션 한번)
+@Slf4j
+@Service
+public class UserBulkImportService {
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final SignUpEntityFactory signUpEntityFactory;
+    private final UserRepository userRepository;
+    private final MentorRepository mentorRepository;
+    private final MenteeRepository menteeRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final RegisteredEmailFilter registeredEmailFilter;
+    private final int chunkSize;
+
+    public UserBulkImportService(ObjectMapper objectMapper,
+                                 Validator validator,
+                                 PasswordEncoder passwordEncoder,
+                                 PasswordHashingExecutor passwordHashingExecutor,
+                                 SignUpEntityFactory signUpEntityFactory,
+                                 UserRepository userRepository,
+                                 MentorRepository mentorRepository,
+                                 MenteeRepository menteeRepository,
+                                 TransactionTemplate transactionTemplate,
+                                 EntityManager entityManager,
+                                 RegisteredEmailFilter registeredEmailFilter,
+                                 @Value("${auth.bulk-import.chunk-size:500}") int chunkSize) {
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.passwordEncoder = passwordEncoder;
+        this.passwordHashingExecutor = passwordHashingExecutor;
+        this.signUpEntityFactory = signUpEntityFactory;
+        this.userRepository = userRepository;
+        this.mentorRepository = mentorRepository;
+        this.menteeRepository = menteeRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.entityManager = entityManager;
+        this.registeredEmailFilter = registeredEmailFilter;
+        this.chunkSize = chunkSize;
+    }
+
+    // 역할 확인은 응답을 쓰기 전에 하므로, 잘못된 역할은 일반적인 ApiResponse 오류(400)로 응답됨
+    private static Class<? extends SignUpRequest> requestTypeOf(Role role) {
+        return switch (role) {
+            case MENTOR -> MentorSignUpRequest.class;
+            case MENTEE -> MenteeSignUpRequest.class;
+            default -> throw new InvalidRoleException("Role must be 'mentor' or 'mentee'");
+        };
+    }
+
+    // inputStream 의 모든 행을 등록하고, 진행 상황을 output 에 NDJSON 으로 기록
+    public void importUsers(Role role, BulkImportFormat format, InputStream inputStream, OutputStream output) throws IOException {
+        Class<? extends SignUpRequest> requestType = requestTypeOf(role);
+        long startedAt = System.nanoTime();
+        Progress progress = new Progress();
+
+        try (SignUpRowReader reader = openReader(format, inputStream, requestType)) {
+            List<SignUpRow> chunk = new ArrayList<>(chunkSize);
+            int chunkNumber = 0;
+
+            while (reader.hasNext()) {
+                chunk.add(reader.next());
+                if (chunk.size() == chunkSize) {
+                    importChunk(++chunkNumber, chunk, progress, output);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) importChunk(++chunkNumber, chunk, progress, output);
+        }
+
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        writeLine(output, new BulkImportSummary(progress.processed, progress.imported, progress.rejected, elapsedMillis));
+        log.info("Bulk import of {} finished: {} imported, {} rejected in {} ms", role, progress.imported, progress.rejected, elapsedMillis);
+    }
+
+    private SignUpRowReader openReader(BulkImportFormat format, InputStream inputStream, Class<? extends SignUpRequest> requestType) {
+        return switch (format) {
+            case NDJSON -> new NdjsonSignUpRowReader(inputStream, objectMapper.readerFor(requestType));
+            case CSV -> new CsvSignUpRowReader(inputStream, objectMapper, requestType);
+        };
+    }
+
+    private void importChunk(int chunkNumber, List<SignUpRow> rows, Progress progress, OutputStream output) throws IOException {
+        List<BulkImportRejectedRow> rejectedRows = new ArrayList<>();
+
+        // 1. 형식, 값 검증 + 파일 안에서의 이메일 중복 확인 (key: 소문자 이메일)
+        Map<String, SignUpRow> accepted = new LinkedHashMap<>();
+        for (SignUpRow row : rows) {
+            if (row.isMalformed()) {
+                rejectedRows.add(new BulkImportRejectedRow(row.row(), null, row.error()));
+                continue;
+            }
+
+            SignUpRequest request = row.request();
+            Set<ConstraintViolation<SignUpRequest>> violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                String reason = violations.stream().map(ConstraintViolation::getMessage).sorted().collect(Collectors.joining(" "));
+                rejectedRows.add(new BulkImportRejectedRow(row.row(), request.email(), reason));
+                continue;
+            }
+
+            if (accepted.putIfAbsent(request.email().toLowerCase(Locale.ROOT), row) != null) {
+                rejectedRows.add(new BulkImportRejectedRow(row.row(), request.email(), "Duplicate email in file"));
+            }
+        }
+
+        // 2. 이미 가입된 이메일 확인, 행마다 existsByEmail 을 호출하지 않고 IN 쿼리 한번으로 확인
+        if (!accepted.isEmpty()) {
+            List<String> emails = accepted.values().stream().map(row -> row.request().email()).toList();
+            for (String existing : userRepository.findExistingEmails(emails)) {
+                SignUpRow row = accepted.remove(existing.toLowerCase(Locale.ROOT));
+                if (row != null) rejectedRows.add(new BulkImportRejectedRow(row.row(), row.request().email(), "Email already exists"));
+            }
+        }
+
+        // 3. 비밀번호 병렬 해싱 (동시에 실행되는 해싱 수는 PasswordHashingExecutor 가 제한함)
+        List<SignUpRow> candidates = new ArrayList<>(accepted.values());
+        List<CompletableFuture<String>> hashing = candidates.stream()
+                .map(row -> passwordHashingExecutor.submitBulk(() -> passwordEncoder.encode(row.request().password())))
+                .toList();
+        List<String> encodedPasswords = hashing.stream().map(CompletableFuture::join).toList();
+
+        // 4. 저장
+        int imported = persist(candidates, encodedPasswords, rejectedRows);
+
+        progress.processed += rows.size();
+        progress.imported += imported;
+        progress.rejected += rejectedRows.size();
+
+        rejectedRows.sort(Comparator.comparingLong(BulkImportRejectedRow::row));
+        for (BulkImportRejectedRow rejectedRow : rejectedRows) {
+            writeLine(output, rejectedRow);
+        }
+        writeLine(output, new BulkImportChunkProgress(chunkNumber, progress.processed, progress.imported, progress.rejected));
+        output.flush(); // chunk 마다 클라이언트가 진행 상황을 바로 받을 수 있도록 flush
+    }
+
+    // chunk 전체를 한 트랜잭션으로 저장, 검사 이후 다른 요청이 같은 이메일로 가입하여 unique 제약에 걸리면
+    // 해당 chunk 는 롤백하고 행 단위로 다시 저장하여 실패한 행만 거절함
+    private int persist(List<SignUpRow> candidates, List<String> encodedPasswords, List<BulkImportRejectedRow> rejectedRows) {
+        if (candidates.isEmpty()) return 0;
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> saveAll(candidates, encodedPasswords));
+            registeredEmailFilter.registerAll(candidates.stream().map(row -> row.request().email()).toList());
+            return candidates.size();
+        } catch (DataIntegrityViolationException e) {
+            log.warn("Bulk import chunk hit a constraint violation, retrying row by row: {}", e.getMessage());
+        }
+
+        int imported = 0;
+        for (int i = 0; i < candidates.size(); i++) {
+            SignUpRow row = candidates.get(i);
+            String encodedPassword = encodedPasswords.get(i);
+            try {
+                transactionTemplate.executeWithoutResult(status -> saveAll(List.of(row), List.of(encodedPassword)));
+                registeredEmailFilter.register(row.request().email());
+                imported++;
+            } catch (DataIntegrityViolationException e) {
+                String reason = ConstraintViolations.isViolationOf(e, User.EMAIL_UNIQUE_CONSTRAINT) ? "Email already exists" : "Constraint violation";
+                rejectedRows.add(new BulkImportRejectedRow(row.row(), row.request().email(), reason));
+            }
+        }
+        return imported;
+    }
+
+    // 엔티티는 저장할때마다 새로 만듦 (롤백된 엔티티에는 이미 id 가 할당되어 있어 재사용할 수 없음)
+    // hibernate.jdbc.batch_size 단위로 INSERT 가 묶여서 실행되고, 저장 후 영속성 컨텍스트를 비워 chunk 간 메모리가 쌓이지 않도록 함
+    private void saveAll(List<SignUpRow> rows, List<String> encodedPasswords) {
+        List<Mentor> mentors = new ArrayList<>();
+        List<Mentee> mentees = new ArrayList<>();
+
+        for (int i = 0; i < rows.size(); i++) {
+            SignUpRequest request = rows.get(i).request();
+            if (request instanceof MentorSignUpRequest mentorRequest) {
+                mentors.add(signUpEntityFactory.createMentor(mentorRequest, encodedPasswords.get(i)));
+            } else if (request instanceof MenteeSignUpRequest menteeRequest) {
+                mentees.add(signUpEntityFactory.createMentee(menteeRequest, encodedPasswords.get(i)));
+            }
+        }
+
+        // Mentor, Mentee 는 User 를 cascade 로 함께 저장함
+        mentorRepository.saveAll(mentors);
+        menteeRepository.saveAll(mentees);
+
+        userRepository.flush(); // repository 를 통해 flush 해야 제약 조건 위반이 DataIntegrityViolationException 으로 변환됨
+        entityManager.clear();
+    }
+
+    private void writeLine(OutputStream output, Object line) throws IOException {
+        output.write(objectMapper.writeValueAsBytes(line));
+        output.write('\n');
+    }
+
+    // 요청 전체의 누적 처리 결과
+    private static final class Progress {
+        private long processed;
+        private long imported;
+        private long rejected;
+    }
+}
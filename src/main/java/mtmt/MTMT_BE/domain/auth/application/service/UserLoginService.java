@@ -1,49 +1,94 @@
 package mtmt.MTMT_BE.domain.auth.application.service;
 
-import lombok.RequiredArgsConstructor;
 import mtmt.MTMT_BE.domain.auth.application.dto.login.LoginRequest;
 import mtmt.MTMT_BE.domain.auth.application.dto.login.LoginResponse;
-import mtmt.MTMT_BE.domain.auth.domain.entity.RefreshToken;
-import mtmt.MTMT_BE.domain.auth.domain.repository.RefreshTokenRepository;
+import mtmt.MTMT_BE.domain.auth.domain.repository.RefreshTokenStore;
 import mtmt.MTMT_BE.global.jwt.JwtTokenProvider;
 import mtmt.MTMT_BE.global.jwt.JwtTokens;
 import mtmt.MTMT_BE.global.security.CustomUserDetails;
+import mtmt.MTMT_BE.global.security.epoch.TokenEpochStore;
+import mtmt.MTMT_BE.global.security.hashing.PasswordHashingExecutor;
+import mtmt.MTMT_BE.global.security.throttle.LoginThrottleService;
+import mtmt.MTMT_BE.global.web.AsyncExecutorConfig;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 @Service
-@RequiredArgsConstructor
 public class UserLoginService {
 
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenStore refreshTokenStore;
 
     private final AuthenticationManager authenticationManager;
 
     private final JwtTokenProvider jwtTokenProvider;
 
-    @Transactional
-    public LoginResponse login(LoginRequest loginRequest) {
+    private final TokenEpochStore tokenEpochStore;
+
+    // BCrypt 비밀번호 검증은 요청 스레드가 아닌 해싱 전용 스레드 풀에서 실행
+    private final PasswordHashingExecutor passwordHashingExecutor;
+
+    // IP, email 별 로그인 시도 횟수 제한
+    private final LoginThrottleService loginThrottleService;
+
+    // 인증이 끝난 뒤의 토큰 발급(Redis 의 epoch 조회, refresh token 저장)은 해싱 스레드가 아닌 I/O 스레드 풀에서 실행
+    private final Executor ioExecutor;
+
+    public UserLoginService(RefreshTokenStore refreshTokenStore,
+                            AuthenticationManager authenticationManager,
+                            JwtTokenProvider jwtTokenProvider,
+                            TokenEpochStore tokenEpochStore,
+                            PasswordHashingExecutor passwordHashingExecutor,
+                            LoginThrottleService loginThrottleService,
+                            @Qualifier(AsyncExecutorConfig.IO_EXECUTOR) Executor ioExecutor) {
+        this.refreshTokenStore = refreshTokenStore;
+        this.authenticationManager = authenticationManager;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.tokenEpochStore = tokenEpochStore;
+        this.passwordHashingExecutor = passwordHashingExecutor;
+        this.loginThrottleService = loginThrottleService;
+        this.ioExecutor = ioExecutor;
+    }
+
+    // 요청 스레드는 인증 작업을 스레드 풀에 제출만 하고 바로 반환됨 -> 결과는 CompletableFuture 로 비동기 응답
+    // 스레드 풀의 대기열이 가득 차 있다면 TooManyRequestsException(429) 발생
+    // 시도 횟수 제한은 해싱 작업을 제출하기 전에 확인 -> 제한을 넘은 요청은 BCrypt 비용 없이 429 로 거절
+    public CompletableFuture<LoginResponse> login(LoginRequest loginRequest, String clientIp) {
+        loginThrottleService.check(clientIp, loginRequest.email());
+
+        return passwordHashingExecutor.submit(() -> authenticate(loginRequest))
+                .thenApplyAsync(this::issueTokens, ioExecutor);
+    }
+
+    private Authentication authenticate(LoginRequest loginRequest) {
 
         // Authentication 객체: 사용자의 인증 정보를 담고있는 객체
         // authenticationManger의 메서드인 authenticate에 매개변수로 UsernamePasswordAuthenticationToken을 전달하여, 인증에 성공하면 Authentication 객체를 반환받는다.
         // UsernamePasswordAuthenticationToken: 사용자의 이메일과 패스워드를 기반으로 Authentication 객체를 생성
         // authenticationManger는 이메일과 패스워드를 기반으로 생성된 Authentication 객체가 유효하면 authentication을 그대로 반환한다.
         // 만약 이메일이 다르거나, 패스워드가 다르면 authenticationManger는 AuthenticationException을 발생시킨다. -> 이후 GlobalExceptionHandler 에서 처리
-        Authentication authentication = authenticationManager.authenticate(
+        return authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(loginRequest.email(), loginRequest.password())
         );
+    }
 
+    private LoginResponse issueTokens(Authentication authentication) {
         // authentication을 통해 현재 user 정보를 userDetails에 담음
         CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
 
-        // jwtToken을 authentication 객체를 통해 생성
-        JwtTokens jwtTokens = jwtTokenProvider.generateTokens(authentication);
+        // 로그인마다 새 토큰 패밀리를 발급 -> 다른 기기에서 로그인한 토큰 패밀리와 따로 교체, 폐기됨
+        String family = UUID.randomUUID().toString();
+
+        // jwtToken을 authentication 객체와 사용자의 현재 token epoch, 토큰 패밀리를 통해 생성
+        JwtTokens jwtTokens = jwtTokenProvider.generateTokens(authentication, tokenEpochStore.currentEpoch(userDetails.getId()), family);
 
         // refresh Token 변수에 따로 refresh Toke을 담음
         String refreshToken = jwtTokens.getRefreshToken();
@@ -51,8 +96,8 @@ public class UserLoginService {
         // jwtTokens의 refreshToken 유효기간을 초로 변환하여 Long 타입 ttl 변수에 할당함
         Long ttl = ChronoUnit.SECONDS.between(LocalDateTime.now(), jwtTokens.getRefreshTokenExpiresAt());
 
-        // RefreshToken 객체(Redis 엔티티)를 생성하여, redis에 삽입하고 save 저장
-        refreshTokenRepository.save(new RefreshToken(userDetails.getEmail(), refreshToken, ttl));
+        // refresh token 을 토큰 패밀리의 키에 저장 (이후 /auth/refresh 에서 Lua 스크립트로 교체됨)
+        refreshTokenStore.save(userDetails.getEmail(), family, refreshToken, ttl);
 
         // LoginResponse 형식으로 jwtToken, 유저 정보 반환
         return new LoginResponse(jwtTokens, userDetails);
@@ -2,31 +2,33 @@
 // auth 도메인은 회원가입 부터 로그인, 탈퇴 등의 계정과 관련된 책임을 담당
 package mtmt.MTMT_BE.domain.auth.application.service;
 
-import lombok.RequiredArgsConstructor;
 import mtmt.MTMT_BE.domain.auth.application.dto.signup.MenteeSignUpRequest;
 import mtmt.MTMT_BE.domain.auth.application.dto.signup.MentorSignUpRequest;
 import mtmt.MTMT_BE.domain.auth.application.dto.signup.SignUpRequest;
 import mtmt.MTMT_BE.domain.auth.application.dto.signup.SignUpResponse;
+import mtmt.MTMT_BE.domain.auth.application.factory.SignUpEntityFactory;
 import mtmt.MTMT_BE.domain.mentee.domain.entity.Mentee;
 import mtmt.MTMT_BE.domain.mentee.domain.repository.MenteeRepository;
 import mtmt.MTMT_BE.domain.mentor.domain.entity.Mentor;
 import mtmt.MTMT_BE.domain.mentor.domain.repository.MentorRepository;
+import mtmt.MTMT_BE.domain.user.application.registry.RegisteredEmailFilter;
 import mtmt.MTMT_BE.domain.user.domain.entity.User;
 import mtmt.MTMT_BE.domain.user.domain.repository.UserRepository;
-import mtmt.MTMT_BE.domain.user.domain.type.Category;
-import mtmt.MTMT_BE.domain.user.domain.type.Gender;
-import mtmt.MTMT_BE.domain.user.domain.type.Role;
 import mtmt.MTMT_BE.global.exception.domain.user.EmailAlreadyExistsException;
 import mtmt.MTMT_BE.global.exception.domain.user.InvalidRoleException;
+import mtmt.MTMT_BE.global.exception.utils.ConstraintViolations;
+import mtmt.MTMT_BE.global.security.hashing.PasswordHashingExecutor;
+import mtmt.MTMT_BE.global.web.AsyncExecutorConfig;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 @Service // Bean 등록 및 서비스 클래스로써의 정의를 위한 @Service 어노테이션
-@RequiredArgsConstructor // 클래스의 final 필드나 @Nonnull 필드만을 파라미터로 받는 생성자를 자동 생성
 public class UserSignUpService {
 
     // UserRepository 의존성 주입: userRepository 이용하여 DB에 쿼리 생성 및 실행
@@ -38,88 +40,90 @@ public class UserSignUpService {
 
     private final PasswordEncoder passwordEncoder;
 
-    // @Transactional 어노테이션: 데이터베이스 I/O 가 있는 작업일 때, 트랜잭션이 수행됨
+    private final SignUpEntityFactory signUpEntityFactory;
+
+    // 가입된 이메일의 Bloom filter, 확실히 새로운 이메일이면 존재 확인 쿼리를 생략
+    private final RegisteredEmailFilter registeredEmailFilter;
+
+    // BCrypt 해싱은 요청 스레드가 아닌 해싱 전용 스레드 풀에서 실행
+    private final PasswordHashingExecutor passwordHashingExecutor;
+
+    // 해싱이 끝난 뒤 다른 스레드에서 저장하므로 @Transactional 대신 TransactionTemplate 으로 트랜잭션을 직접 연다
     // 트랜잭션이란?: ACID 특성을 보유하는 데이터에베이스의 작업 단위
-    @Transactional
-    public SignUpResponse signUp(SignUpRequest signUpRequest, String role) {
-        // Role에 따라 회원가입 로직 구분
-        switch (role) {
-            case "mentor" -> {
-                // SignUpRequest 타입의 signUpRequest를 MentorSignUpRequest 타입으로 다운캐스팅
-                MentorSignUpRequest mentorSignUpRequest= (MentorSignUpRequest) signUpRequest;
-
-                if (userRepository.existsByEmail(mentorSignUpRequest.email())) throw new EmailAlreadyExistsException("Email already exists");
-
-                // String 타입의 데이터인 birthDate를 formatter를 이용해 LocalDate 타입으로 변경
-                DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-                LocalDate birthDate = LocalDate.parse(mentorSignUpRequest.birthDate(), formatter);
-
-                // 빌더 패턴 사용
-                User user = User.builder()
-                        .email(mentorSignUpRequest.email())
-                        .password(passwordEncoder.encode(signUpRequest.password())) // password를 encoding 해서 저장
-                        .name(mentorSignUpRequest.name())
-                        .role(Role.MENTOR)
-                        .thumbnail(null)
-                        .location(null)
-                        .birthDate(birthDate)
-                        .gender(Gender.valueOf(mentorSignUpRequest.gender()))
-                        .age(User.calculateAgeFromBirthDate(birthDate))
-                        .build();
-
-                userRepository.save(user);
-
-                final Integer RATING = 200;
-
-                Mentor mentor = Mentor.builder()
-                        .userId(user) // 외래키로 user 참조
-                        .bio(null)
-                        .major(Category.valueOf(mentorSignUpRequest.major()))
-                        .rating(RATING)
-                        .ratingSection(Mentor.calculateRatingSectionFromRating(RATING))
-                        .build();
-
-                mentorRepository.save(mentor);
-
-                return new SignUpResponse(user);
-            }
+    private final TransactionTemplate transactionTemplate;
+
+    // 해싱이 끝난 뒤의 저장(DB)과 Bloom filter 반영(Redis)은 해싱 스레드가 아닌 I/O 스레드 풀에서 실행
+    // 해싱 스레드는 CPU 코어 수만큼만 있으므로, I/O 를 기다리는 동안 다음 해싱 작업이 밀리지 않도록 함
+    private final Executor ioExecutor;
+
+    public UserSignUpService(UserRepository userRepository,
+                             MentorRepository mentorRepository,
+                             MenteeRepository menteeRepository,
+                             PasswordEncoder passwordEncoder,
+                             SignUpEntityFactory signUpEntityFactory,
+                             RegisteredEmailFilter registeredEmailFilter,
+                             PasswordHashingExecutor passwordHashingExecutor,
+                             TransactionTemplate transactionTemplate,
+                             @Qualifier(AsyncExecutorConfig.IO_EXECUTOR) Executor ioExecutor) {
+        this.userRepository = userRepository;
+        this.mentorRepository = mentorRepository;
+        this.menteeRepository = menteeRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.signUpEntityFactory = signUpEntityFactory;
+        this.registeredEmailFilter = registeredEmailFilter;
+        this.passwordHashingExecutor = passwordHashingExecutor;
+        this.transactionTemplate = transactionTemplate;
+        this.ioExecutor = ioExecutor;
+    }
 
-            case "mentee" -> {
-                MenteeSignUpRequest menteeSignUpRequest = (MenteeSignUpRequest) signUpRequest;
+    // 역할과 이메일 중복 여부는 해싱 전에 먼저 확인 (실패할 요청에 BCrypt 비용을 쓰지 않기 위해)
+    // 단, Bloom filter 에 없는 이메일은 확실히 새로운 이메일이므로 existsByEmail 조회를 생략 -> 대부분의 가입은 INSERT 한번으로 끝남
+    // 이후 비밀번호 해싱은 스레드 풀에서, 저장은 해싱이 끝난 뒤 트랜잭션 안에서 수행
+    public CompletableFuture<SignUpResponse> signUp(SignUpRequest signUpRequest, String role) {
+        if (!"mentor".equals(role) && !"mentee".equals(role)) throw new InvalidRoleException("Role must be 'mentor' or 'mentee'");
 
-                if (userRepository.existsByEmail(menteeSignUpRequest.email())) throw new EmailAlreadyExistsException("Email already exists");
+        if (registeredEmailFilter.mightBeRegistered(signUpRequest.email()) && userRepository.existsByEmail(signUpRequest.email()))
+            throw new EmailAlreadyExistsException("Email already exists");
 
-                DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-                LocalDate birthDate = LocalDate.parse(menteeSignUpRequest.birthDate(), formatter);
+        return passwordHashingExecutor.submit(() -> passwordEncoder.encode(signUpRequest.password()))
+                .thenApplyAsync(encodedPassword -> registerOptimistically(signUpRequest, role, encodedPassword), ioExecutor);
+    }
 
-                User user = User.builder()
-                        .email(menteeSignUpRequest.email())
-                        .password(passwordEncoder.encode(signUpRequest.password())) // password를 encoding 해서 저장
-                        .name(menteeSignUpRequest.name())
-                        .role(Role.MENTEE)
-                        .thumbnail(null)
-                        .location(null)
-                        .birthDate(birthDate)
-                        .gender(Gender.valueOf(menteeSignUpRequest.gender()))
-                        .age(User.calculateAgeFromBirthDate(birthDate))
-                        .build();
+    // 중복 확인 없이 바로 INSERT 하고, 이메일 unique 제약에 걸리면 EmailAlreadyExistsException(409)으로 변환
+    // 확인과 저장 사이에 같은 이메일로 가입하는 경쟁 상황도 제약 조건이 막아줌
+    private SignUpResponse registerOptimistically(SignUpRequest signUpRequest, String role, String encodedPassword) {
+        SignUpResponse response;
+        try {
+            response = transactionTemplate.execute(status -> register(signUpRequest, role, encodedPassword));
+        } catch (DataIntegrityViolationException e) {
+            if (ConstraintViolations.isViolationOf(e, User.EMAIL_UNIQUE_CONSTRAINT))
+                throw new EmailAlreadyExistsException("Email already exists");
+            throw e;
+        }
 
-                userRepository.save(user);
+        // 커밋된 이후에 모든 노드의 Bloom filter 에 반영
+        registeredEmailFilter.register(signUpRequest.email());
+        return response;
+    }
 
-                final Integer EXPERIENCE_POINT = 0;
+    // 엔티티 생성 규칙은 SignUpEntityFactory 에 위임 (일괄 등록과 같은 규칙 사용)
+    // Mentor, Mentee 는 User 를 cascade 로 함께 저장하므로 한번의 save 로 두 행이 저장됨
+    private SignUpResponse register(SignUpRequest signUpRequest, String role, String encodedPassword) {
+        // Role에 따라 회원가입 로직 구분
+        switch (role) {
+            case "mentor" -> {
+                // SignUpRequest 타입의 signUpRequest를 MentorSignUpRequest 타입으로 다운캐스팅
+                Mentor mentor = signUpEntityFactory.createMentor((MentorSignUpRequest) signUpRequest, encodedPassword);
+                mentorRepository.saveAndFlush(mentor); // 제약 조건 위반이 repository 에서 DataIntegrityViolationException 으로 변환되도록 바로 flush
 
-                Mentee mentee = Mentee.builder()
-                        .userId(user)
-                        .exp(EXPERIENCE_POINT)
-                        .level(Mentee.calculateLevelFromExp(EXPERIENCE_POINT))
-                        .interestFirst(Category.valueOf(menteeSignUpRequest.interestFirst()))
-                        .interestSecond(Category.valueOf(menteeSignUpRequest.interestSecond()))
-                        .interestThird(Category.valueOf(menteeSignUpRequest.interestThird()))
-                        .build();
+                return new SignUpResponse(mentor.getUserId());
+            }
 
-                menteeRepository.save(mentee);
+            case "mentee" -> {
+                Mentee mentee = signUpEntityFactory.createMentee((MenteeSignUpRequest) signUpRequest, encodedPassword);
+                menteeRepository.saveAndFlush(mentee);
 
-                return new SignUpResponse(user);
+                return new SignUpResponse(mentee.getUserId());
             }
             default -> throw new InvalidRoleException("Role must be 'mentor' or 'mentee'");
         }
@@ -0,0 +1,101 @@
+package mtmt.MTMT_BE.domain.auth.domain.repository;
+
+import lombok.RequiredArgsConstructor;
+import mtmt.MTMT_BE.domain.auth.domain.type.RefreshTokenRotationResult;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+// 사용자별 refresh token 을 Redis 에 저장하고 교체하는 저장소
+// 저장 구조: 사용자당 키 하나 (auth:refresh:{email}), 값은 토큰 패밀리마다 "{family}:{SHA-256(token)}:{만료 epoch 초}" 를 ',' 로 이은 문자열
+// - 로그인할때마다 새 토큰 패밀리 id 를 발급해 토큰의 family claim 으로 담고, refresh 로 받은 토큰은 같은 패밀리를 이어받는다
+//   -> 같은 사용자가 여러 기기에서 로그인해도 기기마다 따로 교체됨
+// - 토큰 원문(약 300 byte)이 아닌 digest 만 저장하므로 Redis 가 유출되어도 토큰을 재사용할 수 없고 값의 크기도 작다
+// - 저장, 교체, 삭제는 모두 refresh_token.lua 한번의 왕복이며, 스크립트 안에서 키 하나를 GET 한 뒤 SET EX 한번으로 씀
+// - 토큰으로 조회할 때는 보조 인덱스 대신, 검증된 토큰의 subject(email)로 키를 만들어서(derived key) 조회하고 family claim 으로 값 안의 항목을 찾는다
+// - 패밀리 도입 전의 값("{digest}:{만료 epoch 초}")은 LEGACY_FAMILY 항목으로 읽으므로 다시 로그인할 필요가 없음
+@Repository
+@RequiredArgsConstructor
+public class RefreshTokenStore {
+
+    // family claim 이 없는 토큰(이전에 발급된 토큰, 이전 저장 구조에서 옮겨온 토큰)의 패밀리, 다음 refresh 때 새 패밀리로 옮겨짐
+    public static final String LEGACY_FAMILY = "legacy";
+
+    private static final String KEY_PREFIX = "auth:refresh:"; // auth:refresh:{email} -> 패밀리별 "{family}:{digest}:{exp}"
+
+    // 사용자당 최대 토큰 패밀리(동시에 로그인한 기기) 수, 넘으면 가장 먼저 만료되는 패밀리부터 버려서 값의 크기를 제한
+    private static final int MAX_FAMILIES = 10;
+
+    // 비교, 저장, TTL 초기화, 재사용 감지를 하나의 원자적인 스크립트로 실행
+    private static final RedisScript<Long> REFRESH_TOKEN_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/refresh_token.lua"), Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    // 로그인시 새 토큰 패밀리의 refresh token 저장, 다른 기기의 토큰 패밀리에는 영향을 주지 않음
+    public void save(String email, String family, String token, long ttlSeconds) {
+        long now = Instant.now().getEpochSecond();
+        execute(email, "save", now, family, digest(token), Long.toString(now + ttlSeconds));
+    }
+
+    // 같은 패밀리의 토큰이 없을때만 저장 (이전 저장 구조에서 옮겨올때 더 최근의 refresh 를 덮어쓰지 않기 위해 사용)
+    public boolean saveIfAbsent(String email, String family, String token, long ttlSeconds) {
+        long now = Instant.now().getEpochSecond();
+        Long result = execute(email, "save-nx", now, family, digest(token), Long.toString(now + ttlSeconds));
+        return result != null && result == 1L;
+    }
+
+    // 제시된 토큰이 해당 패밀리에 현재 저장된 토큰이면, newFamily 에 새 토큰을 저장
+    // 저장된 토큰과 다르다면 이미 교체된 토큰의 재사용이므로, 스크립트 안에서 사용자의 모든 토큰 패밀리를 삭제(폐기)함
+    // email, family 는 서명 검증을 마친 refresh token 의 subject 와 family claim 을 사용해야 함
+    // newFamily 는 family claim 이 없던 토큰을 새 패밀리로 옮길때만 family 와 다름
+    public RefreshTokenRotationResult rotate(String email, String family, String newFamily,
+                                             String presentedToken, String newToken, long ttlSeconds) {
+        long now = Instant.now().getEpochSecond();
+        return RefreshTokenRotationResult.of(execute(email, "rotate", now, family,
+                digest(presentedToken), newFamily, digest(newToken), Long.toString(now + ttlSeconds)));
+    }
+
+    // 한 토큰 패밀리(로그아웃한 기기)의 refresh token 만 삭제
+    public void delete(String email, String family) {
+        execute(email, "remove", Instant.now().getEpochSecond(), family);
+    }
+
+    // 사용자의 모든 토큰 패밀리의 refresh token 을 삭제
+    public void deleteAll(String email) {
+        redisTemplate.delete(key(email));
+    }
+
+    private Long execute(String email, String operation, long now, String family, String... args) {
+        List<String> argv = new ArrayList<>(4 + args.length);
+        argv.add(operation);
+        argv.add(Long.toString(now));
+        argv.add(Integer.toString(MAX_FAMILIES));
+        argv.add(family);
+        argv.addAll(List.of(args));
+        return redisTemplate.execute(REFRESH_TOKEN_SCRIPT, List.of(key(email)), argv.toArray());
+    }
+
+    private static String key(String email) {
+        return KEY_PREFIX + email;
+    }
+
+    // 토큰의 SHA-256 digest 를 base64url(43자) 문자열로 반환
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+}
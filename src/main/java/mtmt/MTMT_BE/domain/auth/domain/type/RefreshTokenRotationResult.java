@@ -0,0 +1,14 @@
+package mtmt.MTMT_BE.domain.auth.domain.type;
+
+// refresh token 교체(rotation) 스크립트의 실행 결과
+public enum RefreshTokenRotationResult {
+    ROTATED, // 제시된 토큰이 저장된 토큰과 일치하여 새 토큰으로 교체됨
+    NOT_FOUND, // 저장된 토큰이 없음 (만료, 로그아웃, 이미 폐기된 패밀리)
+    REUSED; // 이미 교체된 이전 토큰이 다시 사용됨 -> 탈취 가능성이 있으므로 사용자의 모든 토큰 패밀리를 폐기함
+
+    // Lua 스크립트의 반환값(1, 0, -1)을 enum 으로 변환
+    public static RefreshTokenRotationResult of(Long scriptResult) {
+        if (scriptResult == null || scriptResult == 0L) return NOT_FOUND;
+        return scriptResult > 0 ? ROTATED : REUSED;
+    }
+}
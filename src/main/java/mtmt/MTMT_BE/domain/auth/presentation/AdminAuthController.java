@@ -0,0 +1,27 @@
+package mtmt.MTMT_BE.domain.auth.presentation;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import mtmt.MTMT_BE.domain.auth.application.service.TokenRevocationService;
+import org.springframework.web.bind.annotation.*;
+
+// 운영자(ADMIN)용 계정 관리 API, SpringSecurityConfig 에서 /admin/** 은 ADMIN 권한만 접근 가능하도록 설정됨
+@RestController
+@RequestMapping("/admin/users")
+@RequiredArgsConstructor
+@Tag(name = "Admin Auth API", description = "운영자용 계정 관리 API")
+public class AdminAuthController {
+
+    private final TokenRevocationService tokenRevocationService;
+
+    @PostMapping("/{userId}/revoke")
+    @Operation(
+            summary = "사용자 토큰 강제 폐기 API",
+            description = "해당 사용자에게 발급된 모든 access token 과 refresh token 을 즉시 폐기합니다."
+    )
+    public String revokeUser(@PathVariable("userId") Long userId) {
+        tokenRevocationService.revokeUser(userId);
+        return "Revoked";
+    }
+}
@@ -0,0 +1,61 @@
+package mtmt.MTMT_BE.domain.auth.presentation;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import mtmt.MTMT_BE.domain.auth.application.bulk.BulkImportFormat;
+import mtmt.MTMT_BE.domain.auth.application.service.UserBulkImportService;
+import mtmt.MTMT_BE.domain.user.domain.type.Role;
+import mtmt.MTMT_BE.global.exception.domain.user.InvalidRoleException;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+// 운영자(ADMIN)용 멘토, 멘티 일괄 등록 API, SpringSecurityConfig 에서 /admin/** 은 ADMIN 권한만 접근 가능하도록 설정됨
+@RestController
+@RequestMapping("/admin/users")
+@RequiredArgsConstructor
+@Tag(name = "Admin Auth API", description = "운영자용 계정 관리 API")
+public class AdminUserImportController {
+
+    private final UserBulkImportService userBulkImportService;
+
+    // 응답은 ApiResponse 로 감싸지 않고, 처리하는 동안 진행 상황을 NDJSON 으로 바로 흘려보냄
+    // (chunk 진행 상황: type=chunk, 거절된 행: type=rejected, 마지막 결과 요약: type=summary)
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_NDJSON_VALUE, "text/csv"}, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(
+            summary = "멘토/멘티 일괄 등록 API",
+            description = "NDJSON(application/x-ndjson) 또는 CSV(text/csv, 첫 줄 header) 파일의 각 행을 회원가입 요청과 같은 규칙으로 검증하여 등록합니다. "
+                    + "처리하는 동안 chunk 마다 진행 상황과 거절된 행을 NDJSON 으로 응답합니다.",
+            parameters = {
+                    @Parameter(
+                            name = "role",
+                            in = ParameterIn.QUERY,
+                            description = "등록할 역할 (mentor 또는 mentee)",
+                            required = true,
+                            schema = @Schema(type = "string", allowableValues = {"mentor", "mentee"})
+                    )
+            }
+    )
+    public void importUsers(@RequestParam("role") String role,
+                            HttpServletRequest request,
+                            HttpServletResponse response) throws IOException {
+        Role importRole = switch (role.toLowerCase()) {
+            case "mentor" -> Role.MENTOR;
+            case "mentee" -> Role.MENTEE;
+            default -> throw new InvalidRoleException("Role must be 'mentor' or 'mentee'");
+        };
+        BulkImportFormat format = BulkImportFormat.from(request.getContentType());
+
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        userBulkImportService.importUsers(importRole, format, request.getInputStream(), response.getOutputStream());
+    }
+}
@@ -1,6 +1,5 @@
 package mtmt.MTMT_BE.domain.auth.presentation;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.Operation;
@@ -9,24 +8,23 @@ import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import jakarta.validation.ConstraintViolation;
-import jakarta.validation.ConstraintViolationException;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
-import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import mtmt.MTMT_BE.domain.auth.application.dto.login.LoginRequest;
 import mtmt.MTMT_BE.domain.auth.application.dto.login.LoginResponse;
-import mtmt.MTMT_BE.domain.auth.application.dto.signup.MenteeSignUpRequest;
-import mtmt.MTMT_BE.domain.auth.application.dto.signup.MentorSignUpRequest;
+import mtmt.MTMT_BE.domain.auth.application.dto.refresh.TokenRefreshRequest;
+import mtmt.MTMT_BE.domain.auth.application.dto.refresh.TokenRefreshResponse;
 import mtmt.MTMT_BE.domain.auth.application.dto.signup.SignUpRequest;
 import mtmt.MTMT_BE.domain.auth.application.dto.signup.SignUpResponse;
+import mtmt.MTMT_BE.domain.auth.application.service.TokenRefreshService;
+import mtmt.MTMT_BE.domain.auth.application.service.TokenRevocationService;
 import mtmt.MTMT_BE.domain.auth.application.service.UserLoginService;
 import mtmt.MTMT_BE.domain.auth.application.service.UserSignUpService;
-import mtmt.MTMT_BE.global.exception.domain.user.InvalidRoleException;
+import mtmt.MTMT_BE.domain.auth.presentation.resolver.SignUpBody;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.Map;
-import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 @RestController // @RestController 어노테이션?: @ResponseBody 어노테이션 + @Controller 어노테이션의 조합
 // @ResponseBody 어노테이션: 해당 어노테이션이 선언된 클래스의 반환값들은 모두 Http Response Body로 파싱됨
@@ -41,10 +39,9 @@ public class AuthController {
 
     private final UserLoginService userLoginService;
 
-    // 값 검증을 위해 Validator 의존성 주입
-    private final Validator validator;
+    private final TokenRefreshService tokenRefreshService;
 
-    private final ObjectMapper objectMapper;
+    private final TokenRevocationService tokenRevocationService;
 
     @PostMapping("/signup") // "baseurl/auth/signup" 해당 url을 가지는 http request를 해당 메서드로 매핑
     @Operation(
@@ -57,6 +54,13 @@ public class AuthController {
                             description = "회원가입 역할 여부 (mentor 또는 mentee)",
                             required = true,
                             schema = @Schema(type = "string", allowableValues = {"mentor", "mentee"})
+                    ),
+                    @Parameter(
+                            name = "Idempotency-Key",
+                            in = ParameterIn.HEADER,
+                            description = "재시도시 중복 가입을 막기 위한 키 (같은 키로 다시 요청하면 처음 응답을 그대로 돌려주고 Idempotent-Replayed: true 헤더를 추가)",
+                            required = false,
+                            schema = @Schema(type = "string", maxLength = 255)
                     )
             },
             responses = {
@@ -129,6 +133,21 @@ public class AuthController {
                                             }
                                             """
                             )
+                    )),
+                    @ApiResponse(responseCode = "429", description = "인증 요청이 몰려 처리할 수 없음 (Retry-After 헤더의 초 이후 재시도)",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    name = "요청 과다",
+                                    summary = "요청이 몰렸을때 응답 예시",
+                                    value = """
+                                            {
+                                                "status": 429,
+                                                "message": "Too many authentication requests. Please retry later.",
+                                                "data": null
+                                            }
+                                            """
+                            )
                     ))
             },
             requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
@@ -171,27 +190,13 @@ public class AuthController {
                     )
             )
     )
-    public SignUpResponse signUp(
+    // CompletableFuture 를 반환하면 Spring MVC 가 비동기로 응답 -> 해싱이 끝날때까지 요청 스레드가 묶이지 않음
+    public CompletableFuture<SignUpResponse> signUp(
             @RequestParam("role") String role, // Http 요청에서 QueryParam 값중 "role"이라는 값을 role 변수에 할당 시킴
-            @RequestBody Map<String, Object> body // Http 요청 Body를 담는 변수
+            // role 에 맞는 MentorSignUpRequest 또는 MenteeSignUpRequest 로 body 를 한번에 읽고 값 검증까지 마친 객체 (SignUpRequestArgumentResolver)
+            // sealed interface 로의 업캐스팅, 다운캐스팅은 OOP 에서 중요한 개념이니, SignUpRequest 구조가 이해될때까지 정확히 공부할 것.
+            @Parameter(hidden = true) @SignUpBody SignUpRequest request // body 스키마는 @Operation 의 requestBody 로 문서화
     ) {
-        // switch-case 문을 이용해, 쿼리 파라미터 role에 따라서, 적절한 객체로 반환한다음에, SignUpRequest로 업캐스팅
-        // 다운 캐스팅은 OOP 에서 중요한 개념이니, 아래 코드가 이해될때까지 다운캐스팅에 대해서 정확히 공부할 것.
-        SignUpRequest request = switch (role.toLowerCase()) {
-            case "mentor" -> objectMapper.convertValue(body, MentorSignUpRequest.class);
-            case "mentee" -> objectMapper.convertValue(body, MenteeSignUpRequest.class);
-            default -> throw new InvalidRoleException("Role must be 'mentor' or 'mentee'"); // mentor와 mentee 둘다 해당하지 않은 값을 쿼리 파람이 가지고있다면, 예외 발생 시킴
-        };
-
-        // @Valid 어노테이션을 통한 request 객체에 대한 유효성 검사는 업캐스팅-다운캐스팅 구조를 이용하는 SignUpRequest에 적용될 수 없음.
-        // 따라서 request에 존재하는 필드값을 하나씩 확인하며 값 검증을 해야함
-        // validator.validate 메서드를 이용해 validation 라이브러리 어노테이션이 등록된 필드들에 대한 검증을 수행
-        Set<ConstraintViolation<SignUpRequest>> violations = validator.validate(request);
-
-        // violations 객체가 비어있지 않다면, 값 검증에서 통과하지 못한 필드값이 존재한다는 의미
-        if (!violations.isEmpty())
-            throw new ConstraintViolationException(violations); // ConstraintViolationException 발생 -> 이후 GlobalExceptionHandler 에서 처리
-
         return userSignUpService.signUp(request, role.toLowerCase()); // service에 request 와 role을 위임하여 메서드 실행
     }
 
@@ -271,7 +276,22 @@ public class AuthController {
                                             }
                                             """
                                     )
-                            ))
+                            )),
+                    @ApiResponse(responseCode = "429", description = "로그인 시도 횟수 제한을 넘었거나 인증 요청이 몰려 처리할 수 없음 (Retry-After 헤더의 초 이후 재시도)",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    name = "요청 과다",
+                                    summary = "요청이 몰렸을때 응답 예시",
+                                    value = """
+                                            {
+                                                "status": 429,
+                                                "message": "Too many authentication requests. Please retry later.",
+                                                "data": null
+                                            }
+                                            """
+                            )
+                    ))
             },
             requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
                     description = "mode 파라미터 값에 따라 Body JSON이 다름",
@@ -293,7 +313,79 @@ public class AuthController {
                     )
             )
     )
-    public LoginResponse login(@RequestBody @Valid LoginRequest loginRequest) {
-        return userLoginService.login(loginRequest);
+    // 프록시 뒤에서 실행된다면 server.forward-headers-strategy 를 설정해야 getRemoteAddr 가 실제 클라이언트 IP 가 됨
+    public CompletableFuture<LoginResponse> login(@RequestBody @Valid LoginRequest loginRequest, HttpServletRequest request) {
+        return userLoginService.login(loginRequest, request.getRemoteAddr());
+    }
+
+    @PostMapping("/refresh")
+    @Operation(
+            summary = "토큰 재발급 API",
+            description = "refresh token 을 통해 새로운 access token 과 refresh token 을 발급합니다. 사용된 refresh token 은 즉시 폐기되며, 이미 폐기된 refresh token 이 다시 사용되면 해당 사용자의 모든 토큰이 무효화됩니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "성공적으로 토큰이 재발급됨",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    examples = @ExampleObject(
+                                            name = "재발급 성공",
+                                            summary = "토큰 재발급 성공시 응답 예시",
+                                            value = """
+                                                {
+                                                    "status": 200,
+                                                    "message": "success",
+                                                    "data": {
+                                                        "accessToken": "eyJhbGciOiJIUzUxMiJ9.eyJzdWIiOiJoZWxsb0...",
+                                                        "refreshToken": "eyJhbGciOiJIUzUxMiJ9.eyJzdWIiOiJoZ...",
+                                                        "accessTokenExpiresAt": "2025-07-20T17:49:36.260956",
+                                                        "refreshTokenExpiresAt": "2025-08-03T16:49:36.260956"
+                                                    }
+                                                }
+                                            """
+                                    ))),
+                    @ApiResponse(responseCode = "401", description = "refresh token 이 유효하지 않거나 폐기됨",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    examples = @ExampleObject(
+                                            name = "폐기된 토큰",
+                                            summary = "폐기되었거나 재사용된 refresh token",
+                                            value = """
+                                                {
+                                                    "status": 401,
+                                                    "message": "Refresh token reuse detected",
+                                                    "data": null
+                                                }
+                                            """
+                                    )
+                            ))
+            }
+    )
+    public TokenRefreshResponse refresh(@RequestBody @Valid TokenRefreshRequest tokenRefreshRequest) {
+        return tokenRefreshService.refresh(tokenRefreshRequest);
+    }
+
+    @PostMapping("/logout")
+    @Operation(
+            summary = "로그아웃 API",
+            description = "요청에 사용된 access token 을 즉시 폐기하고, 사용자의 refresh token 을 삭제합니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "성공적으로 로그아웃됨",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    examples = @ExampleObject(
+                                            name = "로그아웃 성공",
+                                            summary = "로그아웃 성공시 응답 예시",
+                                            value = """
+                                                {
+                                                    "status": 200,
+                                                    "message": "success",
+                                                    "data": "Logged out"
+                                                }
+                                            """
+                                    )))
+            }
+    )
+    public String logout() {
+        tokenRevocationService.logout();
+        return "Logged out";
     }
 }
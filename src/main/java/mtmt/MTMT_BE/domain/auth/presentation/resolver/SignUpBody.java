@@ -0,0 +1,13 @@
+package mtmt.MTMT_BE.domain.auth.presentation.resolver;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 회원가입 요청 body 를 role 쿼리 파라미터에 맞는 SignUpRequest 구현체로 바로 읽어오기 위한 어노테이션
+// 해당 어노테이션이 붙은 SignUpRequest 매개변수는 SignUpRequestArgumentResolver 가 역직렬화 + 값 검증까지 마친 뒤 전달함
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SignUpBody {
+}
@@ -0,0 +1,126 @@
+package mtmt.MTMT_BE.domain.auth.presentation.resolver;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
+import mtmt.MTMT_BE.domain.auth.application.dto.signup.MenteeSignUpRequest;
+import mtmt.MTMT_BE.domain.auth.application.dto.signup.MentorSignUpRequest;
+import mtmt.MTMT_BE.domain.auth.application.dto.signup.SignUpRequest;
+import mtmt.MTMT_BE.global.exception.domain.user.InvalidRoleException;
+import mtmt.MTMT_BE.global.response.ApiResponseFormat;
+import mtmt.MTMT_BE.global.response.ApiResponseObjectMappers;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.MissingServletRequestParameterException;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+// @SignUpBody SignUpRequest 매개변수를 처리하는 ArgumentResolver
+// 기존에는 body 를 Map<String, Object> 로 한번 읽은 뒤 objectMapper.convertValue 로 다시 record 로 변환했기 때문에
+// 요청마다 Map, boxing 된 값들로 이루어진 중간 트리가 만들어졌음
+// 해당 resolver 는 role 쿼리 파라미터를 먼저 확인하고, role 에 맞는 ObjectReader 로 요청 body 스트림을 record 로 한번에 읽어옴
+// body 형식은 Content-Type 으로 정함 (JSON, CBOR, Smile), 헤더가 없거나 알 수 없는 형식이라면 기존과 같이 JSON 으로 읽음
+@Component
+public class SignUpRequestArgumentResolver implements HandlerMethodArgumentResolver {
+
+    public static final String ROLE_PARAMETER = "role";
+
+    private static final String INVALID_BODY_MESSAGE = "Invalid sign up request body";
+
+    // 형식 -> role -> 해당 role 의 record 를 읽는 ObjectReader (ObjectReader 는 불변이고 thread-safe 하므로 미리 만들어서 재사용)
+    private final Map<ApiResponseFormat, Map<String, ObjectReader>> readers = new EnumMap<>(ApiResponseFormat.class);
+
+    private final Validator validator;
+
+    public SignUpRequestArgumentResolver(ApiResponseObjectMappers objectMappers, Validator validator) {
+        this.validator = validator;
+
+        for (ApiResponseFormat format : ApiResponseFormat.values()) {
+            ObjectMapper objectMapper = objectMappers.get(format);
+            Map<String, ObjectReader> formatReaders = Map.of(
+                    "mentor", objectMapper.readerFor(MentorSignUpRequest.class),
+                    "mentee", objectMapper.readerFor(MenteeSignUpRequest.class)
+            );
+            readers.put(format, formatReaders);
+
+            // 첫 회원가입 요청에서 역직렬화기, 검증 메타데이터, ConstraintValidator 가 만들어지지 않도록 시작 시점에 미리 준비
+            // 빈 객체를 한번 읽고 검증하면 Jackson 의 deserializer 와 Hibernate Validator 의 BeanMetaData 가 캐싱됨
+            byte[] emptyObject = encodeEmptyObject(objectMapper);
+            formatReaders.values().forEach(reader -> prepare(reader, emptyObject));
+        }
+    }
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(SignUpBody.class)
+                && SignUpRequest.class.isAssignableFrom(parameter.getParameterType());
+    }
+
+    @Override
+    public SignUpRequest resolveArgument(MethodParameter parameter,
+                                         ModelAndViewContainer mavContainer,
+                                         NativeWebRequest webRequest,
+                                         WebDataBinderFactory binderFactory) throws Exception {
+        HttpServletRequest request = webRequest.getNativeRequest(HttpServletRequest.class);
+
+        String role = request.getParameter(ROLE_PARAMETER);
+        if (role == null) throw new MissingServletRequestParameterException(ROLE_PARAMETER, "String");
+
+        // body 를 읽기 전에 role 부터 확인 -> 잘못된 role 이라면 body 를 읽지 않음
+        ObjectReader reader = readers.get(ApiResponseFormat.of(request.getContentType())).get(role.toLowerCase(Locale.ROOT));
+        if (reader == null) throw new InvalidRoleException("Role must be 'mentor' or 'mentee'");
+
+        SignUpRequest signUpRequest = read(reader, request);
+
+        // sealed interface 로 받기 때문에 @Valid 를 사용할 수 없으므로 validator 로 직접 검증
+        Set<ConstraintViolation<SignUpRequest>> violations = validator.validate(signUpRequest);
+        if (!violations.isEmpty())
+            throw new ConstraintViolationException(violations); // 이후 GlobalExceptionHandler 에서 처리
+
+        return signUpRequest;
+    }
+
+    // 요청 body 스트림에서 바로 record 를 역직렬화 (중간 Map 을 만들지 않음)
+    private SignUpRequest read(ObjectReader reader, HttpServletRequest request) throws IOException {
+        try (InputStream body = request.getInputStream()) {
+            SignUpRequest signUpRequest = reader.readValue(body);
+            if (signUpRequest == null) // body 가 "null" 인 경우
+                throw new HttpMessageNotReadableException(INVALID_BODY_MESSAGE, new ServletServerHttpRequest(request));
+            return signUpRequest;
+        } catch (JsonProcessingException e) { // JSON, CBOR, Smile 형식 오류, 빈 body, 타입이 맞지 않는 값 -> 기존 @RequestBody 와 같이 400 으로 처리
+            throw new HttpMessageNotReadableException(INVALID_BODY_MESSAGE, e, new ServletServerHttpRequest(request));
+        }
+    }
+
+    private void prepare(ObjectReader reader, byte[] emptyObject) {
+        try {
+            validator.validate(reader.<SignUpRequest>readValue(emptyObject));
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to prepare sign up request reader", e);
+        }
+    }
+
+    // 형식에 맞게 인코딩한 빈 객체 ("{}")
+    private static byte[] encodeEmptyObject(ObjectMapper objectMapper) {
+        try {
+            return objectMapper.writeValueAsBytes(objectMapper.createObjectNode());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to prepare sign up request reader", e);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package mtmt.MTMT_BE.domain.mentee.application.dto;
+
+import mtmt.MTMT_BE.domain.mentee.domain.entity.Mentee;
+import mtmt.MTMT_BE.domain.user.domain.entity.User;
+
+// 멘티 프로필 조회 응답 (누구나 조회할 수 있으므로 이메일 등 개인정보는 포함하지 않음)
+public record MenteeProfileResponse(
+        Long menteeId,
+        String name,
+        String thumbnail,
+        String location,
+        String gender,
+        int age,
+        int level,
+        int exp,
+        String interestFirst,
+        String interestSecond,
+        String interestThird
+) {
+    public MenteeProfileResponse(Mentee mentee) {
+        this(mentee, mentee.getUserId());
+    }
+
+    private MenteeProfileResponse(Mentee mentee, User user) {
+        this(
+                mentee.getId(),
+                user.getName(),
+                user.getThumbnail(),
+                user.getLocation() != null ? user.getLocation().toString() : null,
+                user.getGender().toString(),
+                user.getAge(),
+                mentee.getLevel(),
+                mentee.getExp(),
+                mentee.getInterestFirst().toString(),
+                mentee.getInterestSecond().toString(),
+                mentee.getInterestThird().toString()
+        );
+    }
+}
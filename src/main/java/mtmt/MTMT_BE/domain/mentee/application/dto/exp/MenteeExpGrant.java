@@ -0,0 +1,11 @@
+package mtmt.MTMT_BE.domain.mentee.application.dto.exp;
+
+// 경험치 지급 결과
+// exp, level 은 지급 후의 값이며, 현재 경험치를 알 수 없는 경우(flush 와 겹쳐 캐시를 채우지 못함) null
+public record MenteeExpGrant(
+        Long menteeId,
+        int granted,
+        Integer exp,
+        Integer level,
+        boolean leveledUp
+) { }
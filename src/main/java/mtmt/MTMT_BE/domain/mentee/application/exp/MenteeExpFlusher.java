@@ -0,0 +1,101 @@
+package mtmt.MTMT_BE.domain.mentee.application.exp;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import mtmt.MTMT_BE.domain.mentee.domain.entity.Mentee;
+import mtmt.MTMT_BE.domain.mentee.domain.entity.MenteeExpFlush;
+import mtmt.MTMT_BE.domain.mentee.domain.repository.MenteeExpStore;
+import mtmt.MTMT_BE.domain.mentee.domain.repository.MenteeExpStore.ExpRecord;
+import mtmt.MTMT_BE.domain.mentee.domain.repository.MenteeExpView;
+import mtmt.MTMT_BE.domain.mentee.domain.repository.MenteeRepository;
+import mtmt.MTMT_BE.global.redis.StreamLedgerFlusher;
+import mtmt.MTMT_BE.global.scheduling.SchedulingConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+// Redis 에 쌓인 경험치 지급 기록을 mentee_tbl 에 묶어서 반영하는 컴포넌트
+// - 여러 노드 중 flush lock 을 잡은 노드만 실행, stream 의 가장 오래된 기록부터 flushBatchSize 개씩 읽어 멘티별로 합친 뒤 exp = exp + ? batch UPDATE
+// - 반영 범위를 mentee_exp_flush_tbl 에 함께 저장하고 커밋 이후에 stream 과 pending 에서 지우는 과정은 StreamLedgerFlusher 가 처리
+// Redis 가 AOF 등으로 영속화되어 있다는 전제에서, 노드가 언제 중단되어도 지급이 유실되거나 두번 반영되지 않음
+@Component
+public class MenteeExpFlusher {
+
+    private static final String UPDATE_EXP = "UPDATE mentee_tbl SET exp = exp + ?, version = version + 1 WHERE id = ?";
+    private static final String UPDATE_LEVEL = "UPDATE mentee_tbl SET level = ?, version = version + 1 WHERE id = ?";
+
+    private final MenteeRepository menteeRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final StreamLedgerFlusher<ExpRecord, Integer> ledgerFlusher;
+    private final Duration ledgerRetention;
+
+    private final Counter flushedRecords;
+
+    public MenteeExpFlusher(MenteeExpStore menteeExpStore,
+                            MenteeRepository menteeRepository,
+                            JdbcTemplate jdbcTemplate,
+                            TransactionTemplate transactionTemplate,
+                            MeterRegistry meterRegistry,
+                            @Value("${mentee.exp.flush-batch-size:500}") int flushBatchSize,
+                            @Value("${mentee.exp.flush-lock-timeout:30s}") Duration flushLockTimeout,
+                            @Value("${mentee.exp.ledger-retention:7d}") Duration ledgerRetention) {
+        this.menteeRepository = menteeRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.ledgerRetention = ledgerRetention;
+
+        this.flushedRecords = Counter.builder("mentee.exp.flushed")
+                .description("EXP grant records applied to mentee_tbl")
+                .register(meterRegistry);
+        this.ledgerFlusher = new StreamLedgerFlusher<>("mentee EXP", menteeExpStore, MenteeExpFlush.TABLE,
+                jdbcTemplate, transactionTemplate, flushBatchSize, flushLockTimeout,
+                this::apply, (records, updatedMentees) -> flushedRecords.increment(records.size()));
+    }
+
+    // 다른 @Scheduled 작업(인덱스 재구성 등)이 오래 걸려도 밀리지 않도록 flush 전용 스케줄러에서 실행
+    @Scheduled(fixedDelayString = "${mentee.exp.flush-interval:1000}", scheduler = SchedulingConfig.FLUSH_SCHEDULER)
+    public void flush() {
+        ledgerFlusher.flush();
+    }
+
+    @Scheduled(fixedDelayString = "${mentee.exp.ledger-cleanup-interval:3600000}")
+    public void cleanUpLedger() {
+        ledgerFlusher.cleanUp(ledgerRetention);
+    }
+
+    // 반영 범위를 저장한 트랜잭션 안에서 실행, 경험치를 갱신한 멘티 수를 반환
+    private Integer apply(List<ExpRecord> records) {
+        Map<Long, Long> expByMentee = sumByMentee(records);
+
+        // 삭제된 멘티는 갱신되는 행이 없으므로 지급 기록만 지워짐
+        List<Map.Entry<Long, Long>> rows = new ArrayList<>(expByMentee.entrySet());
+        jdbcTemplate.batchUpdate(UPDATE_EXP, rows, rows.size(), (ps, row) -> {
+            ps.setLong(1, row.getValue());
+            ps.setLong(2, row.getKey());
+        });
+
+        // 같은 트랜잭션에서 갱신된 경험치를 다시 읽어 레벨이 바뀐 멘티만 갱신 (레벨 공식은 Mentee.calculateLevelFromExp 하나만 사용)
+        List<Object[]> levels = new ArrayList<>();
+        for (MenteeExpView mentee : menteeRepository.findExpsByIdIn(expByMentee.keySet())) {
+            int level = Mentee.calculateLevelFromExp(mentee.getExp());
+            if (level != mentee.getLevel()) levels.add(new Object[]{level, mentee.getId()});
+        }
+        if (!levels.isEmpty()) jdbcTemplate.batchUpdate(UPDATE_LEVEL, levels);
+        return rows.size();
+    }
+
+    // 멘티 id 순으로 합쳐서, 여러 트랜잭션이 같은 행들을 서로 다른 순서로 잠그지 않도록 함
+    private static Map<Long, Long> sumByMentee(Collection<ExpRecord> records) {
+        Map<Long, Long> expByMentee = new TreeMap<>();
+        for (ExpRecord record : records) expByMentee.merge(record.menteeId(), (long) record.exp(), Long::sum);
+        return expByMentee;
+    }
+}
@@ -0,0 +1,102 @@
+package mtmt.MTMT_BE.domain.mentee.application.exp;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import mtmt.MTMT_BE.domain.mentee.application.dto.exp.MenteeExpGrant;
+import mtmt.MTMT_BE.domain.mentee.domain.entity.Mentee;
+import mtmt.MTMT_BE.domain.mentee.domain.event.MenteeLeveledUpEvent;
+import mtmt.MTMT_BE.domain.mentee.domain.repository.MenteeExpStore;
+import mtmt.MTMT_BE.domain.mentee.domain.repository.MenteeRepository;
+import mtmt.MTMT_BE.domain.mentee.domain.type.ExpReason;
+import mtmt.MTMT_BE.domain.mentor.domain.event.MentorReviewedEvent;
+import mtmt.MTMT_BE.domain.mentoring.domain.event.MentoringCompletedEvent;
+import mtmt.MTMT_BE.global.exception.domain.mentee.MenteeNotFoundException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+// 멘티 경험치 지급 서비스
+// 지급마다 mentee_tbl 행을 읽고 고치는 트랜잭션 대신 Redis 에 지급 기록과 합계만 남기고(MenteeExpStore), DB 반영은 MenteeExpFlusher 가 묶어서 처리
+// 멘티의 현재 경험치는 Redis 에 캐시해두므로, 레벨업은 DB 반영을 기다리지 않고 지급 시점에 바로 판단해서 이벤트로 알림
+@Slf4j
+@Service
+public class MenteeExpService {
+
+    private static final int MAX_CACHE_ATTEMPTS = 3; // 캐시를 DB 값으로 채우는 시도 횟수, flush 와 계속 겹치면 레벨업 판단 없이 지급만 기록
+
+    private final MenteeExpStore menteeExpStore;
+    private final MenteeRepository menteeRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration totalTtl;
+
+    private final Counter levelUps;
+    private final Counter untrackedGrants;
+
+    public MenteeExpService(MenteeExpStore menteeExpStore,
+                            MenteeRepository menteeRepository,
+                            ApplicationEventPublisher eventPublisher,
+                            MeterRegistry meterRegistry,
+                            @Value("${mentee.exp.total-ttl:1d}") Duration totalTtl) {
+        this.menteeExpStore = menteeExpStore;
+        this.menteeRepository = menteeRepository;
+        this.eventPublisher = eventPublisher;
+        this.totalTtl = totalTtl;
+
+        this.levelUps = Counter.builder("mentee.exp.level-ups").register(meterRegistry);
+        this.untrackedGrants = Counter.builder("mentee.exp.untracked")
+                .description("EXP grants recorded without a cached total, so no level-up check was made")
+                .register(meterRegistry);
+    }
+
+    public MenteeExpGrant grant(Long menteeId, ExpReason reason) {
+        long exp = menteeExpStore.grant(menteeId, reason, totalTtl);
+
+        // 캐시가 없으면 DB 의 경험치로 채우고 다시 지급, generation 은 DB 를 조회하기 전에 읽어야 그 사이의 flush 를 감지할 수 있음
+        for (int attempt = 1; exp == MenteeExpStore.NOT_CACHED && attempt <= MAX_CACHE_ATTEMPTS; attempt++) {
+            String generation = menteeExpStore.generation();
+            int baseExp = menteeRepository.findExpById(menteeId)
+                    .orElseThrow(() -> new MenteeNotFoundException("Mentee not found: " + menteeId));
+            exp = menteeExpStore.grant(menteeId, reason, totalTtl, baseExp, generation);
+        }
+        if (exp == MenteeExpStore.NOT_CACHED) exp = menteeExpStore.grantUntracked(menteeId, reason, totalTtl);
+        if (exp == MenteeExpStore.UNTRACKED) {
+            untrackedGrants.increment();
+            return new MenteeExpGrant(menteeId, reason.getExp(), null, null, false);
+        }
+
+        int previousLevel = Mentee.calculateLevelFromExp((int) (exp - reason.getExp()));
+        int level = Mentee.calculateLevelFromExp((int) exp);
+        boolean leveledUp = level > previousLevel;
+        if (leveledUp) {
+            levelUps.increment();
+            eventPublisher.publishEvent(new MenteeLeveledUpEvent(menteeId, previousLevel, level));
+        }
+        return new MenteeExpGrant(menteeId, reason.getExp(), (int) exp, level, leveledUp);
+    }
+
+    // 후기가 저장된 트랜잭션이 커밋된 이후 실행
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMentorReviewed(MentorReviewedEvent event) {
+        if (event.menteeId() == null) return;
+        try {
+            grant(event.menteeId(), ExpReason.REVIEW_WRITTEN);
+        } catch (Exception e) {
+            log.warn("Failed to grant review EXP to menteeId {}: {}", event.menteeId(), e.getMessage());
+        }
+    }
+
+    // 멘토링 완료가 커밋된 이후 실행
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMentoringCompleted(MentoringCompletedEvent event) {
+        try {
+            grant(event.menteeId(), ExpReason.MENTORING_COMPLETED);
+        } catch (Exception e) {
+            log.warn("Failed to grant mentoring EXP to menteeId {}: {}", event.menteeId(), e.getMessage());
+        }
+    }
+}
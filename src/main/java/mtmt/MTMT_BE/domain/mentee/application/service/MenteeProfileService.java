@@ -0,0 +1,29 @@
+package mtmt.MTMT_BE.domain.mentee.application.service;
+
+import lombok.RequiredArgsConstructor;
+import mtmt.MTMT_BE.domain.mentee.application.dto.MenteeProfileResponse;
+import mtmt.MTMT_BE.domain.mentee.domain.repository.MenteeRepository;
+import mtmt.MTMT_BE.global.exception.domain.mentee.MenteeNotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MenteeProfileService {
+
+    private final MenteeRepository menteeRepository;
+
+    // 프로필의 현재 버전 (ETag 계산용), 버전 컬럼만 조회하므로 프로필 전체를 읽는 것보다 가벼움
+    public String getProfileVersion(Long menteeId) {
+        return menteeRepository.findProfileVersionById(menteeId)
+                .orElseThrow(() -> new MenteeNotFoundException("Mentee not found: " + menteeId))
+                .toVersionTag();
+    }
+
+    public MenteeProfileResponse getProfile(Long menteeId) {
+        return menteeRepository.findWithUserById(menteeId)
+                .map(MenteeProfileResponse::new)
+                .orElseThrow(() -> new MenteeNotFoundException("Mentee not found: " + menteeId));
+    }
+}
@@ -3,11 +3,13 @@ package mtmt.MTMT_BE.domain.mentee.domain.entity;
 import jakarta.persistence.*;
 import lombok.*;
 import mtmt.MTMT_BE.domain.user.domain.entity.User;
+import mtmt.MTMT_BE.domain.user.domain.listener.UserChangeEntityListener;
 import mtmt.MTMT_BE.domain.user.domain.type.Category;
 
 
 @Entity
 @Table(name = "mentee_tbl")
+@EntityListeners(UserChangeEntityListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -15,7 +17,9 @@ import mtmt.MTMT_BE.domain.user.domain.type.Category;
 public class Mentee {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // id 할당 방식은 User 와 같음 (id_sequence 테이블 + pooled optimizer, batch insert 가능)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "mentee_id_generator")
+    @TableGenerator(name = "mentee_id_generator", table = "id_sequence", pkColumnName = "sequence_name", valueColumnName = "next_val", pkColumnValue = "mentee_tbl", allocationSize = 100)
     private Long id;
 
     // OneToOne 연관관계 설정, 하나의 user에 대해 하나의 mentee 엔티티만 존재함
@@ -38,6 +42,10 @@ public class Mentee {
     @Column(name = "interest_third", nullable = false, columnDefinition = "VARCHAR(255)")
     private Category interestThird;
 
+    @Version // 수정될때마다 Hibernate 가 1씩 증가시키는 버전 컬럼 (낙관적 락, 프로필 조회 응답의 ETag 계산에 사용)
+    @Column(name = "version")
+    private Long version;
+
     public static Integer calculateLevelFromExp(Integer exp) {
         if (exp == null || exp < 0) {
             return 1;
@@ -0,0 +1,15 @@
+package mtmt.MTMT_BE.domain.mentee.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import mtmt.MTMT_BE.global.redis.StreamLedgerEntry;
+
+// mentee_tbl 에 반영한 경험치 지급 기록 묶음 (MenteeExpFlusher 의 StreamLedgerFlusher 가 저장)
+@Entity
+@Table(name = MenteeExpFlush.TABLE,
+        indexes = @Index(name = "idx_mentee_exp_flush_flushed_at", columnList = "flushed_at")) // 오래된 기록 정리
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MenteeExpFlush extends StreamLedgerEntry {
+
+    public static final String TABLE = "mentee_exp_flush_tbl";
+}
@@ -0,0 +1,6 @@
+package mtmt.MTMT_BE.domain.mentee.domain.event;
+
+// 경험치 지급으로 멘티의 레벨이 올랐을때 발행되는 애플리케이션 이벤트
+// mentee_tbl 의 level 은 다음 flush 에 반영되지만, 이벤트는 지급 시점에 바로 발행됨
+public record MenteeLeveledUpEvent(Long menteeId, int previousLevel, int level) {
+}
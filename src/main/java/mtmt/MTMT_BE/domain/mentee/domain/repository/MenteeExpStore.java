@@ -0,0 +1,116 @@
+package mtmt.MTMT_BE.domain.mentee.domain.repository;
+
+import lombok.RequiredArgsConstructor;
+import mtmt.MTMT_BE.domain.mentee.domain.type.ExpReason;
+import mtmt.MTMT_BE.global.redis.StreamLedgerRecord;
+import mtmt.MTMT_BE.global.redis.StreamLedgerSource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+// 멘티 경험치 지급을 mentee_tbl 에 반영하기 전까지 보관하는 Redis 저장소
+// - {mentee:exp}:stream       지급 기록 stream (멘티 id, 경험치, 사유), mentee_tbl 에 반영된 뒤에 삭제
+// - {mentee:exp}:pending      hash (멘티 id -> 아직 반영되지 않은 경험치 합계), 지급마다 HINCRBY
+// - {mentee:exp}:total:{id}   멘티의 현재 경험치 캐시 (DB 값 + pending), 레벨업 판단에 사용하며 TTL 이 지나면 DB 에서 다시 읽음
+// - {mentee:exp}:flush-lock   여러 노드 중 한 노드만 flush 하도록 잡는 lock
+// - {mentee:exp}:generation   flush 를 시작할때마다 증가, 캐시를 DB 값으로 채우는 사이에 flush 가 끼어들었는지 확인하는데 사용
+// 모든 키는 같은 hash tag 를 사용하므로 Redis Cluster 에서도 스크립트가 한 slot 안에서 실행됨
+@Repository
+@RequiredArgsConstructor
+public class MenteeExpStore implements StreamLedgerSource<MenteeExpStore.ExpRecord> {
+
+    private static final String KEY_PREFIX = "{mentee:exp}:";
+    private static final String STREAM_KEY = KEY_PREFIX + "stream";
+    private static final String PENDING_KEY = KEY_PREFIX + "pending";
+    private static final String TOTAL_KEY_PREFIX = KEY_PREFIX + "total:";
+    private static final String FLUSH_LOCK_KEY = KEY_PREFIX + "flush-lock";
+    private static final String GENERATION_KEY = KEY_PREFIX + "generation";
+
+    // 지급 스크립트의 반환값
+    public static final long NOT_CACHED = -1L; // 캐시가 없어 지급하지 않음, DB 값과 함께 다시 호출해야 함
+    public static final long UNTRACKED = -2L; // 캐시 없이 지급만 기록함
+
+    private static final RedisScript<Long> GRANT_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/grant_mentee_exp.lua"), Long.class);
+    private static final RedisScript<Long> ACK_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/ack_mentee_exp.lua"), Long.class);
+    private static final RedisScript<Long> RELEASE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/release_flush_lock.lua"), Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    // 캐시된 경험치가 있을때만 지급, 지급 후 경험치 또는 NOT_CACHED
+    public long grant(Long menteeId, ExpReason reason, Duration totalTtl) {
+        return grant(menteeId, reason, totalTtl, "", "", "");
+    }
+
+    // DB 의 경험치로 캐시를 채우고 지급, generation 은 DB 를 조회하기 전에 읽은 값이어야 함
+    public long grant(Long menteeId, ExpReason reason, Duration totalTtl, int baseExp, String generation) {
+        return grant(menteeId, reason, totalTtl, Integer.toString(baseExp), generation, "");
+    }
+
+    // 캐시를 채우지 못했을때 지급만 기록 (UNTRACKED 또는 그 사이에 다른 요청이 채운 캐시로 계산한 지급 후 경험치)
+    public long grantUntracked(Long menteeId, ExpReason reason, Duration totalTtl) {
+        return grant(menteeId, reason, totalTtl, "", "", "force");
+    }
+
+    public String generation() {
+        String generation = redisTemplate.opsForValue().get(GENERATION_KEY);
+        return generation != null ? generation : "0";
+    }
+
+    // flush 를 시작할때 generation 도 증가시킴
+    @Override
+    public boolean tryLockFlush(String token, Duration timeout) {
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(FLUSH_LOCK_KEY, token, timeout))) return false;
+        redisTemplate.opsForValue().increment(GENERATION_KEY);
+        return true;
+    }
+
+    @Override
+    public void unlockFlush(String token) {
+        redisTemplate.execute(RELEASE_SCRIPT, List.of(FLUSH_LOCK_KEY), token);
+    }
+
+    @Override
+    public List<ExpRecord> findOldest(int count) {
+        List<MapRecord<String, Object, Object>> records =
+                redisTemplate.opsForStream().range(STREAM_KEY, Range.unbounded(), Limit.limit().count(count));
+        if (records == null) return List.of();
+
+        List<ExpRecord> result = new ArrayList<>(records.size());
+        for (MapRecord<String, Object, Object> record : records) {
+            Map<Object, Object> fields = record.getValue();
+            result.add(new ExpRecord(record.getId().getValue(),
+                    Long.parseLong((String) fields.get("mentee")),
+                    Integer.parseInt((String) fields.get("exp"))));
+        }
+        return result;
+    }
+
+    // mentee_tbl 에 반영된 lastRecordId 까지의 기록을 stream 과 pending 에서 한번에 제거
+    @Override
+    public void acknowledgeUntil(String lastRecordId) {
+        redisTemplate.execute(ACK_SCRIPT, List.of(STREAM_KEY, PENDING_KEY), lastRecordId);
+    }
+
+    private long grant(Long menteeId, ExpReason reason, Duration totalTtl, String baseExp, String generation, String mode) {
+        Long result = redisTemplate.execute(GRANT_SCRIPT,
+                List.of(TOTAL_KEY_PREFIX + menteeId, PENDING_KEY, STREAM_KEY, FLUSH_LOCK_KEY, GENERATION_KEY),
+                menteeId.toString(), Integer.toString(reason.getExp()), reason.name(),
+                Long.toString(totalTtl.toSeconds()), baseExp, generation, mode);
+        return result != null ? result : NOT_CACHED;
+    }
+
+    // 지급 기록 하나
+    public record ExpRecord(String recordId, Long menteeId, int exp) implements StreamLedgerRecord { }
+}
@@ -0,0 +1,8 @@
+package mtmt.MTMT_BE.domain.mentee.domain.repository;
+
+// 경험치 반영 후 레벨을 다시 계산하기 위해 멘티의 경험치와 레벨만 조회하기 위한 projection
+public interface MenteeExpView {
+    Long getId();
+    Integer getExp();
+    Integer getLevel();
+}
@@ -1,7 +1,37 @@
 package mtmt.MTMT_BE.domain.mentee.domain.repository;
 
 import mtmt.MTMT_BE.domain.mentee.domain.entity.Mentee;
+import mtmt.MTMT_BE.domain.user.domain.repository.ProfileVersionView;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 public interface MenteeRepository extends JpaRepository<Mentee, Long> {
+
+    // 프로필 ETag 계산을 위해 버전 컬럼만 조회 (엔티티를 영속성 컨텍스트에 올리지 않음)
+    @Query("select m.version as profileVersion, u.version as userVersion from Mentee m join m.userId u where m.id = :menteeId")
+    Optional<ProfileVersionView> findProfileVersionById(@Param("menteeId") Long menteeId);
+
+    // 프로필 응답에 User 컬럼도 필요하므로 fetch join 으로 한번에 조회
+    @Query("select m from Mentee m join fetch m.userId where m.id = :menteeId")
+    Optional<Mentee> findWithUserById(@Param("menteeId") Long menteeId);
+
+    // 로그인한 사용자(User id)의 멘티 정보, 추천에 User 의 지역도 필요하므로 fetch join
+    @Query("select m from Mentee m join fetch m.userId u where u.id = :userId")
+    Optional<Mentee> findWithUserByUserId(@Param("userId") Long userId);
+
+    // 로그인한 사용자(User id)의 멘티 id, mentee_tbl 만 조회
+    @Query("select m.id from Mentee m where m.userId.id = :userId")
+    Optional<Long> findIdByUserId(@Param("userId") Long userId);
+
+    // 경험치 캐시를 채우기 위해 경험치만 조회
+    @Query("select m.exp from Mentee m where m.id = :menteeId")
+    Optional<Integer> findExpById(@Param("menteeId") Long menteeId);
+
+    @Query("select m.id as id, m.exp as exp, m.level as level from Mentee m where m.id in :menteeIds")
+    List<MenteeExpView> findExpsByIdIn(@Param("menteeIds") Collection<Long> menteeIds);
 }
@@ -0,0 +1,15 @@
+package mtmt.MTMT_BE.domain.mentee.domain.type;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 멘티에게 경험치를 지급하는 사유와 지급량
+@Getter
+@RequiredArgsConstructor
+public enum ExpReason {
+    CHAT_MESSAGE(1), // 멘토링 채팅 메시지 전송
+    MENTORING_COMPLETED(50), // 멘토링 완료
+    REVIEW_WRITTEN(20); // 멘토에게 후기 작성
+
+    private final int exp;
+}
@@ -0,0 +1,97 @@
+package mtmt.MTMT_BE.domain.mentee.presentation;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import mtmt.MTMT_BE.domain.mentee.application.dto.MenteeProfileResponse;
+import mtmt.MTMT_BE.domain.mentee.application.service.MenteeProfileService;
+import mtmt.MTMT_BE.domain.mentor.application.dto.matching.MentorMatchResponse;
+import mtmt.MTMT_BE.domain.mentor.application.dto.recommendation.MentorRecommendationResponse;
+import mtmt.MTMT_BE.domain.mentor.application.service.MentorMatchingService;
+import mtmt.MTMT_BE.domain.mentor.application.service.MentorRecommendationService;
+import mtmt.MTMT_BE.domain.user.domain.type.Gender;
+import mtmt.MTMT_BE.global.security.AuthenticatedUser;
+import mtmt.MTMT_BE.global.web.conditional.ConditionalGetSupport;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.NativeWebRequest;
+
+@RestController
+@RequestMapping("/mentees")
+@RequiredArgsConstructor
+@Tag(name = "Mentee API", description = "멘티 관련 API")
+@Validated // 쿼리 파라미터의 @Min, @Max 검증
+public class MenteeController {
+
+    private final MenteeProfileService menteeProfileService;
+
+    private final MentorMatchingService mentorMatchingService;
+
+    private final MentorRecommendationService mentorRecommendationService;
+
+    private final ConditionalGetSupport conditionalGetSupport;
+
+    @GetMapping("/{menteeId}")
+    @Operation(
+            summary = "멘티 프로필 조회 API",
+            description = "멘티 프로필을 조회합니다. 응답의 ETag 를 If-None-Match 헤더로 보내면, 프로필이 바뀌지 않은 경우 body 없이 304 로 응답합니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "프로필 조회 성공 (ETag 헤더 포함)"),
+                    @ApiResponse(responseCode = "304", description = "If-None-Match 의 ETag 이후로 프로필이 바뀌지 않음"),
+                    @ApiResponse(responseCode = "404", description = "멘티가 존재하지 않음")
+            }
+    )
+    public MenteeProfileResponse getProfile(
+            @Parameter(description = "멘티 id") @PathVariable("menteeId") Long menteeId,
+            @Parameter(hidden = true) NativeWebRequest webRequest
+    ) {
+        // 버전만 먼저 조회해서 ETag 를 비교하고, 바뀐 경우에만 프로필 전체를 조회 (304 라면 null 반환 -> body 없이 응답)
+        String version = menteeProfileService.getProfileVersion(menteeId);
+        return conditionalGetSupport.respond(webRequest, "mentee", version, () -> menteeProfileService.getProfile(menteeId));
+    }
+
+    @GetMapping("/{menteeId}/matches")
+    @Operation(
+            summary = "멘토 추천 API",
+            description = "멘티의 관심 분야 중 하나를 전공으로 하는 멘토를 rating 이 높은 순으로 추천합니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "추천 성공"),
+                    @ApiResponse(responseCode = "404", description = "멘티가 존재하지 않음"),
+                    @ApiResponse(responseCode = "503", description = "매칭 인덱스 준비 중 (서버 시작 직후)")
+            }
+    )
+    public MentorMatchResponse getMatches(
+            @Parameter(description = "멘티 id") @PathVariable("menteeId") Long menteeId,
+            @Parameter(description = "멘티와 같은 지역의 멘토만 추천") @RequestParam(value = "sameLocation", defaultValue = "false") boolean sameLocation,
+            @Parameter(description = "멘토 성별") @RequestParam(value = "gender", required = false) Gender gender,
+            @Parameter(description = "추천 인원 (최대 100)") @RequestParam(value = "size", defaultValue = "10") @Min(1) @Max(100) int size
+    ) {
+        return mentorMatchingService.match(menteeId, sameLocation, gender, size);
+    }
+
+    @GetMapping("/me/recommendations")
+    @Operation(
+            summary = "내 멘토 추천 API",
+            description = "로그인한 멘티의 관심 분야(1, 2, 3순위), 지역과 멘토의 rating, 등급으로 점수를 매겨 상위 멘토를 추천합니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "추천 성공 (점수 내림차순)"),
+                    @ApiResponse(responseCode = "401", description = "인증되지 않은 요청"),
+                    @ApiResponse(responseCode = "403", description = "멘티가 아닌 사용자")
+            }
+    )
+    public MentorRecommendationResponse getRecommendations(
+            @Parameter(hidden = true) @AuthenticationPrincipal AuthenticatedUser user,
+            @Parameter(description = "추천 인원 (최대 100)") @RequestParam(value = "size", defaultValue = "10") @Min(1) @Max(100) int size
+    ) {
+        return mentorRecommendationService.recommend(user.getId(), size);
+    }
+}
@@ -0,0 +1,37 @@
+package mtmt.MTMT_BE.domain.mentor.application.dto;
+
+import mtmt.MTMT_BE.domain.mentor.domain.entity.Mentor;
+import mtmt.MTMT_BE.domain.user.domain.entity.User;
+
+// 멘토 프로필 조회 응답 (누구나 조회할 수 있으므로 이메일 등 개인정보는 포함하지 않음)
+public record MentorProfileResponse(
+        Long mentorId,
+        String name,
+        String thumbnail,
+        String location,
+        String gender,
+        int age,
+        String major,
+        String bio,
+        int rating,
+        String ratingSection
+) {
+    public MentorProfileResponse(Mentor mentor) {
+        this(mentor, mentor.getUserId());
+    }
+
+    private MentorProfileResponse(Mentor mentor, User user) {
+        this(
+                mentor.getId(),
+                user.getName(),
+                user.getThumbnail(),
+                user.getLocation() != null ? user.getLocation().toString() : null,
+                user.getGender().toString(),
+                user.getAge(),
+                mentor.getMajor().toString(),
+                mentor.getBio(),
+                mentor.getRating(),
+                mentor.getRatingSection().toString()
+        );
+    }
+}
@@ -0,0 +1,13 @@
+package mtmt.MTMT_BE.domain.mentor.application.dto.leaderboard;
+
+import mtmt.MTMT_BE.domain.user.domain.type.Category;
+
+// 리더보드의 한 행, rank 는 1 부터 시작
+public record LeaderboardEntry(
+        long rank,
+        Long mentorId,
+        String name,
+        String thumbnail,
+        Category major,
+        int rating
+) { }
@@ -0,0 +1,12 @@
+package mtmt.MTMT_BE.domain.mentor.application.dto.leaderboard;
+
+import mtmt.MTMT_BE.domain.user.domain.type.Category;
+
+import java.util.List;
+
+// 리더보드 조회 응답, category 가 null 이면 전체 리더보드
+public record LeaderboardResponse(
+        Category category,
+        long total,
+        List<LeaderboardEntry> entries
+) { }
@@ -0,0 +1,12 @@
+package mtmt.MTMT_BE.domain.mentor.application.dto.leaderboard;
+
+import mtmt.MTMT_BE.domain.user.domain.type.Category;
+
+// 멘토 한명의 순위, rank 는 1 부터 시작
+public record MentorRankResponse(
+        Category category,
+        Long mentorId,
+        long rank,
+        int rating,
+        long total
+) { }
@@ -0,0 +1,10 @@
+package mtmt.MTMT_BE.domain.mentor.application.dto.matching;
+
+import mtmt.MTMT_BE.domain.mentor.application.dto.search.MentorSearchItem;
+
+import java.util.List;
+
+// 멘티에게 추천되는 멘토 목록 (rating 내림차순)
+public record MentorMatchResponse(
+        List<MentorSearchItem> mentors
+) { }
@@ -0,0 +1,8 @@
+package mtmt.MTMT_BE.domain.mentor.application.dto.recommendation;
+
+import java.util.List;
+
+// 멘티에게 추천되는 멘토 목록 (추천 점수 내림차순)
+public record MentorRecommendationResponse(
+        List<RecommendedMentor> mentors
+) { }
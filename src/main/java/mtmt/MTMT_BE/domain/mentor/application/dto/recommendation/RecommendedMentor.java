@@ -0,0 +1,9 @@
+package mtmt.MTMT_BE.domain.mentor.application.dto.recommendation;
+
+import mtmt.MTMT_BE.domain.mentor.application.dto.search.MentorSearchItem;
+
+// 추천된 멘토와 추천 점수 (관심 분야 + 지역 + rating, 등급 가중치의 합)
+public record RecommendedMentor(
+        MentorSearchItem mentor,
+        double score
+) { }
@@ -0,0 +1,47 @@
+package mtmt.MTMT_BE.domain.mentor.application.dto.search;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import mtmt.MTMT_BE.domain.mentor.domain.type.type.RatingSection;
+import mtmt.MTMT_BE.domain.user.domain.type.Category;
+import mtmt.MTMT_BE.domain.user.domain.type.Gender;
+import mtmt.MTMT_BE.domain.user.domain.type.Location;
+
+// 멘토 검색 조건 (GET /mentors 의 쿼리 파라미터), 값이 없는 조건은 적용하지 않음
+public record MentorSearchCondition(
+
+        @Schema(description = "분야")
+        Category major,
+
+        @Schema(description = "지역")
+        Location location,
+
+        @Schema(description = "등급")
+        RatingSection ratingSection,
+
+        @Schema(description = "성별")
+        Gender gender,
+
+        @Schema(description = "최소 나이 (포함)")
+        @Min(value = 0, message = "minAge must be 0 or greater")
+        Integer minAge,
+
+        @Schema(description = "최대 나이 (포함)")
+        @Min(value = 0, message = "maxAge must be 0 or greater")
+        Integer maxAge,
+
+        @Schema(description = "이전 페이지 응답의 nextCursor, 첫 페이지는 생략")
+        String cursor,
+
+        @Schema(description = "페이지 크기 (기본 20, 최대 100)")
+        @Min(value = 1, message = "size must be between 1 and 100")
+        @Max(value = 100, message = "size must be between 1 and 100")
+        Integer size
+) {
+    public static final int DEFAULT_SIZE = 20;
+
+    public int pageSize() {
+        return size != null ? size : DEFAULT_SIZE;
+    }
+}
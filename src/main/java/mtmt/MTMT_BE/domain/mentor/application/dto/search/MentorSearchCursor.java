@@ -0,0 +1,37 @@
+package mtmt.MTMT_BE.domain.mentor.application.dto.search;
+
+import mtmt.MTMT_BE.global.exception.domain.mentor.InvalidMentorSearchException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// keyset(seek) 페이지네이션 커서: 이전 페이지 마지막 행의 (rating, mentorId)
+// 다음 페이지는 OFFSET 으로 앞의 행들을 건너뛰지 않고, 정렬 순서(rating desc, id desc)에서 이 위치 이후의 행부터 인덱스로 바로 탐색함
+// 클라이언트에게는 값의 의미를 드러내지 않도록 base64url 문자열로 전달
+public record MentorSearchCursor(int rating, long mentorId) {
+
+    public static MentorSearchCursor after(MentorSearchItem last) {
+        return new MentorSearchCursor(last.rating(), last.mentorId());
+    }
+
+    // 커서가 없으면 null (첫 페이지)
+    public static MentorSearchCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) return null;
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf(':');
+            return new MentorSearchCursor(
+                    Integer.parseInt(decoded.substring(0, separator)),
+                    Long.parseLong(decoded.substring(separator + 1))
+            );
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) { // base64, 숫자 형식 오류
+            throw new InvalidMentorSearchException("Invalid cursor");
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((rating + ":" + mentorId).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,21 @@
+package mtmt.MTMT_BE.domain.mentor.application.dto.search;
+
+import mtmt.MTMT_BE.domain.mentor.domain.type.type.RatingSection;
+import mtmt.MTMT_BE.domain.user.domain.type.Category;
+import mtmt.MTMT_BE.domain.user.domain.type.Gender;
+import mtmt.MTMT_BE.domain.user.domain.type.Location;
+
+// 멘토 검색 결과의 행 하나
+// JPQL 생성자 projection (select new ...) 으로 mentor_tbl, user_tbl 을 한번 join 한 결과에서 바로 만들어짐
+// -> Mentor 엔티티를 영속성 컨텍스트에 올리지 않고, 행마다 LAZY userId 프록시를 초기화하는 추가 쿼리도 발생하지 않음
+public record MentorSearchItem(
+        Long mentorId,
+        String name,
+        String thumbnail,
+        Location location,
+        Gender gender,
+        int age,
+        Category major,
+        int rating,
+        RatingSection ratingSection
+) { }
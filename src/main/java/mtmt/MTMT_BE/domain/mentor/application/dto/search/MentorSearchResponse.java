@@ -0,0 +1,9 @@
+package mtmt.MTMT_BE.domain.mentor.application.dto.search;
+
+import java.util.List;
+
+// 멘토 검색 응답, nextCursor 가 null 이면 마지막 페이지
+public record MentorSearchResponse(
+        List<MentorSearchItem> mentors,
+        String nextCursor
+) { }
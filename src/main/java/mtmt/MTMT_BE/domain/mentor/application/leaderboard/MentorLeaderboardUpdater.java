@@ -0,0 +1,46 @@
+package mtmt.MTMT_BE.domain.mentor.application.leaderboard;
+
+import mtmt.MTMT_BE.domain.mentor.application.projection.MentorProjectionSynchronizer;
+import mtmt.MTMT_BE.domain.mentor.domain.event.MentorChangedEvent;
+import mtmt.MTMT_BE.domain.mentor.domain.repository.MentorLeaderboardStore;
+import mtmt.MTMT_BE.domain.mentor.domain.repository.MentorRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+// 멘토 리더보드를 mentor_tbl 과 맞춰주는 컴포넌트
+// - 멘토가 저장, 수정, 삭제되면 커밋 이후 해당 멘토 한명만 DB 의 현재 행으로 반영 (O(log n)), 실패하면 retry-interval 마다 다시 반영
+// - 이벤트 없이 바뀐 행을 바로잡기 위해, 주기적으로 mentor_tbl 을 chunk 단위로 읽어 새로 만든 뒤 한번에 교체
+@Component
+public class MentorLeaderboardUpdater {
+
+    private final MentorProjectionSynchronizer synchronizer;
+
+    public MentorLeaderboardUpdater(MentorRepository mentorRepository,
+                                    MentorLeaderboardStore mentorLeaderboardStore,
+                                    @Value("${mentor.leaderboard.reconcile-chunk-size:5000}") int reconcileChunkSize,
+                                    @Value("${mentor.leaderboard.reconcile-timeout:10m}") Duration reconcileTimeout) {
+        this.synchronizer = new MentorProjectionSynchronizer("mentor leaderboard",
+                mentorRepository, mentorLeaderboardStore, reconcileChunkSize, reconcileTimeout);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMentorChanged(MentorChangedEvent event) {
+        synchronizer.onMentorChanged(event.mentorId());
+    }
+
+    @Scheduled(fixedDelayString = "${mentor.leaderboard.retry-interval:10000}")
+    public void retryFailed() {
+        synchronizer.retryFailed();
+    }
+
+    // 시작 직후(initialDelay 0)와 주기적으로 실행
+    @Scheduled(initialDelayString = "0", fixedDelayString = "${mentor.leaderboard.reconcile-interval:3600000}")
+    public void reconcile() {
+        synchronizer.rebuild();
+    }
+}
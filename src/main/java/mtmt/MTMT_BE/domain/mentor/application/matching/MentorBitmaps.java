@@ -0,0 +1,142 @@
+package mtmt.MTMT_BE.domain.mentor.application.matching;
+
+import mtmt.MTMT_BE.domain.mentor.domain.repository.MentorMatchingEntry;
+import mtmt.MTMT_BE.domain.mentor.domain.type.type.RatingSection;
+import mtmt.MTMT_BE.domain.user.domain.type.Category;
+import mtmt.MTMT_BE.domain.user.domain.type.Gender;
+import mtmt.MTMT_BE.domain.user.domain.type.Location;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+// 속성 값별 멘토 id 집합을 압축 bitmap(RoaringBitmap)으로 가지고 있는 매칭 인덱스 본체
+// 분야(37), 지역(17), 성별(3), 등급(4) 값마다 bitmap 하나, rating 은 0 ~ 1000 점수마다 bitmap 하나
+// 매칭은 조건별 bitmap 의 OR, AND 몇번으로 후보를 구한 뒤, 높은 rating 의 bitmap 부터 후보와 교집합을 구해 상위 K 명을 뽑음
+// thread-safe 하지 않으므로 MentorMatchingIndex 가 lock 으로 보호함
+class MentorBitmaps {
+
+    static final int MAX_RATING = 1000; // Mentor.calculateRatingSectionFromRating 의 최대 rating
+
+    private final RoaringBitmap all = new RoaringBitmap();
+    private final RoaringBitmap[] byMajor = create(Category.values().length);
+    private final RoaringBitmap[] byLocation = create(Location.values().length);
+    private final RoaringBitmap[] byGender = create(Gender.values().length);
+    private final RoaringBitmap[] byRatingSection = create(RatingSection.values().length);
+    private final RoaringBitmap[] byRating = create(MAX_RATING + 1);
+
+    // 멘토 추가, 이미 있는 멘토라면 이전 속성을 지우고 새 속성으로 교체
+    void put(MentorMatchingEntry entry) {
+        int id = toBitmapId(entry.mentorId());
+        remove(id);
+
+        all.add(id);
+        add(byMajor, entry.major(), id);
+        add(byLocation, entry.location(), id);
+        add(byGender, entry.gender(), id);
+        add(byRatingSection, entry.ratingSection(), id);
+        byRating[Math.max(0, Math.min(MAX_RATING, entry.rating()))].add(id);
+    }
+
+    void remove(Long mentorId) {
+        remove(toBitmapId(mentorId));
+    }
+
+    // 이전 속성을 따로 저장하지 않고 (멘토마다 객체를 두면 백만명 기준 수십 MB), 속성별로 id 가 들어있는 bitmap 을 찾아 제거
+    // checkedRemove 는 container 이진 탐색이라 rating bitmap 1001 개를 확인해도 수십 마이크로초 수준
+    private void remove(int id) {
+        if (!all.checkedRemove(id)) return;
+
+        removeFromFirst(byMajor, id);
+        removeFromFirst(byLocation, id);
+        removeFromFirst(byGender, id);
+        removeFromFirst(byRatingSection, id);
+        removeFromFirst(byRating, id);
+    }
+
+    // 재구성시 id 범위를 나눠서 만든 부분 인덱스를 합침
+    void merge(MentorBitmaps other) {
+        all.or(other.all);
+        or(byMajor, other.byMajor);
+        or(byLocation, other.byLocation);
+        or(byGender, other.byGender);
+        or(byRatingSection, other.byRatingSection);
+        or(byRating, other.byRating);
+    }
+
+    // 연속된 id 구간은 run container 로 바꿔서 메모리를 줄임 (재구성 후 한번 호출)
+    void optimize() {
+        all.runOptimize();
+        for (RoaringBitmap[] bitmaps : List.of(byMajor, byLocation, byGender, byRatingSection, byRating)) {
+            for (RoaringBitmap bitmap : bitmaps) bitmap.runOptimize();
+        }
+    }
+
+    // 조건에 맞는 멘토 id 를 rating 내림차순(같으면 id 내림차순)으로 최대 limit 개 반환
+    List<Long> match(MentorMatchQuery query, int limit) {
+        RoaringBitmap candidates = query.majors().isEmpty() ? all.clone() : union(byMajor, query.majors());
+        if (query.location() != null) candidates.and(byLocation[query.location().ordinal()]);
+        if (query.gender() != null) candidates.and(byGender[query.gender().ordinal()]);
+        if (!query.ratingSections().isEmpty()) candidates.and(union(byRatingSection, query.ratingSections()));
+
+        int remaining = candidates.getCardinality(); // 아직 꺼내지 않은 후보 수, 0 이 되면 낮은 rating 은 확인하지 않음
+        List<Long> matched = new ArrayList<>(Math.min(limit, remaining));
+        for (int rating = MAX_RATING; rating >= 0 && remaining > 0 && matched.size() < limit; rating--) {
+            if (!candidates.intersects(byRating[rating])) continue;
+
+            RoaringBitmap hits = RoaringBitmap.and(candidates, byRating[rating]);
+            remaining -= hits.getCardinality();
+            IntIterator ids = hits.getReverseIntIterator();
+            while (ids.hasNext() && matched.size() < limit) {
+                matched.add(Integer.toUnsignedLong(ids.next()));
+            }
+        }
+        return matched;
+    }
+
+    int size() {
+        return all.getCardinality();
+    }
+
+    long sizeInBytes() {
+        long bytes = all.getLongSizeInBytes();
+        for (RoaringBitmap[] bitmaps : List.of(byMajor, byLocation, byGender, byRatingSection, byRating)) {
+            for (RoaringBitmap bitmap : bitmaps) bytes += bitmap.getLongSizeInBytes();
+        }
+        return bytes;
+    }
+
+    // RoaringBitmap 은 32bit id 만 저장하므로, 범위를 벗어난 id 는 조용히 잘리지 않도록 예외 발생
+    private static int toBitmapId(Long mentorId) {
+        return Math.toIntExact(mentorId);
+    }
+
+    private static void add(RoaringBitmap[] bitmaps, Enum<?> value, int id) {
+        if (value != null) bitmaps[value.ordinal()].add(id);
+    }
+
+    private static void removeFromFirst(RoaringBitmap[] bitmaps, int id) {
+        for (RoaringBitmap bitmap : bitmaps) {
+            if (bitmap.checkedRemove(id)) return;
+        }
+    }
+
+    private static void or(RoaringBitmap[] target, RoaringBitmap[] source) {
+        for (int i = 0; i < target.length; i++) target[i].or(source[i]);
+    }
+
+    // 인덱스의 bitmap 은 수정하지 않고 새 bitmap 에 합집합을 만듦
+    private static RoaringBitmap union(RoaringBitmap[] bitmaps, Set<? extends Enum<?>> values) {
+        RoaringBitmap union = new RoaringBitmap();
+        for (Enum<?> value : values) union.or(bitmaps[value.ordinal()]);
+        return union;
+    }
+
+    private static RoaringBitmap[] create(int size) {
+        RoaringBitmap[] bitmaps = new RoaringBitmap[size];
+        for (int i = 0; i < size; i++) bitmaps[i] = new RoaringBitmap();
+        return bitmaps;
+    }
+}
@@ -0,0 +1,23 @@
+package mtmt.MTMT_BE.domain.mentor.application.matching;
+
+import mtmt.MTMT_BE.domain.mentor.domain.type.type.RatingSection;
+import mtmt.MTMT_BE.domain.user.domain.type.Category;
+import mtmt.MTMT_BE.domain.user.domain.type.Gender;
+import mtmt.MTMT_BE.domain.user.domain.type.Location;
+
+import java.util.Set;
+
+// 멘토 매칭 조건
+// majors, ratingSections 는 값 중 하나라도 일치하면 되고 (OR), 비어있으면 적용하지 않음
+// location, gender 는 null 이면 적용하지 않음, 조건끼리는 모두 만족해야 함 (AND)
+public record MentorMatchQuery(
+        Set<Category> majors,
+        Location location,
+        Gender gender,
+        Set<RatingSection> ratingSections
+) {
+    public MentorMatchQuery {
+        majors = majors == null ? Set.of() : Set.copyOf(majors);
+        ratingSections = ratingSections == null ? Set.of() : Set.copyOf(ratingSections);
+    }
+}
@@ -0,0 +1,272 @@
+package mtmt.MTMT_BE.domain.mentor.application.matching;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import mtmt.MTMT_BE.domain.mentor.domain.event.MentorChangedEvent;
+import mtmt.MTMT_BE.domain.mentor.domain.repository.MentorMatchingEntry;
+import mtmt.MTMT_BE.domain.mentor.domain.repository.MentorRepository;
+import mtmt.MTMT_BE.domain.user.domain.event.UserChangedEvent;
+import mtmt.MTMT_BE.global.exception.domain.mentor.MentorMatchingUnavailableException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.lang.NonNull;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 노드 내부(in-process)의 멘토 매칭 인덱스
+// 멘티의 관심 분야 3개와 지역, 성별, 등급 조건을 MySQL 의 OR 조건 쿼리 대신 MentorBitmaps 의 bitmap 연산으로 처리
+// - 시작시와 주기적으로 mentor_tbl 을 id 범위별로 나눠 여러 스레드에서 동시에 읽어 새로 만든 뒤 교체
+// - 그 사이의 변경은 Mentor 저장/수정/삭제 이벤트로 커밋 이후 반영하고, pub/sub 으로 다른 노드에도 알림
+// - 이벤트의 snapshot 은 커밋 순서와 다른 순서로 도착할 수 있으므로 사용하지 않고, 멘토별로 직렬화해서 DB 의 현재 행을 다시 읽어 반영
+//   (같은 멘토의 조회와 반영이 순서대로 실행되므로, 마지막 커밋 이후에 읽은 값이 마지막으로 반영됨)
+@Slf4j
+@Component
+public class MentorMatchingIndex implements MessageListener {
+
+    private static final String CHANGED_CHANNEL = "mentor:matching:changed"; // "노드 id:멘토 id" 를 전파하는 채널
+    private static final int MENTOR_LOCK_STRIPES = 64;
+
+    private final MentorRepository mentorRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final int rebuildParallelism;
+    private final int rebuildChunkSize;
+
+    // 자신이 보낸 메시지는 이미 반영했으므로 무시하기 위한 노드 id
+    private final String nodeId = UUID.randomUUID().toString();
+
+    // 조회는 동시에, 변경과 교체는 단독으로 (RoaringBitmap 은 thread-safe 하지 않음)
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private MentorBitmaps bitmaps = new MentorBitmaps();
+
+    // 같은 멘토의 DB 조회와 반영을 직렬화하는 lock (멘토 id 로 나눠서, 다른 멘토의 변경은 서로 기다리지 않음)
+    private final Object[] mentorLocks = new Object[MENTOR_LOCK_STRIPES];
+
+    // 재구성 중에 반영된 변경을 새 인덱스에도 다시 적용하기 위한 기록 (멘토 id -> 마지막 속성, 삭제라면 빈 값)
+    private Map<Long, Change> changedDuringRebuild;
+    // 첫 재구성이 끝나기 전에는 인덱스가 비어있으므로 매칭 요청을 받지 않음
+    private volatile boolean ready;
+
+    public MentorMatchingIndex(MentorRepository mentorRepository,
+                               StringRedisTemplate redisTemplate,
+                               RedisMessageListenerContainer listenerContainer,
+                               MeterRegistry meterRegistry,
+                               @Value("${mentor.matching.rebuild-parallelism:4}") int rebuildParallelism,
+                               @Value("${mentor.matching.rebuild-chunk-size:5000}") int rebuildChunkSize) {
+        this.mentorRepository = mentorRepository;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.rebuildParallelism = rebuildParallelism;
+        this.rebuildChunkSize = rebuildChunkSize;
+        for (int i = 0; i < mentorLocks.length; i++) mentorLocks[i] = new Object();
+
+        Gauge.builder("mentor.matching.index.size", this, MentorMatchingIndex::size)
+                .description("Number of mentors in the matching index")
+                .register(meterRegistry);
+        Gauge.builder("mentor.matching.index.bytes", this, MentorMatchingIndex::sizeInBytes)
+                .description("Memory used by the matching index bitmaps")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    // 재구성 전에 먼저 구독해서, 재구성하는 동안 다른 노드에서 변경된 멘토도 놓치지 않도록 함
+    @PostConstruct
+    void init() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANGED_CHANNEL));
+    }
+
+    // 조건에 맞는 멘토 id 를 rating 내림차순으로 최대 limit 개 반환
+    public List<Long> match(MentorMatchQuery query, int limit) {
+        if (!ready) throw new MentorMatchingUnavailableException("Mentor matching index is not ready yet");
+
+        lock.readLock().lock();
+        try {
+            return bitmaps.match(query, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 멘토가 저장, 수정, 삭제된 트랜잭션이 커밋된 이후 실행
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMentorChanged(MentorChangedEvent event) {
+        try {
+            refresh(event.mentorId());
+            publish(event.mentorId());
+        } catch (Exception e) {
+            // 다음 재구성때 반영됨
+            log.warn("Failed to update mentor matching index for mentorId {}: {}", event.mentorId(), e.getMessage());
+        }
+    }
+
+    // User 의 지역, 성별이 바뀌면 멘토 속성도 바뀌므로 다시 조회 (멘티의 변경이라면 조회 결과가 없음)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        try {
+            mentorRepository.findMatchingEntryByUserId(event.userId()).ifPresent(entry -> {
+                refresh(entry.mentorId());
+                publish(entry.mentorId());
+            });
+        } catch (Exception e) {
+            log.warn("Failed to update mentor matching index for userId {}: {}", event.userId(), e.getMessage());
+        }
+    }
+
+    // 다른 노드에서 변경된 멘토를 DB 에서 다시 조회해서 반영
+    @Override
+    public void onMessage(@NonNull Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.lastIndexOf(':');
+        if (separator < 0 || body.substring(0, separator).equals(nodeId)) return;
+
+        try {
+            refresh(Long.parseLong(body.substring(separator + 1)));
+        } catch (NumberFormatException e) {
+            log.warn("Invalid mentor matching change message");
+        } catch (Exception e) {
+            log.warn("Failed to apply mentor matching change {}: {}", body, e.getMessage());
+        }
+    }
+
+    // mentor_tbl 을 id 범위별로 나눠 rebuildParallelism 개의 스레드에서 동시에 읽어 부분 인덱스를 만들고, 합친 뒤 교체
+    // 시작 직후(initialDelay 0) 스케줄러 스레드에서 실행되므로 애플리케이션 시작을 막지 않음
+    @Scheduled(initialDelayString = "0", fixedDelayString = "${mentor.matching.rebuild-interval:21600000}")
+    public void rebuild() {
+        long startedAt = System.nanoTime();
+        lock.writeLock().lock();
+        try {
+            changedDuringRebuild = new ConcurrentHashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(rebuildParallelism);
+        try {
+            long maxId = mentorRepository.findMaxId();
+            long rangeSize = maxId / rebuildParallelism + 1;
+
+            List<Future<MentorBitmaps>> partitions = new ArrayList<>(rebuildParallelism);
+            for (int i = 0; i < rebuildParallelism; i++) {
+                long afterId = i * rangeSize;
+                long toId = Math.min(maxId, afterId + rangeSize);
+                partitions.add(executor.submit(() -> load(afterId, toId)));
+            }
+
+            MentorBitmaps next = new MentorBitmaps();
+            for (Future<MentorBitmaps> partition : partitions) {
+                next.merge(partition.get());
+            }
+            next.optimize();
+
+            lock.writeLock().lock();
+            try {
+                // 재구성 중에 반영된 변경은 새 인덱스에 없을 수 있으므로 다시 적용한 뒤 교체
+                changedDuringRebuild.values().forEach(change -> change.applyTo(next));
+                bitmaps = next;
+                ready = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("Rebuilt mentor matching index with {} mentors in {} ms", next.size(), (System.nanoTime() - startedAt) / 1_000_000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("Failed to rebuild mentor matching index: {}", e.getMessage());
+        } finally {
+            executor.shutdownNow();
+            lock.writeLock().lock();
+            try {
+                changedDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    // (afterId, toId] 범위를 id 기준 keyset 페이지네이션으로 chunk 단위로 읽어서 부분 인덱스 생성
+    private MentorBitmaps load(long afterId, long toId) {
+        MentorBitmaps partition = new MentorBitmaps();
+        long lastId = afterId;
+        List<MentorMatchingEntry> chunk;
+        do {
+            chunk = mentorRepository.findMatchingEntriesBetween(lastId, toId, PageRequest.ofSize(rebuildChunkSize));
+            for (MentorMatchingEntry entry : chunk) {
+                partition.put(entry);
+                lastId = entry.mentorId();
+            }
+        } while (chunk.size() == rebuildChunkSize);
+        return partition;
+    }
+
+    // 멘토의 현재 행을 다시 읽어 반영, 멘토가 없다면 인덱스에서 제거
+    private void refresh(Long mentorId) {
+        synchronized (mentorLocks[Math.floorMod(mentorId, MENTOR_LOCK_STRIPES)]) {
+            apply(new Change(mentorId, mentorRepository.findMatchingEntryById(mentorId).orElse(null)));
+        }
+    }
+
+    private void apply(Change change) {
+        lock.writeLock().lock();
+        try {
+            change.applyTo(bitmaps);
+            if (changedDuringRebuild != null) changedDuringRebuild.put(change.mentorId(), change);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void publish(Long mentorId) {
+        try {
+            redisTemplate.convertAndSend(CHANGED_CHANNEL, nodeId + ":" + mentorId);
+        } catch (Exception e) {
+            // 다른 노드는 다음 재구성때 반영됨
+            log.warn("Failed to publish mentor matching change for mentorId {}: {}", mentorId, e.getMessage());
+        }
+    }
+
+    private int size() {
+        lock.readLock().lock();
+        try {
+            return bitmaps.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private long sizeInBytes() {
+        lock.readLock().lock();
+        try {
+            return bitmaps.sizeInBytes();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 멘토 한명의 변경, entry 가 null 이면 삭제
+    private record Change(Long mentorId, MentorMatchingEntry entry) {
+        void applyTo(MentorBitmaps target) {
+            if (entry != null) target.put(entry);
+            else target.remove(mentorId);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package mtmt.MTMT_BE.domain.mentor.application.projection;
+
+import lombok.extern.slf4j.Slf4j;
+import mtmt.MTMT_BE.domain.mentor.domain.repository.MentorMatchingEntry;
+import mtmt.MTMT_BE.domain.mentor.domain.repository.MentorRedisProjection;
+import mtmt.MTMT_BE.domain.mentor.domain.repository.MentorRepository;
+import mtmt.MTMT_BE.global.redis.RedisShadowRebuild;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+// mentor_tbl 로 부터 만들어지는 Redis 저장소 하나를 mentor_tbl 과 맞추는 공통 로직 (추천 후보, 리더보드 updater 가 하나씩 생성)
+// - 멘토 한명의 변경은 이벤트의 snapshot 이 아닌 DB 의 현재 행으로 반영 (같은 멘토의 AFTER_COMMIT 이벤트는 순서가 바뀌어 도착할 수 있음)
+// - 반영에 실패한 id 는 노드의 재시도 set 에 남겨두고 retryFailed 로 다시 반영
+// - 재구성은 mentor_tbl 을 chunk 단위로 재구성 키에 채운 뒤 한번에 교체하므로, 재구성 중에도 조회는 이전 키로 정상 동작함
+@Slf4j
+public class MentorProjectionSynchronizer {
+
+    private final String name; // 로그에 남길 저장소 이름
+    private final MentorRepository mentorRepository;
+    private final MentorRedisProjection projection;
+    private final int chunkSize;
+    private final Duration timeout;
+
+    // 반영에 실패해서 다시 시도할 멘토 id, 사용자 id (지역 변경)
+    private final Set<Long> failedMentorIds = ConcurrentHashMap.newKeySet();
+    private final Set<Long> failedUserIds = ConcurrentHashMap.newKeySet();
+
+    public MentorProjectionSynchronizer(String name, MentorRepository mentorRepository, MentorRedisProjection projection,
+                                        int chunkSize, Duration timeout) {
+        this.name = name;
+        this.mentorRepository = mentorRepository;
+        this.projection = projection;
+        this.chunkSize = chunkSize;
+        this.timeout = timeout;
+    }
+
+    public void onMentorChanged(Long mentorId) {
+        try {
+            refresh(mentorId);
+        } catch (Exception e) {
+            failedMentorIds.add(mentorId);
+            log.warn("Failed to update {} for mentorId {}, will retry: {}", name, mentorId, e.getMessage());
+        }
+    }
+
+    // User 의 지역이 바뀌면 멘토가 속한 키도 바뀔 수 있으므로 다시 조회 (멘티의 변경이라면 조회 결과가 없음)
+    public void onUserChanged(Long userId) {
+        try {
+            refreshUser(userId);
+        } catch (Exception e) {
+            failedUserIds.add(userId);
+            log.warn("Failed to update {} for userId {}, will retry: {}", name, userId, e.getMessage());
+        }
+    }
+
+    // 반영에 실패한 멘토를 다시 반영, 다시 실패하면 (Redis 장애 등) 남은 id 는 다음 호출때 시도
+    public void retryFailed() {
+        if (retry(failedMentorIds, this::refresh)) retry(failedUserIds, this::refreshUser);
+    }
+
+    // 재구성이 끝나 실제 키가 채워져 있는지, 확인에 실패하면 (Redis 장애) 재구성하지 않도록 true
+    public boolean isBuilt() {
+        try {
+            return projection.rebuild().isBuilt();
+        } catch (Exception e) {
+            log.warn("Failed to check {}: {}", name, e.getMessage());
+            return true;
+        }
+    }
+
+    // 여러 노드 중 재구성 lock 을 먼저 잡은 노드만 실행
+    // chunk 마다 lock 을 연장하고, 연장에 실패하면 (lock 이 만료되어 다른 노드가 재구성 중) 교체하지 않고 중단
+    public void rebuild() {
+        RedisShadowRebuild rebuild = projection.rebuild();
+        String token = UUID.randomUUID().toString();
+        try {
+            if (!rebuild.begin(token, timeout)) return;
+        } catch (Exception e) {
+            log.warn("Failed to start {} rebuild: {}", name, e.getMessage());
+            return;
+        }
+
+        try {
+            long lastId = 0L;
+            long count = 0;
+            List<MentorMatchingEntry> chunk;
+            do {
+                chunk = mentorRepository.findMatchingEntriesBetween(lastId, Long.MAX_VALUE, PageRequest.ofSize(chunkSize));
+                projection.addToRebuild(chunk);
+                if (!rebuild.renew(token, timeout)) throw new IllegalStateException("Rebuild lock of " + name + " was lost");
+                if (!chunk.isEmpty()) lastId = chunk.get(chunk.size() - 1).mentorId();
+                count += chunk.size();
+            } while (chunk.size() == chunkSize);
+
+            // 재구성 중에 변경된 멘토는 재구성 결과가 더 오래된 값일 수 있으므로 교체 후 다시 반영
+            Set<Long> changed = rebuild.finish(token);
+            changed.forEach(this::onMentorChanged);
+
+            log.info("Rebuilt {} with {} mentors ({} changed during rebuild)", name, count, changed.size());
+        } catch (Exception e) {
+            try {
+                rebuild.abort(token);
+            } catch (Exception abortFailure) {
+                log.warn("Failed to abort {} rebuild: {}", name, abortFailure.getMessage()); // TTL 이 지나면 해제됨
+            }
+            log.warn("Failed to rebuild {}: {}", name, e.getMessage());
+        }
+    }
+
+    // DB 에서 다시 조회해서 반영하고, 멘토가 없다면 저장소에서 제거
+    private void refresh(Long mentorId) {
+        MentorMatchingEntry current = mentorRepository.findMatchingEntryById(mentorId).orElse(null);
+        if (current != null) projection.save(current);
+        else projection.remove(mentorId);
+    }
+
+    private void refreshUser(Long userId) {
+        mentorRepository.findMatchingEntryByUserId(userId).ifPresent(projection::save);
+    }
+
+    // ids 를 하나씩 꺼내서 반영, 실패하면 다시 넣고 false
+    private boolean retry(Set<Long> ids, Consumer<Long> update) {
+        for (Long id : List.copyOf(ids)) {
+            ids.remove(id);
+            try {
+                update.accept(id);
+            } catch (Exception e) {
+                ids.add(id);
+                log.warn("Failed to retry {} update for id {}: {}", name, id, e.getMessage());
+                return false;
+            }
+        }
+        return true;
+    }
+}
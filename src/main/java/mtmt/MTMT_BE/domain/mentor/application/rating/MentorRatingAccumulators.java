@@ -0,0 +1,75 @@
+package mtmt.MTMT_BE.domain.mentor.application.rating;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.DoubleUnaryOperator;
+
+// flush 묶음 하나에서 멘토별 rating 을 누적하는 map
+// 묶음의 후기를 적용하기 전에 멘토들의 rating, 버전을 한번에 읽어두고, 후기를 순서대로 적용한 뒤 바뀐 멘토만 DB 에 반영
+// flush lock 을 잡은 스레드 하나가 묶음 하나의 트랜잭션 안에서만 사용하므로 동기화하지 않고, 묶음이 끝나면 버림
+// 누적기 하나는 DB 에서 읽은 값(baseRating, version)과 현재 값(rating)을 가지고 있음
+// - rebase: 다른 곳에서 먼저 갱신해서 버전이 충돌하면, DB 의 새 값 위에 아직 반영하지 못한 변화량(rating - baseRating)을 다시 얹음
+public class MentorRatingAccumulators {
+
+    private final Map<Long, Accumulator> accumulators = new HashMap<>();
+
+    // rows 는 묶음의 멘토들의 DB 값, 없는 멘토(삭제됨)의 후기는 적용되지 않음
+    public MentorRatingAccumulators(Map<Long, RatingRow> rows) {
+        rows.forEach((mentorId, row) -> accumulators.put(mentorId, new Accumulator(row)));
+    }
+
+    // 멘토의 rating 에 update 를 적용, 멘토가 없으면 false
+    public boolean apply(Long mentorId, DoubleUnaryOperator update) {
+        Accumulator accumulator = accumulators.get(mentorId);
+        if (accumulator == null) return false;
+        accumulator.rating = update.applyAsDouble(accumulator.rating);
+        return true;
+    }
+
+    // DB 에 반영해야 하는 멘토들의 현재 값
+    public List<Pending> pending() {
+        List<Pending> pending = new ArrayList<>();
+        accumulators.forEach((mentorId, accumulator) -> {
+            if (accumulator.dirty()) pending.add(new Pending(mentorId, accumulator.version, accumulator.baseRating, accumulator.rating));
+        });
+        return pending;
+    }
+
+    // 다른 곳에서 먼저 갱신된 DB 의 값 위에 아직 반영하지 못한 변화량을 다시 얹음
+    public void rebase(Long mentorId, RatingRow row) {
+        Accumulator accumulator = accumulators.get(mentorId);
+        accumulator.rating = row.rating() + (accumulator.rating - accumulator.baseRating);
+        accumulator.baseRating = row.rating();
+        accumulator.version = row.version();
+    }
+
+    // 그 사이에 삭제된 멘토
+    public void discard(Long mentorId) {
+        accumulators.remove(mentorId);
+    }
+
+    // DB 의 rating, 버전
+    public record RatingRow(double rating, long version) { }
+
+    // DB 에 반영할 값, version 과 baseRating 은 DB 에 마지막으로 반영된 버전과 값 (version 은 UPDATE 의 WHERE 조건에 사용)
+    public record Pending(Long mentorId, long version, double baseRating, double rating) { }
+
+    private static final class Accumulator {
+
+        private double baseRating;
+        private long version;
+        private double rating;
+
+        private Accumulator(RatingRow row) {
+            this.baseRating = row.rating();
+            this.version = row.version();
+            this.rating = row.rating();
+        }
+
+        private boolean dirty() {
+            return rating != baseRating;
+        }
+    }
+}
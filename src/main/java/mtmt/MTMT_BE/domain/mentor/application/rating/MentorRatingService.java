@@ -0,0 +1,264 @@
+package mtmt.MTMT_BE.domain.mentor.application.rating;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import mtmt.MTMT_BE.domain.mentor.application.rating.MentorRatingAccumulators.Pending;
+import mtmt.MTMT_BE.domain.mentor.application.rating.MentorRatingAccumulators.RatingRow;
+import mtmt.MTMT_BE.domain.mentor.domain.entity.Mentor;
+import mtmt.MTMT_BE.domain.mentor.domain.entity.MentorRatingFlush;
+import mtmt.MTMT_BE.domain.mentor.domain.event.MentorChangedEvent;
+import mtmt.MTMT_BE.domain.mentor.domain.event.MentorReviewedEvent;
+import mtmt.MTMT_BE.domain.mentor.domain.repository.MentorRatingStore;
+import mtmt.MTMT_BE.domain.mentor.domain.repository.MentorRatingStore.ReviewRecord;
+import mtmt.MTMT_BE.domain.mentor.domain.repository.MentorRatingView;
+import mtmt.MTMT_BE.domain.mentor.domain.repository.MentorRepository;
+import mtmt.MTMT_BE.domain.mentor.domain.type.type.RatingSection;
+import mtmt.MTMT_BE.global.redis.StreamLedgerFlusher;
+import mtmt.MTMT_BE.global.scheduling.SchedulingConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.lang.NonNull;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.DoubleUnaryOperator;
+
+// 후기로 멘토 rating 을 갱신하는 서비스 (Elo 방식)
+// - 기대 점수 E = 1 / (1 + 10^((기준 rating - rating) / 400)), 실제 점수 S = (후기 점수 - 1) / 4
+// - 새 rating = rating + K * (S - E), 0 ~ 1000 으로 제한 (rating 이 높을수록 같은 후기로 오르는 폭이 작아짐)
+// 후기마다 mentor_tbl 행을 잠그지 않도록 후기 점수를 Redis stream 에 기록(MentorRatingStore)하고, 주기적으로 묶어서 반영
+// - 여러 노드 중 flush lock 을 잡은 노드만 실행, stream 의 가장 오래된 기록부터 묶음의 멘토들의 현재 rating 위에 순서대로 적용한 뒤(MentorRatingAccumulators) 바뀐 멘토만 batch UPDATE
+// - UPDATE 는 version 조건을 건 낙관적 갱신이며, 다른 곳에서 먼저 갱신되어 충돌하면 그 행을 잠근 뒤 DB 의 새 값 위에 변화량을 다시 얹어 갱신
+// - 반영 범위를 mentor_rating_flush_tbl 에 함께 저장하고 커밋 이후에 stream 에서 지우는 과정은 StreamLedgerFlusher 가 처리
+// Redis 가 AOF 등으로 영속화되어 있다는 전제에서, 노드가 언제 중단되어도 후기가 유실되거나 두번 반영되지 않음
+@Slf4j
+@Service
+public class MentorRatingService {
+
+    private static final String UPDATE_RATING =
+            "UPDATE mentor_tbl SET rating = ?, rating_section = ?, version = version + 1 WHERE id = ? AND version = ?";
+    private static final String SELECT_RATINGS_FOR_UPDATE = "SELECT id, rating, version FROM mentor_tbl WHERE id IN (%s) FOR UPDATE";
+    private static final int MIN_RATING = 0;
+    private static final int MAX_RATING = 1000;
+    private static final int MAX_UPDATE_ATTEMPTS = 3; // 충돌한 행은 잠근 뒤 다시 갱신하므로 보통 두번째에 모두 반영됨
+
+    private final MentorRepository mentorRepository;
+    private final MentorRatingStore mentorRatingStore;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final StreamLedgerFlusher<ReviewRecord, List<Pending>> ledgerFlusher;
+    private final double kFactor;
+    private final double referenceRating;
+    private final Duration ledgerRetention;
+
+    private final Counter flushedRows;
+    private final Counter conflictedRows;
+    private final Counter sectionChanges;
+
+    public MentorRatingService(MentorRepository mentorRepository,
+                               MentorRatingStore mentorRatingStore,
+                               JdbcTemplate jdbcTemplate,
+                               TransactionTemplate transactionTemplate,
+                               ApplicationEventPublisher eventPublisher,
+                               MeterRegistry meterRegistry,
+                               @Value("${mentor.rating.k-factor:32}") double kFactor,
+                               @Value("${mentor.rating.reference-rating:500}") double referenceRating,
+                               @Value("${mentor.rating.flush-batch-size:500}") int flushBatchSize,
+                               @Value("${mentor.rating.flush-lock-timeout:30s}") Duration flushLockTimeout,
+                               @Value("${mentor.rating.ledger-retention:7d}") Duration ledgerRetention) {
+        this.mentorRepository = mentorRepository;
+        this.mentorRatingStore = mentorRatingStore;
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.kFactor = kFactor;
+        this.referenceRating = referenceRating;
+        this.ledgerRetention = ledgerRetention;
+
+        this.flushedRows = Counter.builder("mentor.rating.flush").tag("result", "updated").register(meterRegistry);
+        this.conflictedRows = Counter.builder("mentor.rating.flush").tag("result", "conflict").register(meterRegistry);
+        this.sectionChanges = Counter.builder("mentor.rating.section.changes")
+                .description("Flushed rating changes that crossed a RatingSection boundary")
+                .register(meterRegistry);
+        this.ledgerFlusher = new StreamLedgerFlusher<>("mentor rating", mentorRatingStore, MentorRatingFlush.TABLE,
+                jdbcTemplate, transactionTemplate, flushBatchSize, flushLockTimeout, this::apply, this::committed);
+    }
+
+    // 후기 점수(1 ~ 5)를 기록 (rating 에는 다음 flush 에 반영됨)
+    public void recordReview(Long mentorId, int score) {
+        if (score < 1 || score > 5) throw new IllegalArgumentException("Review score must be between 1 and 5");
+        mentorRatingStore.record(mentorId, score);
+    }
+
+    // 후기가 저장된 트랜잭션이 커밋된 이후 실행
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMentorReviewed(MentorReviewedEvent event) {
+        try {
+            recordReview(event.mentorId(), event.score());
+        } catch (Exception e) {
+            log.warn("Failed to record review for mentorId {}: {}", event.mentorId(), e.getMessage());
+        }
+    }
+
+    // stream 에 쌓인 후기를 flushBatchSize 개씩 반영
+    // 재구성 작업이 실행 중이어도 밀리지 않도록 flush 전용 스케줄러에서 실행
+    @Scheduled(fixedDelayString = "${mentor.rating.flush-interval:1000}", scheduler = SchedulingConfig.FLUSH_SCHEDULER)
+    public void flush() {
+        ledgerFlusher.flush();
+    }
+
+    @Scheduled(fixedDelayString = "${mentor.rating.ledger-cleanup-interval:3600000}")
+    public void cleanUpLedger() {
+        ledgerFlusher.cleanUp(ledgerRetention);
+    }
+
+    // 반영 범위를 저장한 트랜잭션 안에서, 묶음의 멘토들의 현재 rating 위에 기록을 순서대로 적용한 뒤 바뀐 멘토의 rating 을 갱신
+    // 롤백되면 누적한 값도 함께 버려지고, 다음 flush 에서 stream 의 기록을 DB 의 값 위에 다시 적용
+    private List<Pending> apply(List<ReviewRecord> records) {
+        Set<Long> mentorIds = new HashSet<>();
+        records.forEach(record -> mentorIds.add(record.mentorId()));
+        MentorRatingAccumulators accumulators = new MentorRatingAccumulators(loadRatings(mentorIds));
+        // 삭제된 멘토의 후기는 적용되지 않고 기록만 지워짐
+        for (ReviewRecord record : records) accumulators.apply(record.mentorId(), eloUpdate(record.score()));
+
+        List<Pending> updated = new ArrayList<>();
+        List<Pending> batch = accumulators.pending();
+        for (int attempt = 1; !batch.isEmpty(); attempt++) {
+            if (attempt > MAX_UPDATE_ATTEMPTS) throw new IllegalStateException("Mentor ratings kept conflicting: " + batch.size() + " rows");
+            batch = update(accumulators, batch, updated);
+        }
+        return updated;
+    }
+
+    // 커밋된 뒤 실행
+    private void committed(List<ReviewRecord> records, List<Pending> updated) {
+        for (Pending pending : updated) {
+            // 등급 경계를 넘은 경우 (rating_section 은 UPDATE 에서 새 rating 으로 다시 계산됨)
+            if (section(pending.baseRating()) != section(pending.rating())) sectionChanges.increment();
+        }
+        flushedRows.increment(updated.size());
+        if (!updated.isEmpty()) publishChanges(updated);
+    }
+
+    // 멘토의 현재 rating 에 후기 점수 하나를 적용하는 함수
+    private DoubleUnaryOperator eloUpdate(int score) {
+        double actual = (score - 1) / 4.0;
+        return rating -> {
+            double expected = 1 / (1 + Math.pow(10, (referenceRating - rating) / 400));
+            return Math.max(MIN_RATING, Math.min(MAX_RATING, rating + kFactor * (actual - expected)));
+        };
+    }
+
+    // 버전 조건부 batch UPDATE, 반영된 행은 updated 에 추가하고 다시 갱신해야 하는 행(충돌 후 rebase 된 값)을 반환
+    private List<Pending> update(MentorRatingAccumulators accumulators, List<Pending> batch, List<Pending> updated) {
+        int[] counts = jdbcTemplate.batchUpdate(UPDATE_RATING, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(@NonNull PreparedStatement ps, int i) throws SQLException {
+                Pending pending = batch.get(i);
+                int rating = round(pending.rating());
+                ps.setInt(1, rating);
+                ps.setString(2, section(rating).name());
+                ps.setLong(3, pending.mentorId());
+                ps.setLong(4, pending.version());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return batch.size();
+            }
+        });
+
+        List<Pending> conflicted = new ArrayList<>();
+        List<Pending> noInfo = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            int count = counts[i];
+            if (count > 0) updated.add(batch.get(i));
+            else if (count == Statement.SUCCESS_NO_INFO) noInfo.add(batch.get(i)); // 드라이버가 행 수를 알려주지 않은 경우
+            else conflicted.add(batch.get(i)); // 버전 충돌 (다른 곳에서 먼저 갱신) 또는 삭제된 멘토
+        }
+        if (conflicted.isEmpty() && noInfo.isEmpty()) return List.of();
+        return resolve(accumulators, conflicted, noInfo, updated);
+    }
+
+    // 충돌한 행과 반영 여부를 알 수 없는 행을 잠그고 현재 값을 읽음 (잠금 읽기는 트랜잭션의 snapshot 이 아닌 최신 값을 읽음)
+    // 반영 여부를 알 수 없는 행은 DB 의 현재 값과 비교해서 반영되었으면 updated 에 추가, 충돌한 행은 현재 값으로 rebase 해서 반환
+    // 잠근 행은 이 트랜잭션이 끝날때까지 다른 곳에서 바꿀 수 없으므로 반환된 값의 다음 UPDATE 는 충돌하지 않음
+    private List<Pending> resolve(MentorRatingAccumulators accumulators, List<Pending> conflicted, List<Pending> noInfo, List<Pending> updated) {
+        List<Long> mentorIds = new ArrayList<>(conflicted.size() + noInfo.size());
+        conflicted.forEach(pending -> mentorIds.add(pending.mentorId()));
+        noInfo.forEach(pending -> mentorIds.add(pending.mentorId()));
+        Map<Long, RatingRow> rows = lockRatings(mentorIds);
+
+        for (Pending pending : noInfo) {
+            RatingRow row = rows.get(pending.mentorId());
+            if (row != null && row.version() == pending.version() + 1 && row.rating() == round(pending.rating())) {
+                updated.add(pending);
+            } else {
+                conflicted.add(pending);
+            }
+        }
+
+        Set<Long> rebased = new HashSet<>();
+        for (Pending pending : conflicted) {
+            RatingRow row = rows.get(pending.mentorId());
+            if (row == null) {
+                accumulators.discard(pending.mentorId());
+            } else {
+                accumulators.rebase(pending.mentorId(), row);
+                rebased.add(pending.mentorId());
+                conflictedRows.increment();
+            }
+        }
+        return accumulators.pending().stream()
+                .filter(pending -> rebased.contains(pending.mentorId()))
+                .toList();
+    }
+
+    private Map<Long, RatingRow> lockRatings(List<Long> mentorIds) {
+        Map<Long, RatingRow> rows = new HashMap<>();
+        jdbcTemplate.query(SELECT_RATINGS_FOR_UPDATE.formatted(String.join(",", Collections.nCopies(mentorIds.size(), "?"))),
+                (RowCallbackHandler) rs -> rows.put(rs.getLong("id"), new RatingRow(rs.getInt("rating"), rs.getLong("version"))),
+                mentorIds.toArray());
+        return rows;
+    }
+
+    // 커밋된 rating 을 리더보드, 매칭 인덱스, 추천 후보에 알림 (트랜잭션 밖이므로 리스너가 바로 실행됨)
+    private void publishChanges(List<Pending> updated) {
+        updated.forEach(pending -> eventPublisher.publishEvent(new MentorChangedEvent(pending.mentorId())));
+    }
+
+    // 묶음의 멘토들의 현재 rating, 버전 (잠그지 않고 읽은 뒤 버전 조건부 UPDATE 로 충돌을 감지)
+    private Map<Long, RatingRow> loadRatings(Collection<Long> mentorIds) {
+        Map<Long, RatingRow> rows = new HashMap<>();
+        for (MentorRatingView row : mentorRepository.findRatingsByIdIn(mentorIds)) {
+            rows.put(row.getId(), new RatingRow(row.getRating(), row.getVersion()));
+        }
+        return rows;
+    }
+
+    private static RatingSection section(double rating) {
+        return Mentor.calculateRatingSectionFromRating(round(rating));
+    }
+
+    private static int round(double rating) {
+        return (int) Math.max(MIN_RATING, Math.min(MAX_RATING, Math.round(rating)));
+    }
+}
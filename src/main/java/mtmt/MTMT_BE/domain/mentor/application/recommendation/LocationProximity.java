@@ -0,0 +1,35 @@
+package mtmt.MTMT_BE.domain.mentor.application.recommendation;
+
+import mtmt.MTMT_BE.domain.user.domain.type.Location;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+// 두 지역이 얼마나 가까운지 (같은 시/도 1, 같은 권역 0.5, 그 외 0)
+// 권역: 수도권, 강원, 충청, 호남, 영남, 제주
+public final class LocationProximity {
+
+    private static final Map<Location, Integer> REGIONS = new EnumMap<>(Location.class);
+
+    static {
+        region(0, Location.SEOUL, Location.INCHEON, Location.GYEONGGI);
+        region(1, Location.GANGWON);
+        region(2, Location.DAEJEON, Location.SEJONG, Location.CHUNGBUK, Location.CHUNGNAM);
+        region(3, Location.GWANGJU, Location.JEONBUK, Location.JEONNAM);
+        region(4, Location.BUSAN, Location.DAEGU, Location.ULSAN, Location.GYEONGBUK, Location.GYEONGNAM);
+        region(5, Location.JEJU);
+    }
+
+    private LocationProximity() {
+    }
+
+    public static double of(Location a, Location b) {
+        if (a == null || b == null) return 0;
+        if (a == b) return 1;
+        return REGIONS.get(a).equals(REGIONS.get(b)) ? 0.5 : 0;
+    }
+
+    private static void region(int region, Location... locations) {
+        for (Location location : locations) REGIONS.put(location, region);
+    }
+}
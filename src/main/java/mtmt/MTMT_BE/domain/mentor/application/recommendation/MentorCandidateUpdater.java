@@ -0,0 +1,56 @@
+package mtmt.MTMT_BE.domain.mentor.application.recommendation;
+
+import mtmt.MTMT_BE.domain.mentor.application.projection.MentorProjectionSynchronizer;
+import mtmt.MTMT_BE.domain.mentor.domain.event.MentorChangedEvent;
+import mtmt.MTMT_BE.domain.mentor.domain.repository.MentorCandidateStore;
+import mtmt.MTMT_BE.domain.mentor.domain.repository.MentorRepository;
+import mtmt.MTMT_BE.domain.user.domain.event.UserChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+// Redis 의 멘토 추천 후보 set 을 mentor_tbl 과 맞춰주는 컴포넌트
+// - 멘토가 바뀌면 커밋 이후 바뀐 멘토 한명의 위치와 점수만 갱신 (이벤트의 snapshot 이 아닌 DB 의 현재 행으로)
+// - 갱신에 실패한 멘토는 노드의 재시도 set 에 남겨두고 retry-interval 마다 다시 반영
+// - 전체 재구성은 후보 set 이 없을때만 (처음 배포, Redis 데이터 유실, 운영자의 재구성 요청) 재구성 키에 새로 만든 뒤 한번에 교체
+// Redis 는 모든 노드가 공유하므로 변경을 커밋한 노드에서 한번만 반영하면 됨
+@Component
+public class MentorCandidateUpdater {
+
+    private final MentorProjectionSynchronizer synchronizer;
+
+    public MentorCandidateUpdater(MentorRepository mentorRepository,
+                                  MentorCandidateStore mentorCandidateStore,
+                                  @Value("${mentor.recommendation.rebuild-chunk-size:5000}") int rebuildChunkSize,
+                                  @Value("${mentor.recommendation.rebuild-timeout:10m}") Duration rebuildTimeout) {
+        this.synchronizer = new MentorProjectionSynchronizer("mentor recommendation candidates",
+                mentorRepository, mentorCandidateStore, rebuildChunkSize, rebuildTimeout);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMentorChanged(MentorChangedEvent event) {
+        synchronizer.onMentorChanged(event.mentorId());
+    }
+
+    // User 의 지역이 바뀌면 멘토가 속한 set 도 바뀌므로 다시 조회
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        synchronizer.onUserChanged(event.userId());
+    }
+
+    @Scheduled(fixedDelayString = "${mentor.recommendation.retry-interval:10000}")
+    public void retryFailed() {
+        synchronizer.retryFailed();
+    }
+
+    // 시작 직후(initialDelay 0)와 주기적으로 후보 set 이 채워져 있는지만 확인 (EXISTS 한번)
+    // 표시가 없을때만 mentor_tbl 전체로 다시 만듦
+    @Scheduled(initialDelayString = "0", fixedDelayString = "${mentor.recommendation.build-check-interval:60000}")
+    public void rebuildIfMissing() {
+        if (!synchronizer.isBuilt()) synchronizer.rebuild();
+    }
+}
@@ -0,0 +1,67 @@
+package mtmt.MTMT_BE.domain.mentor.application.service;
+
+import lombok.RequiredArgsConstructor;
+import mtmt.MTMT_BE.domain.mentor.application.dto.leaderboard.LeaderboardEntry;
+import mtmt.MTMT_BE.domain.mentor.application.dto.leaderboard.LeaderboardResponse;
+import mtmt.MTMT_BE.domain.mentor.application.dto.leaderboard.MentorRankResponse;
+import mtmt.MTMT_BE.domain.mentor.application.dto.search.MentorSearchItem;
+import mtmt.MTMT_BE.domain.mentor.domain.repository.MentorLeaderboardStore;
+import mtmt.MTMT_BE.domain.mentor.domain.repository.MentorLeaderboardStore.LeaderboardRow;
+import mtmt.MTMT_BE.domain.mentor.domain.repository.MentorRepository;
+import mtmt.MTMT_BE.domain.user.domain.type.Category;
+import mtmt.MTMT_BE.global.exception.domain.mentor.MentorNotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 멘토 리더보드 조회
+// 순위와 rating 은 Redis 리더보드에서만 읽고, DB 는 화면에 표시할 이름, 썸네일만 id 로 조회 (ORDER BY 없음)
+// category 가 null 이면 전체 리더보드
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MentorLeaderboardService {
+
+    private final MentorLeaderboardStore mentorLeaderboardStore;
+    private final MentorRepository mentorRepository;
+
+    // 상위 size 명
+    public LeaderboardResponse getTop(Category category, int size) {
+        return toResponse(category, mentorLeaderboardStore.findRange(category, 0, size - 1L));
+    }
+
+    // rank(1 부터) 앞뒤로 radius 명씩
+    public LeaderboardResponse getAround(Category category, long rank, int radius) {
+        long index = rank - 1;
+        return toResponse(category, mentorLeaderboardStore.findRange(category, Math.max(0, index - radius), index + radius));
+    }
+
+    public MentorRankResponse getRank(Category category, Long mentorId) {
+        LeaderboardRow row = mentorLeaderboardStore.findRank(category, mentorId)
+                .orElseThrow(() -> new MentorNotFoundException("Mentor not found in leaderboard: " + mentorId));
+        return new MentorRankResponse(category, mentorId, row.rank() + 1, row.rating(), mentorLeaderboardStore.size(category));
+    }
+
+    private LeaderboardResponse toResponse(Category category, List<LeaderboardRow> rows) {
+        long total = mentorLeaderboardStore.size(category);
+        if (rows.isEmpty()) return new LeaderboardResponse(category, total, List.of());
+
+        Map<Long, MentorSearchItem> mentors = mentorRepository.findSearchItemsByIdIn(rows.stream().map(LeaderboardRow::mentorId).toList())
+                .stream()
+                .collect(Collectors.toMap(MentorSearchItem::mentorId, Function.identity()));
+
+        // 순서와 rating 은 리더보드 기준, 리더보드 반영 전에 삭제된 멘토는 제외
+        List<LeaderboardEntry> entries = new ArrayList<>(rows.size());
+        for (LeaderboardRow row : rows) {
+            MentorSearchItem mentor = mentors.get(row.mentorId());
+            if (mentor == null) continue;
+            entries.add(new LeaderboardEntry(row.rank() + 1, row.mentorId(), mentor.name(), mentor.thumbnail(), mentor.major(), row.rating()));
+        }
+        return new LeaderboardResponse(category, total, entries);
+    }
+}
@@ -0,0 +1,60 @@
+package mtmt.MTMT_BE.domain.mentor.application.service;
+
+import lombok.RequiredArgsConstructor;
+import mtmt.MTMT_BE.domain.mentee.domain.entity.Mentee;
+import mtmt.MTMT_BE.domain.mentee.domain.repository.MenteeRepository;
+import mtmt.MTMT_BE.domain.mentor.application.dto.matching.MentorMatchResponse;
+import mtmt.MTMT_BE.domain.mentor.application.dto.search.MentorSearchItem;
+import mtmt.MTMT_BE.domain.mentor.application.matching.MentorMatchQuery;
+import mtmt.MTMT_BE.domain.mentor.application.matching.MentorMatchingIndex;
+import mtmt.MTMT_BE.domain.mentor.domain.repository.MentorRepository;
+import mtmt.MTMT_BE.domain.user.domain.type.Category;
+import mtmt.MTMT_BE.domain.user.domain.type.Gender;
+import mtmt.MTMT_BE.global.exception.domain.mentee.MenteeNotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MentorMatchingService {
+
+    private final MenteeRepository menteeRepository;
+    private final MentorRepository mentorRepository;
+    private final MentorMatchingIndex mentorMatchingIndex;
+
+    // 멘티의 관심 분야 3개 중 하나를 전공으로 하는 멘토를 rating 순으로 추천
+    // 후보 선정과 정렬은 매칭 인덱스에서 하고, DB 는 결과 멘토들의 표시용 컬럼만 id 로 조회
+    public MentorMatchResponse match(Long menteeId, boolean sameLocation, Gender gender, int size) {
+        Mentee mentee = menteeRepository.findWithUserById(menteeId)
+                .orElseThrow(() -> new MenteeNotFoundException("Mentee not found: " + menteeId));
+
+        Set<Category> interests = EnumSet.noneOf(Category.class);
+        Stream.of(mentee.getInterestFirst(), mentee.getInterestSecond(), mentee.getInterestThird())
+                .filter(Objects::nonNull)
+                .forEach(interests::add);
+
+        MentorMatchQuery query = new MentorMatchQuery(
+                interests, sameLocation ? mentee.getUserId().getLocation() : null, gender, null);
+        List<Long> mentorIds = mentorMatchingIndex.match(query, size);
+        if (mentorIds.isEmpty()) return new MentorMatchResponse(List.of());
+
+        // in 조회 결과는 순서가 보장되지 않으므로 인덱스가 정한 순서로 다시 정렬
+        Map<Long, Integer> ranks = new HashMap<>();
+        for (int i = 0; i < mentorIds.size(); i++) ranks.put(mentorIds.get(i), i);
+
+        List<MentorSearchItem> mentors = mentorRepository.findSearchItemsByIdIn(mentorIds).stream()
+                .sorted(Comparator.comparing(item -> ranks.get(item.mentorId())))
+                .toList();
+        return new MentorMatchResponse(mentors);
+    }
+}
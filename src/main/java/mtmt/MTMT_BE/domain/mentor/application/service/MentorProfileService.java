@@ -0,0 +1,29 @@
+package mtmt.MTMT_BE.domain.mentor.application.service;
+
+import lombok.RequiredArgsConstructor;
+import mtmt.MTMT_BE.domain.mentor.application.dto.MentorProfileResponse;
+import mtmt.MTMT_BE.domain.mentor.domain.repository.MentorRepository;
+import mtmt.MTMT_BE.global.exception.domain.mentor.MentorNotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MentorProfileService {
+
+    private final MentorRepository mentorRepository;
+
+    // 프로필의 현재 버전 (ETag 계산용), 버전 컬럼만 조회하므로 프로필 전체를 읽는 것보다 가벼움
+    public String getProfileVersion(Long mentorId) {
+        return mentorRepository.findProfileVersionById(mentorId)
+                .orElseThrow(() -> new MentorNotFoundException("Mentor not found: " + mentorId))
+                .toVersionTag();
+    }
+
+    public MentorProfileResponse getProfile(Long mentorId) {
+        return mentorRepository.findWithUserById(mentorId)
+                .map(MentorProfileResponse::new)
+                .orElseThrow(() -> new MentorNotFoundException("Mentor not found: " + mentorId));
+    }
+}
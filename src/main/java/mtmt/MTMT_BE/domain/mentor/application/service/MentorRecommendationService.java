@@ -0,0 +1,118 @@
+package mtmt.MTMT_BE.domain.mentor.application.service;
+
+import mtmt.MTMT_BE.domain.mentee.domain.entity.Mentee;
+import mtmt.MTMT_BE.domain.mentee.domain.repository.MenteeRepository;
+import mtmt.MTMT_BE.domain.mentor.application.dto.recommendation.MentorRecommendationResponse;
+import mtmt.MTMT_BE.domain.mentor.application.dto.recommendation.RecommendedMentor;
+import mtmt.MTMT_BE.domain.mentor.application.dto.search.MentorSearchItem;
+import mtmt.MTMT_BE.domain.mentor.application.recommendation.LocationProximity;
+import mtmt.MTMT_BE.domain.mentor.domain.repository.MentorCandidateStore;
+import mtmt.MTMT_BE.domain.mentor.domain.repository.MentorCandidateStore.CandidateSet;
+import mtmt.MTMT_BE.domain.mentor.domain.repository.MentorCandidateStore.MentorCandidate;
+import mtmt.MTMT_BE.domain.mentor.domain.repository.MentorRepository;
+import mtmt.MTMT_BE.domain.user.domain.type.Category;
+import mtmt.MTMT_BE.domain.user.domain.type.Location;
+import mtmt.MTMT_BE.global.exception.domain.mentee.MenteeNotFoundException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 멘티에게 맞는 멘토 추천
+// 점수 = 관심 분야 가중치(1, 2, 3순위) + 지역 근접도 가중치 + 기본 점수(rating, 등급)
+// 모든 멘토의 점수를 요청마다 계산하지 않고, 미리 정렬된 (전공, 지역) 후보 set 에서 set 별 상위 K 명만 읽은 뒤
+// 크기 K 의 heap 으로 합쳐서 상위 K 명을 구함 (set 수가 고정이므로 O(K log K))
+@Service
+@Transactional(readOnly = true)
+public class MentorRecommendationService {
+
+    private final MenteeRepository menteeRepository;
+    private final MentorRepository mentorRepository;
+    private final MentorCandidateStore mentorCandidateStore;
+    private final double[] interestWeights;
+    private final double locationWeight;
+
+    public MentorRecommendationService(MenteeRepository menteeRepository,
+                                       MentorRepository mentorRepository,
+                                       MentorCandidateStore mentorCandidateStore,
+                                       @Value("${mentor.recommendation.weights.interest-first:3.0}") double interestFirstWeight,
+                                       @Value("${mentor.recommendation.weights.interest-second:2.0}") double interestSecondWeight,
+                                       @Value("${mentor.recommendation.weights.interest-third:1.0}") double interestThirdWeight,
+                                       @Value("${mentor.recommendation.weights.location:1.0}") double locationWeight) {
+        this.menteeRepository = menteeRepository;
+        this.mentorRepository = mentorRepository;
+        this.mentorCandidateStore = mentorCandidateStore;
+        this.interestWeights = new double[]{interestFirstWeight, interestSecondWeight, interestThirdWeight};
+        this.locationWeight = locationWeight;
+    }
+
+    // 운영자의 재구성 요청, 후보 set 의 재구성 표시를 지우면 MentorCandidateUpdater 가 다음 확인때 mentor_tbl 로 부터 다시 만듦
+    public void requestCandidateRebuild() {
+        mentorCandidateStore.rebuild().markStale();
+    }
+
+    public MentorRecommendationResponse recommend(Long userId, int size) {
+        Mentee mentee = menteeRepository.findWithUserByUserId(userId)
+                .orElseThrow(() -> new MenteeNotFoundException("Mentee not found for user: " + userId));
+        Location menteeLocation = mentee.getUserId().getLocation();
+
+        // 같은 분야를 여러 순위에 고른 경우 가장 높은 가중치만 사용
+        Map<Category, Double> interests = new EnumMap<>(Category.class);
+        Category[] ranked = {mentee.getInterestFirst(), mentee.getInterestSecond(), mentee.getInterestThird()};
+        for (int i = 0; i < ranked.length; i++) {
+            if (ranked[i] != null) interests.merge(ranked[i], interestWeights[i], Math::max);
+        }
+
+        // 관심 분야마다 모든 지역(+ 지역 없음)의 set 을 조회, set 안의 멘토는 더해지는 가중치가 같음
+        List<CandidateSet> sets = new ArrayList<>();
+        List<Double> setWeights = new ArrayList<>();
+        interests.forEach((major, interestWeight) -> {
+            for (Location location : Location.values()) {
+                sets.add(new CandidateSet(major, location));
+                setWeights.add(interestWeight + locationWeight * LocationProximity.of(menteeLocation, location));
+            }
+            sets.add(new CandidateSet(major, null));
+            setWeights.add(interestWeight);
+        });
+        List<List<MentorCandidate>> candidates = mentorCandidateStore.findTop(sets, size);
+
+        // 점수가 가장 낮은 후보가 root 인 크기 size 의 heap, 더 높은 후보가 들어오면 root 를 밀어냄
+        // 각 set 은 점수 내림차순이므로, heap 의 최저 점수보다 낮아지면 그 set 의 나머지는 확인하지 않음
+        PriorityQueue<ScoredMentor> heap = new PriorityQueue<>(size + 1, Comparator.comparingDouble(ScoredMentor::score));
+        for (int i = 0; i < candidates.size(); i++) {
+            double setWeight = setWeights.get(i);
+            for (MentorCandidate candidate : candidates.get(i)) {
+                double score = setWeight + candidate.baseScore();
+                if (heap.size() == size && score <= heap.peek().score()) break;
+
+                heap.offer(new ScoredMentor(candidate.mentorId(), score));
+                if (heap.size() > size) heap.poll();
+            }
+        }
+        if (heap.isEmpty()) return new MentorRecommendationResponse(List.of());
+
+        List<ScoredMentor> top = new ArrayList<>(heap);
+        top.sort(Comparator.comparingDouble(ScoredMentor::score).reversed());
+
+        // 표시용 컬럼은 추천된 멘토만 한번에 조회, 그 사이 삭제된 멘토는 제외
+        Map<Long, MentorSearchItem> items = mentorRepository.findSearchItemsByIdIn(top.stream().map(ScoredMentor::mentorId).toList())
+                .stream()
+                .collect(Collectors.toMap(MentorSearchItem::mentorId, Function.identity()));
+        List<RecommendedMentor> mentors = new ArrayList<>(top.size());
+        for (ScoredMentor scored : top) {
+            MentorSearchItem item = items.get(scored.mentorId());
+            if (item != null) mentors.add(new RecommendedMentor(item, scored.score()));
+        }
+        return new MentorRecommendationResponse(mentors);
+    }
+
+    private record ScoredMentor(Long mentorId, double score) { }
+}
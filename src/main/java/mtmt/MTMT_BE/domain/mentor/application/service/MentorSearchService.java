@@ -0,0 +1,39 @@
+package mtmt.MTMT_BE.domain.mentor.application.service;
+
+import lombok.RequiredArgsConstructor;
+import mtmt.MTMT_BE.domain.mentor.application.dto.search.MentorSearchCondition;
+import mtmt.MTMT_BE.domain.mentor.application.dto.search.MentorSearchCursor;
+import mtmt.MTMT_BE.domain.mentor.application.dto.search.MentorSearchItem;
+import mtmt.MTMT_BE.domain.mentor.application.dto.search.MentorSearchResponse;
+import mtmt.MTMT_BE.domain.mentor.domain.repository.MentorRepository;
+import mtmt.MTMT_BE.global.exception.domain.mentor.InvalidMentorSearchException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MentorSearchService {
+
+    private final MentorRepository mentorRepository;
+
+    public MentorSearchResponse search(MentorSearchCondition condition) {
+        if (condition.minAge() != null && condition.maxAge() != null && condition.minAge() > condition.maxAge()) {
+            throw new InvalidMentorSearchException("minAge must not be greater than maxAge");
+        }
+
+        MentorSearchCursor after = MentorSearchCursor.decode(condition.cursor());
+        int size = condition.pageSize();
+
+        // 한 행을 더 조회해서 다음 페이지가 있는지 판단 (count 쿼리 없이 쿼리 한번으로 처리)
+        List<MentorSearchItem> rows = mentorRepository.search(condition, after, size + 1);
+        if (rows.size() <= size) {
+            return new MentorSearchResponse(rows, null);
+        }
+
+        List<MentorSearchItem> page = rows.subList(0, size);
+        return new MentorSearchResponse(page, MentorSearchCursor.after(page.get(size - 1)).encode());
+    }
+}
@@ -2,19 +2,32 @@ package mtmt.MTMT_BE.domain.mentor.domain.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import mtmt.MTMT_BE.domain.mentor.domain.listener.MentorChangeEntityListener;
 import mtmt.MTMT_BE.domain.mentor.domain.type.type.RatingSection;
 import mtmt.MTMT_BE.domain.user.domain.entity.User;
+import mtmt.MTMT_BE.domain.user.domain.listener.UserChangeEntityListener;
 import mtmt.MTMT_BE.domain.user.domain.type.Category;
 
 @Entity
-@Table(name = "mentor_tbl")
+@Table(name = "mentor_tbl",
+        // 멘토 검색(GET /mentors)은 rating 내림차순 + id 로 keyset 페이지네이션을 하므로, 자주 쓰이는 필터 컬럼 뒤에 (rating, id) 를 붙인 인덱스를 둠
+        // -> 필터 조건으로 범위를 좁힌 뒤 정렬 없이 인덱스 순서대로 읽고, 커서 이후부터 바로 탐색할 수 있음
+        indexes = {
+                @Index(name = "idx_mentor_rating", columnList = "rating, id"), // 필터 없이 rating 순 조회
+                @Index(name = "idx_mentor_major_rating", columnList = "major, rating, id"), // 분야 필터
+                @Index(name = "idx_mentor_section_rating", columnList = "rating_section, rating, id"), // 등급 필터
+                @Index(name = "idx_mentor_major_section_rating", columnList = "major, rating_section, rating, id") // 분야 + 등급 필터
+        })
+@EntityListeners({UserChangeEntityListener.class, MentorChangeEntityListener.class}) // 사용자 캐시 무효화, 멘토 매칭 인덱스 갱신
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
 public class Mentor {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // id 할당 방식은 User 와 같음 (id_sequence 테이블 + pooled optimizer, batch insert 가능)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "mentor_id_generator")
+    @TableGenerator(name = "mentor_id_generator", table = "id_sequence", pkColumnName = "sequence_name", valueColumnName = "next_val", pkColumnValue = "mentor_tbl", allocationSize = 100)
     private Long id;
 
     // OneToOne 연관관계 설정, 하나의 user에 대해 하나의 mentor 엔티티만 존재함
@@ -34,8 +47,13 @@ public class Mentor {
     private Integer rating = 0;
 
     @Column(name = "rating_section", nullable = false, columnDefinition = "VARCHAR(30)")
+    @Enumerated(EnumType.STRING) // 지정하지 않으면 VARCHAR 컬럼에 enum 인덱스(0, 1, ..)가 저장되어 등급 필터, 인덱스가 의미를 잃음
     private RatingSection ratingSection;
 
+    @Version // 수정될때마다 Hibernate 가 1씩 증가시키는 버전 컬럼 (낙관적 락, 프로필 조회 응답의 ETag 계산에 사용)
+    @Column(name = "version")
+    private Long version;
+
     public static RatingSection calculateRatingSectionFromRating(Integer rating) {
         if (0 <= rating && rating <= 400) return RatingSection.PENTAGON;
         else if (401 <= rating && rating <= 700) return RatingSection.SQUARE;
@@ -0,0 +1,15 @@
+package mtmt.MTMT_BE.domain.mentor.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import mtmt.MTMT_BE.global.redis.StreamLedgerEntry;
+
+// mentor_tbl 의 rating 에 반영한 후기 기록 묶음 (MentorRatingService 의 StreamLedgerFlusher 가 저장)
+@Entity
+@Table(name = MentorRatingFlush.TABLE,
+        indexes = @Index(name = "idx_mentor_rating_flush_flushed_at", columnList = "flushed_at")) // 오래된 기록 정리
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MentorRatingFlush extends StreamLedgerEntry {
+
+    public static final String TABLE = "mentor_rating_flush_tbl";
+}
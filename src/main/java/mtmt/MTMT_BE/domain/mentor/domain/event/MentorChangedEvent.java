@@ -0,0 +1,7 @@
+package mtmt.MTMT_BE.domain.mentor.domain.event;
+
+// Mentor 엔티티가 저장, 수정, 삭제되었을때 발행되는 애플리케이션 이벤트
+// 트랜잭션 커밋 이후 멘토 매칭 인덱스, 추천 후보, 리더보드를 갱신하는데 사용됨
+// 같은 멘토의 두 커밋의 이벤트는 순서가 바뀌어 도착할 수 있으므로 snapshot 을 담지 않고, 구독하는 쪽에서 항상 DB 의 현재 행을 다시 조회함
+public record MentorChangedEvent(Long mentorId) {
+}
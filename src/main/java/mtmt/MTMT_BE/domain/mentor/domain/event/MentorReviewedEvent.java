@@ -0,0 +1,6 @@
+package mtmt.MTMT_BE.domain.mentor.domain.event;
+
+// 멘티가 멘토에게 후기(1 ~ 5점)를 남겼을때 발행되는 애플리케이션 이벤트
+// 트랜잭션 커밋 이후 멘토 rating 을 갱신하는데 사용됨
+public record MentorReviewedEvent(Long mentorId, Long menteeId, int score) {
+}
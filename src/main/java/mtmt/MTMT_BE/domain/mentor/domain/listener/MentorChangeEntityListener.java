@@ -0,0 +1,29 @@
+package mtmt.MTMT_BE.domain.mentor.domain.listener;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import mtmt.MTMT_BE.domain.mentor.domain.entity.Mentor;
+import mtmt.MTMT_BE.domain.mentor.domain.event.MentorChangedEvent;
+import org.springframework.context.ApplicationEventPublisher;
+
+// Mentor 에 등록되는 JPA 엔티티 리스너
+// UserChangeEntityListener 와 달리 새로 저장(persist)된 멘토도 매칭 인덱스에 추가되어야 하므로 저장시에도 이벤트를 발행한다
+// Hibernate 가 Spring 컨테이너를 통해 생성하므로 생성자 주입을 사용할 수 있다
+@RequiredArgsConstructor
+public class MentorChangeEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Mentor mentor) {
+        eventPublisher.publishEvent(new MentorChangedEvent(mentor.getId()));
+    }
+
+    @PostRemove
+    public void onRemove(Mentor mentor) {
+        eventPublisher.publishEvent(new MentorChangedEvent(mentor.getId()));
+    }
+}
@@ -0,0 +1,138 @@
+package mtmt.MTMT_BE.domain.mentor.domain.repository;
+
+import mtmt.MTMT_BE.domain.mentor.domain.type.type.RatingSection;
+import mtmt.MTMT_BE.domain.user.domain.type.Category;
+import mtmt.MTMT_BE.domain.user.domain.type.Location;
+import mtmt.MTMT_BE.global.redis.RedisShadowRebuild;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+// 멘토 추천 후보를 (전공, 지역) 별 Redis sorted set 에 미리 정렬해두는 저장소
+// - {mentor:candidates}:{전공}:{지역}  sorted set (member: 멘토 id, score: 기본 점수)
+// - {mentor:candidates}:members        hash (멘토 id -> 현재 속한 sorted set 키)
+// - {mentor:candidates}:rebuilding, :dirty, :built  재구성 lock, 재구성 중 변경된 멘토, 재구성 완료 표시 (RedisShadowRebuild)
+// 재구성은 실제 키 + ":rebuild" 키에 채운 뒤 한번에 교체하므로, 멘토 한명의 갱신과 같은 키에 섞여 쓰이지 않음
+// 같은 set 의 멘토는 전공, 지역이 같아서 요청시 더해지는 관심 분야, 지역 가중치도 같으므로,
+// set 별 기본 점수 상위 K 명만 읽어서 합치면 전체 상위 K 명을 구할 수 있음
+// 모든 키는 같은 hash tag({mentor:candidates})를 사용하므로 Redis Cluster 에서도 스크립트가 한 slot 안에서 실행됨
+@Repository
+public class MentorCandidateStore implements MentorRedisProjection {
+
+    private static final String KEY_PREFIX = "{mentor:candidates}:";
+    private static final String MEMBERS_KEY = KEY_PREFIX + "members";
+    private static final String NO_LOCATION = "NONE"; // 지역을 입력하지 않은 멘토
+
+    // 이전 set 에서 제거, 새 set 에 추가, 위치 기록을 하나의 원자적인 스크립트로 실행
+    private static final RedisScript<Long> UPDATE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/update_mentor_candidate.lua"), Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisShadowRebuild rebuild;
+
+    public MentorCandidateStore(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+        this.rebuild = new RedisShadowRebuild(redisTemplate, KEY_PREFIX, liveKeys());
+    }
+
+    // 멘토의 속성이 바뀌면 알맞은 set 으로 옮기고 점수를 갱신
+    @Override
+    public void save(MentorMatchingEntry entry) {
+        redisTemplate.execute(UPDATE_SCRIPT, List.of(MEMBERS_KEY, rebuild.lockKey(), rebuild.dirtyKey(), key(entry.major(), entry.location())),
+                entry.mentorId().toString(), Double.toString(baseScore(entry)));
+    }
+
+    @Override
+    public void remove(Long mentorId) {
+        redisTemplate.execute(UPDATE_SCRIPT, List.of(MEMBERS_KEY, rebuild.lockKey(), rebuild.dirtyKey()), mentorId.toString());
+    }
+
+    // mentor_tbl 에서 읽은 chunk 를 재구성 키에 pipeline 한번으로 저장
+    @Override
+    public void addToRebuild(Collection<MentorMatchingEntry> entries) {
+        String membersRebuildKey = RedisShadowRebuild.rebuildKey(MEMBERS_KEY);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (MentorMatchingEntry entry : entries) {
+                String key = key(entry.major(), entry.location());
+                String member = entry.mentorId().toString();
+                stringConnection.zAdd(RedisShadowRebuild.rebuildKey(key), baseScore(entry), member);
+                stringConnection.hSet(membersRebuildKey, member, key); // 값은 실제 키 (교체된 뒤 갱신 스크립트가 사용)
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public RedisShadowRebuild rebuild() {
+        return rebuild;
+    }
+
+    // (전공, 지역) set 마다 기본 점수 상위 limit 명을 pipeline 한번으로 조회, 결과는 sets 와 같은 순서
+    public List<List<MentorCandidate>> findTop(List<CandidateSet> sets, int limit) {
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (CandidateSet set : sets) {
+                stringConnection.zRevRangeWithScores(key(set.major(), set.location()), 0, limit - 1);
+            }
+            return null;
+        });
+
+        List<List<MentorCandidate>> candidates = new ArrayList<>(results.size());
+        for (Object result : results) {
+            @SuppressWarnings("unchecked")
+            Set<TypedTuple<String>> tuples = (Set<TypedTuple<String>>) result;
+            List<MentorCandidate> top = new ArrayList<>(tuples.size());
+            for (TypedTuple<String> tuple : tuples) {
+                top.add(new MentorCandidate(Long.parseLong(tuple.getValue()), tuple.getScore()));
+            }
+            candidates.add(top);
+        }
+        return candidates;
+    }
+
+    // 멘티와 무관한 멘토 자체의 점수: rating(0 ~ 1) + 등급 가산점(0 ~ 0.3)
+    // 바뀌면 저장된 점수를 모두 다시 계산해야 하므로 요청시 가중치와 달리 설정값으로 두지 않음
+    public static double baseScore(MentorMatchingEntry entry) {
+        return entry.rating() / 1000.0 + sectionBonus(entry.ratingSection());
+    }
+
+    private static double sectionBonus(RatingSection section) {
+        if (section == null) return 0;
+        return switch (section) {
+            case CIRCLE -> 0.3;
+            case TRIANGLE -> 0.2;
+            case SQUARE -> 0.1;
+            case PENTAGON -> 0;
+        };
+    }
+
+    // 멤버 hash 와 모든 (전공, 지역) sorted set 키
+    private static List<String> liveKeys() {
+        List<String> keys = new ArrayList<>();
+        keys.add(MEMBERS_KEY);
+        for (Category major : Category.values()) {
+            keys.add(key(major, null));
+            for (Location location : Location.values()) keys.add(key(major, location));
+        }
+        return keys;
+    }
+
+    private static String key(Category major, Location location) {
+        return KEY_PREFIX + major.name() + ":" + (location != null ? location.name() : NO_LOCATION);
+    }
+
+    // 조회할 sorted set (location 이 null 이면 지역이 없는 멘토의 set)
+    public record CandidateSet(Category major, Location location) { }
+
+    public record MentorCandidate(Long mentorId, double baseScore) { }
+}
@@ -0,0 +1,133 @@
+package mtmt.MTMT_BE.domain.mentor.domain.repository;
+
+import mtmt.MTMT_BE.domain.user.domain.type.Category;
+import mtmt.MTMT_BE.global.redis.RedisShadowRebuild;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+// rating 순 멘토 리더보드 (전체 + 분야별) Redis sorted set 저장소
+// - {mentor:leaderboard}:global            전체 리더보드 (member: 멘토 id, score: rating)
+// - {mentor:leaderboard}:category:{분야}   분야별 리더보드
+// - {mentor:leaderboard}:members           hash (멘토 id -> 현재 속한 분야 리더보드 키)
+// - {mentor:leaderboard}:rebuilding, :dirty, :built  재구성 lock, 재구성 중 변경된 멘토, 재구성 완료 표시 (RedisShadowRebuild)
+// rating 변경은 ZADD 한번(O(log n)), 순위 조회는 ZREVRANK, 범위 조회는 ZREVRANGE 로 처리하며 SQL 의 ORDER BY 를 사용하지 않음
+// rating 이 같으면 Redis 의 정렬 규칙에 따라 멘토 id 문자열의 역순으로 순위가 정해짐
+// 모든 키는 같은 hash tag 를 사용하므로 Redis Cluster 에서도 스크립트가 한 slot 안에서 실행됨
+@Repository
+public class MentorLeaderboardStore implements MentorRedisProjection {
+
+    private static final String KEY_PREFIX = "{mentor:leaderboard}:";
+    private static final String GLOBAL_KEY = KEY_PREFIX + "global";
+    private static final String CATEGORY_KEY_PREFIX = KEY_PREFIX + "category:";
+    private static final String MEMBERS_KEY = KEY_PREFIX + "members";
+
+    private static final RedisScript<Long> UPDATE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/update_mentor_leaderboard.lua"), Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisShadowRebuild rebuild;
+
+    public MentorLeaderboardStore(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+        this.rebuild = new RedisShadowRebuild(redisTemplate, KEY_PREFIX, liveKeys());
+    }
+
+    // 멘토의 rating(과 전공)을 전체, 분야별 리더보드에 반영
+    @Override
+    public void save(MentorMatchingEntry entry) {
+        redisTemplate.execute(UPDATE_SCRIPT,
+                List.of(GLOBAL_KEY, MEMBERS_KEY, rebuild.lockKey(), rebuild.dirtyKey(), key(entry.major())),
+                entry.mentorId().toString(), Integer.toString(entry.rating()));
+    }
+
+    @Override
+    public void remove(Long mentorId) {
+        redisTemplate.execute(UPDATE_SCRIPT,
+                List.of(GLOBAL_KEY, MEMBERS_KEY, rebuild.lockKey(), rebuild.dirtyKey()),
+                mentorId.toString());
+    }
+
+    // mentor_tbl 에서 읽은 chunk 를 재구성 키에 pipeline 한번으로 저장
+    @Override
+    public void addToRebuild(Collection<MentorMatchingEntry> entries) {
+        String globalRebuildKey = RedisShadowRebuild.rebuildKey(GLOBAL_KEY);
+        String membersRebuildKey = RedisShadowRebuild.rebuildKey(MEMBERS_KEY);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (MentorMatchingEntry entry : entries) {
+                String member = entry.mentorId().toString();
+                String categoryKey = key(entry.major());
+                stringConnection.zAdd(globalRebuildKey, entry.rating(), member);
+                stringConnection.zAdd(RedisShadowRebuild.rebuildKey(categoryKey), entry.rating(), member);
+                stringConnection.hSet(membersRebuildKey, member, categoryKey);
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public RedisShadowRebuild rebuild() {
+        return rebuild;
+    }
+
+    // 순위 start ~ end (0 부터 시작, 양 끝 포함)의 멘토, category 가 null 이면 전체 리더보드
+    public List<LeaderboardRow> findRange(Category category, long start, long end) {
+        Set<TypedTuple<String>> tuples = redisTemplate.opsForZSet().reverseRangeWithScores(key(category), start, end);
+        if (tuples == null) return List.of();
+
+        List<LeaderboardRow> rows = new ArrayList<>(tuples.size());
+        long rank = start;
+        for (TypedTuple<String> tuple : tuples) {
+            rows.add(new LeaderboardRow(Long.parseLong(tuple.getValue()), rank++, tuple.getScore().intValue()));
+        }
+        return rows;
+    }
+
+    // 멘토의 순위(0 부터 시작)와 rating, 리더보드에 없으면 빈 값
+    public Optional<LeaderboardRow> findRank(Category category, Long mentorId) {
+        String key = key(category);
+        String member = mentorId.toString();
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            stringConnection.zRevRank(key, member);
+            stringConnection.zScore(key, member);
+            return null;
+        });
+
+        Long rank = (Long) results.get(0);
+        Double rating = (Double) results.get(1);
+        if (rank == null || rating == null) return Optional.empty();
+        return Optional.of(new LeaderboardRow(mentorId, rank, rating.intValue()));
+    }
+
+    public long size(Category category) {
+        Long size = redisTemplate.opsForZSet().zCard(key(category));
+        return size != null ? size : 0;
+    }
+
+    private static List<String> liveKeys() {
+        List<String> keys = new ArrayList<>(Category.values().length + 2);
+        keys.add(GLOBAL_KEY);
+        keys.add(MEMBERS_KEY);
+        for (Category category : Category.values()) keys.add(key(category));
+        return keys;
+    }
+
+    private static String key(Category category) {
+        return category != null ? CATEGORY_KEY_PREFIX + category.name() : GLOBAL_KEY;
+    }
+
+    // 리더보드의 한 행, rank 는 0 부터 시작
+    public record LeaderboardRow(Long mentorId, long rank, int rating) { }
+}
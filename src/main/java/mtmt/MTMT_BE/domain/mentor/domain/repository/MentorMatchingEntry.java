@@ -0,0 +1,17 @@
+package mtmt.MTMT_BE.domain.mentor.domain.repository;
+
+import mtmt.MTMT_BE.domain.mentor.domain.type.type.RatingSection;
+import mtmt.MTMT_BE.domain.user.domain.type.Category;
+import mtmt.MTMT_BE.domain.user.domain.type.Gender;
+import mtmt.MTMT_BE.domain.user.domain.type.Location;
+
+// 멘토 매칭 인덱스에 필요한 멘토 한명의 속성 (Mentor + User 컬럼)
+// JPQL 생성자 projection 으로 조회하거나, 저장/수정된 Mentor 엔티티에서 바로 만듦
+public record MentorMatchingEntry(
+        Long mentorId,
+        Category major,
+        Location location,
+        Gender gender,
+        RatingSection ratingSection,
+        int rating
+) { }
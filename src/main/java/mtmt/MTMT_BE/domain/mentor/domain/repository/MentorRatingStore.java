@@ -0,0 +1,82 @@
+package mtmt.MTMT_BE.domain.mentor.domain.repository;
+
+import lombok.RequiredArgsConstructor;
+import mtmt.MTMT_BE.global.redis.StreamLedgerRecord;
+import mtmt.MTMT_BE.global.redis.StreamLedgerSource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+// 멘토 rating 에 반영하기 전의 후기 점수를 보관하는 Redis 저장소
+// - {mentor:rating}:stream       후기 기록 stream (멘토 id, 점수), mentor_tbl 에 반영된 뒤에 삭제
+// - {mentor:rating}:flush-lock   여러 노드 중 한 노드만 flush 하도록 잡는 lock
+// 후기는 노드의 메모리가 아닌 stream 에 먼저 기록되므로, 반영하기 전에 노드가 죽어도 다른 노드의 flush 에서 반영됨
+@Repository
+@RequiredArgsConstructor
+public class MentorRatingStore implements StreamLedgerSource<MentorRatingStore.ReviewRecord> {
+
+    private static final String KEY_PREFIX = "{mentor:rating}:";
+    private static final String STREAM_KEY = KEY_PREFIX + "stream";
+    private static final String FLUSH_LOCK_KEY = KEY_PREFIX + "flush-lock";
+
+    private static final RedisScript<Long> RELEASE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/release_flush_lock.lua"), Long.class);
+    private static final RedisScript<Long> TRIM_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/trim_stream_until.lua"), Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    // 후기 점수 기록 (XADD 한번)
+    public void record(Long mentorId, int score) {
+        redisTemplate.opsForStream().add(StreamRecords.newRecord()
+                .in(STREAM_KEY)
+                .ofMap(Map.of("mentor", mentorId.toString(), "score", Integer.toString(score))));
+    }
+
+    @Override
+    public boolean tryLockFlush(String token, Duration timeout) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(FLUSH_LOCK_KEY, token, timeout));
+    }
+
+    @Override
+    public void unlockFlush(String token) {
+        redisTemplate.execute(RELEASE_SCRIPT, List.of(FLUSH_LOCK_KEY), token);
+    }
+
+    @Override
+    public List<ReviewRecord> findOldest(int count) {
+        List<MapRecord<String, Object, Object>> records =
+                redisTemplate.opsForStream().range(STREAM_KEY, Range.unbounded(), Limit.limit().count(count));
+        if (records == null) return List.of();
+
+        List<ReviewRecord> result = new ArrayList<>(records.size());
+        for (MapRecord<String, Object, Object> record : records) {
+            Map<Object, Object> fields = record.getValue();
+            result.add(new ReviewRecord(record.getId().getValue(),
+                    Long.parseLong((String) fields.get("mentor")),
+                    Integer.parseInt((String) fields.get("score"))));
+        }
+        return result;
+    }
+
+    // mentor_tbl 에 반영된 lastRecordId 까지의 기록을 stream 에서 제거 (XTRIM MINID 한번)
+    @Override
+    public void acknowledgeUntil(String lastRecordId) {
+        RecordId last = RecordId.of(lastRecordId);
+        redisTemplate.execute(TRIM_SCRIPT, List.of(STREAM_KEY), RecordId.of(last.getTimestamp(), last.getSequence() + 1).getValue());
+    }
+
+    // 후기 기록 하나
+    public record ReviewRecord(String recordId, Long mentorId, int score) implements StreamLedgerRecord { }
+}
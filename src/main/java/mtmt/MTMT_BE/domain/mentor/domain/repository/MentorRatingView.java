@@ -0,0 +1,8 @@
+package mtmt.MTMT_BE.domain.mentor.domain.repository;
+
+// rating 갱신에 필요한 멘토의 rating 과 버전만 조회하기 위한 projection
+public interface MentorRatingView {
+    Long getId();
+    Integer getRating();
+    Long getVersion();
+}
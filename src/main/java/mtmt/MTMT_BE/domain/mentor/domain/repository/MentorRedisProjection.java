@@ -0,0 +1,21 @@
+package mtmt.MTMT_BE.domain.mentor.domain.repository;
+
+import mtmt.MTMT_BE.global.redis.RedisShadowRebuild;
+
+import java.util.Collection;
+
+// mentor_tbl 로 부터 만들어지는 Redis 저장소 (추천 후보, 리더보드)
+// 멘토 한명의 점진적 갱신(save, remove)과, 재구성 키에 chunk 단위로 채운 뒤 한번에 교체하는 재구성을 제공
+// MentorProjectionSynchronizer 가 두 저장소를 같은 방식으로 mentor_tbl 과 맞춤
+public interface MentorRedisProjection {
+
+    // 멘토 한명을 반영, 재구성 중이라면 멘토 id 를 재구성의 dirty set 에 기록해야 함
+    void save(MentorMatchingEntry entry);
+
+    void remove(Long mentorId);
+
+    // mentor_tbl 에서 읽은 chunk 를 재구성 키에 저장
+    void addToRebuild(Collection<MentorMatchingEntry> entries);
+
+    RedisShadowRebuild rebuild();
+}
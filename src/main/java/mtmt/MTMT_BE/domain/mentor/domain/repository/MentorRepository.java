@@ -1,9 +1,54 @@
 package mtmt.MTMT_BE.domain.mentor.domain.repository;
 
 import mtmt.MTMT_BE.domain.mentor.domain.entity.Mentor;
+import mtmt.MTMT_BE.domain.user.domain.repository.ProfileVersionView;
+import mtmt.MTMT_BE.domain.mentor.application.dto.search.MentorSearchItem;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
-public interface MentorRepository extends JpaRepository<Mentor, Long> {
+public interface MentorRepository extends JpaRepository<Mentor, Long>, MentorSearchRepository {
+
+    // 프로필 ETag 계산을 위해 버전 컬럼만 조회 (엔티티를 영속성 컨텍스트에 올리지 않음)
+    @Query("select m.version as profileVersion, u.version as userVersion from Mentor m join m.userId u where m.id = :mentorId")
+    Optional<ProfileVersionView> findProfileVersionById(@Param("mentorId") Long mentorId);
+
+    // 프로필 응답에 User 컬럼도 필요하므로 fetch join 으로 한번에 조회
+    @Query("select m from Mentor m join fetch m.userId where m.id = :mentorId")
+    Optional<Mentor> findWithUserById(@Param("mentorId") Long mentorId);
+
+    // 매칭 인덱스 재구성용, (afterId, toId] 범위의 멘토를 id 순으로 chunk 단위 조회 (keyset 페이지네이션)
+    // 여러 스레드가 id 범위를 나눠서 동시에 조회할 수 있도록 상한(toId)을 둠
+    @Query("select new mtmt.MTMT_BE.domain.mentor.domain.repository.MentorMatchingEntry(m.id, m.major, u.location, u.gender, m.ratingSection, m.rating) "
+            + "from Mentor m join m.userId u where m.id > :afterId and m.id <= :toId order by m.id")
+    List<MentorMatchingEntry> findMatchingEntriesBetween(@Param("afterId") Long afterId, @Param("toId") Long toId, Pageable pageable);
+
+    @Query("select new mtmt.MTMT_BE.domain.mentor.domain.repository.MentorMatchingEntry(m.id, m.major, u.location, u.gender, m.ratingSection, m.rating) "
+            + "from Mentor m join m.userId u where m.id = :mentorId")
+    Optional<MentorMatchingEntry> findMatchingEntryById(@Param("mentorId") Long mentorId);
+
+    // User 의 지역, 성별이 바뀐 경우 해당 사용자의 멘토 속성을 다시 조회 (멘티라면 빈 결과)
+    @Query("select new mtmt.MTMT_BE.domain.mentor.domain.repository.MentorMatchingEntry(m.id, m.major, u.location, u.gender, m.ratingSection, m.rating) "
+            + "from Mentor m join m.userId u where u.id = :userId")
+    Optional<MentorMatchingEntry> findMatchingEntryByUserId(@Param("userId") Long userId);
+
+    // rating flush 묶음의 멘토들의 rating, 버전을 한번에 조회
+    @Query("select m.id as id, m.rating as rating, m.version as version from Mentor m where m.id in :mentorIds")
+    List<MentorRatingView> findRatingsByIdIn(@Param("mentorIds") Collection<Long> mentorIds);
+
+    @Query("select coalesce(max(m.id), 0) from Mentor m")
+    Long findMaxId();
+
+    // 매칭 결과(id 목록)를 응답으로 만들기 위한 조회, 순서는 호출하는 쪽에서 맞춤
+    @Query("select new mtmt.MTMT_BE.domain.mentor.application.dto.search.MentorSearchItem("
+            + "m.id, u.name, u.thumbnail, u.location, u.gender, u.age, m.major, m.rating, m.ratingSection) "
+            + "from Mentor m join m.userId u where m.id in :mentorIds")
+    List<MentorSearchItem> findSearchItemsByIdIn(@Param("mentorIds") Collection<Long> mentorIds);
 }
@@ -0,0 +1,15 @@
+package mtmt.MTMT_BE.domain.mentor.domain.repository;
+
+import mtmt.MTMT_BE.domain.mentor.application.dto.search.MentorSearchCondition;
+import mtmt.MTMT_BE.domain.mentor.application.dto.search.MentorSearchCursor;
+import mtmt.MTMT_BE.domain.mentor.application.dto.search.MentorSearchItem;
+
+import java.util.List;
+
+// 조건에 따라 where 절이 달라지는 멘토 검색 쿼리를 위한 Spring Data 커스텀 repository
+// 구현은 MentorSearchRepositoryImpl (이름 규칙에 따라 Spring Data 가 MentorRepository 에 합쳐줌)
+public interface MentorSearchRepository {
+
+    // rating 내림차순, id 내림차순으로 after 커서 이후의 멘토를 최대 limit 개 조회
+    List<MentorSearchItem> search(MentorSearchCondition condition, MentorSearchCursor after, int limit);
+}
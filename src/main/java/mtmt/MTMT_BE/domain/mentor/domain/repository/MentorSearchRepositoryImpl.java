@@ -0,0 +1,73 @@
+package mtmt.MTMT_BE.domain.mentor.domain.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+import mtmt.MTMT_BE.domain.mentor.application.dto.search.MentorSearchCondition;
+import mtmt.MTMT_BE.domain.mentor.application.dto.search.MentorSearchCursor;
+import mtmt.MTMT_BE.domain.mentor.application.dto.search.MentorSearchItem;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 멘토 검색 쿼리 구현
+// - 값이 있는 조건만 where 절에 추가 (":major is null or ..." 형태는 인덱스를 제대로 사용하지 못할 수 있음)
+// - mentor_tbl 과 user_tbl 을 한번만 join 하고, select new 생성자 projection 으로 결과를 바로 DTO 로 만듦
+// - OFFSET 대신 (rating, id) 커서 이후의 행부터 읽는 keyset 페이지네이션 -> 뒤 페이지로 가도 비용이 일정함
+@RequiredArgsConstructor
+public class MentorSearchRepositoryImpl implements MentorSearchRepository {
+
+    private static final String SELECT = "select new mtmt.MTMT_BE.domain.mentor.application.dto.search.MentorSearchItem("
+            + "m.id, u.name, u.thumbnail, u.location, u.gender, u.age, m.major, m.rating, m.ratingSection) "
+            + "from Mentor m join m.userId u";
+
+    private static final String ORDER_BY = " order by m.rating desc, m.id desc";
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<MentorSearchItem> search(MentorSearchCondition condition, MentorSearchCursor after, int limit) {
+        List<String> predicates = new ArrayList<>();
+        Map<String, Object> parameters = new LinkedHashMap<>();
+
+        if (condition.major() != null) {
+            predicates.add("m.major = :major");
+            parameters.put("major", condition.major());
+        }
+        if (condition.ratingSection() != null) {
+            predicates.add("m.ratingSection = :ratingSection");
+            parameters.put("ratingSection", condition.ratingSection());
+        }
+        if (condition.location() != null) {
+            predicates.add("u.location = :location");
+            parameters.put("location", condition.location());
+        }
+        if (condition.gender() != null) {
+            predicates.add("u.gender = :gender");
+            parameters.put("gender", condition.gender());
+        }
+        if (condition.minAge() != null) {
+            predicates.add("u.age >= :minAge");
+            parameters.put("minAge", condition.minAge());
+        }
+        if (condition.maxAge() != null) {
+            predicates.add("u.age <= :maxAge");
+            parameters.put("maxAge", condition.maxAge());
+        }
+        if (after != null) { // 정렬 순서(rating desc, id desc)에서 커서보다 뒤에 있는 행
+            predicates.add("(m.rating < :lastRating or (m.rating = :lastRating and m.id < :lastId))");
+            parameters.put("lastRating", after.rating());
+            parameters.put("lastId", after.mentorId());
+        }
+
+        String jpql = predicates.isEmpty()
+                ? SELECT + ORDER_BY
+                : SELECT + " where " + String.join(" and ", predicates) + ORDER_BY;
+
+        TypedQuery<MentorSearchItem> query = entityManager.createQuery(jpql, MentorSearchItem.class);
+        parameters.forEach(query::setParameter);
+        return query.setMaxResults(limit).getResultList();
+    }
+}
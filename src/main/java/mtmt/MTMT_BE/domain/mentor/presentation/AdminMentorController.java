@@ -0,0 +1,29 @@
+package mtmt.MTMT_BE.domain.mentor.presentation;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import mtmt.MTMT_BE.domain.mentor.application.service.MentorRecommendationService;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+// 운영자(ADMIN)용 멘토 관리 API, SpringSecurityConfig 에서 /admin/** 은 ADMIN 권한만 접근 가능하도록 설정됨
+@RestController
+@RequestMapping("/admin/mentors")
+@RequiredArgsConstructor
+@Tag(name = "Admin Mentor API", description = "운영자용 멘토 관리 API")
+public class AdminMentorController {
+
+    private final MentorRecommendationService mentorRecommendationService;
+
+    @PostMapping("/recommendation-candidates/rebuild")
+    @Operation(
+            summary = "멘토 추천 후보 재구성 요청 API",
+            description = "멘토 추천 후보 set 을 mentor_tbl 로 부터 다시 만들도록 요청합니다. 재구성은 다음 확인 주기에 한 노드에서 실행되며, 그 동안 추천은 현재 후보로 동작합니다."
+    )
+    public String rebuildRecommendationCandidates() {
+        mentorRecommendationService.requestCandidateRebuild();
+        return "Rebuild requested";
+    }
+}
@@ -0,0 +1,65 @@
+package mtmt.MTMT_BE.domain.mentor.presentation;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import mtmt.MTMT_BE.domain.mentor.application.dto.MentorProfileResponse;
+import mtmt.MTMT_BE.domain.mentor.application.dto.search.MentorSearchCondition;
+import mtmt.MTMT_BE.domain.mentor.application.dto.search.MentorSearchResponse;
+import mtmt.MTMT_BE.domain.mentor.application.service.MentorProfileService;
+import mtmt.MTMT_BE.domain.mentor.application.service.MentorSearchService;
+import mtmt.MTMT_BE.global.web.conditional.ConditionalGetSupport;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.NativeWebRequest;
+
+@RestController
+@RequestMapping("/mentors")
+@RequiredArgsConstructor
+@Tag(name = "Mentor API", description = "멘토 관련 API")
+public class MentorController {
+
+    private final MentorProfileService mentorProfileService;
+
+    private final MentorSearchService mentorSearchService;
+
+    private final ConditionalGetSupport conditionalGetSupport;
+
+    @GetMapping
+    @Operation(
+            summary = "멘토 검색 API",
+            description = "분야, 지역, 등급, 성별, 나이 범위로 멘토를 검색합니다. 결과는 rating 내림차순이며, 다음 페이지는 응답의 nextCursor 를 cursor 파라미터로 보내 조회합니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "검색 성공 (nextCursor 가 null 이면 마지막 페이지)"),
+                    @ApiResponse(responseCode = "400", description = "잘못된 검색 조건 또는 커서")
+            }
+    )
+    public MentorSearchResponse search(@Valid @ParameterObject MentorSearchCondition condition) {
+        return mentorSearchService.search(condition);
+    }
+
+    @GetMapping("/{mentorId}")
+    @Operation(
+            summary = "멘토 프로필 조회 API",
+            description = "멘토 프로필을 조회합니다. 응답의 ETag 를 If-None-Match 헤더로 보내면, 프로필이 바뀌지 않은 경우 body 없이 304 로 응답합니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "프로필 조회 성공 (ETag 헤더 포함)"),
+                    @ApiResponse(responseCode = "304", description = "If-None-Match 의 ETag 이후로 프로필이 바뀌지 않음"),
+                    @ApiResponse(responseCode = "404", description = "멘토가 존재하지 않음")
+            }
+    )
+    public MentorProfileResponse getProfile(
+            @Parameter(description = "멘토 id") @PathVariable("mentorId") Long mentorId,
+            @Parameter(hidden = true) NativeWebRequest webRequest
+    ) {
+        // 버전만 먼저 조회해서 ETag 를 비교하고, 바뀐 경우에만 프로필 전체를 조회 (304 라면 null 반환 -> body 없이 응답)
+        String version = mentorProfileService.getProfileVersion(mentorId);
+        return conditionalGetSupport.respond(webRequest, "mentor", version, () -> mentorProfileService.getProfile(mentorId));
+    }
+}
@@ -0,0 +1,72 @@
+package mtmt.MTMT_BE.domain.mentor.presentation;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import mtmt.MTMT_BE.domain.mentor.application.dto.leaderboard.LeaderboardResponse;
+import mtmt.MTMT_BE.domain.mentor.application.dto.leaderboard.MentorRankResponse;
+import mtmt.MTMT_BE.domain.mentor.application.service.MentorLeaderboardService;
+import mtmt.MTMT_BE.domain.user.domain.type.Category;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/mentors/leaderboard")
+@RequiredArgsConstructor
+@Validated // 쿼리 파라미터의 @Min, @Max 검증
+@Tag(name = "Mentor Leaderboard API", description = "멘토 rating 순위 관련 API")
+public class MentorLeaderboardController {
+
+    private final MentorLeaderboardService mentorLeaderboardService;
+
+    @GetMapping
+    @Operation(
+            summary = "상위 멘토 조회 API",
+            description = "rating 이 높은 순으로 상위 멘토를 조회합니다. category 를 생략하면 전체 리더보드입니다.",
+            responses = @ApiResponse(responseCode = "200", description = "조회 성공")
+    )
+    public LeaderboardResponse getTop(
+            @Parameter(description = "분야") @RequestParam(value = "category", required = false) Category category,
+            @Parameter(description = "조회 인원 (최대 100)") @RequestParam(value = "size", defaultValue = "10") @Min(1) @Max(100) int size
+    ) {
+        return mentorLeaderboardService.getTop(category, size);
+    }
+
+    @GetMapping("/around")
+    @Operation(
+            summary = "순위 주변 멘토 조회 API",
+            description = "지정한 순위의 앞뒤 radius 명씩을 조회합니다. 순위는 1 부터 시작합니다.",
+            responses = @ApiResponse(responseCode = "200", description = "조회 성공")
+    )
+    public LeaderboardResponse getAround(
+            @Parameter(description = "분야") @RequestParam(value = "category", required = false) Category category,
+            @Parameter(description = "기준 순위 (1 부터)") @RequestParam("rank") @Min(1) long rank,
+            @Parameter(description = "앞뒤로 조회할 인원 (최대 50)") @RequestParam(value = "radius", defaultValue = "5") @Min(0) @Max(50) int radius
+    ) {
+        return mentorLeaderboardService.getAround(category, rank, radius);
+    }
+
+    @GetMapping("/{mentorId}")
+    @Operation(
+            summary = "멘토 순위 조회 API",
+            description = "멘토의 현재 순위를 조회합니다. category 를 생략하면 전체 리더보드의 순위입니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "조회 성공"),
+                    @ApiResponse(responseCode = "404", description = "리더보드에 없는 멘토")
+            }
+    )
+    public MentorRankResponse getRank(
+            @Parameter(description = "멘토 id") @PathVariable("mentorId") Long mentorId,
+            @Parameter(description = "분야") @RequestParam(value = "category", required = false) Category category
+    ) {
+        return mentorLeaderboardService.getRank(category, mentorId);
+    }
+}
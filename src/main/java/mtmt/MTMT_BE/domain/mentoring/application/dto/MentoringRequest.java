@@ -0,0 +1,9 @@
+package mtmt.MTMT_BE.domain.mentoring.application.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+// 멘토링 신청 요청, 신청하는 멘티는 로그인한 사용자
+public record MentoringRequest(
+        @NotNull(message = "Mentor id is required.")
+        Long mentorId
+) {}
@@ -0,0 +1,13 @@
+package mtmt.MTMT_BE.domain.mentoring.application.dto;
+
+import mtmt.MTMT_BE.domain.mentoring.domain.type.MentoringStatus;
+import mtmt.MTMT_BE.domain.user.domain.type.Category;
+
+// 멘토링 신청, 상태 변경 응답 (status 는 변경 후의 상태)
+public record MentoringResponse(
+        Long mentoringId,
+        Long mentorId,
+        Long menteeId,
+        MentoringStatus status,
+        Category major
+) { }
@@ -0,0 +1,178 @@
+package mtmt.MTMT_BE.domain.mentoring.application.service;
+
+import mtmt.MTMT_BE.domain.mentee.domain.repository.MenteeRepository;
+import mtmt.MTMT_BE.domain.mentor.domain.entity.Mentor;
+import mtmt.MTMT_BE.domain.mentor.domain.repository.MentorRepository;
+import mtmt.MTMT_BE.domain.mentoring.application.dto.MentoringResponse;
+import mtmt.MTMT_BE.domain.mentoring.domain.entity.Mentoring;
+import mtmt.MTMT_BE.domain.mentoring.domain.entity.MentoringProcess;
+import mtmt.MTMT_BE.domain.mentoring.domain.event.MentoringCompletedEvent;
+import mtmt.MTMT_BE.domain.mentoring.domain.repository.MentoringCapacityRepository;
+import mtmt.MTMT_BE.domain.mentoring.domain.repository.MentoringProcessRepository;
+import mtmt.MTMT_BE.domain.mentoring.domain.repository.MentoringRepository;
+import mtmt.MTMT_BE.domain.mentoring.domain.repository.MentoringStateView;
+import mtmt.MTMT_BE.domain.mentoring.domain.type.MentoringStatus;
+import mtmt.MTMT_BE.global.exception.domain.mentee.MenteeNotFoundException;
+import mtmt.MTMT_BE.global.exception.domain.mentor.MentorNotFoundException;
+import mtmt.MTMT_BE.global.exception.domain.mentoring.MentoringAccessDeniedException;
+import mtmt.MTMT_BE.global.exception.domain.mentoring.MentoringCapacityExceededException;
+import mtmt.MTMT_BE.global.exception.domain.mentoring.MentoringNotFoundException;
+import mtmt.MTMT_BE.global.exception.domain.mentoring.MentoringStateConflictException;
+import mtmt.MTMT_BE.global.exception.utils.ConstraintViolations;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+// 멘토링 신청, 수락, 거절, 시작, 완료 서비스
+// 상태 변경은 잠금 없이 현재 상태와 버전을 조회한 뒤, 그 값이 그대로일때만 바꾸는 조건부 UPDATE(MentoringRepository.transition)로 처리
+// -> 같은 멘토링을 동시에 처리하면 한 요청만 성공하고 나머지는 409, 서로 다른 멘토링은 서로를 기다리지 않음
+// 수락시 멘토의 수용 인원도 조건부 UPDATE 한번으로 차지하며, 자리가 없으면 트랜잭션이 롤백되어 상태도 REQUESTED 로 남음
+@Service
+@Transactional
+public class MentoringService {
+
+    private static final String INSERT_CAPACITY =
+            "INSERT INTO mentoring_capacity_tbl (mentor_id, active_count, max_count) VALUES (?, 0, ?)";
+
+    private final MentoringRepository mentoringRepository;
+    private final MentoringProcessRepository mentoringProcessRepository;
+    private final MentoringCapacityRepository mentoringCapacityRepository;
+    private final MentorRepository mentorRepository;
+    private final MenteeRepository menteeRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int defaultCapacity;
+
+    public MentoringService(MentoringRepository mentoringRepository,
+                            MentoringProcessRepository mentoringProcessRepository,
+                            MentoringCapacityRepository mentoringCapacityRepository,
+                            MentorRepository mentorRepository,
+                            MenteeRepository menteeRepository,
+                            JdbcTemplate jdbcTemplate,
+                            ApplicationEventPublisher eventPublisher,
+                            @Value("${mentoring.default-capacity:5}") int defaultCapacity) {
+        this.mentoringRepository = mentoringRepository;
+        this.mentoringProcessRepository = mentoringProcessRepository;
+        this.mentoringCapacityRepository = mentoringCapacityRepository;
+        this.mentorRepository = mentorRepository;
+        this.menteeRepository = menteeRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.defaultCapacity = defaultCapacity;
+    }
+
+    // 로그인한 멘티가 멘토에게 멘토링을 신청
+    public MentoringResponse request(Long userId, Long mentorId) {
+        Long menteeId = menteeRepository.findIdByUserId(userId)
+                .orElseThrow(() -> new MenteeNotFoundException("Mentee not found for user: " + userId));
+        Mentor mentor = mentorRepository.findById(mentorId)
+                .orElseThrow(() -> new MentorNotFoundException("Mentor not found: " + mentorId));
+        if (mentoringRepository.existsByMentorIdAndMenteeIdAndOpenFlagTrue(mentorId, menteeId)) {
+            throw alreadyOpen(mentorId);
+        }
+
+        // 위의 확인과 저장 사이에 같은 멘티가 동시에 신청했다면 uk_mentoring_open_pair 에 걸림 -> 바로 flush 해서 409 로 변환
+        Mentoring mentoring;
+        try {
+            mentoring = mentoringRepository.saveAndFlush(Mentoring.builder()
+                    .mentor(mentor)
+                    .mentee(menteeRepository.getReferenceById(menteeId))
+                    .status(MentoringStatus.REQUESTED)
+                    .openFlag(MentoringStatus.REQUESTED.openFlag())
+                    .major(mentor.getMajor())
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            if (ConstraintViolations.isViolationOf(e, Mentoring.OPEN_PAIR_UNIQUE_CONSTRAINT))
+                throw alreadyOpen(mentorId);
+            throw e; // 다른 제약(멘토, 멘티 FK 등) 위반은 중복 신청이 아니므로 그대로 던짐
+        }
+        mentoringProcessRepository.save(MentoringProcess.builder()
+                .mentoring(mentoring)
+                .stamp(LocalDateTime.now())
+                .mentorAccept(false)
+                .menteeAccept(true) // 신청한 멘티는 수락한 것으로 봄
+                .build());
+        ensureCapacity(mentorId);
+
+        return new MentoringResponse(mentoring.getId(), mentorId, menteeId, MentoringStatus.REQUESTED, mentor.getMajor());
+    }
+
+    // 멘토가 신청을 수락, 수용 인원을 넘으면 409
+    public MentoringResponse accept(Long userId, Long mentoringId) {
+        MentoringStateView state = transition(mentoringId, userId, true, MentoringStatus.REQUESTED, MentoringStatus.ACCEPTED);
+        mentoringProcessRepository.markMentorAccepted(mentoringId, LocalDateTime.now());
+
+        // 멘토별로 하나인 행을 잠그는 시간이 가장 짧도록 마지막에 차지
+        if (mentoringCapacityRepository.tryOccupy(state.getMentorId()) == 0) {
+            throw new MentoringCapacityExceededException("Mentor " + state.getMentorId() + " has no capacity left");
+        }
+        return response(state, MentoringStatus.ACCEPTED);
+    }
+
+    public MentoringResponse reject(Long userId, Long mentoringId) {
+        MentoringStateView state = transition(mentoringId, userId, true, MentoringStatus.REQUESTED, MentoringStatus.REJECTED);
+        mentoringProcessRepository.touch(mentoringId, LocalDateTime.now());
+        return response(state, MentoringStatus.REJECTED);
+    }
+
+    // 수락된 멘토링 시작, 멘토와 멘티 모두 가능
+    public MentoringResponse start(Long userId, Long mentoringId) {
+        MentoringStateView state = transition(mentoringId, userId, false, MentoringStatus.ACCEPTED, MentoringStatus.IN_PROGRESS);
+        mentoringProcessRepository.touch(mentoringId, LocalDateTime.now());
+        return response(state, MentoringStatus.IN_PROGRESS);
+    }
+
+    // 진행 중인 멘토링 완료, 멘토와 멘티 모두 가능하며 차지하던 수용 인원을 돌려줌
+    public MentoringResponse complete(Long userId, Long mentoringId) {
+        MentoringStateView state = transition(mentoringId, userId, false, MentoringStatus.IN_PROGRESS, MentoringStatus.COMPLETED);
+        mentoringProcessRepository.touch(mentoringId, LocalDateTime.now());
+        mentoringCapacityRepository.release(state.getMentorId());
+
+        eventPublisher.publishEvent(new MentoringCompletedEvent(mentoringId, state.getMentorId(), state.getMenteeId()));
+        return response(state, MentoringStatus.COMPLETED);
+    }
+
+    // 요청한 사용자가 참여자인지, 현재 상태가 from 인지 확인한 뒤 조회한 버전 그대로일때만 to 로 변경
+    private MentoringStateView transition(Long mentoringId, Long userId, boolean mentorOnly,
+                                          MentoringStatus from, MentoringStatus to) {
+        MentoringStateView state = mentoringRepository.findStateById(mentoringId)
+                .orElseThrow(() -> new MentoringNotFoundException("Mentoring not found: " + mentoringId));
+
+        boolean isMentor = state.getMentorUserId().equals(userId);
+        if (!isMentor && (mentorOnly || !state.getMenteeUserId().equals(userId))) {
+            throw new MentoringAccessDeniedException("Not allowed to change mentoring: " + mentoringId);
+        }
+        if (state.getStatus() != from) {
+            throw new MentoringStateConflictException("Mentoring " + mentoringId + " is " + state.getStatus() + ", expected " + from);
+        }
+        if (mentoringRepository.transition(mentoringId, from, to, to.openFlag(), state.getVersion()) == 0) {
+            throw new MentoringStateConflictException("Mentoring " + mentoringId + " was changed by another request");
+        }
+        return state;
+    }
+
+    // 멘토의 수용 인원 행이 없으면 기본값으로 생성, 동시에 생성된 경우 먼저 생성된 행을 사용
+    // JdbcTemplate 의 예외는 트랜잭션을 rollback-only 로 만들지 않으므로 중복 키 예외를 잡고 계속 진행할 수 있음
+    private void ensureCapacity(Long mentorId) {
+        if (mentoringCapacityRepository.existsById(mentorId)) return;
+        try {
+            jdbcTemplate.update(INSERT_CAPACITY, mentorId, defaultCapacity);
+        } catch (DuplicateKeyException ignored) {
+            // 다른 신청이 먼저 생성함
+        }
+    }
+
+    private static MentoringStateConflictException alreadyOpen(Long mentorId) {
+        return new MentoringStateConflictException("Mentoring with mentor " + mentorId + " is already in progress");
+    }
+
+    private static MentoringResponse response(MentoringStateView state, MentoringStatus status) {
+        return new MentoringResponse(state.getId(), state.getMentorId(), state.getMenteeId(), status, state.getMajor());
+    }
+}
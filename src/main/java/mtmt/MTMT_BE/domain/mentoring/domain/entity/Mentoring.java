@@ -0,0 +1,59 @@
+package mtmt.MTMT_BE.domain.mentoring.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import mtmt.MTMT_BE.domain.mentee.domain.entity.Mentee;
+import mtmt.MTMT_BE.domain.mentor.domain.entity.Mentor;
+import mtmt.MTMT_BE.domain.mentoring.domain.type.MentoringStatus;
+import mtmt.MTMT_BE.domain.user.domain.type.Category;
+
+@Entity
+@Table(name = "mentoring_tbl",
+        indexes = {
+                @Index(name = "idx_mentoring_mentor_status", columnList = "mentor_id, status"), // 멘토가 받은 신청, 진행 중인 멘토링
+                @Index(name = "idx_mentoring_mentee_status", columnList = "mentee_id, status") // 멘티의 신청, 중복 신청 확인
+        },
+        // 같은 멘토, 멘티 사이의 진행 중인 멘토링은 하나만 (끝난 멘토링의 open_flag 는 NULL 이므로 여러개 가능)
+        // 동시에 신청해도 DB 가 막아주므로, 서비스의 중복 확인 조회는 빠른 실패를 위한 것일 뿐임
+        uniqueConstraints = @UniqueConstraint(name = Mentoring.OPEN_PAIR_UNIQUE_CONSTRAINT, columnNames = {"mentor_id", "mentee_id", "open_flag"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class Mentoring {
+
+    // 진행 중인 멘토링 unique 제약 조건 이름, 신청시 INSERT 가 이 제약에 걸리면 이미 진행 중인 멘토링으로 처리
+    public static final String OPEN_PAIR_UNIQUE_CONSTRAINT = "uk_mentoring_open_pair";
+
+    @Id
+    // id 할당 방식은 User 와 같음 (id_sequence 테이블 + pooled optimizer, batch insert 가능)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "mentoring_id_generator")
+    @TableGenerator(name = "mentoring_id_generator", table = "id_sequence", pkColumnName = "sequence_name", valueColumnName = "next_val", pkColumnValue = "mentoring_tbl", allocationSize = 100)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "mentor_id", nullable = false)
+    private Mentor mentor;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "mentee_id", nullable = false)
+    private Mentee mentee;
+
+    // 상태 변경은 엔티티를 수정하지 않고 MentoringRepository.transition 의 조건부 UPDATE 로만 처리
+    @Column(name = "status", nullable = false, columnDefinition = "VARCHAR(30)")
+    @Enumerated(EnumType.STRING)
+    private MentoringStatus status;
+
+    // 진행 중이면 TRUE, 끝났으면 NULL (MentoringStatus.openFlag), 상태와 함께 조건부 UPDATE 로만 변경
+    @Column(name = "open_flag")
+    private Boolean openFlag;
+
+    // 신청 당시 멘토의 전공 분야
+    @Column(name = "major", nullable = false, columnDefinition = "VARCHAR(150)")
+    @Enumerated(EnumType.STRING)
+    private Category major;
+
+    @Version // 상태가 바뀔때마다 1씩 증가 (조건부 UPDATE 의 비교 대상)
+    @Column(name = "version")
+    private Long version;
+}
@@ -0,0 +1,26 @@
+package mtmt.MTMT_BE.domain.mentoring.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// 멘토별 동시에 진행할 수 있는 멘토링 수와 현재 차지한 수
+// 수락할때 active_count < max_count 조건을 건 UPDATE 한번으로 증가시키므로, 동시에 수락해도 max_count 를 넘지 않음
+// mentor_tbl 에 두지 않는 이유: Mentor 엔티티를 수정하면 모든 컬럼을 다시 쓰므로, 그 사이에 증가시킨 값을 덮어쓸 수 있음
+@Entity
+@Table(name = "mentoring_capacity_tbl")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class MentoringCapacity {
+
+    @Id
+    @Column(name = "mentor_id")
+    private Long mentorId;
+
+    @Column(name = "active_count", nullable = false, columnDefinition = "INT")
+    private Integer activeCount;
+
+    @Column(name = "max_count", nullable = false, columnDefinition = "INT")
+    private Integer maxCount;
+}
@@ -0,0 +1,34 @@
+package mtmt.MTMT_BE.domain.mentoring.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 멘토링의 진행 기록, 멘토링과 1:1 이며 멘토링의 id 를 그대로 사용
+@Entity
+@Table(name = "mentoring_proccess_tbl")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class MentoringProcess {
+
+    @Id
+    private Long id;
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "id")
+    private Mentoring mentoring;
+
+    // 마지막으로 상태가 바뀐 시각
+    @Column(name = "stamp", nullable = false)
+    private LocalDateTime stamp;
+
+    @Column(name = "mentor_accept", nullable = false)
+    private Boolean mentorAccept;
+
+    @Column(name = "mentee_accept", nullable = false)
+    private Boolean menteeAccept;
+}
@@ -0,0 +1,6 @@
+package mtmt.MTMT_BE.domain.mentoring.domain.event;
+
+// 멘토링이 완료되었을때 발행되는 애플리케이션 이벤트
+// 트랜잭션 커밋 이후 멘티에게 경험치를 지급하는데 사용됨
+public record MentoringCompletedEvent(Long mentoringId, Long mentorId, Long menteeId) {
+}
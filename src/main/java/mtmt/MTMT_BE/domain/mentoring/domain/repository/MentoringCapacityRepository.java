@@ -0,0 +1,22 @@
+package mtmt.MTMT_BE.domain.mentoring.domain.repository;
+
+import mtmt.MTMT_BE.domain.mentoring.domain.entity.MentoringCapacity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface MentoringCapacityRepository extends JpaRepository<MentoringCapacity, Long> {
+
+    // 남은 자리가 있을때만 하나 차지, 자리가 없으면 0 을 반환
+    // 비교와 증가가 UPDATE 한번에 이루어지므로 동시에 수락해도 max_count 를 넘지 않음 (행은 이 UPDATE 부터 커밋까지만 잠김)
+    @Modifying(clearAutomatically = true)
+    @Query("update MentoringCapacity c set c.activeCount = c.activeCount + 1 " +
+            "where c.mentorId = :mentorId and c.activeCount < c.maxCount")
+    int tryOccupy(@Param("mentorId") Long mentorId);
+
+    @Modifying(clearAutomatically = true)
+    @Query("update MentoringCapacity c set c.activeCount = c.activeCount - 1 " +
+            "where c.mentorId = :mentorId and c.activeCount > 0")
+    int release(@Param("mentorId") Long mentorId);
+}
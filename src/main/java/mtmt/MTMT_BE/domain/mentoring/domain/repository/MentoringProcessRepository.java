@@ -0,0 +1,20 @@
+package mtmt.MTMT_BE.domain.mentoring.domain.repository;
+
+import mtmt.MTMT_BE.domain.mentoring.domain.entity.MentoringProcess;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface MentoringProcessRepository extends JpaRepository<MentoringProcess, Long> {
+
+    @Modifying(clearAutomatically = true)
+    @Query("update MentoringProcess p set p.mentorAccept = true, p.stamp = :stamp where p.id = :mentoringId")
+    int markMentorAccepted(@Param("mentoringId") Long mentoringId, @Param("stamp") LocalDateTime stamp);
+
+    @Modifying(clearAutomatically = true)
+    @Query("update MentoringProcess p set p.stamp = :stamp where p.id = :mentoringId")
+    int touch(@Param("mentoringId") Long mentoringId, @Param("stamp") LocalDateTime stamp);
+}
@@ -0,0 +1,33 @@
+package mtmt.MTMT_BE.domain.mentoring.domain.repository;
+
+import mtmt.MTMT_BE.domain.mentoring.domain.entity.Mentoring;
+import mtmt.MTMT_BE.domain.mentoring.domain.type.MentoringStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface MentoringRepository extends JpaRepository<Mentoring, Long> {
+
+    // User id 는 mentor_tbl, mentee_tbl 의 FK 컬럼이므로 user_tbl 은 join 하지 않음
+    @Query("select m.id as id, m.status as status, m.version as version, m.major as major, " +
+            "mt.id as mentorId, me.id as menteeId, mt.userId.id as mentorUserId, me.userId.id as menteeUserId " +
+            "from Mentoring m join m.mentor mt join m.mentee me where m.id = :mentoringId")
+    Optional<MentoringStateView> findStateById(@Param("mentoringId") Long mentoringId);
+
+    boolean existsByMentorIdAndMenteeIdAndOpenFlagTrue(Long mentorId, Long menteeId);
+
+    // 조회한 상태(from)와 버전이 그대로일때만 상태를 바꾸는 compare-and-set UPDATE, 다른 요청이 먼저 바꿨다면 0 을 반환
+    // SELECT ... FOR UPDATE 처럼 조회 시점부터 행을 잠가두지 않으므로, 같은 멘토에게 온 다른 신청의 처리를 기다리게 하지 않음
+    // openFlag 는 to.openFlag() (끝난 상태라면 NULL 이 되어 같은 멘토에게 다시 신청할 수 있음)
+    @Modifying(clearAutomatically = true)
+    @Query("update Mentoring m set m.status = :to, m.openFlag = :openFlag, m.version = m.version + 1 " +
+            "where m.id = :mentoringId and m.status = :from and m.version = :version")
+    int transition(@Param("mentoringId") Long mentoringId,
+                   @Param("from") MentoringStatus from,
+                   @Param("to") MentoringStatus to,
+                   @Param("openFlag") Boolean openFlag,
+                   @Param("version") Long version);
+}
@@ -0,0 +1,17 @@
+package mtmt.MTMT_BE.domain.mentoring.domain.repository;
+
+import mtmt.MTMT_BE.domain.mentoring.domain.type.MentoringStatus;
+import mtmt.MTMT_BE.domain.user.domain.type.Category;
+
+// 상태 변경에 필요한 멘토링의 현재 상태, 버전과 참여자만 조회하기 위한 projection (잠금 없이 조회)
+// 요청한 사용자가 참여자인지 확인할 수 있도록 멘토, 멘티의 User id 도 함께 조회
+public interface MentoringStateView {
+    Long getId();
+    MentoringStatus getStatus();
+    Long getVersion();
+    Category getMajor();
+    Long getMentorId();
+    Long getMenteeId();
+    Long getMentorUserId();
+    Long getMenteeUserId();
+}
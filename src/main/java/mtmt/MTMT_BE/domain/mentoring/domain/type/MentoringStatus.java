@@ -0,0 +1,29 @@
+package mtmt.MTMT_BE.domain.mentoring.domain.type;
+
+// 멘토링 진행 상태
+// REQUESTED -> ACCEPTED -> IN_PROGRESS -> COMPLETED
+//           -> REJECTED
+// ACCEPTED, IN_PROGRESS 인 멘토링은 멘토의 수용 인원(MentoringCapacity)을 차지함
+// 같은 멘토, 멘티 사이에는 진행 중(open)인 멘토링이 하나만 있을 수 있음 (Mentoring.openFlag 의 unique key)
+public enum MentoringStatus {
+    REQUESTED(true), // 멘티가 신청함
+    ACCEPTED(true), // 멘토가 수락함
+    REJECTED(false), // 멘토가 거절함
+    IN_PROGRESS(true), // 멘토링 시작
+    COMPLETED(false); // 멘토링 완료
+
+    private final boolean open;
+
+    MentoringStatus(boolean open) {
+        this.open = open;
+    }
+
+    public boolean isOpen() {
+        return open;
+    }
+
+    // mentoring_tbl.open_flag 에 저장할 값, 끝난 멘토링은 NULL 이므로 unique key 에 걸리지 않음
+    public Boolean openFlag() {
+        return open ? Boolean.TRUE : null;
+    }
+}
@@ -0,0 +1,117 @@
+package mtmt.MTMT_BE.domain.mentoring.presentation;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import mtmt.MTMT_BE.domain.mentoring.application.dto.MentoringRequest;
+import mtmt.MTMT_BE.domain.mentoring.application.dto.MentoringResponse;
+import mtmt.MTMT_BE.domain.mentoring.application.service.MentoringService;
+import mtmt.MTMT_BE.global.security.AuthenticatedUser;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+// 멘토링 신청, 상태 변경 API (로그인한 사용자만 사용 가능, 신청은 멘티만 가능)
+@RestController
+@RequestMapping("/mentorings")
+@RequiredArgsConstructor
+@Tag(name = "Mentoring API", description = "멘토링 신청, 수락, 거절, 시작, 완료 API")
+public class MentoringController {
+
+    private final MentoringService mentoringService;
+
+    @PostMapping
+    @Operation(
+            summary = "멘토링 신청 API",
+            description = "로그인한 멘티가 멘토에게 멘토링을 신청합니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "신청 성공 (REQUESTED)"),
+                    @ApiResponse(responseCode = "404", description = "멘토가 존재하지 않음"),
+                    @ApiResponse(responseCode = "409", description = "해당 멘토와 진행 중인 멘토링이 이미 있음")
+            }
+    )
+    public MentoringResponse request(
+            @Parameter(hidden = true) @AuthenticationPrincipal AuthenticatedUser user,
+            @RequestBody @Valid MentoringRequest request
+    ) {
+        return mentoringService.request(user.getId(), request.mentorId());
+    }
+
+    @PostMapping("/{mentoringId}/accept")
+    @Operation(
+            summary = "멘토링 수락 API",
+            description = "멘토가 받은 신청을 수락합니다. 멘토의 동시 진행 가능 인원을 넘으면 수락되지 않습니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "수락 성공 (ACCEPTED)"),
+                    @ApiResponse(responseCode = "403", description = "신청을 받은 멘토가 아님"),
+                    @ApiResponse(responseCode = "404", description = "멘토링이 존재하지 않음"),
+                    @ApiResponse(responseCode = "409", description = "신청 상태가 아니거나, 다른 요청이 먼저 처리했거나, 수용 인원 초과")
+            }
+    )
+    public MentoringResponse accept(
+            @Parameter(hidden = true) @AuthenticationPrincipal AuthenticatedUser user,
+            @Parameter(description = "멘토링 id") @PathVariable("mentoringId") Long mentoringId
+    ) {
+        return mentoringService.accept(user.getId(), mentoringId);
+    }
+
+    @PostMapping("/{mentoringId}/reject")
+    @Operation(
+            summary = "멘토링 거절 API",
+            description = "멘토가 받은 신청을 거절합니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "거절 성공 (REJECTED)"),
+                    @ApiResponse(responseCode = "403", description = "신청을 받은 멘토가 아님"),
+                    @ApiResponse(responseCode = "404", description = "멘토링이 존재하지 않음"),
+                    @ApiResponse(responseCode = "409", description = "신청 상태가 아니거나, 다른 요청이 먼저 처리함")
+            }
+    )
+    public MentoringResponse reject(
+            @Parameter(hidden = true) @AuthenticationPrincipal AuthenticatedUser user,
+            @Parameter(description = "멘토링 id") @PathVariable("mentoringId") Long mentoringId
+    ) {
+        return mentoringService.reject(user.getId(), mentoringId);
+    }
+
+    @PostMapping("/{mentoringId}/start")
+    @Operation(
+            summary = "멘토링 시작 API",
+            description = "수락된 멘토링을 시작합니다. 멘토와 멘티 모두 시작할 수 있습니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "시작 성공 (IN_PROGRESS)"),
+                    @ApiResponse(responseCode = "403", description = "멘토링 참여자가 아님"),
+                    @ApiResponse(responseCode = "404", description = "멘토링이 존재하지 않음"),
+                    @ApiResponse(responseCode = "409", description = "수락 상태가 아니거나, 다른 요청이 먼저 처리함")
+            }
+    )
+    public MentoringResponse start(
+            @Parameter(hidden = true) @AuthenticationPrincipal AuthenticatedUser user,
+            @Parameter(description = "멘토링 id") @PathVariable("mentoringId") Long mentoringId
+    ) {
+        return mentoringService.start(user.getId(), mentoringId);
+    }
+
+    @PostMapping("/{mentoringId}/complete")
+    @Operation(
+            summary = "멘토링 완료 API",
+            description = "진행 중인 멘토링을 완료합니다. 멘토와 멘티 모두 완료할 수 있으며, 완료되면 멘티에게 경험치가 지급됩니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "완료 성공 (COMPLETED)"),
+                    @ApiResponse(responseCode = "403", description = "멘토링 참여자가 아님"),
+                    @ApiResponse(responseCode = "404", description = "멘토링이 존재하지 않음"),
+                    @ApiResponse(responseCode = "409", description = "진행 상태가 아니거나, 다른 요청이 먼저 처리함")
+            }
+    )
+    public MentoringResponse complete(
+            @Parameter(hidden = true) @AuthenticationPrincipal AuthenticatedUser user,
+            @Parameter(description = "멘토링 id") @PathVariable("mentoringId") Long mentoringId
+    ) {
+        return mentoringService.complete(user.getId(), mentoringId);
+    }
+}
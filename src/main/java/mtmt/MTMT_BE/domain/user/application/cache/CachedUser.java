@@ -0,0 +1,55 @@
+package mtmt.MTMT_BE.domain.user.application.cache;
+
+import mtmt.MTMT_BE.domain.user.domain.entity.User;
+import mtmt.MTMT_BE.domain.user.domain.type.Gender;
+import mtmt.MTMT_BE.domain.user.domain.type.Location;
+import mtmt.MTMT_BE.domain.user.domain.type.Role;
+
+import java.time.LocalDate;
+
+// 캐시에 저장되는 사용자 정보, 영속성 컨텍스트와 무관한 불변 객체
+// JPA 엔티티를 그대로 캐시에 보관하면 LAZY 프록시, 영속 상태 등의 문제가 생기므로 필요한 값만 복사해서 보관한다
+// 비밀번호 해시는 보관하지 않음 (Redis 나 힙 덤프로 해시가 노출되지 않도록, 로그인시 검증은 DB 에서 직접 조회한 값으로 함)
+public record CachedUser(
+        Long id,
+        String email,
+        String name,
+        Role role,
+        String thumbnail,
+        Location location,
+        LocalDate birthDate,
+        Gender gender,
+        Integer age,
+        Long version
+) {
+    public static CachedUser from(User user) {
+        return new CachedUser(
+                user.getId(),
+                user.getEmail(),
+                user.getName(),
+                user.getRole(),
+                user.getThumbnail(),
+                user.getLocation(),
+                user.getBirthDate(),
+                user.getGender(),
+                user.getAge(),
+                user.getVersion()
+        );
+    }
+
+    // 캐시된 값으로 준영속(detached) 상태의 User 객체를 생성, password 는 null
+    public User toUser() {
+        return User.builder()
+                .id(id)
+                .email(email)
+                .name(name)
+                .role(role)
+                .thumbnail(thumbnail)
+                .location(location)
+                .birthDate(birthDate)
+                .gender(gender)
+                .age(age)
+                .version(version)
+                .build();
+    }
+}
@@ -0,0 +1,72 @@
+package mtmt.MTMT_BE.domain.user.application.cache;
+
+import mtmt.MTMT_BE.domain.user.domain.type.Gender;
+import mtmt.MTMT_BE.domain.user.domain.type.Location;
+import mtmt.MTMT_BE.domain.user.domain.type.Role;
+
+import java.io.*;
+import java.time.LocalDate;
+
+// CachedUser 를 Redis 에 저장하기 위한 compact 한 바이너리 직렬화 클래스
+// JSON 이나 JDK 직렬화보다 크기가 작고, 클래스 이름 등의 메타데이터를 저장하지 않는다
+// 필드 구성이 바뀌면 FORMAT_VERSION 을 올려서, 이전 형식의 값은 캐시 미스로 처리되도록 한다
+final class CachedUserCodec {
+
+    private static final byte FORMAT_VERSION = 2; // 2: password 제거, version 추가
+
+    private CachedUserCodec() {}
+
+    static byte[] encode(CachedUser user) {
+        try (ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+             DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(FORMAT_VERSION);
+            out.writeLong(user.id());
+            out.writeUTF(user.email());
+            out.writeUTF(user.name());
+            out.writeUTF(user.role().name());
+            writeNullableString(out, user.thumbnail());
+            writeNullableString(out, user.location() != null ? user.location().name() : null);
+            out.writeLong(user.birthDate().toEpochDay());
+            out.writeUTF(user.gender().name());
+            out.writeInt(user.age());
+            out.writeBoolean(user.version() != null);
+            if (user.version() != null) out.writeLong(user.version());
+            out.flush();
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to encode cached user", e);
+        }
+    }
+
+    // 형식이 맞지 않거나 손상된 값이면 null 을 반환 -> 캐시 미스로 처리
+    static CachedUser decode(byte[] value) {
+        if (value == null || value.length == 0 || value[0] != FORMAT_VERSION) return null;
+
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(value, 1, value.length - 1))) {
+            long id = in.readLong();
+            String email = in.readUTF();
+            String name = in.readUTF();
+            Role role = Role.valueOf(in.readUTF());
+            String thumbnail = readNullableString(in);
+            String location = readNullableString(in);
+            LocalDate birthDate = LocalDate.ofEpochDay(in.readLong());
+            Gender gender = Gender.valueOf(in.readUTF());
+            int age = in.readInt();
+            Long version = in.readBoolean() ? in.readLong() : null;
+
+            return new CachedUser(id, email, name, role, thumbnail,
+                    location != null ? Location.valueOf(location) : null, birthDate, gender, age, version);
+        } catch (IOException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static void writeNullableString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) out.writeUTF(value);
+    }
+
+    private static String readNullableString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
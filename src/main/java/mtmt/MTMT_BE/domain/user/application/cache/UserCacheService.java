@@ -0,0 +1,279 @@
+package mtmt.MTMT_BE.domain.user.application.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import mtmt.MTMT_BE.domain.user.domain.entity.User;
+import mtmt.MTMT_BE.domain.user.domain.event.UserChangedEvent;
+import mtmt.MTMT_BE.domain.user.domain.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+// UserRepository.findByEmail / findById 앞에 위치하는 2단계 사용자 캐시
+// L1: 노드 내부의 Caffeine 캐시 (크기 + TTL 기반 eviction)
+// L2: Redis, CachedUserCodec 으로 직렬화한 compact 한 바이너리 값
+// User, Mentor, Mentee 가 수정되면 커밋 이후 L2 를 삭제하고 pub/sub 으로 모든 노드의 L1 을 무효화 한다
+// 무효화 전에 하위 계층을 조회한 요청이 이전 값을 다시 채우지 않도록, 채우기 전에 그 사이 무효화가 있었는지 확인
+// - L2: 사용자별 generation 을 DB 조회 전에 읽고, 무효화(generation 증가)가 없었을때만 저장 (put_user_cache.lua)
+// - L1: 노드의 무효화 횟수를 조회 전에 읽고, 그 사이에 무효화가 있었다면 채우지 않음
+// 로그인시 비밀번호 검증은 캐시를 거치지 않으므로 (CustomUserDetailService) 캐시에는 비밀번호 해시를 보관하지 않음
+@Slf4j
+@Service
+public class UserCacheService implements MessageListener {
+
+    // {userId}:data -> 직렬화된 CachedUser, {userId}:generation -> 무효화 횟수 (같은 hash tag 로 스크립트가 한 slot 에서 실행됨)
+    private static final String USER_KEY_PREFIX = "user:cache:";
+    private static final String EMAIL_KEY_PREFIX = "user:cache:email:"; // email -> userId
+    private static final String INVALIDATION_CHANNEL = "user:cache:invalidate"; // 무효화 할 userId 를 전파하는 채널
+
+    private static final RedisScript<Long> PUT_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/put_user_cache.lua"), Long.class);
+    private static final RedisScript<Long> INVALIDATE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/invalidate_user_cache.lua"), Long.class);
+
+    private final UserRepository userRepository;
+    private final RedisTemplate<String, byte[]> binaryRedisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final MeterRegistry meterRegistry;
+    private final Duration l2Ttl;
+
+    // L1 캐시: email 로 조회해도 userId 를 통해 같은 항목을 공유하도록, id 기준 캐시와 email -> id 인덱스로 나눔
+    private final Cache<Long, CachedUser> usersById;
+    private final Cache<String, Long> userIdsByEmail;
+
+    // 이 노드에서 L1 을 무효화한 횟수, 조회를 시작할때 읽은 값과 다르면 조회한 값을 L1 에 넣지 않음
+    private final AtomicLong l1Invalidations = new AtomicLong();
+
+    private final Counter l1Hits;
+    private final Counter l1Misses;
+    private final Counter l2Hits;
+    private final Counter l2Misses;
+    private final Counter invalidations;
+
+    public UserCacheService(UserRepository userRepository,
+                            @Qualifier("binaryRedisTemplate") RedisTemplate<String, byte[]> binaryRedisTemplate,
+                            StringRedisTemplate stringRedisTemplate,
+                            RedisMessageListenerContainer listenerContainer,
+                            MeterRegistry meterRegistry,
+                            @Value("${user.cache.l1.maximum-size:10000}") long l1MaximumSize,
+                            @Value("${user.cache.l1.ttl-seconds:300}") long l1TtlSeconds,
+                            @Value("${user.cache.l2.ttl-seconds:1800}") long l2TtlSeconds) {
+        this.userRepository = userRepository;
+        this.binaryRedisTemplate = binaryRedisTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.meterRegistry = meterRegistry;
+        this.l2Ttl = Duration.ofSeconds(l2TtlSeconds);
+
+        this.usersById = Caffeine.newBuilder()
+                .maximumSize(l1MaximumSize)
+                .expireAfterWrite(Duration.ofSeconds(l1TtlSeconds))
+                .recordStats()
+                .build();
+        this.userIdsByEmail = Caffeine.newBuilder()
+                .maximumSize(l1MaximumSize)
+                .expireAfterWrite(Duration.ofSeconds(l1TtlSeconds))
+                .build();
+
+        this.l1Hits = requestCounter("l1", "hit");
+        this.l1Misses = requestCounter("l1", "miss");
+        this.l2Hits = requestCounter("l2", "hit");
+        this.l2Misses = requestCounter("l2", "miss");
+        this.invalidations = Counter.builder("user.cache.invalidations")
+                .description("Number of user cache entries invalidated after a write")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void init() {
+        // L1 의 크기, eviction 통계는 Caffeine 통계를 그대로 노출 (cache.gets, cache.evictions 등)
+        CaffeineCacheMetrics.monitor(meterRegistry, usersById, "user.cache.l1");
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    // email 로 사용자 조회: L1 -> L2 -> MySQL 순서로 조회하고, 하위 계층에서 찾으면 상위 계층을 채움
+    public Optional<User> findByEmail(String email) {
+        long l1Generation = l1Invalidations.get();
+        Long cachedId = userIdsByEmail.getIfPresent(email);
+        if (cachedId != null) {
+            CachedUser cached = usersById.getIfPresent(cachedId);
+            // email 이 변경된 경우 이전 인덱스가 남아있을 수 있으므로 email 이 일치하는지 확인
+            if (cached != null && cached.email().equals(email)) {
+                l1Hits.increment();
+                return Optional.of(cached.toUser());
+            }
+        }
+        l1Misses.increment();
+
+        CachedUser cached = readL2ByEmail(email);
+        if (cached != null) {
+            l2Hits.increment();
+            putL1(cached, l1Generation);
+            return Optional.of(cached.toUser());
+        }
+        l2Misses.increment();
+
+        // generation 은 사용자 id 로 관리되므로, id 를 먼저 조회한 뒤 generation 을 읽고 사용자를 조회
+        return userRepository.findIdByEmail(email)
+                .flatMap(id -> load(id, l1Generation))
+                .filter(user -> user.getEmail().equals(email));
+    }
+
+    // id 로 사용자 조회, 조회 순서는 findByEmail 과 동일
+    public Optional<User> findById(Long id) {
+        long l1Generation = l1Invalidations.get();
+        CachedUser cached = usersById.getIfPresent(id);
+        if (cached != null) {
+            l1Hits.increment();
+            return Optional.of(cached.toUser());
+        }
+        l1Misses.increment();
+
+        cached = readL2ById(id);
+        if (cached != null) {
+            l2Hits.increment();
+            putL1(cached, l1Generation);
+            return Optional.of(cached.toUser());
+        }
+        l2Misses.increment();
+
+        return load(id, l1Generation);
+    }
+
+    // 사용자 관련 엔티티가 변경된 트랜잭션이 커밋된 이후 실행
+    // L2 를 삭제하고, 모든 노드(자기 자신 포함)에 L1 무효화 메시지를 전파
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        Long userId = event.userId();
+        invalidateL1(userId);
+        try {
+            stringRedisTemplate.execute(INVALIDATE_SCRIPT, List.of(dataKey(userId), generationKey(userId)),
+                    Long.toString(l2Ttl.toSeconds()));
+            stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, userId.toString());
+        } catch (Exception e) {
+            // Redis 장애시에도 L2 는 TTL 로 만료되므로 로깅 후 진행
+            log.warn("Failed to invalidate user cache for userId {}: {}", userId, e.getMessage());
+        }
+    }
+
+    // 다른 노드(또는 자신)가 보낸 무효화 메시지를 받아 L1 항목을 제거
+    @Override
+    public void onMessage(@NonNull Message message, byte[] pattern) {
+        try {
+            Long userId = Long.parseLong(new String(message.getBody(), StandardCharsets.UTF_8));
+            invalidateL1(userId);
+            invalidations.increment();
+        } catch (NumberFormatException e) {
+            log.warn("Invalid user cache invalidation message");
+        }
+    }
+
+    // generation 을 먼저 읽고 DB 에서 조회한 뒤, 그 사이에 무효화되지 않았다면 L1, L2 를 채움
+    private Optional<User> load(Long id, long l1Generation) {
+        String generation = readGeneration(id);
+        Optional<User> user = userRepository.findById(id);
+        user.ifPresent(found -> store(CachedUser.from(found), generation, l1Generation));
+        return user;
+    }
+
+    private void store(CachedUser user, String generation, long l1Generation) {
+        putL1(user, l1Generation);
+        if (generation == null) return; // generation 을 읽지 못했다면 (Redis 장애) L2 는 채우지 않음
+        try {
+            Long stored = binaryRedisTemplate.execute(PUT_SCRIPT, List.of(dataKey(user.id()), generationKey(user.id())),
+                    generation.getBytes(StandardCharsets.UTF_8),
+                    CachedUserCodec.encode(user),
+                    Long.toString(l2Ttl.toSeconds()).getBytes(StandardCharsets.UTF_8));
+            if (stored != null && stored == 1L) {
+                stringRedisTemplate.opsForValue().set(EMAIL_KEY_PREFIX + user.email(), user.id().toString(), l2Ttl);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to write user cache to Redis: {}", e.getMessage());
+        }
+    }
+
+    // 조회하는 사이에 무효화가 있었다면 이전 값일 수 있으므로 넣지 않음
+    // 넣은 직후에 다시 확인해서, 확인과 넣기 사이에 무효화된 경우에도 이전 값이 남지 않도록 함 (invalidateL1 은 증가 후 제거)
+    private void putL1(CachedUser user, long l1Generation) {
+        if (l1Invalidations.get() != l1Generation) return;
+        usersById.put(user.id(), user);
+        userIdsByEmail.put(user.email(), user.id());
+        if (l1Invalidations.get() != l1Generation) usersById.invalidate(user.id());
+    }
+
+    private void invalidateL1(Long userId) {
+        l1Invalidations.incrementAndGet();
+        usersById.invalidate(userId);
+    }
+
+    private String readGeneration(Long id) {
+        try {
+            String generation = stringRedisTemplate.opsForValue().get(generationKey(id));
+            return generation != null ? generation : "0";
+        } catch (Exception e) {
+            log.warn("Failed to read user cache generation from Redis: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private CachedUser readL2ByEmail(String email) {
+        try {
+            String id = stringRedisTemplate.opsForValue().get(EMAIL_KEY_PREFIX + email);
+            if (id == null) return null;
+
+            CachedUser cached = readL2ById(Long.parseLong(id));
+            return cached != null && cached.email().equals(email) ? cached : null;
+        } catch (Exception e) {
+            log.warn("Failed to read user cache from Redis: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private CachedUser readL2ById(Long id) {
+        try {
+            return CachedUserCodec.decode(binaryRedisTemplate.opsForValue().get(dataKey(id)));
+        } catch (Exception e) {
+            log.warn("Failed to read user cache from Redis: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static String dataKey(Long id) {
+        return USER_KEY_PREFIX + "{" + id + "}:data";
+    }
+
+    private static String generationKey(Long id) {
+        return USER_KEY_PREFIX + "{" + id + "}:generation";
+    }
+
+    private Counter requestCounter(String tier, String result) {
+        return Counter.builder("user.cache.requests")
+                .description("User cache lookups by tier and result")
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
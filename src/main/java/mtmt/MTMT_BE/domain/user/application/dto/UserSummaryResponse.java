@@ -0,0 +1,14 @@
+package mtmt.MTMT_BE.domain.user.application.dto;
+
+// 운영자용 사용자 목록의 행 하나
+// 엔티티를 영속성 컨텍스트에 올리지 않고 JDBC 결과 행에서 바로 만들어지므로, 많은 행을 스트리밍해도 메모리에 쌓이지 않음
+public record UserSummaryResponse(
+        Long id,
+        String email,
+        String name,
+        String role,
+        String gender,
+        String birthDate,
+        int age,
+        String location
+) { }
@@ -0,0 +1,140 @@
+package mtmt.MTMT_BE.domain.user.application.registry;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import mtmt.MTMT_BE.domain.user.domain.repository.UserEmailView;
+import mtmt.MTMT_BE.domain.user.domain.repository.UserRepository;
+import mtmt.MTMT_BE.global.bloom.BloomFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.lang.NonNull;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+// 가입된 이메일의 로컬 Bloom filter
+// Bloom filter 에 없는 이메일은 확실히 가입되지 않은 이메일이므로, 회원가입시 existsByEmail 조회를 건너뛸 수 있다
+// "있을 수도 있다"는 답은 틀릴 수 있으므로 그때만 DB 를 확인하고, 최종 중복 판단은 언제나 user_tbl 의 unique 제약이 한다
+// 새 가입 이메일은 pub/sub 으로 모든 노드에 전파되고, 시작시와 주기적으로 user_tbl 을 chunk 단위로 읽어 새로 만든다
+@Slf4j
+@Component
+public class RegisteredEmailFilter implements MessageListener {
+
+    private static final String REGISTERED_CHANNEL = "user:email:registered"; // 가입된 이메일을 줄바꿈으로 구분해 전파하는 채널
+
+    private final UserRepository userRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final long expectedUsers;
+    private final double falsePositiveProbability;
+    private final int rebuildChunkSize;
+
+    // 주기적인 재구성시 새 filter 로 교체되므로 volatile
+    private volatile BloomFilter registeredEmails;
+    // 재구성 중에 도착한 가입 메시지를 새 filter 에도 반영하기 위한 참조
+    private volatile BloomFilter rebuilding;
+    // 첫 재구성이 끝나기 전에는 filter 가 비어있으므로, 모든 이메일을 "있을 수도 있다"로 취급
+    private volatile boolean ready;
+
+    public RegisteredEmailFilter(UserRepository userRepository,
+                                 StringRedisTemplate redisTemplate,
+                                 RedisMessageListenerContainer listenerContainer,
+                                 @Value("${user.email-filter.expected-users:1000000}") long expectedUsers,
+                                 @Value("${user.email-filter.false-positive-probability:0.01}") double falsePositiveProbability,
+                                 @Value("${user.email-filter.rebuild-chunk-size:5000}") int rebuildChunkSize) {
+        this.userRepository = userRepository;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.expectedUsers = expectedUsers;
+        this.falsePositiveProbability = falsePositiveProbability;
+        this.rebuildChunkSize = rebuildChunkSize;
+        this.registeredEmails = BloomFilter.create(expectedUsers, falsePositiveProbability);
+    }
+
+    // 재구성 전에 먼저 구독해서, 재구성하는 동안 다른 노드에서 가입된 이메일도 놓치지 않도록 함
+    @PostConstruct
+    void init() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(REGISTERED_CHANNEL));
+    }
+
+    // false 이면 확실히 가입되지 않은 이메일
+    public boolean mightBeRegistered(String email) {
+        return !ready || registeredEmails.mightContain(normalize(email));
+    }
+
+    // 가입이 커밋된 이메일을 로컬 filter 에 추가하고 다른 노드에 알림
+    public void register(String email) {
+        registerAll(List.of(email));
+    }
+
+    // 일괄 등록처럼 여러 이메일이 한번에 가입된 경우, 메시지 하나로 전파
+    public void registerAll(Collection<String> emails) {
+        if (emails.isEmpty()) return;
+
+        emails.forEach(this::add);
+        try {
+            redisTemplate.convertAndSend(REGISTERED_CHANNEL, String.join("\n", emails));
+        } catch (Exception e) {
+            // 다른 노드는 다음 재구성때 반영되고, 그 전까지는 unique 제약이 중복을 막음
+            log.warn("Failed to publish registered emails: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(@NonNull Message message, byte[] pattern) {
+        for (String email : new String(message.getBody(), StandardCharsets.UTF_8).split("\n")) {
+            if (!email.isEmpty()) add(email);
+        }
+    }
+
+    // user_tbl 을 id 기준 keyset 페이지네이션으로 chunk 단위로 읽어서 새 filter 를 만든 뒤 교체
+    // 시작 직후(initialDelay 0) 스케줄러 스레드에서 실행되므로 애플리케이션 시작을 막지 않음
+    // Bloom filter 는 삭제를 지원하지 않으므로, 탈퇴한 사용자의 이메일도 주기적인 재구성으로 정리됨
+    @Scheduled(initialDelayString = "0", fixedDelayString = "${user.email-filter.rebuild-interval:21600000}")
+    public void rebuild() {
+        BloomFilter next = BloomFilter.create(expectedUsers, falsePositiveProbability);
+        rebuilding = next;
+        try {
+            long lastId = 0L;
+            long count = 0;
+            List<UserEmailView> chunk;
+            do {
+                chunk = userRepository.findEmailsAfter(lastId, PageRequest.ofSize(rebuildChunkSize));
+                for (UserEmailView user : chunk) {
+                    next.put(normalize(user.getEmail()));
+                    lastId = user.getId();
+                }
+                count += chunk.size();
+            } while (chunk.size() == rebuildChunkSize);
+
+            registeredEmails = next;
+            ready = true;
+            log.info("Rebuilt registered email filter with {} emails", count);
+        } catch (Exception e) {
+            log.warn("Failed to rebuild registered email filter: {}", e.getMessage());
+        } finally {
+            rebuilding = null;
+        }
+    }
+
+    private void add(String email) {
+        String normalized = normalize(email);
+        registeredEmails.put(normalized);
+        BloomFilter pending = rebuilding;
+        if (pending != null) pending.put(normalized);
+    }
+
+    // MySQL 의 기본 collation 은 대소문자를 구분하지 않으므로 filter 에는 소문자로 저장
+    private static String normalize(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+}
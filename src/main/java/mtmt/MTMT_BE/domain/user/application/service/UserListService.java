@@ -0,0 +1,51 @@
+package mtmt.MTMT_BE.domain.user.application.service;
+
+import mtmt.MTMT_BE.domain.user.application.dto.UserSummaryResponse;
+import mtmt.MTMT_BE.domain.user.domain.type.Role;
+import mtmt.MTMT_BE.global.response.stream.StreamingQuery;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+
+// 운영자용 사용자 목록 조회 서비스
+// 조회는 StreamingQuery 로 반환하여, 응답을 쓰는 StreamingApiResponseConverter 가 쓰기 직전에 커서를 열고 한 행씩 꺼내서 전송한 뒤 닫음
+// (응답을 쓰지 않고 끝나는 요청은 커서를 열지 않으므로 커넥션을 잡고 있지 않음)
+// - JPA Stream 쿼리는 트랜잭션 안에서만 소비할 수 있지만, 응답은 컨트롤러가 반환된 뒤에 쓰여지므로 JdbcTemplate.queryForStream 사용
+//   (Stream 이 닫힐때 커넥션이 반납됨)
+// - MySQL Connector/J 는 기본적으로 결과 전체를 메모리에 읽어오므로, fetch size 를 Integer.MIN_VALUE 로 지정해 행 단위 스트리밍으로 읽음
+@Service
+public class UserListService {
+
+    private static final String SELECT_USERS =
+            "SELECT id, email, name, role, gender, birth_date, age, location FROM user_tbl";
+
+    private static final RowMapper<UserSummaryResponse> ROW_MAPPER = (rs, rowNum) -> new UserSummaryResponse(
+            rs.getLong("id"),
+            rs.getString("email"),
+            rs.getString("name"),
+            rs.getString("role"),
+            rs.getString("gender"),
+            rs.getString("birth_date"),
+            rs.getInt("age"),
+            rs.getString("location")
+    );
+
+    private final JdbcTemplate streamingJdbcTemplate;
+
+    public UserListService(DataSource dataSource,
+                           @Value("${user.list.fetch-size:-2147483648}") int fetchSize) {
+        // 스트리밍 전용 JdbcTemplate (다른 곳에서 사용하는 JdbcTemplate 의 fetch size 에 영향을 주지 않도록 따로 생성)
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(fetchSize);
+    }
+
+    // role 이 null 이면 전체 사용자, 아니라면 해당 role 의 사용자만 id 순으로 조회
+    public StreamingQuery<UserSummaryResponse> streamUsers(Role role) {
+        if (role == null)
+            return () -> streamingJdbcTemplate.queryForStream(SELECT_USERS + " ORDER BY id", ROW_MAPPER);
+        return () -> streamingJdbcTemplate.queryForStream(SELECT_USERS + " WHERE role = ? ORDER BY id", ROW_MAPPER, role.name());
+    }
+}
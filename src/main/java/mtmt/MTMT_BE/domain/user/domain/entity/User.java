@@ -4,6 +4,7 @@ package mtmt.MTMT_BE.domain.user.domain.entity;
 // 임포트
 import jakarta.persistence.*;
 import lombok.*;
+import mtmt.MTMT_BE.domain.user.domain.listener.UserChangeEntityListener;
 import mtmt.MTMT_BE.domain.user.domain.type.Gender;
 import mtmt.MTMT_BE.domain.user.domain.type.Location;
 import mtmt.MTMT_BE.domain.user.domain.type.Role;
@@ -12,7 +13,11 @@ import java.time.LocalDate;
 import java.time.Period;
 
 @Entity // 데이터 베이스에 테이블과 1대1 매핑되는 엔티티로써 클래스를 지정하기 위한 어노테이션
-@Table(name = "user_tbl") // 테이블 이름 지정
+@Table(name = "user_tbl", // 테이블 이름 지정
+        uniqueConstraints = @UniqueConstraint(name = User.EMAIL_UNIQUE_CONSTRAINT, columnNames = "email"), // 제약 조건 이름으로 이메일 중복을 구분하기 위해 이름을 지정
+        // 멘토 검색의 사용자 조건(지역, 성별, 나이 범위) 조합용 인덱스, 나이는 범위 조건이므로 마지막에 둠
+        indexes = @Index(name = "idx_user_location_gender_age", columnList = "location, gender, age"))
+@EntityListeners(UserChangeEntityListener.class) // 수정, 삭제시 사용자 캐시 무효화 이벤트 발행
 @NoArgsConstructor(access = AccessLevel.PROTECTED) // 기본 생성자 선언  JPA 엔티티는 기본생성자를 필수로 함 (프록시 + 리플렉션 위해서)
 // AccessLevel.PROTECTED는, 기본 생성자의 접근 제어자를 protected로 설정함. 불필요한 객체 생성 방지
 @AllArgsConstructor // @Builder 사용을 위한 모든 필드를 인자로 받는 생성자 생성
@@ -20,12 +25,18 @@ import java.time.Period;
 @Getter // Get 메서드 자동생성 (But, 상황에 따라서 지'양' 해야함)
 public class User {
 
+    // 이메일 unique 제약 조건 이름, 회원가입시 INSERT 가 이 제약에 걸리면 이메일 중복으로 처리
+    public static final String EMAIL_UNIQUE_CONSTRAINT = "uk_user_email";
+
     @Id // 해당 엔티티의 기본키로 지정
-    @GeneratedValue(strategy = GenerationType.IDENTITY) // PK를 자동생성하기 위한 어노테이션 @GeneratedValue
-    // strategy 매개변수는 PK 생성 전략을 지정, GenerationType.IDENTITY는 DB의 AUTO_INCREMENT를 활성화 시킴
+    // IDENTITY 는 INSERT 를 실행해야 id 를 알 수 있어 JDBC batch insert 가 불가능하므로, id 테이블에서 allocationSize 만큼 미리 할당받는 방식 사용
+    // id_sequence 테이블에 엔티티별 다음 값이 저장되며, pooled optimizer 로 100개 당 한번만 id 테이블을 갱신함
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "user_id_generator")
+    @TableGenerator(name = "user_id_generator", table = "id_sequence", pkColumnName = "sequence_name", valueColumnName = "next_val", pkColumnValue = "user_tbl", allocationSize = 100)
+    // strategy 매개변수는 PK 생성 전략을 지정, GenerationType.TABLE 은 별도의 테이블로 키를 생성함
     private Long id;
 
-    @Column(name = "email", nullable = false, unique = true, columnDefinition = "VARCHAR(50)") // null 허용 x, 유니크 키 활성화, 가변타입 50자 컬럼으로 지정
+    @Column(name = "email", nullable = false, columnDefinition = "VARCHAR(50)") // null 허용 x, 가변타입 50자 컬럼으로 지정 (유니크 키는 @Table 에서 이름과 함께 지정)
     private String email;
 
     @Column(name = "password", nullable = false, columnDefinition = "VARCHAR(255)")
@@ -56,6 +67,10 @@ public class User {
     @Column(name = "age", nullable = false)
     private Integer age;
 
+    @Version // 수정될때마다 Hibernate 가 1씩 증가시키는 버전 컬럼 (낙관적 락, 프로필 조회 응답의 ETag 계산에 사용)
+    @Column(name = "version")
+    private Long version;
+
     public static int calculateAgeFromBirthDate(LocalDate birthDate) {
             LocalDate now = LocalDate.now();
 
@@ -68,4 +83,9 @@ public class User {
             return Period.between(birthDate, now).getYears();
 
     }
-}
\ No newline at end of file
+
+    // 로그인 성공시 더 강한 해시로 재암호화된 비밀번호로 교체 (변경 감지로 UPDATE 됨)
+    public void changePassword(String encodedPassword) {
+        this.password = encodedPassword;
+    }
+}
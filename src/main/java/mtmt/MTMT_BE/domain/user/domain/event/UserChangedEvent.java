@@ -0,0 +1,6 @@
+package mtmt.MTMT_BE.domain.user.domain.event;
+
+// User, Mentor, Mentee 엔티티가 수정되거나 삭제되었을때 발행되는 애플리케이션 이벤트
+// 트랜잭션 커밋 이후 사용자 캐시를 무효화 하는데 사용됨
+public record UserChangedEvent(Long userId) {
+}
@@ -0,0 +1,37 @@
+package mtmt.MTMT_BE.domain.user.domain.listener;
+
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import mtmt.MTMT_BE.domain.mentee.domain.entity.Mentee;
+import mtmt.MTMT_BE.domain.mentor.domain.entity.Mentor;
+import mtmt.MTMT_BE.domain.user.domain.entity.User;
+import mtmt.MTMT_BE.domain.user.domain.event.UserChangedEvent;
+import org.springframework.context.ApplicationEventPublisher;
+
+// User, Mentor, Mentee 에 등록되는 JPA 엔티티 리스너
+// 엔티티가 수정 또는 삭제되면 해당 사용자의 id 로 UserChangedEvent 를 발행한다
+// 새로 저장(persist)되는 사용자는 아직 캐시에 없으므로 이벤트를 발행하지 않음
+// Hibernate 가 Spring 컨테이너를 통해 생성하므로 생성자 주입을 사용할 수 있다
+@RequiredArgsConstructor
+public class UserChangeEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        Long userId = extractUserId(entity);
+        if (userId != null) {
+            eventPublisher.publishEvent(new UserChangedEvent(userId));
+        }
+    }
+
+    // Mentor, Mentee 는 연관된 User 의 id 를 사용, LAZY 프록시의 getId 는 프록시를 초기화하지 않음
+    private Long extractUserId(Object entity) {
+        if (entity instanceof User user) return user.getId();
+        if (entity instanceof Mentor mentor && mentor.getUserId() != null) return mentor.getUserId().getId();
+        if (entity instanceof Mentee mentee && mentee.getUserId() != null) return mentee.getUserId().getId();
+        return null;
+    }
+}
@@ -0,0 +1,13 @@
+package mtmt.MTMT_BE.domain.user.domain.repository;
+
+// 멘토, 멘티 프로필의 버전만 조회하기 위한 projection (프로필 조회 응답의 ETag 계산용)
+// 프로필은 Mentor(또는 Mentee)와 User 의 컬럼으로 이루어지므로 두 엔티티의 버전을 함께 조회
+public interface ProfileVersionView {
+    Long getProfileVersion();
+    Long getUserVersion();
+
+    // ETag 에 들어갈 버전 문자열, 두 엔티티 중 하나라도 수정되면 바뀜
+    default String toVersionTag() {
+        return getProfileVersion() + "." + getUserVersion();
+    }
+}
@@ -0,0 +1,7 @@
+package mtmt.MTMT_BE.domain.user.domain.repository;
+
+// User 엔티티 전체가 아닌 id, email 만 조회하기 위한 projection (가입 이메일 Bloom filter 재구성용)
+public interface UserEmailView {
+    Long getId();
+    String getEmail();
+}
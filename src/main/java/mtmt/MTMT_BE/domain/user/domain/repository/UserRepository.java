@@ -1,9 +1,14 @@
 package mtmt.MTMT_BE.domain.user.domain.repository;
 
 import mtmt.MTMT_BE.domain.user.domain.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository // Bean 등록 및 레포지토리 클래스로써의 정의를 위한 @Repository 어노테이션
@@ -14,6 +19,18 @@ public interface UserRepository extends JpaRepository<User, Long> {
     // Optional 이란?: 특정 객체가 Null이 될 수 있음을 허용(null-safe)
     Optional<User> findByEmail(String email);
 
+    // email 로 id 만 조회 (사용자 캐시가 id 기준 generation 을 읽은 뒤 findById 로 조회하기 위해 사용)
+    @Query("select u.id from User u where u.email = :email")
+    Optional<Long> findIdByEmail(@Param("email") String email);
+
     // boolean 값으로 조건에 따른 행이 있는지 찾는 메서드. 실제 JPA 에서 날리는 쿼리는 COUNT(*) SELECT ~ 이런 형식임. 행이 하나라도 존재하면 True, 아니면 False
     boolean existsByEmail(String email);
+
+    // 주어진 이메일 중 이미 가입된 이메일만 반환 (일괄 등록시 행마다 existsByEmail 을 호출하지 않고 chunk 당 IN 쿼리 한번으로 확인)
+    @Query("select u.email from User u where u.email in :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    // id 기준 keyset 페이지네이션으로 id, email 을 조회 (OFFSET 없이 lastId 이후부터 pageable 의 크기만큼)
+    @Query("select u.id as id, u.email as email from User u where u.id > :lastId order by u.id")
+    List<UserEmailView> findEmailsAfter(@Param("lastId") Long lastId, Pageable pageable);
 }
@@ -2,5 +2,6 @@ package mtmt.MTMT_BE.domain.user.domain.type;
 
 public enum Role {
     MENTOR,
-    MENTEE
+    MENTEE,
+    ADMIN // 운영자, 회원가입으로는 생성되지 않음
 }
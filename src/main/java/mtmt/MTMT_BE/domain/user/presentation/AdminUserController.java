@@ -0,0 +1,37 @@
+package mtmt.MTMT_BE.domain.user.presentation;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import mtmt.MTMT_BE.domain.user.application.dto.UserSummaryResponse;
+import mtmt.MTMT_BE.domain.user.application.service.UserListService;
+import mtmt.MTMT_BE.domain.user.domain.type.Role;
+import mtmt.MTMT_BE.global.response.stream.StreamingQuery;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+// 운영자(ADMIN)용 사용자 조회 API, SpringSecurityConfig 에서 /admin/** 은 ADMIN 권한만 접근 가능하도록 설정됨
+@RestController
+@RequestMapping("/admin/users")
+@RequiredArgsConstructor
+@Tag(name = "Admin User API", description = "운영자용 사용자 조회 API")
+public class AdminUserController {
+
+    private final UserListService userListService;
+
+    // StreamingQuery 를 반환하면 StreamingApiResponseConverter 가 ApiResponse 형식을 유지하면서 행 단위로 응답을 전송함
+    @GetMapping
+    @Operation(
+            summary = "사용자 목록 조회 API",
+            description = "전체 사용자 (또는 role 에 해당하는 사용자)를 id 순으로 조회합니다. 결과는 행 단위로 스트리밍되어 전송됩니다."
+    )
+    public StreamingQuery<UserSummaryResponse> listUsers(
+            @Parameter(description = "조회할 역할 (MENTOR, MENTEE, ADMIN), 생략하면 전체 사용자")
+            @RequestParam(value = "role", required = false) Role role
+    ) {
+        return userListService.streamUsers(role);
+    }
+}
@@ -0,0 +1,11 @@
+package mtmt.MTMT_BE.global.exception.domain.common;
+
+import mtmt.MTMT_BE.global.exception.utils.CustomException;
+import org.springframework.http.HttpStatus;
+
+// 같은 Idempotency-Key 로 처리중인 요청이 끝나기를 기다렸지만 제한 시간 안에 끝나지 않았을때 발생하는 예외 (409)
+public class IdempotencyKeyConflictException extends CustomException {
+    public IdempotencyKeyConflictException(String message) {
+        super(HttpStatus.CONFLICT, message);
+    }
+}
@@ -0,0 +1,11 @@
+package mtmt.MTMT_BE.global.exception.domain.common;
+
+import mtmt.MTMT_BE.global.exception.utils.CustomException;
+import org.springframework.http.HttpStatus;
+
+// 이미 사용된 Idempotency-Key 가 다른 요청(경로, body)에 다시 사용되었을때 발생하는 예외 (422)
+public class IdempotencyKeyMismatchException extends CustomException {
+    public IdempotencyKeyMismatchException(String message) {
+        super(HttpStatus.UNPROCESSABLE_ENTITY, message);
+    }
+}
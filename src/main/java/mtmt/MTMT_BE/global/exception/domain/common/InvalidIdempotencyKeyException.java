@@ -0,0 +1,11 @@
+package mtmt.MTMT_BE.global.exception.domain.common;
+
+import mtmt.MTMT_BE.global.exception.utils.CustomException;
+import org.springframework.http.HttpStatus;
+
+// Idempotency-Key 형식이 잘못되었거나, 응답을 저장할 수 없는 요청일때 발생하는 예외 (400)
+public class InvalidIdempotencyKeyException extends CustomException {
+    public InvalidIdempotencyKeyException(String message) {
+        super(HttpStatus.BAD_REQUEST, message);
+    }
+}
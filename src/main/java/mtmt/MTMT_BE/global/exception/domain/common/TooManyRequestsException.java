@@ -0,0 +1,18 @@
+package mtmt.MTMT_BE.global.exception.domain.common;
+
+import lombok.Getter;
+import mtmt.MTMT_BE.global.exception.utils.CustomException;
+import org.springframework.http.HttpStatus;
+
+// 서버가 처리할 수 있는 양을 넘어선 요청을 거절할 때 발생하는 예외 (429)
+// 클라이언트가 언제 다시 시도하면 되는지 Retry-After 헤더로 알려주기 위해 retryAfterSeconds 를 가짐
+@Getter
+public class TooManyRequestsException extends CustomException {
+
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(HttpStatus.TOO_MANY_REQUESTS, message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
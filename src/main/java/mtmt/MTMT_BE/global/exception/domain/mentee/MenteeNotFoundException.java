@@ -0,0 +1,10 @@
+package mtmt.MTMT_BE.global.exception.domain.mentee;
+
+import mtmt.MTMT_BE.global.exception.utils.CustomException;
+import org.springframework.http.HttpStatus;
+
+public class MenteeNotFoundException extends CustomException {
+    public MenteeNotFoundException(String message) {
+        super(HttpStatus.NOT_FOUND, message);
+    }
+}
@@ -0,0 +1,11 @@
+package mtmt.MTMT_BE.global.exception.domain.mentor;
+
+import mtmt.MTMT_BE.global.exception.utils.CustomException;
+import org.springframework.http.HttpStatus;
+
+// 멘토 검색 조건이 잘못되었을때 발생하는 예외 (나이 범위, 커서 형식 등)
+public class InvalidMentorSearchException extends CustomException {
+    public InvalidMentorSearchException(String message) {
+        super(HttpStatus.BAD_REQUEST, message);
+    }
+}
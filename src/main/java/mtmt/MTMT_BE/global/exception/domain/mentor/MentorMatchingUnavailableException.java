@@ -0,0 +1,11 @@
+package mtmt.MTMT_BE.global.exception.domain.mentor;
+
+import mtmt.MTMT_BE.global.exception.utils.CustomException;
+import org.springframework.http.HttpStatus;
+
+// 멘토 매칭 인덱스가 아직 만들어지지 않았을때 (애플리케이션 시작 직후) 발생하는 예외
+public class MentorMatchingUnavailableException extends CustomException {
+    public MentorMatchingUnavailableException(String message) {
+        super(HttpStatus.SERVICE_UNAVAILABLE, message);
+    }
+}
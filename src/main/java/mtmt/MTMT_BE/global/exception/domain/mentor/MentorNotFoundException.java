@@ -0,0 +1,10 @@
+package mtmt.MTMT_BE.global.exception.domain.mentor;
+
+import mtmt.MTMT_BE.global.exception.utils.CustomException;
+import org.springframework.http.HttpStatus;
+
+public class MentorNotFoundException extends CustomException {
+    public MentorNotFoundException(String message) {
+        super(HttpStatus.NOT_FOUND, message);
+    }
+}
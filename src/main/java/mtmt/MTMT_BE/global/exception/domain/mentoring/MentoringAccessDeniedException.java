@@ -0,0 +1,10 @@
+package mtmt.MTMT_BE.global.exception.domain.mentoring;
+
+import mtmt.MTMT_BE.global.exception.utils.CustomException;
+import org.springframework.http.HttpStatus;
+
+public class MentoringAccessDeniedException extends CustomException {
+    public MentoringAccessDeniedException(String message) {
+        super(HttpStatus.FORBIDDEN, message);
+    }
+}
@@ -0,0 +1,10 @@
+package mtmt.MTMT_BE.global.exception.domain.mentoring;
+
+import mtmt.MTMT_BE.global.exception.utils.CustomException;
+import org.springframework.http.HttpStatus;
+
+public class MentoringCapacityExceededException extends CustomException {
+    public MentoringCapacityExceededException(String message) {
+        super(HttpStatus.CONFLICT, message);
+    }
+}
@@ -0,0 +1,10 @@
+package mtmt.MTMT_BE.global.exception.domain.mentoring;
+
+import mtmt.MTMT_BE.global.exception.utils.CustomException;
+import org.springframework.http.HttpStatus;
+
+public class MentoringNotFoundException extends CustomException {
+    public MentoringNotFoundException(String message) {
+        super(HttpStatus.NOT_FOUND, message);
+    }
+}
@@ -0,0 +1,10 @@
+package mtmt.MTMT_BE.global.exception.domain.mentoring;
+
+import mtmt.MTMT_BE.global.exception.utils.CustomException;
+import org.springframework.http.HttpStatus;
+
+public class MentoringStateConflictException extends CustomException {
+    public MentoringStateConflictException(String message) {
+        super(HttpStatus.CONFLICT, message);
+    }
+}
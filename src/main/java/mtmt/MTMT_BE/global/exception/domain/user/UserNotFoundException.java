@@ -0,0 +1,10 @@
+package mtmt.MTMT_BE.global.exception.domain.user;
+
+import mtmt.MTMT_BE.global.exception.utils.CustomException;
+import org.springframework.http.HttpStatus;
+
+public class UserNotFoundException extends CustomException {
+    public UserNotFoundException(String message) {
+        super(HttpStatus.NOT_FOUND, message);
+    }
+}
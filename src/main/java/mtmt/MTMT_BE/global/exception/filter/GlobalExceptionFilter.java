@@ -1,24 +1,28 @@
 package mtmt.MTMT_BE.global.exception.filter;
 
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import mtmt.MTMT_BE.global.exception.domain.common.TooManyRequestsException;
 import mtmt.MTMT_BE.global.exception.utils.CustomException;
-import mtmt.MTMT_BE.global.response.ApiResponse;
-import org.springframework.http.HttpStatus;
+import mtmt.MTMT_BE.global.response.ApiResponseWriter;
+import mtmt.MTMT_BE.global.response.FixedErrorResponse;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 
 @Component // Bean 등록
+@RequiredArgsConstructor
 // GlobalExceptionFilter: Spring Security FilterChain에 등록된 필터중, 가장 먼저 실행되어 FilterChain 을 감시하다가, 발생하는 오류를 catch 하고 처리하기 위한 클래스
 public class GlobalExceptionFilter extends OncePerRequestFilter {
 
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    // Spring 이 설정한 ObjectMapper 를 공유하는 공통 응답 writer
+    private final ApiResponseWriter apiResponseWriter;
 
     @Override
     protected void doFilterInternal(@NonNull HttpServletRequest request,
@@ -27,23 +31,12 @@ public class GlobalExceptionFilter extends OncePerRequestFilter {
         try {
             filterChain.doFilter(request, response); // 다음 필터 실행
         } catch (CustomException ex) { // 다음 필터 chain 에서 발생하는 오류중에 Custom Exception이 발생하면 catch
-            sendErrorResponse(response, ex.getHttpStatus(), ex.getMessage()); // sendErrorResponse 메서드를 이용해서 response 생성
+            if (ex instanceof TooManyRequestsException tooManyRequests) // 429 라면 Retry-After 헤더도 함께 설정
+                response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(tooManyRequests.getRetryAfterSeconds()));
+            apiResponseWriter.writeError(request, response, ex.getHttpStatus(), ex.getMessage()); // Accept 헤더에 맞는 형식(JSON, CBOR, Smile)으로 ApiResponse 오류 응답 작성
         } catch (Exception ex) { // 예외 처리 되지 않은 오류가 발생했을때 catch
-            sendErrorResponse(response, HttpStatus.INTERNAL_SERVER_ERROR, "Unexpected server error"); // sendErrorResponse 메서드를 이용해서 response 생성
+            apiResponseWriter.writeError(request, response, FixedErrorResponse.UNEXPECTED_SERVER_ERROR); // 미리 만들어둔 500 응답 bytes 를 그대로 전송
             // 메세지를 Unexpected server error 라고 명시하여 예외처리 되지 않은 오류라는 것을 알림
         }
     }
-
-    // ApiResponse Class를 이용해 발생한 오류를 Http Body로 보내기 위한 메서드
-    private void sendErrorResponse(HttpServletResponse response, HttpStatus status, String message) throws IOException {
-        response.setStatus(status.value()); // status를 int 값인 status.value()로 설정
-        response.setContentType("application/json"); // Content type을 json 형식으로 설정
-        response.setCharacterEncoding("UTF-8"); // 문자열 인코딩을 UTF-8 방식으로 설정
-
-        ApiResponse<?> errorBody = ApiResponse.error(status.value(), message); // error 작성
-        String json = objectMapper.writeValueAsString(errorBody); // errorBody를 json 문자열로 변환
-
-        response.getWriter().write(json); // response에 write
-        response.getWriter().flush();
-    }
 }
@@ -0,0 +1,25 @@
+package mtmt.MTMT_BE.global.exception.utils;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Locale;
+
+// DB 제약 조건 위반(DataIntegrityViolationException)이 어떤 제약 조건 때문인지 확인하기 위한 유틸 클래스
+public final class ConstraintViolations {
+
+    private ConstraintViolations() {
+    }
+
+    // 원인 예외 중 Hibernate 의 ConstraintViolationException 을 찾아서 제약 조건 이름을 비교
+    // MySQL 은 "user_tbl.uk_user_email" 처럼 테이블 이름을 붙여서 알려주므로 포함 여부로 비교함
+    public static boolean isViolationOf(DataIntegrityViolationException exception, String constraintName) {
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                String violated = violation.getConstraintName();
+                return violated != null && violated.toLowerCase(Locale.ROOT).contains(constraintName.toLowerCase(Locale.ROOT));
+            }
+        }
+        return false;
+    }
+}
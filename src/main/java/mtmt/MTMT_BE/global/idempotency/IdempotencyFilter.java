@@ -0,0 +1,316 @@
+package mtmt.MTMT_BE.global.idempotency;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import mtmt.MTMT_BE.global.exception.domain.common.IdempotencyKeyConflictException;
+import mtmt.MTMT_BE.global.exception.domain.common.IdempotencyKeyMismatchException;
+import mtmt.MTMT_BE.global.exception.domain.common.InvalidIdempotencyKeyException;
+import mtmt.MTMT_BE.global.security.AuthenticatedUser;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.WebUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+// Idempotency-Key 헤더가 있는 변경 요청(POST, PUT, PATCH, DELETE)의 첫 응답을 Redis 에 저장하고,
+// 같은 키로 다시 들어온 요청에는 컨트롤러를 실행하지 않고 저장된 응답 bytes 를 그대로 돌려주는 필터
+// - 키는 사용자(인증된 경우 userId) 단위로 구분되고, 요청 fingerprint(method, 경로, body 의 SHA-256)가 다르면 422
+// - 같은 키의 요청이 처리중이라면 결과가 저장될때까지 기다린 뒤 저장된 응답을 돌려줌 (같은 노드는 로컬 future, 다른 노드는 Redis polling)
+// - 비동기 컨트롤러(CompletableFuture)도 지원하기 위해 ShallowEtagHeaderFilter 처럼 async dispatch 에서 응답을 저장함
+// - 비동기 처리가 timeout, 오류로 error dispatch 로 끝나거나 async dispatch 없이 끝나면 (클라이언트 연결 끊김 등) 응답을 저장하지 않고 키를 해제
+// - 5xx, 408, 425, 429 처럼 다시 시도하면 결과가 달라질 수 있는 응답은 저장하지 않고 키를 해제
+@Slf4j
+@Component
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed"; // 저장된 응답을 돌려준 경우 true
+
+    private static final String KEY_PREFIX = "idempotency:";
+    private static final String OWNED_KEY_ATTRIBUTE = IdempotencyFilter.class.getName() + ".OWNED_KEY";
+    private static final Set<String> MUTATING_METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+    private static final Set<Integer> NON_REPLAYABLE_STATUSES = Set.of(408, 425, 429);
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final long POLL_INTERVAL_MILLIS = 50;
+
+    private final RedisTemplate<String, byte[]> binaryRedisTemplate;
+    private final Duration ttl; // 완료된 응답의 보관 기간
+    private final Duration pendingTtl; // 처리중 표시의 최대 유지 기간 (처리하던 노드가 죽어도 키가 영원히 잠기지 않도록)
+    private final Duration waitTimeout; // 처리중인 같은 키의 요청을 기다리는 최대 시간
+    private final int maxBodySize; // fingerprint 계산을 위해 미리 읽는 request body 의 최대 크기
+    private final List<String> excludedPaths;
+
+    // 이 노드에서 처리중인 키 -> 처리가 끝나면 완료되는 future (같은 노드의 중복 요청은 polling 없이 기다림)
+    private final Map<String, CompletableFuture<Void>> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotencyFilter(@Qualifier("binaryRedisTemplate") RedisTemplate<String, byte[]> binaryRedisTemplate,
+                             @Value("${idempotency.ttl:24h}") Duration ttl,
+                             @Value("${idempotency.pending-ttl:60s}") Duration pendingTtl,
+                             @Value("${idempotency.wait-timeout:10s}") Duration waitTimeout,
+                             @Value("${idempotency.max-body-size:65536}") int maxBodySize,
+                             @Value("${idempotency.excluded-paths:/auth/login,/auth/refresh,/admin/users/import}") List<String> excludedPaths) {
+        this.binaryRedisTemplate = binaryRedisTemplate;
+        this.ttl = ttl;
+        this.pendingTtl = pendingTtl;
+        this.waitTimeout = waitTimeout;
+        this.maxBodySize = maxBodySize;
+        this.excludedPaths = excludedPaths;
+    }
+
+    // 비동기 컨트롤러의 응답은 async dispatch 에서 완성되므로 async dispatch 에서도 필터를 실행
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    // 비동기 처리가 timeout, 오류로 끝나면 async dispatch 대신 error dispatch 가 실행되므로 error dispatch 에서도 키를 해제
+    @Override
+    protected boolean shouldNotFilterErrorDispatch() {
+        return false;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (isRedispatch(request)) return request.getAttribute(OWNED_KEY_ATTRIBUTE) == null;
+
+        return !MUTATING_METHODS.contains(request.getMethod())
+                || request.getHeader(IDEMPOTENCY_KEY_HEADER) == null
+                || excludedPaths.contains(request.getRequestURI()); // 토큰이 담긴 응답, 스트리밍 응답은 저장하지 않음
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        if (isRedispatch(request)) {
+            OwnedKey ownedKey = (OwnedKey) request.getAttribute(OWNED_KEY_ATTRIBUTE);
+            proceed(request, response, filterChain, ownedKey);
+            return;
+        }
+
+        String idempotencyKey = request.getHeader(IDEMPOTENCY_KEY_HEADER);
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH)
+            throw new InvalidIdempotencyKeyException("Idempotency-Key must be 1 to " + MAX_KEY_LENGTH + " characters");
+
+        byte[] body = readBody(request);
+        String redisKey = KEY_PREFIX + scope() + ":" + idempotencyKey;
+        String fingerprint = fingerprint(request, body);
+
+        IdempotentResponse stored = acquireOrAwait(redisKey, fingerprint);
+        if (stored != null) {
+            replay(stored, response);
+            return;
+        }
+
+        OwnedKey ownedKey = new OwnedKey(redisKey, fingerprint, inFlight.computeIfAbsent(redisKey, key -> new CompletableFuture<>()));
+        request.setAttribute(OWNED_KEY_ATTRIBUTE, ownedKey);
+        proceed(new CachedBodyRequestWrapper(request, body), new ContentCachingResponseWrapper(response), filterChain, ownedKey);
+    }
+
+    // 다음 필터(컨트롤러)를 실행하고, 응답이 완성되었다면 저장
+    // 비동기 처리가 시작되었다면 async dispatch 에서 다시 이 메서드가 호출되어 그때 저장함
+    private void proceed(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain, OwnedKey ownedKey)
+            throws ServletException, IOException {
+        try {
+            filterChain.doFilter(request, response);
+        } catch (ServletException | IOException | RuntimeException e) {
+            release(request, ownedKey, null);
+            throw e;
+        }
+
+        if (isAsyncStarted(request)) {
+            // async dispatch, error dispatch 에서 해제되지 않은 채로 비동기 처리가 끝나면 키를 해제
+            request.getAsyncContext().addListener(new ReleaseOnAsyncComplete(request, ownedKey));
+        } else {
+            // error dispatch 의 응답(비동기 처리 timeout, 처리되지 않은 오류)은 저장하지 않고 해제
+            ContentCachingResponseWrapper wrapper = WebUtils.getNativeResponse(response, ContentCachingResponseWrapper.class);
+            release(request, ownedKey, request.getDispatcherType() == DispatcherType.ERROR ? null : wrapper);
+            if (wrapper != null) wrapper.copyBodyToResponse();
+        }
+    }
+
+    // 응답을 저장(또는 저장하지 않을 응답이면 키를 삭제)하고, 기다리던 요청들을 깨움
+    // 이미 해제한 키라면 아무것도 하지 않음 (dispatch 와 AsyncListener 에서 두번 호출될 수 있음)
+    private void release(HttpServletRequest request, OwnedKey ownedKey, ContentCachingResponseWrapper wrapper) {
+        if (request.getAttribute(OWNED_KEY_ATTRIBUTE) != ownedKey) return;
+        request.removeAttribute(OWNED_KEY_ATTRIBUTE);
+        try {
+            if (wrapper != null && isReplayable(wrapper.getStatus())) {
+                IdempotentResponse completed = IdempotentResponse.completed(
+                        ownedKey.fingerprint(), wrapper.getStatus(), wrapper.getContentType(), wrapper.getContentAsByteArray());
+                binaryRedisTemplate.opsForValue().set(ownedKey.redisKey(), completed.encode(), ttl);
+            } else {
+                binaryRedisTemplate.delete(ownedKey.redisKey());
+            }
+        } catch (Exception e) {
+            log.warn("Failed to store idempotent response: {}", e.getMessage());
+        } finally {
+            inFlight.remove(ownedKey.redisKey(), ownedKey.done());
+            ownedKey.done().complete(null);
+        }
+    }
+
+    // 처음 요청 이후 같은 요청으로 다시 실행되는 dispatch (이 요청이 선점한 키가 남아있을때만 필터를 실행)
+    private boolean isRedispatch(HttpServletRequest request) {
+        return isAsyncDispatch(request) || request.getDispatcherType() == DispatcherType.ERROR;
+    }
+
+    // 키를 선점하면 null 을 반환, 이미 완료된 응답이 있다면 그 응답을 반환
+    // 다른 요청이 처리중이라면 완료되거나 키가 해제될때까지 기다림
+    private IdempotentResponse acquireOrAwait(String redisKey, String fingerprint) {
+        long deadline = System.nanoTime() + waitTimeout.toNanos();
+        byte[] pending = IdempotentResponse.pending(fingerprint).encode();
+
+        while (true) {
+            if (Boolean.TRUE.equals(binaryRedisTemplate.opsForValue().setIfAbsent(redisKey, pending, pendingTtl))) {
+                return null;
+            }
+
+            IdempotentResponse stored = IdempotentResponse.decode(binaryRedisTemplate.opsForValue().get(redisKey));
+            if (stored != null) {
+                if (!stored.fingerprint().equals(fingerprint))
+                    throw new IdempotencyKeyMismatchException("Idempotency-Key was already used for a different request");
+                if (stored.completed()) return stored;
+            }
+
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0)
+                throw new IdempotencyKeyConflictException("A request with this Idempotency-Key is still in progress");
+            awaitInFlight(redisKey, remaining);
+        }
+    }
+
+    // 같은 노드에서 처리중이면 그 요청이 끝날때까지, 아니라면 잠시 기다린 뒤 Redis 를 다시 확인
+    private void awaitInFlight(String redisKey, long remainingNanos) {
+        CompletableFuture<Void> local = inFlight.get(redisKey);
+        try {
+            if (local != null) {
+                local.get(remainingNanos, TimeUnit.NANOSECONDS);
+            } else {
+                Thread.sleep(Math.min(POLL_INTERVAL_MILLIS, TimeUnit.NANOSECONDS.toMillis(remainingNanos) + 1));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyKeyConflictException("Interrupted while waiting for the in-flight request");
+        } catch (ExecutionException | TimeoutException e) {
+            // 시간이 지났거나 실패했다면 반복문에서 Redis 상태를 다시 확인
+        }
+    }
+
+    private void replay(IdempotentResponse stored, HttpServletResponse response) throws IOException {
+        response.setStatus(stored.status());
+        if (stored.contentType() != null) response.setContentType(stored.contentType());
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.setContentLength(stored.body().length);
+        response.getOutputStream().write(stored.body());
+        response.flushBuffer();
+    }
+
+    private boolean isReplayable(int status) {
+        return status < 500 && !NON_REPLAYABLE_STATUSES.contains(status);
+    }
+
+    private byte[] readBody(HttpServletRequest request) throws IOException {
+        long contentLength = request.getContentLengthLong();
+        if (contentLength > maxBodySize)
+            throw new InvalidIdempotencyKeyException("Request body is too large to use an Idempotency-Key");
+
+        try (InputStream input = request.getInputStream()) {
+            byte[] body = input.readNBytes(maxBodySize + 1);
+            if (body.length > maxBodySize)
+                throw new InvalidIdempotencyKeyException("Request body is too large to use an Idempotency-Key");
+            return body;
+        }
+    }
+
+    // 인증된 사용자라면 사용자별로 키를 구분 (다른 사용자가 같은 키를 보내도 서로의 응답을 받지 않도록)
+    private String scope() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user) {
+            return "user:" + user.getId();
+        }
+        return "anonymous";
+    }
+
+    // 같은 키로 다른 요청을 보내는 것을 막기 위한 요청 fingerprint: SHA-256(method, 경로, query, body)
+    private static String fingerprint(HttpServletRequest request, byte[] body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(request.getMethod().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) ' ');
+            digest.update(request.getRequestURI().getBytes(StandardCharsets.UTF_8));
+            if (request.getQueryString() != null) {
+                digest.update((byte) '?');
+                digest.update(request.getQueryString().getBytes(StandardCharsets.UTF_8));
+            }
+            digest.update((byte) '\n');
+            digest.update(body);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+
+    // 이 요청이 선점한 키
+    private record OwnedKey(String redisKey, String fingerprint, CompletableFuture<Void> done) {
+    }
+
+    // 비동기 처리가 끝났을때(모든 dispatch 이후) 아직 키가 남아있다면 응답을 저장하지 않고 해제
+    // timeout, 오류 자체는 error dispatch 에서 처리하고, 여기서는 dispatch 없이 끝난 경우까지 처리함
+    private final class ReleaseOnAsyncComplete implements AsyncListener {
+
+        private final HttpServletRequest request;
+        private final OwnedKey ownedKey;
+
+        private ReleaseOnAsyncComplete(HttpServletRequest request, OwnedKey ownedKey) {
+            this.request = request;
+            this.ownedKey = ownedKey;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release(request, ownedKey, null);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        // 다시 비동기 처리가 시작되면 (async dispatch 에서 다시 비동기 컨트롤러를 호출) 새 AsyncContext 에 다시 등록
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
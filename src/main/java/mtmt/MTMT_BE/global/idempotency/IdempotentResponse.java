@@ -0,0 +1,58 @@
+package mtmt.MTMT_BE.global.idempotency;
+
+import java.io.*;
+
+// Idempotency-Key 하나에 대해 Redis 에 저장되는 값
+// PENDING: 첫 요청이 처리중 (fingerprint 만 저장), COMPLETED: 처리가 끝나서 응답(status, content type, body bytes)이 저장됨
+// CachedUserCodec 과 같이 DataOutputStream 기반의 compact 한 바이너리 형식으로 저장
+record IdempotentResponse(
+        boolean completed,
+        String fingerprint,
+        int status,
+        String contentType,
+        byte[] body
+) {
+    private static final byte FORMAT_VERSION = 1;
+
+    static IdempotentResponse pending(String fingerprint) {
+        return new IdempotentResponse(false, fingerprint, 0, null, new byte[0]);
+    }
+
+    static IdempotentResponse completed(String fingerprint, int status, String contentType, byte[] body) {
+        return new IdempotentResponse(true, fingerprint, status, contentType, body);
+    }
+
+    byte[] encode() {
+        try (ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + body.length);
+             DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(FORMAT_VERSION);
+            out.writeBoolean(completed);
+            out.writeUTF(fingerprint);
+            out.writeInt(status);
+            out.writeUTF(contentType != null ? contentType : "");
+            out.writeInt(body.length);
+            out.write(body);
+            out.flush();
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to encode idempotent response", e);
+        }
+    }
+
+    // 형식이 맞지 않거나 손상된 값이면 null 반환 -> 저장된 값이 없는 것으로 처리
+    static IdempotentResponse decode(byte[] value) {
+        if (value == null || value.length == 0 || value[0] != FORMAT_VERSION) return null;
+
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(value, 1, value.length - 1))) {
+            boolean completed = in.readBoolean();
+            String fingerprint = in.readUTF();
+            int status = in.readInt();
+            String contentType = in.readUTF();
+            byte[] body = new byte[in.readInt()];
+            in.readFully(body);
+            return new IdempotentResponse(completed, fingerprint, status, contentType.isEmpty() ? null : contentType, body);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+}
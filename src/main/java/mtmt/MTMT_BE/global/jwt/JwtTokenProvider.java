@@ -1,9 +1,9 @@
 package mtmt.MTMT_BE.global.jwt;
 
-import mtmt.MTMT_BE.domain.auth.domain.entity.RefreshToken;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
+import mtmt.MTMT_BE.global.exception.domain.auth.UnauthorizedException;
 import mtmt.MTMT_BE.global.security.CustomUserDetails;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
@@ -14,6 +14,7 @@ import javax.crypto.SecretKey;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Date;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Component // Bean 객체로 등록
@@ -24,21 +25,30 @@ public class JwtTokenProvider {
     private final SecretKey key; // Signature key
     private final long accessTokenExpiration; // access Token 유효기간 (보통 짧음)
     private final long refreshTokenExpiration; // refresh Token 유효기간 (보통 김)
+    private final JwtParser jwtParser; // 서명 검증용 파서, 불변 객체이므로 한번만 생성해서 모든 스레드가 공유함
+    private final VerifiedTokenCache verifiedTokenCache; // 이미 검증된 토큰을 exp 까지 보관하는 캐시
 
     // 생성자 함수 선언
     public JwtTokenProvider(
             // @Value 어노테이션: application 설정파일(.yml, .properties 등)에 정의 된 값을 필드에 주입하기 위한 어노테이션
             @Value("${jwt.secret}") String secretKey, // application 파일의 secret을 해당 클래스의 변수 secretKey에 할당
             @Value("${jwt.access-token-expiration}") long accessTokenExpiration, // application 파일의 secret을 해당 클래스의 변수 key에 할당
-            @Value("${jwt.refresh-token-expiration}") long refreshTokenExpiration) {
+            @Value("${jwt.refresh-token-expiration}") long refreshTokenExpiration,
+            @Value("${jwt.verified-token-cache-size:10000}") int verifiedTokenCacheSize) { // 검증된 토큰 캐시 최대 크기, 0 이면 캐시 사용 안함
         this.key = Keys.hmacShaKeyFor(secretKey.getBytes()); // 문자열 Secret을 바이트로 변환하여 jwt 서명행성
         this.accessTokenExpiration = accessTokenExpiration;
         this.refreshTokenExpiration = refreshTokenExpiration;
+        this.jwtParser = Jwts.parser() // 문자열을 읽고 검증하기 위한 빌더
+                .verifyWith(key) // key를 지정
+                .build(); // 파서 빌드 완료, 요청마다 새로 빌드하지 않음
+        this.verifiedTokenCache = new VerifiedTokenCache(verifiedTokenCacheSize);
     }
 
     // Access Token(jwt)과 Refresh Token(jwt) 쌍을 가진 객체인 JwtTokens 객체를 생성하는 메서드
     // Authentication에 담긴 정보를 기반으로 jwt를 생성함
-    public JwtTokens generateTokens(Authentication authentication) {
+    // epoch: 발급 시점의 사용자 token epoch (TokenEpochStore 참고), access token 의 claim 으로 포함됨
+    // family: 로그인마다 발급되는 토큰 패밀리 id (RefreshTokenStore 참고), refresh 로 받은 토큰은 같은 값을 이어받음
+    public JwtTokens generateTokens(Authentication authentication, long epoch, String family) {
         CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal(); // authentication 기반으로 CustomUserDetails 객체 생성
         LocalDateTime now = LocalDateTime.now(); // 현재 시간을 now 변수에 할당
 
@@ -55,10 +65,13 @@ public class JwtTokenProvider {
 
         // Jwts 빌더패턴을 통해 accessToken 생성
         String accessToken = Jwts.builder()
+                .id(UUID.randomUUID().toString()) // jti: 토큰 고유 id, 만료 전에 특정 토큰을 폐기(로그아웃)할 때 사용
                 .subject(userDetails.getUsername()) // subject: 사용자의 식별자(email)를 설정
                 .claim("userId", userDetails.getId()) // userId: 사용자의 아이디를 토큰에 포함
                 .claim("authorities", authorities) // authorities: 사용자의 권한을 토큰에 포함
                 .claim("tokenType", "ACCESS") // tokenType: JWT 토큰이 어떤 유형인지(access, refresh) 설명하는 claim
+                .claim("epoch", epoch) // epoch: 토큰 세대, 사용자의 epoch 가 올라가면 이전 세대 토큰은 거부됨
+                .claim("family", family) // family: 토큰 패밀리 id, 로그아웃시 해당 기기의 refresh token 만 삭제하는데 사용
                 .issuedAt(new Date()) // 토큰이 발급된 시점을 현재로 설정
                 .expiration(accessTokenExpiresAt) // 토큰 만료시간 설정
                 .signWith(key, Jwts.SIG.HS512) // 비밀 키(key)를 알고리즘을 이용해 서명
@@ -66,9 +79,11 @@ public class JwtTokenProvider {
 
         // Jwts 빌더패턴을 통해 refreshToken 생성
         String refreshToken = Jwts.builder()
+                .id(UUID.randomUUID().toString()) // jti: 같은 시각에 발급된 토큰이라도 항상 다른 값이 되도록 함
                 .subject(userDetails.getUsername()) // subject: 사용자의 식별자(email)를 설정
                 .claim("userId", userDetails.getId()) // userId: 사용자의 아이디를 토큰에 포함
                 .claim("tokenType", "REFRESH") // tokenType: JWT 토큰이 어떤 유형인지(access, refresh) 설명하는 claim
+                .claim("family", family) // family: 토큰 패밀리 id, 저장소에서 이 토큰이 속한 패밀리의 키를 찾는데 사용
                 .issuedAt(new Date()) // 토큰이 발급된 시점을 현재로 설정
                 .expiration(refreshTokenExpiresAt) // 토큰 만료시간 설정
                 .signWith(key, Jwts.SIG.HS512) // 비밀 키(key)를 알고리즘을 이용해 서명
@@ -84,6 +99,24 @@ public class JwtTokenProvider {
                 .build();
     }
 
+    // 토큰을 한번만 파싱하고 서명을 검증한 뒤, 필요한 claim 들을 VerifiedToken 으로 한번에 반환하는 메서드
+    // 같은 토큰이 다시 들어오면 캐시에서 꺼내므로 서명 검증을 다시 하지 않음
+    // 토큰이 만료되었거나 위조되었으면 UnauthorizedException 발생
+    // 헤더에서 잘라낸 토큰을 String 으로 복사하지 않고 CharSequence 그대로 받는다
+    public VerifiedToken verify(CharSequence token) {
+        VerifiedToken cached = verifiedTokenCache.get(token);
+        if (cached != null) return cached;
+
+        try {
+            VerifiedToken verified = VerifiedToken.from(getClaims(token));
+            verifiedTokenCache.put(token, verified);
+            return verified;
+        } catch (JwtException | IllegalArgumentException e) {
+            log.error("Invalid JWT token: {}", e.getMessage());
+            throw new UnauthorizedException("Invalid JWT token");
+        }
+    }
+
     // jwt 에서 username을 추출하는 메서드
     public String getUsernameFromToken(String token) {
         return getClaims(token).getSubject(); // username은 subject에 담겨있음
@@ -117,39 +150,10 @@ public class JwtTokenProvider {
     }
 
     // claims를 파싱후 추출하는 메서드
-    private Claims getClaims(String token) {
-        return Jwts.parser() // 문자열을 읽고 검증하기 위한 빌더
-                .verifyWith(key) // key를 지정
-                .build() // 파서 빌드 완료
+    private Claims getClaims(CharSequence token) {
+        return jwtParser // 생성자에서 미리 빌드해둔 파서 사용
                 .parseSignedClaims(token) // 파서를 서명 검증과 함께 파싱: 서명이 유효하지 않거나 위조되었으면 예외 발생
                 .getPayload(); // 파싱 결과에서 claim 추출
     }
 
-    // RefreshToken 객체만을 생성하는 메서드
-    public RefreshToken createRefreshToken(Authentication authentication) {
-        CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
-
-        // refresh Token이 자동으로 만료되어 Redis 에서 사라질 시점을 설정한다. ttl: Time To Live
-        long ttlSeconds = refreshTokenExpiration / 1000; // 밀리초 → 초 변환
-        LocalDateTime now = LocalDateTime.now();
-
-        // Refresh Token 생성
-        String token = Jwts.builder()
-                .subject(userDetails.getUsername())
-                .claim("userId", userDetails.getId())
-                .claim("tokenType", "REFRESH")
-                .issuedAt(new Date())
-                .expiration(Date.from(now.plusSeconds(ttlSeconds)
-                        .atZone(ZoneId.systemDefault()).toInstant()))
-                .signWith(key, Jwts.SIG.HS512)
-                .compact();
-
-        // RefreshToken 객체(Redis 엔티티) 타입으로 반환
-        return RefreshToken.builder()
-                .email(userDetails.getUsername())
-                .token(token)
-                .ttl(ttlSeconds)
-                .build();
-    }
-
 }
@@ -0,0 +1,70 @@
+package mtmt.MTMT_BE.global.jwt;
+
+import io.jsonwebtoken.Claims;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+// VerifiedToken.class: 서명 검증을 마친 jwt 에서 필요한 claim 들을 한번에 꺼내어 담아두는 불변 객체
+// 필터에서 validateToken, getUsernameFromToken, getTokenType 을 각각 호출하면 매번 파싱과 서명 검증이 일어나므로, 한번 검증한 결과를 이 객체로 전달한다
+@Getter
+@Builder
+public class VerifiedToken {
+    private final String tokenId; // 토큰 고유 id (jti), 토큰 폐기(로그아웃)시 사용
+    private final String subject; // 사용자의 식별자(email)
+    private final Long userId; // 사용자의 아이디
+    private final List<GrantedAuthority> authorities; // 사용자의 권한 목록 (refresh 토큰은 빈 리스트)
+    private final String tokenType; // ACCESS 또는 REFRESH
+    private final Instant expiresAt; // 토큰 만료 시각
+    private final long epoch; // 토큰 발급 당시 사용자의 token epoch, TokenEpochStore 의 현재 값보다 작으면 무효
+    private final String family; // 토큰 패밀리 id (로그인 한번에 하나), family claim 이 없는 이전 토큰은 null
+
+    // 검증된 claims 로 부터 VerifiedToken 객체를 생성하는 메서드
+    static VerifiedToken from(Claims claims) {
+        return VerifiedToken.builder()
+                .tokenId(claims.getId())
+                .subject(claims.getSubject())
+                .userId(claims.get("userId", Long.class))
+                .authorities(parseAuthorities(claims.get("authorities", String.class)))
+                .tokenType(claims.get("tokenType", String.class))
+                .expiresAt(claims.getExpiration().toInstant())
+                .epoch(parseEpoch(claims.get("epoch", Long.class)))
+                .family(claims.get("family", String.class))
+                .build();
+    }
+
+    // 엑세스 토큰인지 확인하는 메서드
+    public boolean isAccessToken() {
+        return "ACCESS".equals(tokenType);
+    }
+
+    // 주어진 시각 기준으로 토큰이 만료되었는지 확인하는 메서드
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+
+    // epoch claim 이 없는 토큰(이전에 발급된 토큰)은 0 세대로 취급
+    private static long parseEpoch(Long epoch) {
+        return epoch != null ? epoch : 0L;
+    }
+
+    // "ROLE_MENTOR,ROLE_MENTEE" 형태의 문자열을 GrantedAuthority 목록으로 변환
+    // 캐시된 토큰은 이 리스트를 그대로 재사용하므로, 요청마다 권한 객체를 새로 만들지 않는다
+    private static List<GrantedAuthority> parseAuthorities(String authorities) {
+        if (authorities == null || authorities.isBlank()) {
+            return Collections.emptyList();
+        }
+
+        return Arrays.stream(authorities.split(","))
+                .map(String::trim)
+                .filter(authority -> !authority.isEmpty())
+                .<GrantedAuthority>map(SimpleGrantedAuthority::new)
+                .toList();
+    }
+}
@@ -0,0 +1,125 @@
+package mtmt.MTMT_BE.global.jwt;
+
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 이미 서명 검증을 마친 토큰을 만료시각(exp)까지 보관하는 크기 제한 캐시
+// 같은 access token 을 반복해서 사용하는 클라이언트는 두번째 요청부터 HMAC 서명 검증을 건너뛸 수 있다
+// 토큰 원문을 메모리에 그대로 들고있지 않도록, 키는 토큰의 SHA-256 digest 를 사용한다
+// 토큰은 헤더에서 잘라낸 CharSequence 그대로 받고, digest 계산은 스레드별 버퍼를 재사용하여 요청마다 문자열, 배열을 새로 만들지 않는다
+class VerifiedTokenCache {
+
+    private static final int DIGEST_LENGTH = 32;
+
+    // MessageDigest 는 thread-safe 하지 않으므로 스레드마다 하나씩 사용
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    });
+
+    private final int maxSize; // 캐시에 보관할 최대 토큰 수, 0 이하이면 캐시를 사용하지 않음
+    private final ConcurrentHashMap<TokenDigest, VerifiedToken> entries;
+
+    // digest 입력(토큰 바이트)과 출력을 담는 스레드별 버퍼
+    private static final ThreadLocal<byte[]> INPUT_BUFFER = ThreadLocal.withInitial(() -> new byte[512]);
+    private static final ThreadLocal<byte[]> OUTPUT_BUFFER = ThreadLocal.withInitial(() -> new byte[DIGEST_LENGTH]);
+
+    VerifiedTokenCache(int maxSize) {
+        this.maxSize = maxSize;
+        this.entries = new ConcurrentHashMap<>(Math.max(16, maxSize));
+    }
+
+    // 캐시된 검증 결과를 반환, 없거나 만료되었다면 null 반환
+    VerifiedToken get(CharSequence token) {
+        if (maxSize <= 0) return null;
+
+        TokenDigest key = digest(token);
+        if (key == null) return null;
+        VerifiedToken verified = entries.get(key);
+        if (verified == null) return null;
+
+        // exp 가 지난 토큰은 캐시에서 제거하고 미스로 처리 -> 이후 파서가 ExpiredJwtException 을 발생시킴
+        if (verified.isExpired(Instant.now())) {
+            entries.remove(key, verified);
+            return null;
+        }
+        return verified;
+    }
+
+    // 검증 결과를 캐시에 저장, 가득 찼다면 만료된 항목부터 정리한다
+    void put(CharSequence token, VerifiedToken verified) {
+        if (maxSize <= 0) return;
+
+        TokenDigest key = digest(token);
+        if (key == null) return;
+
+        if (entries.size() >= maxSize) {
+            evict();
+        }
+        entries.put(key, verified);
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    // 만료된 항목을 먼저 제거하고, 그래도 한도를 넘는다면 임의의 항목을 제거해 크기를 90% 아래로 유지
+    private void evict() {
+        Instant now = Instant.now();
+        entries.values().removeIf(verified -> verified.isExpired(now));
+
+        int target = maxSize - Math.max(1, maxSize / 10);
+        Iterator<TokenDigest> iterator = entries.keySet().iterator();
+        while (entries.size() > target && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    // 토큰의 SHA-256 digest 를 long 4개로 담은 키를 반환
+    // jwt 는 ASCII(base64url + '.') 로만 구성되므로, ASCII 가 아닌 문자가 있다면 캐시를 사용하지 않음(null)
+    // -> 문자를 byte 로 자르는 과정에서 서로 다른 토큰이 같은 digest 를 가지는 일이 없도록 하기 위함
+    private static TokenDigest digest(CharSequence token) {
+        int length = token.length();
+        byte[] input = INPUT_BUFFER.get();
+        if (input.length < length) {
+            input = new byte[Math.max(length, input.length * 2)];
+            INPUT_BUFFER.set(input);
+        }
+
+        for (int i = 0; i < length; i++) {
+            char c = token.charAt(i);
+            if (c > 0x7F) return null;
+            input[i] = (byte) c;
+        }
+
+        byte[] output = OUTPUT_BUFFER.get();
+        MessageDigest sha256 = SHA_256.get();
+        sha256.update(input, 0, length);
+        try {
+            sha256.digest(output, 0, DIGEST_LENGTH);
+        } catch (DigestException e) {
+            throw new IllegalStateException("SHA-256 digest failed", e);
+        }
+        return new TokenDigest(readLong(output, 0), readLong(output, 8), readLong(output, 16), readLong(output, 24));
+    }
+
+    private static long readLong(byte[] bytes, int offset) {
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | (bytes[offset + i] & 0xFF);
+        }
+        return value;
+    }
+
+    // 256 bit digest 를 그대로 담는 캐시 키 (equals, hashCode 는 record 가 생성)
+    private record TokenDigest(long h0, long h1, long h2, long h3) {
+    }
+}
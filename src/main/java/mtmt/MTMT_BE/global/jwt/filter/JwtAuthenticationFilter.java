@@ -9,18 +9,21 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import mtmt.MTMT_BE.global.exception.domain.auth.UnauthorizedException;
 import mtmt.MTMT_BE.global.jwt.JwtTokenProvider;
+import mtmt.MTMT_BE.global.jwt.VerifiedToken;
 import mtmt.MTMT_BE.global.security.CustomUserDetailService;
+import mtmt.MTMT_BE.global.security.JwtClaimsPrincipal;
+import mtmt.MTMT_BE.global.security.epoch.TokenEpochStore;
+import mtmt.MTMT_BE.global.security.revocation.AccessTokenRevocationStore;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Component;
-import org.springframework.util.AntPathMatcher;
-import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Arrays;
+import java.nio.CharBuffer;
 
 
 @Component // Spring Bean 으로 등록
@@ -32,16 +35,25 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider tokenProvider; // JwtTokenProvider Bean 주입
     private final CustomUserDetailService userDetailsService; // CustomUserDetailService Bean 주입
-    private final AntPathMatcher pathMatcher = new AntPathMatcher(); // url 이나 파일 경로가 일치하는 확인하는 Matcher
+    private final TokenEpochStore tokenEpochStore; // 사용자별 token epoch (권한 변경, 정지 시 기존 토큰 무효화)
+    private final AccessTokenRevocationStore revocationStore; // 로그아웃 등으로 폐기된 access token 목록
 
-    // Jwt 인증이 필요없는 api end point들(화이트 리스트)
-    private static final String[] PERMITTED_PATHS = {
+    // true 이면 jwt claim 만으로 principal 을 만들어 요청마다 DB 조회를 하지 않음 (기본값)
+    // false 이면 기존처럼 CustomUserDetailService 를 통해 User 엔티티 기반의 principal 을 만듦
+    @Value("${jwt.stateless-principal:true}")
+    private boolean statelessPrincipal = true;
+
+    // Jwt 인증이 필요없는 api end point들(화이트 리스트), 클래스 로딩시 한번만 분석해둠
+    private static final PermittedPathMatcher PERMITTED_PATHS = PermittedPathMatcher.of(
             "/auth/signup",
             "/auth/login",
+            "/auth/refresh",
             "/health",
             "/swagger-ui/**",
             "/v3/api-docs/**"
-    };
+    );
+
+    private static final String BEARER_PREFIX = "Bearer ";
 
     // Filtering 되면 안되는 작업들을 설정하는 메서드
     // Spring Security Config 에서 authorizeHttpRequests를 설정하는 방법도 있지만, 해당 방법과 이 방법의 각각 차이점과 장단점이 존재함. 공부해보면 좋을 듯
@@ -56,8 +68,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         // 명시적으로 허용된 경로만 제외
-        return Arrays.stream(PERMITTED_PATHS)
-                .anyMatch(pattern -> pathMatcher.match(pattern, path));
+        return PERMITTED_PATHS.matches(path);
     }
 
 
@@ -68,28 +79,24 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                                     @NonNull FilterChain filterChain // FilterChain: Spring의 Filter 들을 체인처럼 연결해놓은 클래스
                                     ) throws ServletException, IOException { // doFilterInternal을 오버라이딩시에  ServletException, IOException를 예외처리하거나 예외를 던져야 함
 
-        String jwt = getJwtFromRequest(request); // jwt를 요청으로부터 추출해홈
-
-        // jwt가 validate를 통과하지 못하면 유효하지 않은 jwt 이므로, 예외 발생
-        if (!tokenProvider.validateToken(jwt)) throw new UnauthorizedException("Invalid JWT token");
+        CharSequence jwt = getJwtFromRequest(request); // jwt를 요청으로부터 추출해옴 (String 으로 복사하지 않음)
 
-        String username = tokenProvider.getUsernameFromToken(jwt); // username을 jwt 로부터 추출
-        String tokenType = tokenProvider.getTokenType(jwt); // tokenType(access, refresh)을 jwt로 부터 추출
+        // jwt를 한번만 파싱 및 서명 검증하여 username, tokenType 등을 한번에 추출
+        // 유효하지 않은 jwt 라면 verify 메서드 내부에서 UnauthorizedException 발생
+        VerifiedToken verifiedToken = tokenProvider.verify(jwt);
 
         // 엑세스 토큰이라면 조건문 실행
-        if ("ACCESS".equals(tokenType)) {
-            // UserDetails를 username 기반으로 객체 생성
-            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+        if (verifiedToken.isAccessToken()) {
+            // 토큰의 epoch 가 사용자의 현재 epoch 보다 작다면 권한 변경, 정지 등으로 무효화된 토큰이므로 예외 발생
+            if (!tokenEpochStore.isCurrent(verifiedToken)) throw new UnauthorizedException("JWT token has been revoked");
 
-            // userDetails가 null 이면 jwt에 담긴 Username이 잘못된 것 이므로, 예외 발생
-            if (userDetails == null) throw new UnauthorizedException("User not found for JWT token");
+            // 로그아웃 등으로 폐기된 토큰이라면 예외 발생 (대부분 로컬 Bloom filter 에서 판단되어 Redis 조회 없음)
+            if (revocationStore.isRevoked(verifiedToken.getTokenId())) throw new UnauthorizedException("JWT token has been revoked");
 
-            // UsernamePasswordAuthenticationToken: UserDetails 객체를 기반으로 사용자를 인증하는 Spring Security 클래스
-            UsernamePasswordAuthenticationToken authentication =
-                    new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-
-            // request의 IP, 세션, 사용자 정보 등을 Authentication 객체에 포함
-            authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            // 인증 방식에 따라 Authentication 객체 생성
+            UsernamePasswordAuthenticationToken authentication = statelessPrincipal
+                    ? createClaimsAuthentication(verifiedToken)
+                    : createUserDetailsAuthentication(verifiedToken);
 
             // Spring Security에 authentication을 인증 객체로 등록
             SecurityContextHolder.getContext().setAuthentication(authentication);
@@ -100,21 +107,42 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    // jwt claim 만으로 Authentication 객체를 생성하는 메서드, DB 조회 없음
+    private UsernamePasswordAuthenticationToken createClaimsAuthentication(VerifiedToken verifiedToken) {
+        JwtClaimsPrincipal principal = JwtClaimsPrincipal.from(verifiedToken);
+        // credentials 에는 검증된 토큰을 담아둠 (로그아웃시 jti, 만료시각 확인용)
+        return UsernamePasswordAuthenticationToken.authenticated(principal, verifiedToken, principal.getAuthorities());
+    }
+
+    // DB 에서 조회한 User 기반으로 Authentication 객체를 생성하는 메서드
+    private UsernamePasswordAuthenticationToken createUserDetailsAuthentication(VerifiedToken verifiedToken) {
+        // UserDetails를 username 기반으로 객체 생성
+        UserDetails userDetails = userDetailsService.loadCachedUser(verifiedToken.getSubject());
+
+        // userDetails가 null 이면 jwt에 담긴 Username이 잘못된 것 이므로, 예외 발생
+        if (userDetails == null) throw new UnauthorizedException("User not found for JWT token");
+
+        // UsernamePasswordAuthenticationToken: UserDetails 객체를 기반으로 사용자를 인증하는 Spring Security 클래스
+        // 세션을 사용하지 않고 details 를 읽는 곳도 없으므로 WebAuthenticationDetails 는 만들지 않음
+        return UsernamePasswordAuthenticationToken.authenticated(userDetails, verifiedToken, userDetails.getAuthorities());
+    }
+
     // Jwt를 요청으로부터 추출해오는 메서드
-    private String getJwtFromRequest(HttpServletRequest request) {
-        String bearerToken = request.getHeader("Authorization"); // jwt가 담긴 헤더인 Authorization을 request로 부터 추출해옴
+    // substring 으로 토큰을 복사하는 대신, 헤더 문자열의 "Bearer " 이후 구간을 가리키는 CharBuffer 를 반환
+    private CharSequence getJwtFromRequest(HttpServletRequest request) {
+        String bearerToken = request.getHeader(HttpHeaders.AUTHORIZATION); // jwt가 담긴 헤더인 Authorization을 request로 부터 추출해옴
 
         // bearerToken이 Null 이라면 예외 발생
-        if (!StringUtils.hasText(bearerToken)) {
+        if (bearerToken == null || bearerToken.isBlank()) {
             throw new UnauthorizedException("Authorization header is missing");
         }
 
         // bearerToken이 "Bearer "(prefix)로 시작하지 않는다면 예외 발생
-        if (!bearerToken.startsWith("Bearer ")) {
+        if (!bearerToken.regionMatches(0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
             throw new UnauthorizedException("Authorization header must start with 'Bearer '");
         }
 
-        // "Bearer "(prefix)를 jwt 에서 제외시킨 형식으로 오직 jwt 만을 반환
-        return bearerToken.substring(7);
+        // "Bearer "(prefix)를 jwt 에서 제외시킨 구간만을 반환
+        return CharBuffer.wrap(bearerToken, BEARER_PREFIX.length(), bearerToken.length());
     }
 }
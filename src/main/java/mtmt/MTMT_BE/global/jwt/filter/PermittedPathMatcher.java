@@ -0,0 +1,48 @@
+package mtmt.MTMT_BE.global.jwt.filter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+// 인증이 필요없는 경로(화이트 리스트)를 애플리케이션 시작시 한번만 분석해두고, 요청마다 빠르게 비교하는 Matcher
+// 지원하는 패턴: 정확히 일치하는 경로("/auth/login")와 하위 경로 전체("/swagger-ui/**")
+// 요청마다 패턴을 다시 해석하는 AntPathMatcher 와 달리, Set 조회 한번과 startsWith 비교 몇번으로 끝나며 객체를 생성하지 않음
+final class PermittedPathMatcher {
+
+    private static final String ANY_SUFFIX = "/**";
+
+    private final Set<String> exactPaths; // 정확히 일치해야 하는 경로 ("/**" 패턴의 기준 경로 포함)
+    private final String[] prefixes; // "/swagger-ui/**" -> "/swagger-ui/"
+
+    private PermittedPathMatcher(Set<String> exactPaths, String[] prefixes) {
+        this.exactPaths = exactPaths;
+        this.prefixes = prefixes;
+    }
+
+    static PermittedPathMatcher of(String... patterns) {
+        List<String> exactPaths = new ArrayList<>();
+        List<String> prefixes = new ArrayList<>();
+
+        for (String pattern : patterns) {
+            if (pattern.endsWith(ANY_SUFFIX)) {
+                String base = pattern.substring(0, pattern.length() - ANY_SUFFIX.length());
+                exactPaths.add(base); // AntPathMatcher 와 같이 "/swagger-ui/**" 는 "/swagger-ui" 자체도 포함
+                prefixes.add(base + "/");
+            } else if (pattern.indexOf('*') >= 0 || pattern.indexOf('?') >= 0 || pattern.indexOf('{') >= 0) {
+                throw new IllegalArgumentException("Unsupported permitted path pattern: " + pattern);
+            } else {
+                exactPaths.add(pattern);
+            }
+        }
+        return new PermittedPathMatcher(Set.copyOf(exactPaths), prefixes.toArray(String[]::new));
+    }
+
+    boolean matches(String path) {
+        if (exactPaths.contains(path)) return true;
+
+        for (String prefix : prefixes) {
+            if (path.startsWith(prefix)) return true;
+        }
+        return false;
+    }
+}
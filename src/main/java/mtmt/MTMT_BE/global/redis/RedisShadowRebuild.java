@@ -0,0 +1,121 @@
+package mtmt.MTMT_BE.global.redis;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+// 여러 Redis 키를 "실제 키 + :rebuild" 재구성 키에 새로 채운 뒤 스크립트 한번으로 교체하는 재구성 (멘토 추천 후보, 리더보드에서 사용)
+// - {prefix}rebuilding  재구성 중 표시 겸 노드 간 lock (값은 재구성하는 노드의 token), TTL 을 두고 chunk 마다 renew 로 연장
+// - {prefix}dirty       재구성 중에 점진적 갱신 스크립트가 기록한 id set, 교체 후 호출한 쪽에서 다시 반영
+// - {prefix}built       재구성이 끝나 실제 키가 채워져 있다는 표시, 재구성 키와 함께 교체됨
+// 교체 중인 키와 점진적 갱신이 섞여 쓰이지 않도록 재구성 키에는 재구성하는 노드만 씀
+// 모든 키는 같은 hash tag 를 사용해야 Redis Cluster 에서도 스크립트가 한 slot 안에서 실행됨
+public class RedisShadowRebuild {
+
+    private static final String REBUILD_SUFFIX = ":rebuild"; // 재구성 중인 키 = 실제 키 + suffix
+
+    private static final RedisScript<Long> RENEW_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/renew_rebuild_lock.lua"), Long.class);
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> SWAP_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/swap_rebuild.lua"), List.class);
+    private static final RedisScript<Long> ABORT_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/abort_rebuild.lua"), Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final String lockKey;
+    private final String dirtyKey;
+    private final String builtKey;
+    private final List<String> liveKeys;
+
+    // keyPrefix 는 hash tag 를 포함한 저장소의 키 prefix, liveKeys 는 재구성으로 교체할 실제 키 전부
+    public RedisShadowRebuild(StringRedisTemplate redisTemplate, String keyPrefix, List<String> liveKeys) {
+        this.redisTemplate = redisTemplate;
+        this.lockKey = keyPrefix + "rebuilding";
+        this.dirtyKey = keyPrefix + "dirty";
+        this.builtKey = keyPrefix + "built";
+        this.liveKeys = new ArrayList<>(liveKeys);
+        this.liveKeys.add(builtKey);
+    }
+
+    // 점진적 갱신 스크립트가 재구성 중인지 확인하는 lock 키와, 변경된 id 를 기록할 set 키
+    public String lockKey() {
+        return lockKey;
+    }
+
+    public String dirtyKey() {
+        return dirtyKey;
+    }
+
+    // 재구성 중에 채울 키
+    public static String rebuildKey(String liveKey) {
+        return liveKey + REBUILD_SUFFIX;
+    }
+
+    // 재구성 시작, 다른 노드가 재구성 중이면 false
+    // 재구성하던 노드가 죽어도 다음 재구성이 가능하도록 lock 에 TTL 을 두고, 재구성하는 동안 renew 로 연장
+    public boolean begin(String token, Duration timeout) {
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(lockKey, token, timeout))) return false;
+
+        List<String> staleKeys = rebuildKeys();
+        staleKeys.add(dirtyKey);
+        redisTemplate.delete(staleKeys); // 이전에 실패한 재구성이 남긴 키 정리
+        redisTemplate.opsForValue().set(rebuildKey(builtKey), "1"); // 교체될때 다른 키들과 함께 실제 표시가 됨
+        return true;
+    }
+
+    // lock 의 TTL 연장, 자신의 lock 이 아니면 false (재구성을 중단해야 함)
+    public boolean renew(String token, Duration timeout) {
+        Long result = redisTemplate.execute(RENEW_SCRIPT, List.of(lockKey), token, Long.toString(timeout.toMillis()));
+        return result != null && result == 1L;
+    }
+
+    // 재구성한 키들을 실제 키로 한번에 교체하고, 재구성 중에 변경된 id 를 반환 (호출한 쪽에서 다시 반영)
+    // lock 이 만료되어 다른 노드가 재구성 중이라면 교체하지 않고 IllegalStateException
+    public Set<Long> finish(String token) {
+        List<String> keys = new ArrayList<>(2 + liveKeys.size() * 2);
+        keys.add(lockKey);
+        keys.add(dirtyKey);
+        for (String key : liveKeys) {
+            keys.add(rebuildKey(key));
+            keys.add(key);
+        }
+        List<?> dirty = redisTemplate.execute(SWAP_SCRIPT, keys, token);
+        if (dirty == null) throw new IllegalStateException("Rebuild lock " + lockKey + " was lost");
+
+        Set<Long> ids = new HashSet<>();
+        dirty.forEach(id -> ids.add(Long.parseLong(id.toString())));
+        return ids;
+    }
+
+    // 재구성 실패시 재구성 키를 정리하고 lock 해제 (자신의 lock 일때만)
+    public void abort(String token) {
+        List<String> keys = new ArrayList<>();
+        keys.add(lockKey);
+        keys.add(dirtyKey);
+        keys.addAll(rebuildKeys());
+        redisTemplate.execute(ABORT_SCRIPT, keys, token);
+    }
+
+    // 재구성이 끝나 실제 키가 채워져 있는지
+    public boolean isBuilt() {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(builtKey));
+    }
+
+    // 다음 확인때 다시 만들도록 표시를 지움, 그 동안 조회는 현재 키로 정상 동작함
+    public void markStale() {
+        redisTemplate.delete(builtKey);
+    }
+
+    private List<String> rebuildKeys() {
+        List<String> keys = new ArrayList<>(liveKeys.size());
+        for (String key : liveKeys) keys.add(rebuildKey(key));
+        return keys;
+    }
+}
@@ -0,0 +1,29 @@
+package mtmt.MTMT_BE.global.redis;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Id;
+import jakarta.persistence.MappedSuperclass;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// StreamLedgerFlusher 가 DB 에 반영한 기록 묶음 (Redis stream 의 기록 id 범위), stream 마다 테이블을 하나씩 둠
+// 반영 트랜잭션에서 함께 저장되므로, 반영 후 stream 에서 지우기 전에 노드가 죽어도 같은 묶음을 다시 반영하지 않음
+// 다음 flush 도 stream 의 가장 오래된 기록부터 읽으므로 같은 첫번째 기록 id 로 다시 시도하게 되고, 기본 키 중복으로 감지됨
+@MappedSuperclass
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public abstract class StreamLedgerEntry {
+
+    @Id
+    @Column(name = "first_record_id", columnDefinition = "VARCHAR(64)")
+    private String firstRecordId;
+
+    @Column(name = "last_record_id", nullable = false, columnDefinition = "VARCHAR(64)")
+    private String lastRecordId;
+
+    @Column(name = "flushed_at", nullable = false)
+    private LocalDateTime flushedAt;
+}
@@ -0,0 +1,111 @@
+package mtmt.MTMT_BE.global.redis;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+// Redis stream 에 쌓인 기록을 DB 에 묶어서 반영하는 공통 로직 (멘티 경험치, 멘토 rating 에서 사용)
+// - 여러 노드 중 flush lock 을 잡은 노드만 실행, stream 의 가장 오래된 기록부터 batchSize 개씩 읽어 반영
+// - 같은 트랜잭션에서 반영한 기록 범위를 ledger 테이블(StreamLedgerEntry)에 저장하고, 커밋 이후에 stream 에서 그 범위까지 지움
+// - 커밋 전에 중단되면 기록이 stream 에 남아 다음 flush 에 반영되고,
+//   커밋 후 지우기 전에 중단되면 다음 flush 가 같은 첫번째 기록 id 로 범위를 저장하려다 기본 키 중복으로 감지해서, 저장된 범위를 지우기만 함
+// Redis 가 AOF 등으로 영속화되어 있다는 전제에서, 노드가 언제 중단되어도 기록이 유실되거나 두번 반영되지 않음
+@Slf4j
+public class StreamLedgerFlusher<R extends StreamLedgerRecord, T> {
+
+    private final String name; // 로그에 남길 stream 이름
+    private final StreamLedgerSource<R> source;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration lockTimeout;
+    private final Function<List<R>, T> apply;
+    private final BiConsumer<List<R>, T> committed;
+
+    private final String insertRange;
+    private final String selectLastRecordId;
+    private final String deleteFlushedBefore;
+
+    // apply 는 범위를 저장한 트랜잭션 안에서 묶음을 반영하고, committed 는 커밋된 뒤 apply 의 결과로 실행
+    public StreamLedgerFlusher(String name, StreamLedgerSource<R> source, String ledgerTable,
+                               JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                               int batchSize, Duration lockTimeout,
+                               Function<List<R>, T> apply, BiConsumer<List<R>, T> committed) {
+        this.name = name;
+        this.source = source;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.lockTimeout = lockTimeout;
+        this.apply = apply;
+        this.committed = committed;
+
+        this.insertRange = "INSERT INTO " + ledgerTable + " (first_record_id, last_record_id, flushed_at) VALUES (?, ?, ?)";
+        this.selectLastRecordId = "SELECT last_record_id FROM " + ledgerTable + " WHERE first_record_id = ?";
+        this.deleteFlushedBefore = "DELETE FROM " + ledgerTable + " WHERE flushed_at < ?";
+    }
+
+    // lock 이 만료되기 전에 끝나도록, lock 시간의 절반이 지나면 남은 기록은 다음 주기에 반영
+    public void flush() {
+        String token = UUID.randomUUID().toString();
+        try {
+            if (!source.tryLockFlush(token, lockTimeout)) return;
+        } catch (Exception e) {
+            log.warn("Failed to start {} flush: {}", name, e.getMessage());
+            return;
+        }
+
+        long deadline = System.nanoTime() + lockTimeout.toNanos() / 2;
+        try {
+            List<R> records;
+            do {
+                records = source.findOldest(batchSize);
+                if (!records.isEmpty()) flushBatch(records);
+            } while (records.size() == batchSize && System.nanoTime() < deadline);
+        } catch (Exception e) {
+            // 기록이 stream 에 그대로 남아있으므로 다음 주기에 다시 반영
+            log.warn("Failed to flush {}: {}", name, e.getMessage());
+        } finally {
+            try {
+                source.unlockFlush(token);
+            } catch (Exception e) {
+                log.warn("Failed to release {} flush lock: {}", name, e.getMessage()); // TTL 이 지나면 해제됨
+            }
+        }
+    }
+
+    // 오래된 반영 범위 정리, 반영 후 지우기 전에 중단된 묶음은 다음 flush 에 바로 처리되므로 보관 기간이 길 필요는 없음
+    public void cleanUp(Duration retention) {
+        jdbcTemplate.update(deleteFlushedBefore, Timestamp.valueOf(LocalDateTime.now().minus(retention)));
+    }
+
+    private void flushBatch(List<R> records) {
+        String firstRecordId = records.get(0).recordId();
+        String lastRecordId = records.get(records.size() - 1).recordId();
+
+        String appliedUntil = lastRecordId;
+        try {
+            T result = transactionTemplate.execute(status -> {
+                jdbcTemplate.update(insertRange, firstRecordId, lastRecordId, Timestamp.valueOf(LocalDateTime.now()));
+                return apply.apply(records);
+            });
+            committed.accept(records, result);
+        } catch (DuplicateKeyException e) {
+            // 이전 flush 가 반영한 뒤 stream 에서 지우기 전에 중단됨, 그때 저장한 범위 전체를 지움
+            // batch 크기가 바뀌었다면 이번에 읽은 기록보다 범위가 길 수 있으므로 읽은 기록이 아닌 저장된 마지막 id 까지
+            appliedUntil = jdbcTemplate.queryForList(selectLastRecordId, String.class, firstRecordId).stream()
+                    .findFirst()
+                    .orElseThrow(() -> e);
+        }
+        source.acknowledgeUntil(appliedUntil);
+    }
+}
@@ -0,0 +1,8 @@
+package mtmt.MTMT_BE.global.redis;
+
+// StreamLedgerFlusher 로 반영하는 Redis stream 의 기록 하나
+public interface StreamLedgerRecord {
+
+    // stream 의 기록 id ("밀리초-순번", 증가하는 순서)
+    String recordId();
+}
@@ -0,0 +1,21 @@
+package mtmt.MTMT_BE.global.redis;
+
+import java.time.Duration;
+import java.util.List;
+
+// StreamLedgerFlusher 가 읽고 지우는 Redis stream 과 flush lock
+public interface StreamLedgerSource<R extends StreamLedgerRecord> {
+
+    // flush 시작, 다른 노드가 flush 중이면 false
+    // flush 하던 노드가 죽어도 다음 flush 가 가능하도록 lock 에 TTL 을 둠
+    boolean tryLockFlush(String token, Duration timeout);
+
+    void unlockFlush(String token);
+
+    // 아직 반영되지 않은 기록을 오래된 순서로 최대 count 개
+    List<R> findOldest(int count);
+
+    // lastRecordId 까지의 기록을 stream 에서 한번에 지움
+    // 도중에 중단되어 범위의 일부만 지워지면 다음 flush 가 남은 기록부터 새 범위로 다시 반영하게 되므로, 원자적으로 지워야 함
+    void acknowledgeUntil(String lastRecordId);
+}
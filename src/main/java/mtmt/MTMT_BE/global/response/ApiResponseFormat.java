@@ -0,0 +1,72 @@
+package mtmt.MTMT_BE.global.response;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.lang.Nullable;
+
+import java.util.List;
+
+// ApiResponse 를 쓸 수 있는 형식
+// JSON 외에 모바일 앱을 위해 바이너리 형식인 CBOR, Smile 을 지원 (인코딩, 디코딩 비용과 payload 크기가 JSON 보다 작음)
+// Spring MVC 를 거치는 응답은 content negotiation 으로 형식이 정해지고,
+// 필터, Security 핸들러처럼 MVC 를 거치지 않는 응답은 negotiate 메서드로 Accept 헤더를 보고 형식을 정함
+@Getter
+@RequiredArgsConstructor
+public enum ApiResponseFormat {
+    JSON(MediaType.APPLICATION_JSON),
+    CBOR(MediaType.APPLICATION_CBOR),
+    SMILE(new MediaType("application", "x-jackson-smile"));
+
+    private final MediaType mediaType;
+
+    // Accept 헤더에서 가장 선호도(q)가 높은 형식을 선택, 지원하지 않는 형식뿐이거나 헤더가 잘못되었다면 JSON
+    public static ApiResponseFormat negotiate(@Nullable String accept) {
+        // 대부분의 요청은 JSON 이므로, 바이너리 형식이 언급되지 않았다면 파싱하지 않고 바로 JSON
+        if (accept == null || (!accept.contains("cbor") && !accept.contains("smile"))) return JSON;
+
+        List<MediaType> acceptTypes;
+        try {
+            acceptTypes = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return JSON;
+        }
+
+        ApiResponseFormat selected = JSON;
+        double selectedQuality = 0;
+        for (MediaType acceptType : acceptTypes) {
+            double quality = acceptType.getQualityValue();
+            if (quality <= selectedQuality) continue; // 같은 선호도라면 먼저 나온 형식을 사용
+
+            for (ApiResponseFormat format : values()) {
+                if (acceptType.includes(format.mediaType)) {
+                    selected = format;
+                    selectedQuality = quality;
+                    break;
+                }
+            }
+        }
+        return selected;
+    }
+
+    // converter 가 선택한 Content-Type 에 해당하는 형식, 알 수 없는 형식이라면 JSON
+    public static ApiResponseFormat of(@Nullable MediaType contentType) {
+        if (contentType != null) {
+            for (ApiResponseFormat format : values()) {
+                if (format.mediaType.isCompatibleWith(contentType)) return format;
+            }
+        }
+        return JSON;
+    }
+
+    // 요청의 Content-Type 헤더에 해당하는 형식, 헤더가 없거나 잘못되었거나 알 수 없는 형식이라면 JSON
+    public static ApiResponseFormat of(@Nullable String contentType) {
+        if (contentType == null) return JSON;
+        try {
+            return of(MediaType.parseMediaType(contentType));
+        } catch (InvalidMediaTypeException e) {
+            return JSON;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package mtmt.MTMT_BE.global.response;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+// 형식(JSON, CBOR, Smile)별로 ApiResponse 를 직렬화할 ObjectMapper, 바이너리 형식의 요청 body 를 읽을때도 사용 (SignUpRequestArgumentResolver)
+// 모두 Spring Boot 가 설정한 Jackson2ObjectMapperBuilder 로 만들어지므로 날짜 형식 등 직렬화 설정이 형식과 관계없이 같음 (BinaryFormatConfig)
+public class ApiResponseObjectMappers {
+
+    private final Map<ApiResponseFormat, ObjectMapper> mappers = new EnumMap<>(ApiResponseFormat.class);
+
+    public ApiResponseObjectMappers(ObjectMapper json, ObjectMapper cbor, ObjectMapper smile) {
+        mappers.put(ApiResponseFormat.JSON, json);
+        mappers.put(ApiResponseFormat.CBOR, cbor);
+        mappers.put(ApiResponseFormat.SMILE, smile);
+    }
+
+    public ObjectMapper get(ApiResponseFormat format) {
+        return mappers.get(format);
+    }
+}
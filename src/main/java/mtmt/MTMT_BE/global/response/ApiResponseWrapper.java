@@ -1,25 +1,28 @@
 package mtmt.MTMT_BE.global.response;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
 import org.springframework.core.MethodParameter;
 import org.springframework.http.MediaType;
 import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.StringHttpMessageConverter;
 import org.springframework.http.server.ServerHttpRequest;
 import org.springframework.http.server.ServerHttpResponse;
 import org.springframework.http.server.ServletServerHttpRequest;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Map;
 
 @ControllerAdvice // @ControllerAdvice 어노테이션: 애플리케이션의 컨트롤러에서 발생하는 작업에 전역적으로 설정하기 위한 클래스로 지정
 // ResponseBodyAdvice<Object>: 해당 인터페이스를 구현함으로써, HTTP Response가 클라이언트에게 도달하기 전에 응답 본문을 가로챔
+@RequiredArgsConstructor
 public class ApiResponseWrapper implements ResponseBodyAdvice<Object> {
 
-    // ObjectMapper 클래스는 Java 객체를 JSON 문자열로 변환하거나 JSON 문자열을 ObjectMapper 클래스로 변환하기 위한 클래스
-    // 해당 클래스에서는, String Type 객체를 JSON 문자열로 변환하기 위해서 사용한다,
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    // String Type 응답을 ApiResponse JSON 으로 바로 쓰기 위한 공통 응답 writer (Spring 이 설정한 ObjectMapper 를 공유)
+    private final ApiResponseWriter apiResponseWriter;
 
     // ResponseBodyAdvice 적용여부를 boolean 으로 반환하는 메서드 즉, 모든 HTTP Response Body의 ApiResponseWrapper가 적용됨
     @Override
@@ -59,12 +62,16 @@ public class ApiResponseWrapper implements ResponseBodyAdvice<Object> {
         }
 
         // body가 String 객체의 인스턴스 즉, "Hello, World!"와 같은 문자열 형식이라면 해당 조건문 실행
-        if (body instanceof String) {
-            try { // objectMapper를 이용해서 ApiResponse.success 메서드를 통해 ApiResponse 형식으로 감싸진 응답객체를 JSON 문자열로 반환
-                // String 객체는 StringHttpMessageConverter를 호출하기 때문에, JSON 문자열로 반환하는 것임
-                return objectMapper.writeValueAsString(ApiResponse.success(body));
-            } catch (Exception e) { // 예외 발생한다면, 런타임 에러 발생
-                throw new RuntimeException("Failed to wrap String response", e);
+        // String 객체는 StringHttpMessageConverter가 처리하기 때문에 ApiResponse 객체를 그대로 반환할 수 없음
+        // JSON 문자열을 만든 뒤 converter 가 다시 인코딩하지 않도록, ApiResponse 를 response body 에 바로 직렬화하고 null 을 반환
+        // (beforeBodyWrite 가 null 을 반환하면 converter 는 아무것도 쓰지 않음)
+        // StringHttpMessageConverter 는 모든 media type 을 지원하므로, 협상된 형식이 CBOR, Smile 이라면 해당 형식으로 직렬화
+        if (body instanceof String && StringHttpMessageConverter.class.isAssignableFrom(selectedConverterType)) {
+            try {
+                apiResponseWriter.write(response, ApiResponse.success(body), ApiResponseFormat.of(selectedContentType));
+                return null;
+            } catch (IOException e) { // 예외 발생한다면, 런타임 에러 발생
+                throw new UncheckedIOException("Failed to wrap String response", e);
             }
         }
 
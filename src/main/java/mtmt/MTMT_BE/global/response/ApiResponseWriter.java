@@ -0,0 +1,85 @@
+package mtmt.MTMT_BE.global.response;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+
+// 필터, Security 핸들러처럼 Spring MVC 의 HttpMessageConverter 를 거치지 않는 곳에서 ApiResponse 를 쓰기 위한 공통 컴포넌트
+// - 각 클래스가 new ObjectMapper() 를 따로 만들지 않고 Spring 이 설정한 ObjectMapper 를 공유
+// - ApiResponse 용 ObjectWriter 를 형식(JSON, CBOR, Smile)별로 미리 만들어두어 요청마다 serializer 를 찾는 비용을 줄임
+// - 메시지가 고정된 오류 응답(FixedErrorResponse)은 시작 시점에 형식별 bytes 로 만들어두고 output stream 에 그대로 씀
+// - MVC 를 거치지 않으므로 Accept 헤더를 직접 보고 형식을 정함 (ApiResponseFormat.negotiate)
+@Component
+public class ApiResponseWriter {
+
+    private final Map<ApiResponseFormat, ObjectWriter> writers = new EnumMap<>(ApiResponseFormat.class);
+
+    private final Map<ApiResponseFormat, Map<FixedErrorResponse, byte[]>> fixedErrorBodies = new EnumMap<>(ApiResponseFormat.class);
+
+    public ApiResponseWriter(ApiResponseObjectMappers objectMappers) {
+        for (ApiResponseFormat format : ApiResponseFormat.values()) {
+            // 응답 output stream 은 컨테이너가 관리하므로 직렬화가 끝나도 닫지 않음 (flush 만 수행)
+            ObjectWriter writer = objectMappers.get(format).writerFor(ApiResponse.class).without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            writers.put(format, writer);
+
+            Map<FixedErrorResponse, byte[]> bodies = new EnumMap<>(FixedErrorResponse.class);
+            for (FixedErrorResponse error : FixedErrorResponse.values()) {
+                bodies.put(error, toBytes(writer, ApiResponse.error(error.getHttpStatus().value(), error.getMessage())));
+            }
+            fixedErrorBodies.put(format, bodies);
+        }
+    }
+
+    // 미리 만들어둔 고정 오류 응답을 그대로 전송 (직렬화, 문자열 인코딩 없음)
+    public void writeError(HttpServletRequest request, HttpServletResponse response, FixedErrorResponse error) throws IOException {
+        ApiResponseFormat format = ApiResponseFormat.negotiate(request.getHeader(HttpHeaders.ACCEPT));
+        byte[] body = fixedErrorBodies.get(format).get(error);
+        prepare(response, error.getHttpStatus(), format);
+        response.setContentLength(body.length);
+
+        OutputStream output = response.getOutputStream();
+        output.write(body);
+        output.flush();
+    }
+
+    // 메시지가 요청마다 다른 오류 응답은 output stream 에 바로 직렬화
+    public void writeError(HttpServletRequest request, HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        ApiResponseFormat format = ApiResponseFormat.negotiate(request.getHeader(HttpHeaders.ACCEPT));
+        prepare(response, status, format);
+        writers.get(format).writeValue(response.getOutputStream(), ApiResponse.error(status.value(), message));
+    }
+
+    // Spring MVC 응답(ServerHttpResponse)의 body 에 ApiResponse 를 협상된 형식으로 바로 직렬화
+    // StringHttpMessageConverter 가 선택된 String 응답에서 사용
+    public void write(ServerHttpResponse response, ApiResponse<?> body, ApiResponseFormat format) throws IOException {
+        response.getHeaders().setContentType(format.getMediaType());
+        writers.get(format).writeValue(response.getBody(), body);
+    }
+
+    private void prepare(HttpServletResponse response, HttpStatus status, ApiResponseFormat format) {
+        response.setStatus(status.value());
+        response.setContentType(format.getMediaType().toString());
+        if (format == ApiResponseFormat.JSON) // 바이너리 형식은 문자 인코딩을 지정하지 않음
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+    }
+
+    private static byte[] toBytes(ObjectWriter writer, ApiResponse<?> response) {
+        try {
+            return writer.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize fixed error response", e);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package mtmt.MTMT_BE.global.response;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+
+// 메시지가 항상 같은 오류 응답들
+// ApiResponseWriter 가 애플리케이션 시작 시점에 JSON bytes 로 미리 만들어두고, 요청마다 직렬화 없이 그대로 전송함
+@Getter
+@RequiredArgsConstructor
+public enum FixedErrorResponse {
+    ACCESS_DENIED(HttpStatus.FORBIDDEN, "Access denied"), // CustomAccessDeniedHandler
+    AUTHENTICATION_REQUIRED(HttpStatus.UNAUTHORIZED, "Authentication required"), // CustomAuthenticationEntryPoint
+    UNEXPECTED_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "Unexpected server error"); // GlobalExceptionFilter
+
+    private final HttpStatus httpStatus;
+    private final String message;
+}
@@ -2,7 +2,9 @@ package mtmt.MTMT_BE.global.response;
 
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
+import mtmt.MTMT_BE.global.exception.domain.common.TooManyRequestsException;
 import mtmt.MTMT_BE.global.exception.utils.CustomException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -86,4 +88,13 @@ public class GlobalExceptionHandler {
         ApiResponse<String> response = ApiResponse.error(ex.getStatus(), ex.getMessage());
         return new ResponseEntity<>(response, ex.getHttpStatus());
     }
+
+    // 429 응답에는 언제 다시 요청하면 되는지 Retry-After 헤더를 함께 내려줌
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ApiResponse<String>> handleTooManyRequests(TooManyRequestsException ex) {
+        ApiResponse<String> response = ApiResponse.error(ex.getStatus(), ex.getMessage());
+        return ResponseEntity.status(ex.getHttpStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(response);
+    }
 }
@@ -0,0 +1,139 @@
+package mtmt.MTMT_BE.global.response.stream;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import mtmt.MTMT_BE.global.response.ApiResponse;
+import mtmt.MTMT_BE.global.response.ApiResponseFormat;
+import mtmt.MTMT_BE.global.response.ApiResponseObjectMappers;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.util.CloseableIterator;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.stream.Stream;
+
+// 컨트롤러가 StreamingQuery, Stream 또는 CloseableIterator(DB 커서 기반 결과)를 반환했을때 사용하는 HttpMessageConverter
+// 기존에는 ApiResponseWrapper 가 감싼 ApiResponse 를 Jackson 이 한번에 직렬화했기 때문에, 목록 전체가 메모리에 올라온 뒤에야 첫 byte 가 전송되었음
+// 해당 converter 는 {"status":..,"message":..,"data":[ 까지 먼저 쓰고, data 의 각 행을 하나씩 꺼내 직렬화하면서
+// flush-rows 개 마다 소켓으로 flush 함 -> 행 수와 관계없이 힙 사용량이 일정하게 유지됨
+// ApiResponseWrapper 가 body 를 ApiResponse 로 감싼 뒤 호출되므로 ApiResponse 와 감싸지지 않은 결과 모두 처리
+// DB 커서는 StreamingQuery 로 반환해야 함, 이미 열린 Stream, CloseableIterator 는 이 converter 가 쓰지 않으면 닫히지 않음
+// JSON 뿐 아니라 CBOR, Smile 로 협상된 경우에도 같은 방식으로 스트리밍 (형식별 ObjectMapper 의 generator 사용)
+// HttpMessageConverter Bean 은 Spring Boot 가 기본 converter 들보다 앞에 등록하므로, Stream 을 직렬화할 수 있는 Jackson converter 보다 먼저 선택됨
+@Component
+public class StreamingApiResponseConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    private final Map<ApiResponseFormat, ObjectMapper> objectMappers = new EnumMap<>(ApiResponseFormat.class);
+
+    // 행 하나를 쓸때마다 flush 하지 않도록 FLUSH_AFTER_WRITE_VALUE 를 끈 writer (flush 는 flushRows 단위로 직접 수행)
+    private final Map<ApiResponseFormat, ObjectWriter> rowWriters = new EnumMap<>(ApiResponseFormat.class);
+
+    private final int flushRows; // 몇 행마다 소켓으로 flush 할지
+
+    public StreamingApiResponseConverter(ApiResponseObjectMappers apiResponseObjectMappers,
+                                         @Value("${response.streaming.flush-rows:500}") int flushRows) {
+        super(ApiResponseFormat.JSON.getMediaType(), ApiResponseFormat.CBOR.getMediaType(), ApiResponseFormat.SMILE.getMediaType());
+        for (ApiResponseFormat format : ApiResponseFormat.values()) {
+            ObjectMapper objectMapper = apiResponseObjectMappers.get(format);
+            objectMappers.put(format, objectMapper);
+            rowWriters.put(format, objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE));
+        }
+        this.flushRows = flushRows;
+    }
+
+    // 읽기는 지원하지 않음 (응답 전용 converter)
+    @Override
+    public boolean canRead(Type type, @Nullable Class<?> contextClass, @Nullable MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return isStreamable(clazz);
+    }
+
+    @Override
+    public boolean canWrite(@Nullable Type type, Class<?> clazz, @Nullable MediaType mediaType) {
+        return isStreamable(clazz) && canWrite(mediaType);
+    }
+
+    @Override
+    protected void writeInternal(Object body, @Nullable Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        ApiResponse<?> envelope = body instanceof ApiResponse<?> apiResponse ? apiResponse : ApiResponse.success(body);
+        ApiResponseFormat format = ApiResponseFormat.of(outputMessage.getHeaders().getContentType()); // 협상된 형식
+        ObjectWriter rowWriter = rowWriters.get(format);
+
+        // StreamingQuery 는 여기서 열어서 아래 finally 에서 닫음 -> 커서가 열려있는 시간이 응답을 쓰는 시간으로 한정됨
+        Object data = envelope.getData() instanceof StreamingQuery<?> query ? query.open() : envelope.getData();
+
+        // 응답 output stream 은 컨테이너가 관리하므로 generator 를 닫아도 stream 은 닫지 않음
+        // 중간에 오류가 발생했을때 닫히지 않은 배열, 객체를 자동으로 닫으면 잘린 응답이 정상 JSON 처럼 보이므로 AUTO_CLOSE_JSON_CONTENT 도 끔
+        try (JsonGenerator generator = objectMappers.get(format).getFactory().createGenerator(outputMessage.getBody(), JsonEncoding.UTF8)) {
+            Iterator<?> rows = iterator(data);
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+
+            generator.writeStartObject();
+            generator.writeNumberField("status", envelope.getStatus());
+            generator.writeStringField("message", envelope.getMessage());
+            generator.writeArrayFieldStart("data");
+
+            int pending = 0;
+            while (rows.hasNext()) {
+                rowWriter.writeValue(generator, rows.next());
+                if (++pending == flushRows) { // 일정 행 수 마다 소켓으로 전송하여 버퍼가 커지지 않도록 함
+                    generator.flush();
+                    pending = 0;
+                }
+            }
+
+            generator.writeEndArray();
+            generator.writeEndObject();
+            generator.flush();
+        } finally {
+            close(data); // DB 커서, 커넥션 반납
+        }
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws HttpMessageNotReadableException {
+        throw new HttpMessageNotReadableException("StreamingApiResponseConverter does not support reading", inputMessage);
+    }
+
+    @Override
+    public Object read(Type type, @Nullable Class<?> contextClass, HttpInputMessage inputMessage) throws HttpMessageNotReadableException {
+        throw new HttpMessageNotReadableException("StreamingApiResponseConverter does not support reading", inputMessage);
+    }
+
+    private static boolean isStreamable(Class<?> clazz) {
+        return StreamingQuery.class.isAssignableFrom(clazz)
+                || Stream.class.isAssignableFrom(clazz)
+                || CloseableIterator.class.isAssignableFrom(clazz);
+    }
+
+    private static Iterator<?> iterator(Object data) {
+        if (data instanceof Stream<?> stream) return stream.iterator();
+        if (data instanceof CloseableIterator<?> cursor) return cursor;
+        throw new HttpMessageNotWritableException("Unsupported streaming body: " + (data != null ? data.getClass() : null));
+    }
+
+    private static void close(Object data) {
+        if (data instanceof Stream<?> stream) stream.close();
+        else if (data instanceof CloseableIterator<?> cursor) cursor.close();
+    }
+}
@@ -0,0 +1,12 @@
+package mtmt.MTMT_BE.global.response.stream;
+
+import java.util.stream.Stream;
+
+// 응답을 쓰기 시작할때 여는 DB 커서
+// 컨트롤러가 열린 Stream 을 반환하면, converter 를 찾지 못하거나(406) 응답을 쓰기 전에 실패한 경우 아무도 닫지 않아 커넥션이 반납되지 않음
+// 대신 이 타입을 반환하면 StreamingApiResponseConverter 가 쓰기 직전에 열고, 다 쓰거나 실패하면 바로 닫음
+@FunctionalInterface
+public interface StreamingQuery<T> {
+
+    Stream<T> open();
+}
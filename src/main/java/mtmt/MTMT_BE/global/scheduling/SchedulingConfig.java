@@ -0,0 +1,37 @@
+package mtmt.MTMT_BE.global.scheduling;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.task.ThreadPoolTaskSchedulerBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+// @Scheduled 어노테이션을 사용하는 주기적인 작업(Redis 동기화, 배치 flush 등)을 활성화 하기 위한 설정 클래스
+// 스케줄러를 두개로 나눔
+// - taskScheduler: 기본 스케줄러, 인덱스/필터 재구성 같이 오래 걸리는 작업 (크기는 spring.task.scheduling.pool.size)
+// - flushTaskScheduler: 1초 주기의 메모리 -> DB 반영 작업 전용, 재구성 작업이 끝나기를 기다리지 않도록 따로 둠
+//   @Scheduled(scheduler = FLUSH_SCHEDULER) 로 사용
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    public static final String FLUSH_SCHEDULER = "flushTaskScheduler";
+
+    // TaskScheduler 빈을 직접 정의하면 Spring Boot 의 기본 스케줄러가 만들어지지 않으므로, 같은 설정(spring.task.scheduling.*)으로 직접 생성
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(ThreadPoolTaskSchedulerBuilder builder) {
+        return builder.build();
+    }
+
+    @Bean(FLUSH_SCHEDULER)
+    public ThreadPoolTaskScheduler flushTaskScheduler(@Value("${scheduling.flush.pool-size:2}") int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("flush-");
+        // 종료시 실행 중인 flush 가 끝날때까지 기다림 (남은 값은 각 컴포넌트의 @PreDestroy 에서 반영)
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(30);
+        return scheduler;
+    }
+}
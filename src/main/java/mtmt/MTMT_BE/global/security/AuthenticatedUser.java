@@ -0,0 +1,12 @@
+package mtmt.MTMT_BE.global.security;
+
+import mtmt.MTMT_BE.domain.user.domain.type.Role;
+
+// 인증된 사용자를 나타내는 공통 인터페이스
+// DB 에서 조회한 CustomUserDetails 와 jwt claim 만으로 만든 JwtClaimsPrincipal 모두 이 인터페이스를 구현하므로,
+// 컨트롤러는 @AuthenticationPrincipal AuthenticatedUser 로 어떤 인증 방식인지 신경쓰지 않고 사용자 정보를 꺼낼 수 있다
+public interface AuthenticatedUser {
+    Long getId();
+    String getEmail();
+    Role getRole();
+}
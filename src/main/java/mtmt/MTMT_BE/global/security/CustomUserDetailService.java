@@ -1,21 +1,41 @@
 package mtmt.MTMT_BE.global.security;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import mtmt.MTMT_BE.domain.user.application.cache.UserCacheService;
 import mtmt.MTMT_BE.domain.user.domain.entity.User;
 import mtmt.MTMT_BE.domain.user.domain.repository.UserRepository;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
-@RequiredArgsConstructor
-public class CustomUserDetailService implements UserDetailsService {
+// UserDetailsPasswordService 를 함께 구현하면, 로그인 성공시 저장된 해시가 약하거나(낮은 cost, {id} 없음) 오래된 형식일 경우
+// DaoAuthenticationProvider 가 평문 비밀번호를 현재 PasswordEncoder 로 다시 암호화해 updatePassword 를 호출해준다
+public class CustomUserDetailService implements UserDetailsService, UserDetailsPasswordService {
 
+    // jwt 인증에서는 UserRepository 를 직접 조회하지 않고, L1(로컬) -> L2(Redis) -> MySQL 순서로 조회하는 캐시를 거침
+    private final UserCacheService userCacheService;
+
+    // 로그인의 비밀번호 검증과 재암호화된 비밀번호 저장은 캐시가 아닌 DB 엔티티를 사용 (캐시에는 비밀번호 해시가 없음)
     private final UserRepository userRepository;
 
+    // 로그인시 재암호화된 비밀번호 수
+    private final Counter passwordUpgrades;
+
+    public CustomUserDetailService(UserCacheService userCacheService, UserRepository userRepository, MeterRegistry meterRegistry) {
+        this.userCacheService = userCacheService;
+        this.userRepository = userRepository;
+        this.passwordUpgrades = Counter.builder("auth.hashing.upgrades")
+                .description("Password hashes re-encoded with the current encoder after a successful login")
+                .register(meterRegistry);
+    }
 
     // Email에 대한 User를 기반으로 CustomUserDetail 객체 생성 없을시 UsernameNotFoundException(Spring Security 내장) 호출
+    // 로그인(DaoAuthenticationProvider)에서 비밀번호 해시를 검증하므로 DB 에서 조회 (BCrypt 검증 비용에 비해 조회 한번의 비용은 작음)
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
         User user = userRepository.findByEmail(email)
@@ -24,4 +44,25 @@ public class CustomUserDetailService implements UserDetailsService {
         // 조회된 User를 기반으로 CustomUserDetails 객체 생성
         return new CustomUserDetails(user);
     }
+
+    // 검증된 jwt 의 사용자로 CustomUserDetails 생성, 비밀번호가 필요 없으므로 사용자 캐시를 거침 (getPassword 는 null)
+    public UserDetails loadCachedUser(String email) throws UsernameNotFoundException {
+        User user = userCacheService.findByEmail(email)
+                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다. email: " + email));
+        return new CustomUserDetails(user);
+    }
+
+    // 새 해시를 저장하면 User 엔티티 리스너가 이벤트를 발행하여, 커밋 후 사용자 캐시가 무효화됨
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        Long userId = ((CustomUserDetails) userDetails).getId();
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다. id: " + userId));
+
+        user.changePassword(newPassword);
+        passwordUpgrades.increment();
+
+        return new CustomUserDetails(user);
+    }
 }
@@ -12,7 +12,7 @@ import java.util.Collections;
 
 @RequiredArgsConstructor
 // 사용자의 정보를 담는 Spring Security의 객체인 UserDetails를 상속받아, 우리 서비스의 User 버전으로 재구성한 클래스
-public class CustomUserDetails implements UserDetails {
+public class CustomUserDetails implements UserDetails, AuthenticatedUser {
 
     private final User user;
 
@@ -63,14 +63,17 @@ public class CustomUserDetails implements UserDetails {
     // 추가 정보 접근용 커스텀 메서드
     public String getName() { return user.getName(); }
 
+    @Override
     public Long getId() {
         return user.getId();
     }
 
+    @Override
     public String getEmail() {
         return user.getEmail();
     }
 
+    @Override
     public Role getRole() {
         return user.getRole();
     }
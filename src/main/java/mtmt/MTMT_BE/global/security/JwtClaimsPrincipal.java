@@ -0,0 +1,48 @@
+package mtmt.MTMT_BE.global.security;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import mtmt.MTMT_BE.domain.user.domain.type.Role;
+import mtmt.MTMT_BE.global.jwt.VerifiedToken;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.List;
+
+// 검증된 access token 의 claim(userId, subject, authorities)만으로 만드는 가벼운 principal
+// CustomUserDetails 와 달리 User 엔티티를 조회하지 않으므로, 요청마다 DB 조회가 발생하지 않는다
+@Getter
+@RequiredArgsConstructor
+public class JwtClaimsPrincipal implements AuthenticatedUser {
+
+    private static final String ROLE_PREFIX = "ROLE_";
+
+    private final Long id;
+    private final String email;
+    private final Role role;
+    private final List<GrantedAuthority> authorities;
+
+    // VerifiedToken 으로 부터 principal 생성
+    public static JwtClaimsPrincipal from(VerifiedToken token) {
+        return new JwtClaimsPrincipal(
+                token.getUserId(),
+                token.getSubject(),
+                extractRole(token.getAuthorities()),
+                token.getAuthorities()
+        );
+    }
+
+    // "ROLE_MENTOR" 형태의 권한에서 Role enum 을 추출, 알 수 없는 권한이면 null
+    private static Role extractRole(List<GrantedAuthority> authorities) {
+        for (GrantedAuthority authority : authorities) {
+            String name = authority.getAuthority();
+            if (name != null && name.startsWith(ROLE_PREFIX)) {
+                try {
+                    return Role.valueOf(name.substring(ROLE_PREFIX.length()));
+                } catch (IllegalArgumentException ignored) {
+                    // 다음 권한 확인
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -1,6 +1,11 @@
 package mtmt.MTMT_BE.global.security.config;
 
+import jakarta.servlet.DispatcherType;
 import mtmt.MTMT_BE.global.exception.filter.GlobalExceptionFilter;
+import mtmt.MTMT_BE.global.idempotency.IdempotencyFilter;
+import mtmt.MTMT_BE.global.jwt.filter.JwtAuthenticationFilter;
+import mtmt.MTMT_BE.global.web.compression.ResponseCompressionFilter;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -16,4 +21,33 @@ public class FilterConfig {
         bean.setOrder(Ordered.HIGHEST_PRECEDENCE); // 가장 먼저 실행되는 Filter 로써 등록
         return bean;
     }
+
+    // 응답 압축 필터는 GlobalExceptionFilter 바로 다음에 실행 -> 이후 필터, Security 핸들러, 컨트롤러의 응답이 모두 압축 대상
+    // 비동기 컨트롤러의 응답을 압축하기 위해 ASYNC dispatch 에서도 실행되도록 등록
+    @Bean
+    public FilterRegistrationBean<ResponseCompressionFilter> responseCompressionFilterRegistration(ResponseCompressionFilter responseCompressionFilter) {
+        FilterRegistrationBean<ResponseCompressionFilter> bean = new FilterRegistrationBean<>(responseCompressionFilter);
+        bean.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        bean.setDispatcherTypes(DispatcherType.REQUEST, DispatcherType.ASYNC);
+        return bean;
+    }
+
+    // JwtAuthenticationFilter 는 @Component 이므로 Spring Boot 가 서블릿 필터로도 자동 등록함
+    // Security Filter Chain 안에서만 실행되도록 서블릿 필터 자동 등록은 비활성화
+    @Bean
+    public FilterRegistrationBean<JwtAuthenticationFilter> jwtAuthenticationFilterRegistration(JwtAuthenticationFilter jwtAuthenticationFilter) {
+        FilterRegistrationBean<JwtAuthenticationFilter> bean = new FilterRegistrationBean<>(jwtAuthenticationFilter);
+        bean.setEnabled(false);
+        return bean;
+    }
+
+    // IdempotencyFilter 는 사용자별로 키를 구분하기 위해 인증이 끝난 뒤(Security Filter Chain 다음)에 실행
+    // 비동기 컨트롤러의 응답을 저장하기 위해 ASYNC dispatch, 비동기 처리가 timeout 으로 끝났을때 키를 해제하기 위해 ERROR dispatch 에서도 실행되도록 등록
+    @Bean
+    public FilterRegistrationBean<IdempotencyFilter> idempotencyFilterRegistration(IdempotencyFilter idempotencyFilter) {
+        FilterRegistrationBean<IdempotencyFilter> bean = new FilterRegistrationBean<>(idempotencyFilter);
+        bean.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 1);
+        bean.setDispatcherTypes(DispatcherType.REQUEST, DispatcherType.ASYNC, DispatcherType.ERROR);
+        return bean;
+    }
 }
@@ -0,0 +1,49 @@
+package mtmt.MTMT_BE.global.security.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import mtmt.MTMT_BE.global.security.hashing.BCryptStrengthCalibrator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.Map;
+
+@Configuration
+public class PasswordEncoderConfig {
+
+    // 새로 암호화하는 비밀번호에 붙는 알고리즘 id -> "{bcrypt}$2a$12$..." 형태로 저장됨
+    private static final String ENCODING_ID = "bcrypt";
+
+    // PasswordEncoder 로 DelegatingPasswordEncoder 를 지정
+    // 저장된 해시 앞의 {id} 로 알고리즘을 구분하므로, 이후 알고리즘이나 cost 가 바뀌어도 기존 해시를 그대로 검증할 수 있음
+    // {id} 가 없는 기존 해시("$2a$10$...")는 기본 BCryptPasswordEncoder 로 검증하고, 다음 로그인때 새 형식으로 재암호화됨
+    @Bean
+    public PasswordEncoder passwordEncoder(
+            MeterRegistry meterRegistry,
+            @Value("${security.password-hashing.bcrypt.strength:0}") int fixedStrength, // 0 이면 시작시 측정하여 결정
+            @Value("${security.password-hashing.bcrypt.latency-budget:80ms}") Duration latencyBudget,
+            @Value("${security.password-hashing.bcrypt.min-strength:10}") int minStrength,
+            @Value("${security.password-hashing.bcrypt.max-strength:14}") int maxStrength,
+            @Value("${security.password-hashing.bcrypt.samples:10}") int samples
+    ) {
+        int strength = fixedStrength > 0
+                ? fixedStrength
+                : BCryptStrengthCalibrator.calibrate(latencyBudget, minStrength, maxStrength, samples);
+
+        Gauge.builder("auth.hashing.bcrypt.strength", () -> strength)
+                .description("BCrypt cost used for newly encoded passwords")
+                .register(meterRegistry);
+
+        DelegatingPasswordEncoder passwordEncoder = new DelegatingPasswordEncoder(
+                ENCODING_ID,
+                Map.of(ENCODING_ID, new BCryptPasswordEncoder(strength))
+        );
+        passwordEncoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder()); // {id} 없는 기존 해시 검증용
+        return passwordEncoder;
+    }
+}
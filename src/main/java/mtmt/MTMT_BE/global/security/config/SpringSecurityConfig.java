@@ -6,14 +6,15 @@ import mtmt.MTMT_BE.global.security.handler.CustomAccessDeniedHandler;
 import mtmt.MTMT_BE.global.security.handler.CustomAuthenticationEntryPoint;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.context.NullSecurityContextRepository;
 
 @Configuration // 해당 클래스가 Spring 설정 파일임을 명시 (Bean 등록 포함)
 @RequiredArgsConstructor
@@ -25,8 +26,31 @@ public class SpringSecurityConfig {
     // security 관련 filter chain을 설정하기 위한 메서드
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http, CustomAuthenticationEntryPoint authenticationEntryPoint, CustomAccessDeniedHandler accessDeniedHandler) throws Exception {
+        // jwt 기반의 stateless API 서버에 필요한 필터만 명시적으로 사용, 나머지 기본 필터는 모두 비활성화
         http
                 .csrf(AbstractHttpConfigurer::disable) // csrf 비활성화
+                .formLogin(AbstractHttpConfigurer::disable) // 로그인은 /auth/login API 로만 처리
+                .httpBasic(AbstractHttpConfigurer::disable)
+                .logout(AbstractHttpConfigurer::disable) // 로그아웃은 /auth/logout API 에서 토큰을 폐기하여 처리
+                .requestCache(AbstractHttpConfigurer::disable) // 로그인 후 돌아갈 요청을 세션에 저장할 일이 없음
+                .anonymous(AbstractHttpConfigurer::disable) // 인증되지 않은 요청은 Authentication 없이 그대로 통과 (permitAll 은 그대로 동작)
+
+                // jwt 기반 인증이므로 HttpSession 을 만들거나 사용하지 않음
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+
+                // 인증 정보는 매 요청마다 jwt 로 부터 새로 만들어지므로, SecurityContext 를 요청 간에 저장하지 않음
+                .securityContext(context -> context.securityContextRepository(new NullSecurityContextRepository()))
+
+                // 운영자용 API 는 ADMIN 권한이 필요, 그 외의 인증 여부는 JwtAuthenticationFilter 에서 처리
+                .authorizeHttpRequests(authorize -> authorize
+                        .requestMatchers("/admin/**").hasRole("ADMIN")
+                        .requestMatchers("/mentees/me/**").hasRole("MENTEE") // 로그인한 멘티 본인의 API
+                        // 멘토링 API 는 로그인한 사용자의 principal 을 사용하므로 인증 필수 (refresh token 으로 호출하는 경우 등 principal 없이 도달하지 않도록)
+                        .requestMatchers(HttpMethod.POST, "/mentorings").hasRole("MENTEE") // 멘토링 신청은 멘티만 가능
+                        .requestMatchers(HttpMethod.POST, "/mentorings/*/accept", "/mentorings/*/reject").hasRole("MENTOR") // 수락, 거절은 멘토만 가능
+                        .requestMatchers("/mentorings/**").authenticated() // 시작, 완료는 참여자(멘토, 멘티) 모두 가능, 참여 여부는 서비스에서 확인
+                        .anyRequest().permitAll()
+                )
 
                 // Spring Security 관련 exception 들을 처리할 Handler 클래스 목록을 등록
                 .exceptionHandling(exception -> exception
@@ -47,11 +71,6 @@ public class SpringSecurityConfig {
         return config.getAuthenticationManager();
     }
 
-    // PasswordEncoder로 BCryptPasswordEncoder 를 지정, 매번 무작위 salt 값을 사용함
-    // 무작위 salt 값을 사용하는 일방향 해시 함수이므로, 복호화가 불가능함
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
-    }
+    // PasswordEncoder 는 시작시 cost 를 측정하는 PasswordEncoderConfig 에서 등록
 
 }
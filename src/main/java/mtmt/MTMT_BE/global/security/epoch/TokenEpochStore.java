@@ -0,0 +1,95 @@
+package mtmt.MTMT_BE.global.security.epoch;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import mtmt.MTMT_BE.global.jwt.VerifiedToken;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.lang.NonNull;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 사용자별 "토큰 세대(token epoch)"를 메모리에 보관하는 클래스
+// access token 은 발급 시점의 epoch 를 claim 으로 가지고 있고, 현재 epoch 보다 작은 토큰은 더이상 유효하지 않다
+// 권한 변경이나 계정 정지 시 bump 를 호출하면, 해당 사용자의 기존 토큰은 DB 조회 없이도 모두 거부된다
+// 원본은 Redis hash 에 있고, 변경 사항은 pub/sub 으로 모든 노드에 전파된다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenEpochStore implements MessageListener {
+
+    private static final String EPOCH_KEY = "auth:token-epoch"; // userId -> epoch 를 담는 Redis hash
+    private static final String EPOCH_CHANNEL = "auth:token-epoch:changed"; // epoch 변경을 알리는 채널
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    // 로컬 캐시, epoch 를 올린 적이 없는 사용자는 맵에 없으며 0 으로 취급
+    private final Map<Long, Long> epochs = new ConcurrentHashMap<>();
+
+    // 변경 알림 채널을 구독하고, Redis 에 저장된 전체 epoch 를 불러옴
+    @PostConstruct
+    void init() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(EPOCH_CHANNEL));
+        resync();
+    }
+
+    // 사용자의 현재 epoch 를 반환 (토큰 발급시 claim 으로 사용)
+    public long currentEpoch(Long userId) {
+        if (userId == null) return 0L;
+        return epochs.getOrDefault(userId, 0L);
+    }
+
+    // 토큰의 epoch 가 현재 사용자 epoch 이상인지 확인, 메모리 조회만 하므로 요청마다 Redis 를 거치지 않음
+    public boolean isCurrent(VerifiedToken token) {
+        return token.getEpoch() >= currentEpoch(token.getUserId());
+    }
+
+    // 사용자의 epoch 를 1 증가시켜 기존에 발급된 모든 토큰을 무효화
+    public long bump(Long userId) {
+        Long epoch = redisTemplate.opsForHash().increment(EPOCH_KEY, userId.toString(), 1L);
+        epochs.merge(userId, epoch, Math::max);
+        redisTemplate.convertAndSend(EPOCH_CHANNEL, userId + ":" + epoch);
+        return epoch;
+    }
+
+    // 다른 노드에서 epoch 가 변경되었다는 메시지를 받으면 로컬 캐시를 갱신
+    @Override
+    public void onMessage(@NonNull Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(':');
+        if (separator < 0) return;
+
+        try {
+            Long userId = Long.parseLong(body.substring(0, separator));
+            long epoch = Long.parseLong(body.substring(separator + 1));
+            epochs.merge(userId, epoch, Math::max);
+        } catch (NumberFormatException e) {
+            log.warn("Invalid token epoch message: {}", body);
+        }
+    }
+
+    // pub/sub 메시지가 유실되었을 경우를 대비해 주기적으로 Redis 와 다시 맞춤
+    @Scheduled(fixedDelayString = "${jwt.token-epoch-resync-interval:60000}", initialDelayString = "${jwt.token-epoch-resync-interval:60000}")
+    public void resync() {
+        try (Cursor<Map.Entry<Object, Object>> cursor = redisTemplate.opsForHash()
+                .scan(EPOCH_KEY, ScanOptions.scanOptions().count(1000).build())) {
+            while (cursor.hasNext()) {
+                Map.Entry<Object, Object> entry = cursor.next();
+                epochs.merge(Long.parseLong(entry.getKey().toString()), Long.parseLong(entry.getValue().toString()), Math::max);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to resync token epochs from Redis: {}", e.getMessage());
+        }
+    }
+}
@@ -1,11 +1,10 @@
 package mtmt.MTMT_BE.global.security.handler;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import mtmt.MTMT_BE.global.response.ApiResponse;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
+import lombok.RequiredArgsConstructor;
+import mtmt.MTMT_BE.global.response.ApiResponseWriter;
+import mtmt.MTMT_BE.global.response.FixedErrorResponse;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.web.access.AccessDeniedHandler;
 import org.springframework.stereotype.Component;
@@ -16,30 +15,19 @@ import java.io.IOException;
 // AccessDeniedException 이란, Spring Security Library의 예외 객체로, Spring Security로 인해 접근이 거부될때 발생하는 예외이다.
 // AccessDeniedException은 GlobalExceptionFilter 에서 처리 되지 않기에, 이렇게 CustomAccessDeniedHandler를 통해 ApiResponse 형태로 감싸야한다.
 @Component
+@RequiredArgsConstructor
 public class CustomAccessDeniedHandler implements AccessDeniedHandler {
 
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ApiResponseWriter apiResponseWriter;
 
     @Override
     public void handle(HttpServletRequest request,
                        HttpServletResponse response,
                        AccessDeniedException accessDeniedException) throws IOException {
 
-        // response 정보들 설정
-        response.setStatus(HttpStatus.FORBIDDEN.value());
-        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-        response.setCharacterEncoding("UTF-8");
-
         // Response를 ApiResponse로 감싸서 전달: 일관된 예외처리 가능.
         // 이렇게 Spring Security 에서 발행하는 예외도 우리의 응답 구조를 따르게 되었다.
-        ApiResponse<String> errorResponse = ApiResponse.error(
-                HttpStatus.FORBIDDEN.value(),
-                "Access denied"
-        );
-
-        // response 전달
-        String jsonResponse = objectMapper.writeValueAsString(errorResponse);
-        response.getWriter().write(jsonResponse);
-        response.getWriter().flush();
+        // 메시지가 항상 같으므로 미리 만들어둔 JSON bytes 를 그대로 전송 (403, "Access denied")
+        apiResponseWriter.writeError(request, response, FixedErrorResponse.ACCESS_DENIED);
     }
 }
@@ -1,11 +1,10 @@
 package mtmt.MTMT_BE.global.security.handler;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import mtmt.MTMT_BE.global.response.ApiResponse;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
+import lombok.RequiredArgsConstructor;
+import mtmt.MTMT_BE.global.response.ApiResponseWriter;
+import mtmt.MTMT_BE.global.response.FixedErrorResponse;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.stereotype.Component;
@@ -15,26 +14,16 @@ import java.io.IOException;
 // CustomAccessDeniedHandler와 비슷하게, AuthenticationException 라는 Spring Security 에서 발행하는 인증관련 객체를 처리하기 위한 클래스
 // 동작구조는 CustomAccessDeniedHandler와 동일하므로 자세한 설명은 생략
 @Component
+@RequiredArgsConstructor
 public class CustomAuthenticationEntryPoint implements AuthenticationEntryPoint {
 
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ApiResponseWriter apiResponseWriter;
 
     @Override
     public void commence(HttpServletRequest request,
                          HttpServletResponse response,
                          AuthenticationException authException) throws IOException {
 
-        response.setStatus(HttpStatus.UNAUTHORIZED.value());
-        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-        response.setCharacterEncoding("UTF-8");
-
-        ApiResponse<String> errorResponse = ApiResponse.error(
-                HttpStatus.UNAUTHORIZED.value(),
-                "Authentication required"
-        );
-
-        String jsonResponse = objectMapper.writeValueAsString(errorResponse);
-        response.getWriter().write(jsonResponse);
-        response.getWriter().flush();
+        apiResponseWriter.writeError(request, response, FixedErrorResponse.AUTHENTICATION_REQUIRED); // 401, "Authentication required"
     }
 }
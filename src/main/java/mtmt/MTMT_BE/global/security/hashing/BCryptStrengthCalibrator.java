@@ -0,0 +1,56 @@
+package mtmt.MTMT_BE.global.security.hashing;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+// 애플리케이션 시작시 현재 서버에서 BCrypt 해싱 시간을 직접 측정해, 지연 시간 예산 안에 들어오는 가장 강한 cost(strength)를 고르는 클래스
+// BCrypt 는 strength 가 1 오를때마다 해싱 시간이 2배가 되므로, 낮은 strength 부터 올려가며 예산을 넘는 순간 멈춘다
+// 해싱은 CPU 코어 수 만큼의 스레드 풀(PasswordHashingExecutor)에서 코어당 하나씩 실행되므로, 단일 스레드 측정값이 실제 해싱 시간과 비슷하다
+@Slf4j
+public final class BCryptStrengthCalibrator {
+
+    private static final String SAMPLE_PASSWORD = "Calibration-Password-1234!";
+
+    private BCryptStrengthCalibrator() {
+    }
+
+    // minStrength 부터 maxStrength 까지 p99 해싱 시간이 budget 이하인 가장 큰 strength 를 반환
+    // minStrength 조차 예산을 넘는다면 보안을 위해 minStrength 를 그대로 사용
+    public static int calibrate(Duration budget, int minStrength, int maxStrength, int samples) {
+        int chosen = minStrength;
+
+        for (int strength = minStrength; strength <= maxStrength; strength++) {
+            long p99 = measureP99Nanos(strength, samples);
+            log.info("BCrypt strength {} p99 hashing time: {} ms", strength, p99 / 1_000_000);
+
+            if (p99 > budget.toNanos()) {
+                if (strength == minStrength)
+                    log.warn("BCrypt minimum strength {} exceeds the latency budget of {} ms", minStrength, budget.toMillis());
+                break;
+            }
+            chosen = strength;
+        }
+
+        log.info("Calibrated BCrypt strength: {} (budget {} ms)", chosen, budget.toMillis());
+        return chosen;
+    }
+
+    private static long measureP99Nanos(int strength, int samples) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        encoder.encode(SAMPLE_PASSWORD); // JIT 워밍업용 1회 실행, 측정에서 제외
+
+        long[] elapsed = new long[samples];
+        for (int i = 0; i < samples; i++) {
+            long start = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            elapsed[i] = System.nanoTime() - start;
+        }
+
+        Arrays.sort(elapsed);
+        int index = (int) Math.ceil(samples * 0.99) - 1; // 표본이 적으면 사실상 최댓값
+        return elapsed[Math.max(index, 0)];
+    }
+}
@@ -0,0 +1,114 @@
+package mtmt.MTMT_BE.global.security.hashing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import mtmt.MTMT_BE.global.exception.domain.common.TooManyRequestsException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+// 비밀번호 해싱(BCrypt) 전용 스레드 풀
+// BCrypt 는 CPU 를 많이 사용하므로 Tomcat 요청 스레드에서 실행하면, 로그인이 몰릴때 모든 요청 스레드가 해싱에 묶여 가벼운 API 까지 응답하지 못한다
+// 스레드 수는 CPU 코어 수로 제한하고, 대기열이 가득 차면 기다리지 않고 즉시 429(Retry-After)로 거절한다
+@Component
+public class PasswordHashingExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final long retryAfterSeconds;
+
+    // 일괄 등록(bulk import)이 동시에 사용할 수 있는 스레드 수, 로그인 요청이 처리될 여유를 남겨두기 위해 풀의 절반으로 제한
+    private final Semaphore bulkPermits;
+
+    private final Timer waitTimer; // 대기열에서 기다린 시간
+    private final Timer hashTimer; // 실제 해싱(작업 실행)에 걸린 시간
+    private final Counter rejected; // 대기열이 가득 차서 거절된 요청 수
+
+    public PasswordHashingExecutor(MeterRegistry meterRegistry,
+                                   @Value("${security.password-hashing.threads:0}") int threads, // 0 이면 CPU 코어 수
+                                   @Value("${security.password-hashing.queue-capacity:64}") int queueCapacity,
+                                   @Value("${security.password-hashing.retry-after-seconds:1}") long retryAfterSeconds) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.bulkPermits = new Semaphore(Math.max(1, poolSize / 2));
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), // 크기가 제한된 대기열
+                namedThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy() // 대기열이 가득 차면 RejectedExecutionException
+        );
+
+        this.waitTimer = Timer.builder("auth.hashing.wait")
+                .description("Time a password hashing task waited in the queue")
+                .register(meterRegistry);
+        this.hashTimer = Timer.builder("auth.hashing.duration")
+                .description("Time spent hashing or verifying a password")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("auth.hashing.rejected")
+                .description("Password hashing tasks rejected because the queue was full")
+                .register(meterRegistry);
+        Gauge.builder("auth.hashing.queue.depth", executor, pool -> pool.getQueue().size())
+                .description("Password hashing tasks waiting in the queue")
+                .register(meterRegistry);
+        Gauge.builder("auth.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Password hashing tasks currently running")
+                .register(meterRegistry);
+    }
+
+    // 해싱 작업을 전용 스레드 풀에 제출하고, 결과를 CompletableFuture 로 반환
+    // 대기열이 가득 찼다면 호출한 스레드에서 즉시 TooManyRequestsException 발생
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        try {
+            return execute(task);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new TooManyRequestsException("Too many authentication requests. Please retry later.", retryAfterSeconds);
+        }
+    }
+
+    // 일괄 등록용 제출 메서드, 동시에 실행중인 일괄 작업이 bulkPermits 만큼 있다면 호출한 스레드가 기다림 (backpressure)
+    // 대기열이 로그인 요청으로 가득 찼다면 거절하지 않고 호출한 스레드에서 직접 해싱함
+    public <T> CompletableFuture<T> submitBulk(Supplier<T> task) {
+        bulkPermits.acquireUninterruptibly();
+        try {
+            return execute(task).whenComplete((result, error) -> bulkPermits.release());
+        } catch (RejectedExecutionException e) {
+            bulkPermits.release();
+            CompletableFuture<T> future = new CompletableFuture<>();
+            try {
+                future.complete(hashTimer.record(task));
+            } catch (RuntimeException ex) {
+                future.completeExceptionally(ex);
+            }
+            return future;
+        }
+    }
+
+    private <T> CompletableFuture<T> execute(Supplier<T> task) {
+        long enqueuedAt = System.nanoTime();
+        return CompletableFuture.supplyAsync(() -> {
+            waitTimer.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+            return hashTimer.record(task);
+        }, executor);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    private static ThreadFactory namedThreadFactory() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
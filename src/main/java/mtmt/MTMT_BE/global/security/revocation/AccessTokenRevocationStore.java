@@ -0,0 +1,115 @@
+package mtmt.MTMT_BE.global.security.revocation;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import mtmt.MTMT_BE.global.bloom.BloomFilter;
+import mtmt.MTMT_BE.global.jwt.VerifiedToken;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.lang.NonNull;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+
+// 만료 전에 폐기(로그아웃 등)된 access token 의 jti 를 관리하는 클래스
+// 원본은 Redis 의 auth:revoked:{jti} 키(TTL = 토큰의 남은 유효기간)이고,
+// 각 노드는 pub/sub 으로 갱신되는 로컬 Bloom filter 를 가지고 있어서 "폐기되지 않은 토큰"은 Redis 조회 없이 메모리에서 판단한다
+// Bloom filter 가 "있을 수도 있다"고 답한 경우에만 Redis 에서 실제 폐기 여부를 확인
+@Slf4j
+@Component
+public class AccessTokenRevocationStore implements MessageListener {
+
+    private static final String REVOKED_KEY_PREFIX = "auth:revoked:";
+    private static final String REVOKED_CHANNEL = "auth:revoked";
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final long expectedRevocations;
+    private final double falsePositiveProbability;
+
+    // 주기적인 재구성시 새 filter 로 교체되므로 volatile
+    private volatile BloomFilter revokedTokenIds;
+    // 재구성 중에 도착한 폐기 메시지를 새 filter 에도 반영하기 위한 참조
+    private volatile BloomFilter rebuilding;
+
+    public AccessTokenRevocationStore(StringRedisTemplate redisTemplate,
+                                      RedisMessageListenerContainer listenerContainer,
+                                      @Value("${jwt.revocation.expected-revocations:100000}") long expectedRevocations,
+                                      @Value("${jwt.revocation.false-positive-probability:0.001}") double falsePositiveProbability) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.expectedRevocations = expectedRevocations;
+        this.falsePositiveProbability = falsePositiveProbability;
+        this.revokedTokenIds = BloomFilter.create(expectedRevocations, falsePositiveProbability);
+    }
+
+    @PostConstruct
+    void init() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(REVOKED_CHANNEL));
+        rebuild();
+    }
+
+    // 토큰을 남은 유효기간 동안 폐기 상태로 등록하고 모든 노드에 알림
+    public void revoke(VerifiedToken token) {
+        if (token.getTokenId() == null) return;
+
+        Duration remaining = Duration.between(Instant.now(), token.getExpiresAt());
+        if (remaining.isNegative() || remaining.isZero()) return; // 이미 만료된 토큰은 등록할 필요 없음
+
+        redisTemplate.opsForValue().set(REVOKED_KEY_PREFIX + token.getTokenId(), "1", remaining);
+        markRevoked(token.getTokenId());
+        redisTemplate.convertAndSend(REVOKED_CHANNEL, token.getTokenId());
+    }
+
+    // 폐기된 토큰인지 확인, 대부분의 요청은 Bloom filter 에서 false 로 끝나므로 Redis 를 조회하지 않음
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null || !revokedTokenIds.mightContain(tokenId)) return false;
+
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(REVOKED_KEY_PREFIX + tokenId));
+        } catch (Exception e) {
+            // Bloom filter 에 존재하는 토큰인데 Redis 를 확인할 수 없다면 안전하게 폐기된 것으로 취급
+            log.warn("Failed to check token revocation in Redis: {}", e.getMessage());
+            return true;
+        }
+    }
+
+    // 다른 노드에서 폐기된 토큰의 jti 를 로컬 filter 에 반영
+    @Override
+    public void onMessage(@NonNull Message message, byte[] pattern) {
+        markRevoked(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    // Bloom filter 는 삭제를 지원하지 않으므로, 만료된 jti 를 걸러내기 위해 Redis 의 현재 키들로 주기적으로 새로 만듦
+    // pub/sub 메시지가 유실된 경우도 이 과정에서 복구됨
+    @Scheduled(fixedDelayString = "${jwt.revocation.rebuild-interval:600000}", initialDelayString = "${jwt.revocation.rebuild-interval:600000}")
+    public void rebuild() {
+        BloomFilter next = BloomFilter.create(expectedRevocations, falsePositiveProbability);
+        rebuilding = next;
+        try (Cursor<String> keys = redisTemplate.scan(ScanOptions.scanOptions().match(REVOKED_KEY_PREFIX + "*").count(1000).build())) {
+            while (keys.hasNext()) {
+                next.put(keys.next().substring(REVOKED_KEY_PREFIX.length()));
+            }
+            revokedTokenIds = next;
+        } catch (Exception e) {
+            log.warn("Failed to rebuild revoked token filter from Redis: {}", e.getMessage());
+        } finally {
+            rebuilding = null;
+        }
+    }
+
+    private void markRevoked(String tokenId) {
+        revokedTokenIds.put(tokenId);
+        BloomFilter pending = rebuilding;
+        if (pending != null) pending.put(tokenId);
+    }
+}
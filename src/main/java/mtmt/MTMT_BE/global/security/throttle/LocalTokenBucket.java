@@ -0,0 +1,37 @@
+package mtmt.MTMT_BE.global.security.throttle;
+
+// 노드 내부에서만 사용하는 token bucket
+// capacity 만큼 토큰을 가지고 시작하며, refillPerNano 의 속도로 토큰이 다시 채워진다
+// 여러 요청 스레드가 같은 bucket 을 사용할 수 있으므로 synchronized 로 보호 (임계 구역이 짧아 경합 비용이 작음)
+class LocalTokenBucket {
+
+    private final double capacity;
+    private final double refillPerNano;
+
+    private double tokens;
+    private long lastRefillNanos;
+
+    LocalTokenBucket(long capacity, long windowNanos) {
+        this.capacity = capacity;
+        this.refillPerNano = (double) capacity / windowNanos;
+        this.tokens = capacity;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    // 토큰이 있으면 하나를 사용하고 true, 없으면 false
+    synchronized boolean tryConsume() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * refillPerNano);
+        lastRefillNanos = now;
+
+        if (tokens < 1) return false;
+        tokens -= 1;
+        return true;
+    }
+
+    // 토큰 하나가 채워질때까지 남은 시간 (초, 최소 1초)
+    synchronized long secondsUntilRefill() {
+        double missing = Math.max(0, 1 - tokens);
+        return Math.max(1, (long) Math.ceil(missing / refillPerNano / 1_000_000_000d));
+    }
+}
@@ -0,0 +1,122 @@
+package mtmt.MTMT_BE.global.security.throttle;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import mtmt.MTMT_BE.global.exception.domain.common.TooManyRequestsException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+// 로그인 시도를 IP, email 별로 제한하는 서비스 (credential stuffing 방어)
+// 인증(BCrypt 비교) 전에 호출되므로, 제한을 넘은 요청은 해싱 비용을 전혀 쓰지 않고 429 로 거절된다
+// 1단계: 노드 내부 token bucket -> 한 노드로 몰리는 폭주는 Redis 왕복 없이 바로 거절
+//        노드 하나가 받는 몫(local-share)만큼만 허용하므로 전체 제한에 닿기 전에 먼저 걸러짐
+// 2단계: Redis Lua sliding window -> 모든 노드에서 합산된 시도 횟수를 기준으로 판단 (최종 판단)
+//        Redis Cluster 에서 IP 키와 email 키의 slot 이 다를 수 있으므로 키마다 따로 확인 (IP 먼저)
+@Slf4j
+@Service
+public class LoginThrottleService {
+
+    private static final String IP_KEY_PREFIX = "auth:throttle:ip:";
+    private static final String EMAIL_KEY_PREFIX = "auth:throttle:email:";
+    private static final String MESSAGE = "Too many login attempts. Please retry later.";
+
+    // 키 하나의 sliding window 확인과 기록을 원자적으로 실행
+    private static final RedisScript<Long> SLIDING_WINDOW_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/login_sliding_window.lua"), Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final Duration window;
+    private final long ipLimit;
+    private final long emailLimit;
+    private final long localIpLimit;
+    private final long localEmailLimit;
+
+    // 키별 로컬 token bucket, 일정 시간 사용되지 않은 bucket 은 제거 (가득 찬 bucket 과 같으므로 제거해도 됨)
+    private final Cache<String, LocalTokenBucket> localBuckets;
+
+    public LoginThrottleService(StringRedisTemplate redisTemplate,
+                                MeterRegistry meterRegistry,
+                                @Value("${auth.login-throttle.enabled:true}") boolean enabled,
+                                @Value("${auth.login-throttle.window:1m}") Duration window,
+                                @Value("${auth.login-throttle.ip-limit:30}") long ipLimit,
+                                @Value("${auth.login-throttle.email-limit:10}") long emailLimit,
+                                @Value("${auth.login-throttle.local-share:0.5}") double localShare,
+                                @Value("${auth.login-throttle.local-maximum-keys:100000}") long localMaximumKeys) {
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.window = window;
+        this.ipLimit = ipLimit;
+        this.emailLimit = emailLimit;
+        this.localIpLimit = localLimit(ipLimit, localShare);
+        this.localEmailLimit = localLimit(emailLimit, localShare);
+        this.localBuckets = Caffeine.newBuilder()
+                .maximumSize(localMaximumKeys)
+                .expireAfterAccess(window)
+                .build();
+    }
+
+    // 제한을 넘었다면 TooManyRequestsException(429, Retry-After) 발생
+    public void check(String clientIp, String email) {
+        if (!enabled) return;
+
+        String ipKey = IP_KEY_PREFIX + clientIp;
+        String emailKey = EMAIL_KEY_PREFIX + email.trim().toLowerCase(Locale.ROOT);
+
+        // 1단계: 로컬 token bucket
+        consumeLocal(ipKey, localIpLimit, "ip");
+        consumeLocal(emailKey, localEmailLimit, "email");
+
+        // 2단계: Redis sliding window, IP 에서 거절되면 email 에는 기록하지 않음
+        // (한 IP 에서 여러 email 을 대입하는 공격이 피해자의 email 제한을 소진시키지 않도록)
+        // email 에서 거절된 시도는 IP 에 이미 기록되어 있지만, 실제로 들어온 시도이므로 그대로 둠
+        String attemptId = UUID.randomUUID().toString();
+        try {
+            consumeRedis(ipKey, ipLimit, attemptId);
+            consumeRedis(emailKey, emailLimit, attemptId);
+        } catch (DataAccessException e) {
+            // Redis 장애로 로그인 자체가 막히지 않도록 허용 (로컬 token bucket 은 계속 동작)
+            log.warn("Login throttle check skipped, Redis unavailable: {}", e.getMessage());
+        }
+    }
+
+    // 노드 하나가 window 당 허용하는 횟수, 최소 1
+    private static long localLimit(long limit, double localShare) {
+        return Math.max(1, (long) Math.ceil(limit * localShare));
+    }
+
+    private void consumeRedis(String key, long limit, String attemptId) {
+        Long retryAfterMillis = redisTemplate.execute(SLIDING_WINDOW_SCRIPT, List.of(key),
+                Long.toString(window.toMillis()), attemptId, Long.toString(limit));
+
+        if (retryAfterMillis != null && retryAfterMillis > 0) {
+            reject("redis");
+            throw new TooManyRequestsException(MESSAGE, Math.max(1, (retryAfterMillis + 999) / 1000));
+        }
+    }
+
+    private void consumeLocal(String key, long limit, String scope) {
+        LocalTokenBucket bucket = localBuckets.get(key, k -> new LocalTokenBucket(limit, window.toNanos()));
+        if (!bucket.tryConsume()) {
+            reject("local-" + scope);
+            throw new TooManyRequestsException(MESSAGE, bucket.secondsUntilRefill());
+        }
+    }
+
+    private void reject(String stage) {
+        meterRegistry.counter("auth.login.throttled", "stage", stage).increment();
+    }
+}
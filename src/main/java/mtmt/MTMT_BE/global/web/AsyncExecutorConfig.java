@@ -0,0 +1,20 @@
+package mtmt.MTMT_BE.global.web;
+
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+// MVC 비동기 응답(CompletableFuture 반환)과, 해싱 스레드 풀에서 돌아온 뒤의 DB / Redis 작업을 실행하는 스레드 풀
+// SchedulingConfig 의 스케줄러들도 Executor 이므로 Spring Boot 의 기본 applicationTaskExecutor 가 만들어지지 않을 수 있어 직접 생성
+// (spring.task.execution.* 설정을 그대로 사용하며, 이 이름의 빈은 Spring MVC 가 비동기 요청 처리에 사용함)
+@Configuration
+public class AsyncExecutorConfig {
+
+    public static final String IO_EXECUTOR = "applicationTaskExecutor";
+
+    @Bean(IO_EXECUTOR)
+    public ThreadPoolTaskExecutor applicationTaskExecutor(ThreadPoolTaskExecutorBuilder builder) {
+        return builder.build();
+    }
+}
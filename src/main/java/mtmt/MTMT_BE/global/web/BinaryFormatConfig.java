@@ -0,0 +1,41 @@
+package mtmt.MTMT_BE.global.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import mtmt.MTMT_BE.global.response.ApiResponseObjectMappers;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+@Configuration // application/cbor, application/x-jackson-smile content negotiation 을 위한 설정
+public class BinaryFormatConfig {
+
+    // Spring MVC 의 기본 CBOR, Smile converter 는 Spring Boot 의 Jackson 설정을 사용하지 않으므로,
+    // Spring Boot 가 설정한 Jackson2ObjectMapperBuilder (prototype Bean) 로 만든 converter 로 교체
+    // (HttpMessageConverter Bean 은 같은 타입의 기본 converter 자리에 등록됨)
+    // ObjectMapper Bean 으로 등록하면 Spring Boot 의 기본 ObjectMapper 가 만들어지지 않으므로 converter 안에만 보관
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+
+    // MVC 를 거치지 않는 응답(ApiResponseWriter)과 스트리밍 응답(StreamingApiResponseConverter)이 사용할 형식별 ObjectMapper
+    @Bean
+    public ApiResponseObjectMappers apiResponseObjectMappers(ObjectMapper objectMapper,
+                                                             MappingJackson2CborHttpMessageConverter cborHttpMessageConverter,
+                                                             MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter) {
+        return new ApiResponseObjectMappers(
+                objectMapper,
+                cborHttpMessageConverter.getObjectMapper(),
+                smileHttpMessageConverter.getObjectMapper()
+        );
+    }
+}
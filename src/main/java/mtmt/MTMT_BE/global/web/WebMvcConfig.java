@@ -0,0 +1,21 @@
+package mtmt.MTMT_BE.global.web;
+
+import lombok.RequiredArgsConstructor;
+import mtmt.MTMT_BE.domain.auth.presentation.resolver.SignUpRequestArgumentResolver;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration // Spring MVC 관련 설정 (ArgumentResolver 등록 등)을 위한 클래스
+@RequiredArgsConstructor
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final SignUpRequestArgumentResolver signUpRequestArgumentResolver;
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(signUpRequestArgumentResolver);
+    }
+}
@@ -0,0 +1,247 @@
+package mtmt.MTMT_BE.global.web.compression;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+// body 가 minSize 이상인 응답만 gzip 으로 압축하는 response wrapper
+// - 처음 minSize bytes 는 버퍼에 모아두고, 넘어서는 순간 gzip 으로 전환해서 이후 bytes 는 바로 압축해서 전송 (스트리밍 응답도 지원)
+// - 버퍼가 차기 전에 flush 되거나 응답이 끝나면 압축하지 않고 그대로 전송 (작은 응답은 압축 이득보다 비용이 큼)
+// - 압축된 응답은 bytes 가 다르므로 strong ETag 뒤에 -gzip 을 붙여 구분 (ResponseCompressionFilter 가 요청의 If-None-Match 에서 다시 제거)
+class CompressingResponseWrapper extends HttpServletResponseWrapper {
+
+    static final String GZIP_ETAG_SUFFIX = "-gzip";
+
+    private final int minSize;
+    private final List<MediaType> compressibleTypes;
+    private final boolean notModifiedWithGzipETag; // 클라이언트가 압축된 응답의 ETag 로 조건부 요청을 보냈는지
+
+    private CompressingOutputStream outputStream;
+    private PrintWriter writer;
+    private long declaredContentLength = -1; // 압축 여부가 정해지기 전에 설정된 Content-Length
+    private boolean compressed;
+
+    CompressingResponseWrapper(HttpServletResponse response, int minSize, List<MediaType> compressibleTypes, boolean notModifiedWithGzipETag) {
+        super(response);
+        this.minSize = minSize;
+        this.compressibleTypes = compressibleTypes;
+        this.notModifiedWithGzipETag = notModifiedWithGzipETag;
+    }
+
+    boolean isCompressed() {
+        return compressed;
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (writer != null) throw new IllegalStateException("getWriter() has already been called");
+        if (outputStream == null) outputStream = new CompressingOutputStream();
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (writer == null) {
+            if (outputStream != null) throw new IllegalStateException("getOutputStream() has already been called");
+            outputStream = new CompressingOutputStream();
+            writer = new PrintWriter(new OutputStreamWriter(outputStream, Charset.forName(getCharacterEncoding())));
+        }
+        return writer;
+    }
+
+    // 압축 여부가 정해지기 전의 Content-Length 는 보관만 해두고, 압축하지 않기로 정해지면 그때 설정
+    @Override
+    public void setContentLength(int len) {
+        setContentLengthLong(len);
+    }
+
+    @Override
+    public void setContentLengthLong(long len) {
+        if (isUndecided()) declaredContentLength = len;
+        else if (!compressed) super.setContentLengthLong(len);
+    }
+
+    @Override
+    public void setHeader(String name, String value) {
+        if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) setContentLengthLong(value != null ? Long.parseLong(value) : -1);
+        else super.setHeader(name, value);
+    }
+
+    @Override
+    public void addHeader(String name, String value) {
+        if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) setContentLengthLong(value != null ? Long.parseLong(value) : -1);
+        else super.addHeader(name, value);
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        if (writer != null) writer.flush();
+        else if (outputStream != null) outputStream.flush();
+        super.flushBuffer();
+    }
+
+    @Override
+    public void resetBuffer() {
+        if (outputStream != null && isUndecided()) outputStream.count = 0;
+        super.resetBuffer();
+    }
+
+    @Override
+    public void reset() {
+        resetBuffer();
+        declaredContentLength = -1;
+        super.reset();
+    }
+
+    // 응답이 끝났을때 호출, 버퍼에 남은 bytes 를 전송하고 gzip 스트림을 마무리
+    void finish() throws IOException {
+        if (getStatus() == HttpServletResponse.SC_NOT_MODIFIED && notModifiedWithGzipETag) {
+            // 304 응답의 ETag 는 클라이언트가 가진 표현(압축된 응답)의 ETag 와 같아야 함
+            alterETag();
+        }
+        if (writer != null) writer.flush();
+        if (outputStream != null) outputStream.finish();
+    }
+
+    // 요청 처리 중 예외가 발생했을때 finish 대신 호출
+    // 아직 전송되지 않았다면 압축된 bytes 와 Content-Encoding 을 버려서, 이후 컨테이너가 쓰는 오류 응답이 gzip 으로 잘못 표시되지 않도록 함
+    // (Content-Encoding 만 제거하는 API 가 없으므로 reset 한 뒤 상태 코드와 나머지 헤더를 다시 설정)
+    void discard() {
+        HttpServletResponse original = (HttpServletResponse) getResponse();
+        if (outputStream != null && outputStream.target == null) outputStream.count = 0; // 버퍼에만 있던 bytes 는 전송되지 않음
+        if (!compressed || original.isCommitted()) return;
+
+        int status = original.getStatus();
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        for (String name : original.getHeaderNames()) {
+            if (HttpHeaders.CONTENT_ENCODING.equalsIgnoreCase(name) || HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)
+                    || HttpHeaders.ETAG.equalsIgnoreCase(name)) continue; // 압축된 표현에 대한 헤더
+            headers.put(name, new ArrayList<>(original.getHeaders(name)));
+        }
+        original.reset();
+        original.setStatus(status);
+        headers.forEach((name, values) -> values.forEach(value -> original.addHeader(name, value)));
+        compressed = false;
+    }
+
+    private boolean isUndecided() {
+        return outputStream == null || outputStream.target == null;
+    }
+
+    // 1xx, 204, 304 응답은 body 가 없음
+    private boolean hasBody() {
+        int status = getStatus();
+        return status >= 200 && status != HttpServletResponse.SC_NO_CONTENT && status != HttpServletResponse.SC_NOT_MODIFIED;
+    }
+
+    // 상태 코드, Content-Type, Content-Encoding 으로 압축 대상 응답인지 확인
+    private boolean isCompressible() {
+        if (!hasBody() || getStatus() == HttpServletResponse.SC_PARTIAL_CONTENT) return false;
+        if (getHeader(HttpHeaders.CONTENT_ENCODING) != null) return false; // 이미 인코딩된 응답
+
+        String contentType = getContentType();
+        if (contentType == null) return false;
+        try {
+            MediaType mediaType = MediaType.parseMediaType(contentType);
+            return compressibleTypes.stream().anyMatch(type -> type.includes(mediaType));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private void alterETag() {
+        String etag = getHeader(HttpHeaders.ETAG);
+        if (etag != null && etag.startsWith("\"") && etag.endsWith("\"") && !etag.endsWith(GZIP_ETAG_SUFFIX + "\"")) {
+            super.setHeader(HttpHeaders.ETAG, etag.substring(0, etag.length() - 1) + GZIP_ETAG_SUFFIX + "\"");
+        }
+    }
+
+    // 처음 minSize bytes 를 버퍼링하다가 압축 여부를 정하는 output stream
+    private class CompressingOutputStream extends ServletOutputStream {
+
+        private final byte[] buffer = new byte[minSize];
+        private int count;
+        private OutputStream target; // 압축 여부가 정해진 뒤 실제로 쓰는 stream (gzip 또는 원래 output stream)
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (target == null) {
+                if (count + len <= buffer.length) { // 아직 minSize 이하라면 버퍼에 모아둠
+                    System.arraycopy(b, off, buffer, count, len);
+                    count += len;
+                    return;
+                }
+                decide(true);
+            }
+            target.write(b, off, len);
+        }
+
+        // 버퍼가 차기 전에 flush 되었다면 지금까지의 크기만으로는 압축 대상이 아니므로 그대로 전송
+        @Override
+        public void flush() throws IOException {
+            if (target == null) decide(false);
+            target.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            finish();
+        }
+
+        void finish() throws IOException {
+            if (target == null) {
+                if (declaredContentLength < 0 && hasBody()) declaredContentLength = count; // 응답 전체 크기를 알고 있으므로 Content-Length 지정
+                decide(false);
+            }
+            if (target instanceof GZIPOutputStream gzip) gzip.finish();
+            target.flush();
+        }
+
+        // minSize 를 넘었다면(largeEnough) 압축 가능한 응답인 경우 gzip 으로, 아니라면 원래 stream 으로 전송 시작
+        private void decide(boolean largeEnough) throws IOException {
+            boolean compressible = isCompressible();
+            if (compressible) addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING); // 크기와 관계없이 Accept-Encoding 에 따라 응답이 달라질 수 있음
+
+            ServletOutputStream original = CompressingResponseWrapper.super.getOutputStream();
+            if (compressible && largeEnough) {
+                compressed = true;
+                CompressingResponseWrapper.super.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+                alterETag();
+                target = new GZIPOutputStream(original, 8192, true); // syncFlush: flush 할때마다 압축된 데이터를 전송 (스트리밍 응답)
+            } else {
+                if (declaredContentLength >= 0) CompressingResponseWrapper.super.setContentLengthLong(declaredContentLength);
+                target = original;
+            }
+            target.write(buffer, 0, count);
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            throw new UnsupportedOperationException("Non-blocking writes are not supported by the compressing response");
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package mtmt.MTMT_BE.global.web.compression;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.WebUtils;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+
+// Accept-Encoding 에 gzip 이 있는 요청의 응답 중, min-size 이상인 JSON, CBOR, Smile 등의 응답을 gzip 으로 압축하는 필터
+// Tomcat 의 server.compression 대신 직접 구현한 이유
+// - Tomcat 은 strong ETag 가 있는 응답을 압축하지 않음 (압축하면 bytes 가 달라져 strong ETag 의 의미가 깨지므로)
+//   -> 여기서는 압축된 응답의 ETag 에 -gzip 을 붙여 다른 표현임을 나타내고, 요청의 If-None-Match 에서는 다시 제거해서
+//      ConditionalGetSupport 가 압축 여부와 관계없이 같은 ETag 로 비교할 수 있도록 함
+// - 스트리밍 응답(StreamingApiResponseConverter)도 flush 단위로 압축해서 전송
+// brotli 는 JDK 에 인코더가 없어 지원하지 않음 (필요하다면 앞단의 프록시에서 처리)
+@Component
+public class ResponseCompressionFilter extends OncePerRequestFilter {
+
+    private final boolean enabled;
+    private final int minSize;
+    private final List<MediaType> compressibleTypes;
+
+    private final Counter compressed;
+    private final Counter uncompressed;
+
+    public ResponseCompressionFilter(@Value("${response.compression.enabled:true}") boolean enabled,
+                                     @Value("${response.compression.min-size:1024}") int minSize,
+                                     @Value("${response.compression.mime-types:application/json,application/cbor,application/x-jackson-smile,application/x-ndjson,text/*}") List<String> mimeTypes,
+                                     MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.minSize = minSize;
+        this.compressibleTypes = mimeTypes.stream().map(MediaType::parseMediaType).toList();
+        this.compressed = Counter.builder("http.response.compression")
+                .tag("result", "compressed")
+                .description("gzip 으로 압축해서 전송한 응답 수")
+                .register(meterRegistry);
+        this.uncompressed = Counter.builder("http.response.compression")
+                .tag("result", "uncompressed")
+                .description("gzip 을 지원하는 클라이언트에게 압축하지 않고 전송한 응답 수 (작은 응답, 압축 대상이 아닌 형식)")
+                .register(meterRegistry);
+    }
+
+    // 비동기 컨트롤러의 응답은 async dispatch 에서 완성되므로 async dispatch 에서도 필터를 실행
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (isAsyncDispatch(request)) return false;
+        return !enabled || !acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        if (isAsyncDispatch(request)) {
+            CompressingResponseWrapper wrapper = WebUtils.getNativeResponse(response, CompressingResponseWrapper.class);
+            boolean completed = false;
+            try {
+                filterChain.doFilter(request, response);
+                completed = true;
+            } finally {
+                if (wrapper != null && !isAsyncStarted(request)) finish(wrapper, completed);
+            }
+            return;
+        }
+
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        boolean gzipETag = ifNoneMatch != null && ifNoneMatch.contains(CompressingResponseWrapper.GZIP_ETAG_SUFFIX + "\"");
+
+        CompressingResponseWrapper wrapper = new CompressingResponseWrapper(response, minSize, compressibleTypes, gzipETag);
+        boolean completed = false;
+        try {
+            filterChain.doFilter(gzipETag ? new GzipETagRequestWrapper(request, ifNoneMatch) : request, wrapper);
+            completed = true;
+        } finally {
+            if (!isAsyncStarted(request)) finish(wrapper, completed);
+        }
+    }
+
+    // 정상적으로 끝났다면 남은 bytes 를 전송하고 gzip 스트림을 마무리, 예외로 끝났다면 압축된 응답을 버림 (예외는 그대로 전파)
+    private void finish(CompressingResponseWrapper wrapper, boolean completed) throws IOException {
+        if (!completed) {
+            wrapper.discard();
+            return;
+        }
+        wrapper.finish();
+        (wrapper.isCompressed() ? compressed : uncompressed).increment();
+    }
+
+    // Accept-Encoding 에 gzip (또는 *) 이 q=0 이 아닌 값으로 포함되어 있는지 확인
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) return false;
+
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            String name = parts[0].trim();
+            if (!name.equalsIgnoreCase("gzip") && !name.equals("*")) continue;
+
+            boolean rejected = false;
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim();
+                if (param.startsWith("q=")) {
+                    try {
+                        rejected = Double.parseDouble(param.substring(2)) == 0;
+                    } catch (NumberFormatException e) {
+                        rejected = true;
+                    }
+                }
+            }
+            if (!rejected) return true;
+        }
+        return false;
+    }
+
+    // If-None-Match 의 ETag 들에서 압축 표현을 나타내는 -gzip 을 제거한 요청
+    private static class GzipETagRequestWrapper extends HttpServletRequestWrapper {
+
+        private final String ifNoneMatch;
+
+        GzipETagRequestWrapper(HttpServletRequest request, String ifNoneMatch) {
+            super(request);
+            this.ifNoneMatch = ifNoneMatch.replace(CompressingResponseWrapper.GZIP_ETAG_SUFFIX + "\"", "\"");
+        }
+
+        @Override
+        public String getHeader(String name) {
+            return HttpHeaders.IF_NONE_MATCH.equalsIgnoreCase(name) ? ifNoneMatch : super.getHeader(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaders(String name) {
+            return HttpHeaders.IF_NONE_MATCH.equalsIgnoreCase(name) ? Collections.enumeration(List.of(ifNoneMatch)) : super.getHeaders(name);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package mtmt.MTMT_BE.global.web.conditional;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletResponse;
+import mtmt.MTMT_BE.global.response.ApiResponseFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.NativeWebRequest;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+// 조회 API 의 조건부 GET (If-None-Match -> 304 Not Modified) 처리
+// - ETag 는 응답 body 를 해싱하지 않고 엔티티의 @Version 컬럼 값으로 만든 strong ETag
+//   (같은 버전이라도 JSON, CBOR, Smile 응답의 bytes 는 다르므로 협상된 형식도 ETag 에 포함)
+// - 클라이언트의 ETag 가 현재 버전과 같다면 엔티티 조회, 직렬화 없이 바로 304 응답 (body supplier 를 호출하지 않음)
+// - 버전 컬럼이 있는 단건 조회(멘토, 멘티 프로필)에만 적용, 목록 조회(검색, 추천 등)는 여러 행과 정렬 기준에 따라 결과가 바뀌어
+//   하나의 버전으로 표현할 수 없으므로 ETag 없이 매번 body 를 응답
+// - 304 응답 비율을 확인할 수 있도록 리소스별 hit, miss 횟수를 http.conditional.requests 메트릭으로 기록
+//
+// 사용 예: return conditionalGetSupport.respond(webRequest, "mentor", version, () -> service.getProfile(id));
+// 304 인 경우 null 을 반환하며, 컨트롤러가 null 을 그대로 반환하면 Spring MVC 는 body 를 쓰지 않음 (ApiResponseWrapper 도 호출되지 않음)
+@Component
+public class ConditionalGetSupport {
+
+    private static final String METRIC_NAME = "http.conditional.requests";
+
+    // 캐시에 저장하되, 사용할때마다 서버에 ETag 로 재검증하도록 지정
+    private static final String CACHE_CONTROL = "private, no-cache";
+
+    private final MeterRegistry meterRegistry;
+
+    // 리소스 이름 -> [hit, miss] 카운터
+    private final Map<String, Counter[]> counters = new ConcurrentHashMap<>();
+
+    public ConditionalGetSupport(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public <T> T respond(NativeWebRequest webRequest, String resource, String version, Supplier<T> body) {
+        ApiResponseFormat format = ApiResponseFormat.negotiate(webRequest.getHeader(HttpHeaders.ACCEPT));
+        String etag = "\"" + resource + "-" + version + "-" + format.name().toLowerCase() + "\"";
+
+        HttpServletResponse response = webRequest.getNativeResponse(HttpServletResponse.class);
+        if (response != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT); // 형식에 따라 ETag 가 다름
+        }
+
+        Counter[] resourceCounters = counters.computeIfAbsent(resource, this::registerCounters);
+
+        // ETag 헤더 설정 + If-None-Match 비교, 같다면 응답 상태를 304 로 설정하고 true 반환
+        if (webRequest.checkNotModified(etag)) {
+            resourceCounters[0].increment();
+            return null;
+        }
+
+        resourceCounters[1].increment();
+        return body.get();
+    }
+
+    private Counter[] registerCounters(String resource) {
+        return new Counter[]{
+                Counter.builder(METRIC_NAME).tag("resource", resource).tag("result", "hit")
+                        .description("304 Not Modified 로 응답한 조건부 GET 수").register(meterRegistry),
+                Counter.builder(METRIC_NAME).tag("resource", resource).tag("result", "miss")
+                        .description("body 를 새로 만들어 응답한 GET 수").register(meterRegistry)
+        };
+    }
+}
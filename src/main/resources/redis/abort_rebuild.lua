@@ -0,0 +1,10 @@
+-- 실패한 재구성의 키를 정리하고 lock 을 해제, 다른 노드가 잡은 lock 과 그 노드가 채우는 중인 키는 지우지 않음
+-- KEYS[1]: 재구성 lock
+-- KEYS[2 ~]: 정리할 재구성 키
+-- ARGV[1]: lock 을 잡을때 사용한 token
+-- 반환값: 1 = 정리, 0 = 자신의 lock 이 아님
+if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+    return 0
+end
+redis.call('DEL', unpack(KEYS))
+return 1
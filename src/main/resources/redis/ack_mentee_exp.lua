@@ -0,0 +1,24 @@
+-- mentee_tbl 에 반영된 지급 기록을 stream 에서 지우고, 반영 대기 중인 경험치에서 빼는 스크립트
+-- 두 작업을 한번에 실행해서, 지급 스크립트가 보는 pending 값이 DB 에 반영된 값과 겹치지 않도록 함
+-- 반영한 범위의 마지막 기록 id 까지 stream 에 남아있는 기록만 빼므로, 같은 범위로 다시 호출해도 두번 빼지 않음
+-- KEYS[1]: 지급 기록 stream
+-- KEYS[2]: 멘티 id -> 반영 대기 중인 경험치 hash
+-- ARGV[1]: 반영한 마지막 기록 id
+-- 반환값: 지운 기록의 수
+local records = redis.call('XRANGE', KEYS[1], '-', ARGV[1])
+for _, record in ipairs(records) do
+    local fields = record[2]
+    local mentee, exp
+    for i = 1, #fields, 2 do
+        if fields[i] == 'mentee' then
+            mentee = fields[i + 1]
+        elseif fields[i] == 'exp' then
+            exp = fields[i + 1]
+        end
+    end
+    if redis.call('HINCRBY', KEYS[2], mentee, -tonumber(exp)) <= 0 then
+        redis.call('HDEL', KEYS[2], mentee)
+    end
+    redis.call('XDEL', KEYS[1], record[1])
+end
+return #records
@@ -0,0 +1,35 @@
+-- 멘티에게 경험치를 지급하는 스크립트 (mentee_tbl 은 주기적인 flush 에서 갱신)
+-- 지급 기록(stream)과 아직 반영되지 않은 합계(pending hash)를 함께 남기므로, flush 전에 노드가 죽어도 지급이 유실되지 않음
+-- 레벨업을 바로 알려주기 위해 멘티의 현재 경험치(DB 값 + 반영 대기 중인 값)를 KEYS[1] 에 캐시
+-- 캐시가 없으면 DB 값(ARGV[5])이 필요하므로 -1 을 반환, 호출한 쪽에서 DB 를 조회하고 다시 호출
+-- DB 를 조회하는 사이에 flush 가 진행되었다면(lock 존재 또는 generation 변경) DB 값과 pending 이 겹치거나 빠질 수 있으므로 다시 -1
+-- KEYS[1]: 멘티의 현재 경험치 캐시
+-- KEYS[2]: 멘티 id -> 반영 대기 중인 경험치 hash
+-- KEYS[3]: 지급 기록 stream
+-- KEYS[4]: flush lock
+-- KEYS[5]: flush generation (flush 를 시작할때마다 증가)
+-- ARGV[1]: 멘티 id
+-- ARGV[2]: 지급할 경험치
+-- ARGV[3]: 지급 사유
+-- ARGV[4]: 캐시 TTL (초)
+-- ARGV[5]: DB 의 경험치 (모르면 빈 문자열)
+-- ARGV[6]: DB 를 조회하기 전에 읽은 generation (모르면 빈 문자열)
+-- ARGV[7]: 'force' 라면 캐시 없이 지급만 기록
+-- 반환값: 지급 후 경험치, -1 = 캐시가 없어 지급하지 않음, -2 = 캐시 없이 지급만 기록함
+local total = redis.call('GET', KEYS[1])
+if not total then
+    if ARGV[7] == 'force' then
+        redis.call('HINCRBY', KEYS[2], ARGV[1], ARGV[2])
+        redis.call('XADD', KEYS[3], '*', 'mentee', ARGV[1], 'exp', ARGV[2], 'reason', ARGV[3])
+        return -2
+    end
+    if ARGV[5] == '' or redis.call('EXISTS', KEYS[4]) == 1 or (redis.call('GET', KEYS[5]) or '0') ~= ARGV[6] then
+        return -1
+    end
+    redis.call('SET', KEYS[1], tonumber(ARGV[5]) + tonumber(redis.call('HGET', KEYS[2], ARGV[1]) or '0'))
+end
+local updated = redis.call('INCRBY', KEYS[1], ARGV[2])
+redis.call('EXPIRE', KEYS[1], ARGV[4])
+redis.call('HINCRBY', KEYS[2], ARGV[1], ARGV[2])
+redis.call('XADD', KEYS[3], '*', 'mentee', ARGV[1], 'exp', ARGV[2], 'reason', ARGV[3])
+return updated
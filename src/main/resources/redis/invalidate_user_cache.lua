@@ -0,0 +1,10 @@
+-- 사용자 캐시(L2)를 무효화하는 스크립트
+-- 값을 지우기만 하면 무효화 전에 DB 를 조회한 요청이 이전 값을 다시 채울 수 있으므로, generation 을 함께 증가시킴 (put_user_cache.lua 참고)
+-- KEYS[1]: 직렬화된 CachedUser
+-- KEYS[2]: 사용자의 generation
+-- ARGV[1]: generation 의 TTL (초), DB 조회 한번보다 충분히 길면 됨
+-- 반환값: 증가한 generation
+local generation = redis.call('INCR', KEYS[2])
+redis.call('EXPIRE', KEYS[2], tonumber(ARGV[1]))
+redis.call('DEL', KEYS[1])
+return generation
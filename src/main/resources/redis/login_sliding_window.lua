@@ -0,0 +1,21 @@
+-- 로그인 시도를 키 하나(IP 또는 email)에 대해 sliding window 로 제한하는 스크립트
+-- 제한 안에 있을때만 이번 시도를 기록한다 (초과하면 기록하지 않음)
+-- 키마다 slot 이 다를 수 있으므로 (Redis Cluster) 여러 키를 한번에 받지 않고 키마다 따로 호출한다
+-- KEYS[1]: 제한 대상의 ZSET 키 (score = 시도 시각 ms)
+-- ARGV[1]: window 길이 (ms)
+-- ARGV[2]: 이번 시도를 구분하는 member
+-- ARGV[3]: window 당 허용 횟수
+-- 반환값: 0 = 허용, 양수 = 다시 시도할 수 있을때까지 남은 시간 (ms)
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+local window = tonumber(ARGV[1])
+
+redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', now - window)
+if redis.call('ZCARD', KEYS[1]) >= tonumber(ARGV[3]) then
+    local oldest = redis.call('ZRANGE', KEYS[1], 0, 0, 'WITHSCORES')
+    return math.max(tonumber(oldest[2]) + window - now, 1)
+end
+
+redis.call('ZADD', KEYS[1], now, ARGV[2])
+redis.call('PEXPIRE', KEYS[1], window)
+return 0
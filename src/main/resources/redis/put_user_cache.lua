@@ -0,0 +1,14 @@
+-- 사용자 캐시(L2)를 DB 에서 읽은 값으로 채우는 스크립트
+-- DB 를 조회하는 사이에 사용자가 변경되어 무효화되었다면(generation 증가) 이전 값을 다시 채우지 않도록, generation 이 그대로일때만 저장
+-- KEYS[1]: 직렬화된 CachedUser
+-- KEYS[2]: 사용자의 generation (무효화할때마다 증가)
+-- ARGV[1]: DB 를 조회하기 전에 읽은 generation (키가 없었다면 "0")
+-- ARGV[2]: 직렬화된 CachedUser
+-- ARGV[3]: TTL (초)
+-- 반환값: 1 = 저장, 0 = 그 사이에 무효화되어 저장하지 않음
+local current = redis.call('GET', KEYS[2]) or '0'
+if current ~= ARGV[1] then
+    return 0
+end
+redis.call('SET', KEYS[1], ARGV[2], 'EX', tonumber(ARGV[3]))
+return 1
@@ -0,0 +1,95 @@
+-- 사용자의 refresh token 을 저장, 교체(rotation), 삭제하는 스크립트
+-- 저장 형식: 사용자당 키 하나, 값은 토큰 패밀리(로그인한 기기)마다 "{family}:{SHA-256(token)}:{만료 epoch 초}" 를 ',' 로 이은 문자열
+-- family 가 없는 "{SHA-256(token)}:{만료 epoch 초}" 는 토큰 패밀리 이전의 구조로 저장된 토큰이며 legacy 패밀리로 읽음
+-- 쓸때마다 만료된 패밀리를 지우고, 남은 패밀리가 있으면 가장 늦게 만료되는 패밀리에 맞춰 SET EX 한번, 없으면 DEL
+-- KEYS[1]: 사용자의 refresh token 키
+-- ARGV[1]: 동작 ("save", "save-nx", "rotate", "remove")
+-- ARGV[2]: 현재 epoch 초
+-- ARGV[3]: 사용자당 최대 패밀리 수, 넘으면 가장 먼저 만료되는 패밀리부터 버림
+-- ARGV[4]: 패밀리 id (save, save-nx, remove 는 저장하거나 삭제할 패밀리, rotate 는 제시된 토큰의 패밀리)
+-- save, save-nx: ARGV[5] = 토큰의 SHA-256, ARGV[6] = 만료 epoch 초
+-- rotate:        ARGV[5] = 제시된 토큰의 SHA-256, ARGV[6] = 새 토큰의 패밀리 id, ARGV[7] = 새 토큰의 SHA-256, ARGV[8] = 새 토큰의 만료 epoch 초
+-- 반환값
+-- save:    1
+-- save-nx: 1 = 저장, 0 = 같은 패밀리의 토큰이 이미 있어 저장하지 않음
+-- remove:  1 = 삭제, 0 = 저장된 토큰 없음
+-- rotate:  1 = 교체 성공, 0 = 저장된 토큰 없음(로그아웃, 만료 등), -1 = 이미 교체된 토큰 재사용 감지(사용자의 모든 토큰 패밀리 폐기)
+local now = tonumber(ARGV[2])
+local entries = {}
+
+local current = redis.call('GET', KEYS[1])
+if current then
+    for entry in string.gmatch(current, '[^,]+') do
+        local family, digest, exp = string.match(entry, '^([^:]+):([^:]+):(%d+)$')
+        if not family then
+            family = 'legacy'
+            digest, exp = string.match(entry, '^([^:]+):(%d+)$')
+        end
+        if digest and tonumber(exp) > now then
+            entries[#entries + 1] = { family, digest, tonumber(exp) }
+        end
+    end
+end
+
+local function find(family)
+    for i, entry in ipairs(entries) do
+        if entry[1] == family then
+            return i
+        end
+    end
+    return nil
+end
+
+local function write()
+    if #entries == 0 then
+        redis.call('DEL', KEYS[1])
+        return
+    end
+    table.sort(entries, function(a, b) return a[3] > b[3] end)
+    local values = {}
+    for i = 1, math.min(#entries, tonumber(ARGV[3])) do
+        values[i] = entries[i][1] .. ':' .. entries[i][2] .. ':' .. string.format('%d', entries[i][3])
+    end
+    redis.call('SET', KEYS[1], table.concat(values, ','), 'EX', entries[1][3] - now)
+end
+
+local operation = ARGV[1]
+local index = find(ARGV[4])
+
+if operation == 'save' or operation == 'save-nx' then
+    if index then
+        if operation == 'save-nx' then
+            return 0
+        end
+        table.remove(entries, index)
+    end
+    entries[#entries + 1] = { ARGV[4], ARGV[5], tonumber(ARGV[6]) }
+    write()
+    return 1
+end
+
+if operation == 'remove' then
+    if not index then
+        return 0
+    end
+    table.remove(entries, index)
+    write()
+    return 1
+end
+
+-- rotate
+if not index then
+    return 0
+end
+if entries[index][2] ~= ARGV[5] then
+    redis.call('DEL', KEYS[1])
+    return -1
+end
+table.remove(entries, index)
+local replaced = find(ARGV[6])
+if replaced then
+    table.remove(entries, replaced)
+end
+entries[#entries + 1] = { ARGV[6], ARGV[7], tonumber(ARGV[8]) }
+write()
+return 1
@@ -0,0 +1,9 @@
+-- flush lock 해제, lock 이 만료된 뒤 다른 노드가 잡은 lock 을 지우지 않도록 자신의 token 일때만 삭제
+-- 멘티 경험치(MenteeExpStore), 멘토 rating(MentorRatingStore)의 flush lock 에서 함께 사용
+-- KEYS[1]: flush lock
+-- ARGV[1]: lock 을 잡을때 사용한 token
+-- 반환값: 1 = 해제, 0 = 자신의 lock 이 아님
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    return redis.call('DEL', KEYS[1])
+end
+return 0
@@ -0,0 +1,9 @@
+-- 재구성 lock 의 TTL 연장, 재구성이 오래 걸려도 lock 이 만료되어 다른 노드가 동시에 재구성하지 않도록 chunk 마다 호출
+-- KEYS[1]: 재구성 lock
+-- ARGV[1]: lock 을 잡을때 사용한 token
+-- ARGV[2]: 새 TTL (밀리초)
+-- 반환값: 1 = 연장, 0 = 자신의 lock 이 아님 (이미 만료되어 다른 노드가 잡았을 수 있으므로 재구성을 중단해야 함)
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    return redis.call('PEXPIRE', KEYS[1], tonumber(ARGV[2]))
+end
+return 0
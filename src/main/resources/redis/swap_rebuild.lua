@@ -0,0 +1,21 @@
+-- 재구성한 키들을 실제 키로 한번에 교체하는 스크립트 (리더보드, 추천 후보에서 함께 사용)
+-- 조회 중인 클라이언트가 절반만 교체된 상태를 보지 않도록 모든 키를 하나의 스크립트에서 교체
+-- lock 이 만료되어 다른 노드가 재구성을 시작했다면, 그 노드가 채우는 중인 키를 교체하지 않도록 아무것도 하지 않음
+-- KEYS[1]: 재구성 lock
+-- KEYS[2]: 재구성 중 변경된 멘토 id set
+-- KEYS[3 ~]: (재구성 키, 실제 키) 쌍의 목록, 재구성 키가 없으면 (멘토가 없는 set) 실제 키를 삭제
+-- ARGV[1]: lock 을 잡을때 사용한 token
+-- 반환값: 재구성 중 변경된 멘토 id 목록 (호출한 쪽에서 다시 반영), 자신의 lock 이 아니면 nil
+if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+    return false
+end
+for i = 3, #KEYS, 2 do
+    if redis.call('EXISTS', KEYS[i]) == 1 then
+        redis.call('RENAME', KEYS[i], KEYS[i + 1])
+    else
+        redis.call('DEL', KEYS[i + 1])
+    end
+end
+local dirty = redis.call('SMEMBERS', KEYS[2])
+redis.call('DEL', KEYS[1], KEYS[2])
+return dirty
@@ -0,0 +1,7 @@
+-- 반영이 끝난 기록을 stream 에서 지우는 스크립트 (멘토 rating 의 MentorRatingStore)
+-- 기록 id 는 XADD 가 증가하는 순서로 붙이므로, 반영한 마지막 기록의 다음 id 보다 작은 기록을 MINID 로 한번에 지움
+-- 명령 하나로 지우므로 도중에 중단되어 범위의 일부만 지워지는 일이 없음 (Redis 6.2 이상)
+-- KEYS[1]: 기록 stream
+-- ARGV[1]: 남길 가장 작은 기록 id (반영한 마지막 기록 id 의 다음 id)
+-- 반환값: 지운 기록의 수
+return redis.call('XTRIM', KEYS[1], 'MINID', ARGV[1])
@@ -0,0 +1,24 @@
+-- 멘토 한명의 추천 후보 sorted set 위치를 원자적으로 갱신하는 스크립트
+-- 멘토는 (전공, 지역) 별 sorted set 하나에만 속하므로, 이전에 속한 set 을 hash 에 기록해두고 옮길때 제거함
+-- 재구성 중이라면(KEYS[2] 존재) 재구성 결과에 더 오래된 값이 들어갔을 수 있으므로 멘토 id 를 dirty set 에 기록
+-- KEYS[1]: 멘토 id -> 현재 속한 sorted set 키를 저장하는 hash
+-- KEYS[2]: 재구성 lock
+-- KEYS[3]: 재구성 중 변경된 멘토 id set
+-- KEYS[4]: 새로 속할 sorted set 키 (멘토가 삭제된 경우 생략)
+-- ARGV[1]: 멘토 id
+-- ARGV[2]: 기본 점수 (KEYS[4] 가 있을때만 사용)
+-- 반환값: 1 = 추가 또는 갱신, 0 = 제거
+if redis.call('EXISTS', KEYS[2]) == 1 then
+    redis.call('SADD', KEYS[3], ARGV[1])
+end
+local previous = redis.call('HGET', KEYS[1], ARGV[1])
+if previous and previous ~= KEYS[4] then
+    redis.call('ZREM', previous, ARGV[1])
+end
+if #KEYS < 4 then
+    redis.call('HDEL', KEYS[1], ARGV[1])
+    return 0
+end
+redis.call('ZADD', KEYS[4], ARGV[2], ARGV[1])
+redis.call('HSET', KEYS[1], ARGV[1], KEYS[4])
+return 1
@@ -0,0 +1,27 @@
+-- 멘토 한명의 rating 을 전체, 분야별 리더보드에 원자적으로 반영하는 스크립트
+-- 멘토는 전공 분야의 리더보드 하나에만 속하므로, 현재 속한 분야 리더보드를 hash 에 기록해두고 전공이 바뀌면 옮김
+-- 재구성 중이라면(KEYS[3] 존재) 재구성 결과에 빠졌을 수 있으므로 멘토 id 를 dirty set 에 기록
+-- KEYS[1]: 전체 리더보드 sorted set
+-- KEYS[2]: 멘토 id -> 현재 속한 분야 리더보드 키를 저장하는 hash
+-- KEYS[3]: 재구성 lock
+-- KEYS[4]: 재구성 중 변경된 멘토 id set
+-- KEYS[5]: 새로 속할 분야 리더보드 sorted set (멘토가 삭제된 경우 생략)
+-- ARGV[1]: 멘토 id
+-- ARGV[2]: rating (KEYS[5] 가 있을때만 사용)
+-- 반환값: 1 = 추가 또는 갱신, 0 = 제거
+if redis.call('EXISTS', KEYS[3]) == 1 then
+    redis.call('SADD', KEYS[4], ARGV[1])
+end
+local previous = redis.call('HGET', KEYS[2], ARGV[1])
+if previous and previous ~= KEYS[5] then
+    redis.call('ZREM', previous, ARGV[1])
+end
+if #KEYS < 5 then
+    redis.call('ZREM', KEYS[1], ARGV[1])
+    redis.call('HDEL', KEYS[2], ARGV[1])
+    return 0
+end
+redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1])
+redis.call('ZADD', KEYS[5], ARGV[2], ARGV[1])
+redis.call('HSET', KEYS[2], ARGV[1], KEYS[5])
+return 1
@@ -0,0 +1,132 @@
+package mtmt.MTMT_BE.domain.mentee.application.exp;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import mtmt.MTMT_BE.domain.mentee.domain.entity.Mentee;
+import mtmt.MTMT_BE.domain.mentee.domain.repository.MenteeExpStore;
+import mtmt.MTMT_BE.domain.mentee.domain.repository.MenteeExpStore.ExpRecord;
+import mtmt.MTMT_BE.domain.mentee.domain.repository.MenteeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static mtmt.MTMT_BE.support.MemberFixtures.mentee;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 경험치 지급 기록을 mentee_tbl 에 반영하는 flush 테스트 (H2 메모리 DB, Redis 저장소는 mock)
+// 멘티별로 합친 경험치와 레벨의 갱신(버전 증가), 이미 반영된 묶음을 확인
+@DataJpaTest
+@ActiveProfiles("h2")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MenteeExpFlusherTest {
+
+	private static final AtomicInteger sequence = new AtomicInteger();
+
+	@Autowired
+	private MenteeRepository menteeRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	private final MenteeExpStore menteeExpStore = mock(MenteeExpStore.class);
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private MenteeExpFlusher menteeExpFlusher;
+
+	@BeforeEach
+	void setUp() {
+		menteeExpFlusher = new MenteeExpFlusher(menteeExpStore, menteeRepository, jdbcTemplate, transactionTemplate, meterRegistry,
+				500, Duration.ofSeconds(30), Duration.ofDays(7));
+		when(menteeExpStore.tryLockFlush(any(), any())).thenReturn(true);
+	}
+
+	@Test
+	void flushAddsSummedExpAndUpdatesChangedLevels() {
+		Long leveling = saveMentee(90).getId();
+		Long staying = saveMentee(0).getId();
+		long levelingVersion = version(leveling);
+		long stayingVersion = version(staying);
+		List<ExpRecord> records = List.of(
+				new ExpRecord(nextRecordId(0), leveling, 20),
+				new ExpRecord(nextRecordId(1), staying, 1),
+				new ExpRecord(nextRecordId(2), leveling, 50));
+		when(menteeExpStore.findOldest(anyInt())).thenReturn(records);
+
+		menteeExpFlusher.flush();
+
+		// 90 + 20 + 50 = 160, 레벨 1 -> 2 (경험치, 레벨 UPDATE 마다 버전 증가)
+		assertThat(exp(leveling)).isEqualTo(160);
+		assertThat(level(leveling)).isEqualTo(2);
+		assertThat(version(leveling)).isEqualTo(levelingVersion + 2);
+		// 레벨이 바뀌지 않은 멘티는 경험치만 갱신
+		assertThat(exp(staying)).isEqualTo(1);
+		assertThat(level(staying)).isEqualTo(1);
+		assertThat(version(staying)).isEqualTo(stayingVersion + 1);
+
+		assertThat(flushedUntil(records.get(0).recordId())).isEqualTo(records.get(2).recordId());
+		assertThat(meterRegistry.counter("mentee.exp.flushed").count()).isEqualTo(3);
+		verify(menteeExpStore).acknowledgeUntil(records.get(2).recordId());
+	}
+
+	@Test
+	void alreadyFlushedRangeIsOnlyAcknowledged() {
+		Long menteeId = saveMentee(0).getId();
+		long version = version(menteeId);
+		String first = nextRecordId(0);
+		List<ExpRecord> records = List.of(new ExpRecord(first, menteeId, 50), new ExpRecord(nextRecordId(1), menteeId, 50));
+		// 이전 flush 가 더 큰 batch 크기로 이번에 읽은 기록 이후까지 반영한 뒤 stream 에서 지우기 전에 중단된 상태
+		String appliedUntil = first.substring(0, first.indexOf('-')) + "-9";
+		jdbcTemplate.update("INSERT INTO mentee_exp_flush_tbl (first_record_id, last_record_id, flushed_at) VALUES (?, ?, CURRENT_TIMESTAMP)",
+				first, appliedUntil);
+		when(menteeExpStore.findOldest(anyInt())).thenReturn(records);
+
+		menteeExpFlusher.flush();
+
+		assertThat(exp(menteeId)).isZero();
+		assertThat(version(menteeId)).isEqualTo(version);
+		assertThat(meterRegistry.counter("mentee.exp.flushed").count()).isZero();
+		verify(menteeExpStore).acknowledgeUntil(appliedUntil);
+	}
+
+	// 테스트마다 겹치지 않는 stream 기록 id
+	private static String nextRecordId(int sequenceNumber) {
+		return "2000" + sequence.incrementAndGet() + "-" + sequenceNumber;
+	}
+
+	private String flushedUntil(String firstRecordId) {
+		return jdbcTemplate.queryForObject("SELECT last_record_id FROM mentee_exp_flush_tbl WHERE first_record_id = ?", String.class, firstRecordId);
+	}
+
+	private int exp(Long menteeId) {
+		return jdbcTemplate.queryForObject("SELECT exp FROM mentee_tbl WHERE id = ?", Integer.class, menteeId);
+	}
+
+	private int level(Long menteeId) {
+		return jdbcTemplate.queryForObject("SELECT level FROM mentee_tbl WHERE id = ?", Integer.class, menteeId);
+	}
+
+	private long version(Long menteeId) {
+		return jdbcTemplate.queryForObject("SELECT version FROM mentee_tbl WHERE id = ?", Long.class, menteeId);
+	}
+
+	private Mentee saveMentee(int exp) {
+		return menteeRepository.save(mentee(exp).build());
+	}
+}
@@ -0,0 +1,88 @@
+package mtmt.MTMT_BE.domain.mentee.application.exp;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import mtmt.MTMT_BE.domain.mentee.application.dto.exp.MenteeExpGrant;
+import mtmt.MTMT_BE.domain.mentee.domain.event.MenteeLeveledUpEvent;
+import mtmt.MTMT_BE.domain.mentee.domain.repository.MenteeExpStore;
+import mtmt.MTMT_BE.domain.mentee.domain.repository.MenteeRepository;
+import mtmt.MTMT_BE.domain.mentee.domain.type.ExpReason;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 지급 시점의 레벨업 판단 테스트 (Redis 저장소는 mock)
+// 저장소는 지급 스크립트(grant_mentee_exp.lua)의 반환값 규칙대로 지급 후 경험치, NOT_CACHED, UNTRACKED 를 반환
+class MenteeExpServiceTest {
+
+	private static final Long MENTEE_ID = 1L;
+	private static final Duration TOTAL_TTL = Duration.ofDays(1);
+
+	private final MenteeExpStore menteeExpStore = mock(MenteeExpStore.class);
+	private final MenteeRepository menteeRepository = mock(MenteeRepository.class);
+	private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private final MenteeExpService menteeExpService =
+			new MenteeExpService(menteeExpStore, menteeRepository, eventPublisher, meterRegistry, TOTAL_TTL);
+
+	@Test
+	void grantCrossingALevelPublishesLevelUp() {
+		// 캐시된 경험치 90 에 후기 작성(20)을 지급
+		when(menteeExpStore.grant(MENTEE_ID, ExpReason.REVIEW_WRITTEN, TOTAL_TTL)).thenReturn(110L);
+
+		MenteeExpGrant grant = menteeExpService.grant(MENTEE_ID, ExpReason.REVIEW_WRITTEN);
+
+		assertThat(grant).isEqualTo(new MenteeExpGrant(MENTEE_ID, 20, 110, 2, true));
+		verify(eventPublisher).publishEvent(new MenteeLeveledUpEvent(MENTEE_ID, 1, 2));
+		assertThat(meterRegistry.counter("mentee.exp.level-ups").count()).isEqualTo(1);
+	}
+
+	@Test
+	void grantWithinALevelPublishesNothing() {
+		when(menteeExpStore.grant(MENTEE_ID, ExpReason.REVIEW_WRITTEN, TOTAL_TTL)).thenReturn(60L);
+
+		MenteeExpGrant grant = menteeExpService.grant(MENTEE_ID, ExpReason.REVIEW_WRITTEN);
+
+		assertThat(grant).isEqualTo(new MenteeExpGrant(MENTEE_ID, 20, 60, 1, false));
+		verify(eventPublisher, never()).publishEvent(any(Object.class));
+	}
+
+	@Test
+	void missingCacheIsFilledFromTheDatabaseBeforeDetectingLevelUp() {
+		when(menteeExpStore.grant(MENTEE_ID, ExpReason.MENTORING_COMPLETED, TOTAL_TTL)).thenReturn(MenteeExpStore.NOT_CACHED);
+		when(menteeExpStore.generation()).thenReturn("7");
+		when(menteeRepository.findExpById(MENTEE_ID)).thenReturn(Optional.of(180));
+		// DB 의 180 으로 캐시를 채운 뒤 멘토링 완료(50)를 지급
+		when(menteeExpStore.grant(MENTEE_ID, ExpReason.MENTORING_COMPLETED, TOTAL_TTL, 180, "7")).thenReturn(230L);
+
+		MenteeExpGrant grant = menteeExpService.grant(MENTEE_ID, ExpReason.MENTORING_COMPLETED);
+
+		assertThat(grant).isEqualTo(new MenteeExpGrant(MENTEE_ID, 50, 230, 3, true));
+		verify(eventPublisher).publishEvent(new MenteeLeveledUpEvent(MENTEE_ID, 2, 3));
+	}
+
+	@Test
+	void grantThatKeepsOverlappingFlushesIsRecordedWithoutLevelCheck() {
+		// 캐시를 채우는 사이에 flush 가 계속 끼어들어 매번 NOT_CACHED
+		when(menteeExpStore.grant(MENTEE_ID, ExpReason.REVIEW_WRITTEN, TOTAL_TTL)).thenReturn(MenteeExpStore.NOT_CACHED);
+		when(menteeExpStore.generation()).thenReturn("7");
+		when(menteeRepository.findExpById(MENTEE_ID)).thenReturn(Optional.of(95));
+		when(menteeExpStore.grant(MENTEE_ID, ExpReason.REVIEW_WRITTEN, TOTAL_TTL, 95, "7")).thenReturn(MenteeExpStore.NOT_CACHED);
+		when(menteeExpStore.grantUntracked(MENTEE_ID, ExpReason.REVIEW_WRITTEN, TOTAL_TTL)).thenReturn(MenteeExpStore.UNTRACKED);
+
+		MenteeExpGrant grant = menteeExpService.grant(MENTEE_ID, ExpReason.REVIEW_WRITTEN);
+
+		assertThat(grant).isEqualTo(new MenteeExpGrant(MENTEE_ID, 20, null, null, false));
+		verify(eventPublisher, never()).publishEvent(any(Object.class));
+		assertThat(meterRegistry.counter("mentee.exp.untracked").count()).isEqualTo(1);
+	}
+}
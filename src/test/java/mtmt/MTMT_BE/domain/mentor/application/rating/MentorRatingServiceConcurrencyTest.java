@@ -0,0 +1,201 @@
+package mtmt.MTMT_BE.domain.mentor.application.rating;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import mtmt.MTMT_BE.domain.mentor.domain.entity.Mentor;
+import mtmt.MTMT_BE.domain.mentor.domain.repository.MentorRatingStore;
+import mtmt.MTMT_BE.domain.mentor.domain.repository.MentorRatingStore.ReviewRecord;
+import mtmt.MTMT_BE.domain.mentor.domain.repository.MentorRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static mtmt.MTMT_BE.support.MemberFixtures.mentor;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+// 여러 노드(서비스 인스턴스)에서 후기 기록(recordReview)과 flush 가 동시에 일어나는 경로의 stress 테스트 (H2 메모리 DB)
+// 노드들은 Redis 대신 메모리의 stream, flush lock 을 공유하고, 다른 곳에서 같은 mentor_tbl 행을 갱신해서 버전 충돌도 일으킴
+// 노드마다 batch 크기가 다르고 커밋 이후 stream 에서 지우기가 가끔 실패하므로, 이미 반영된 범위를 다른 batch 크기로 다시 읽는 경우도 포함됨
+// 기준 rating 을 아주 낮게 두면 기대 점수가 정확히 1 이 되어 1점 후기 하나가 rating 을 정확히 K(1) 만큼 낮추므로,
+// 기록과 flush 의 순서, 묶음 경계와 무관하게 후기가 유실되거나 두번 반영되지 않았는지 rating 으로 확인할 수 있음
+@DataJpaTest
+@ActiveProfiles("h2")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MentorRatingServiceConcurrencyTest {
+
+	private static final int MENTORS = 4;
+	private static final int NODES = 3;
+	private static final int RECORDING_THREADS = 8;
+	private static final int REVIEWS_PER_THREAD = 250;
+	private static final int EXTERNAL_UPDATES = 100;
+	private static final int INITIAL_RATING = 1000;
+	private static final int[] FLUSH_BATCH_SIZES = {20, 50, 80}; // 노드마다
+	private static final double ACK_FAILURE_RATE = 0.1;
+
+	@Autowired
+	private MentorRepository mentorRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	private final InMemoryRatingStore store = new InMemoryRatingStore();
+
+	@Test
+	void noReviewIsLostOrAppliedTwiceAcrossConcurrentRecordsAndFlushes() throws Exception {
+		List<Long> mentorIds = new ArrayList<>();
+		for (int i = 0; i < MENTORS; i++) mentorIds.add(saveMentor().getId());
+		List<MentorRatingService> nodes = new ArrayList<>();
+		for (int i = 0; i < NODES; i++) nodes.add(newNode(FLUSH_BATCH_SIZES[i]));
+
+		ExecutorService executor = Executors.newFixedThreadPool(RECORDING_THREADS + NODES + 1);
+		CountDownLatch start = new CountDownLatch(1);
+		AtomicBoolean recording = new AtomicBoolean(true);
+		AtomicLongArray reviews = new AtomicLongArray(MENTORS);
+		AtomicLongArray externalUpdates = new AtomicLongArray(MENTORS);
+
+		// 아무 노드에서나 후기를 기록하는 스레드들
+		List<Future<?>> recorders = new ArrayList<>();
+		for (int t = 0; t < RECORDING_THREADS; t++) {
+			recorders.add(executor.submit(() -> {
+				start.await();
+				for (int i = 0; i < REVIEWS_PER_THREAD; i++) {
+					int mentor = ThreadLocalRandom.current().nextInt(MENTORS);
+					nodes.get(ThreadLocalRandom.current().nextInt(NODES)).recordReview(mentorIds.get(mentor), 1);
+					reviews.incrementAndGet(mentor);
+				}
+				return null;
+			}));
+		}
+
+		// 노드마다 flush 를 계속 호출, flush lock 을 잡은 노드만 반영함
+		List<Future<?>> flushers = new ArrayList<>();
+		for (MentorRatingService node : nodes) {
+			flushers.add(executor.submit(() -> {
+				start.await();
+				while (recording.get()) node.flush();
+				return null;
+			}));
+		}
+
+		// 다른 곳에서 같은 행을 먼저 갱신해서 버전 충돌을 일으키는 스레드
+		Future<?> otherWriter = executor.submit(() -> {
+			start.await();
+			for (int i = 0; i < EXTERNAL_UPDATES && recording.get(); i++) {
+				int mentor = ThreadLocalRandom.current().nextInt(MENTORS);
+				jdbcTemplate.update("UPDATE mentor_tbl SET rating = rating - 1, version = version + 1 WHERE id = ?", mentorIds.get(mentor));
+				externalUpdates.incrementAndGet(mentor);
+				Thread.sleep(1);
+			}
+			return null;
+		});
+
+		start.countDown();
+		for (Future<?> recorder : recorders) recorder.get(60, TimeUnit.SECONDS);
+		recording.set(false);
+		for (Future<?> flusher : flushers) flusher.get(60, TimeUnit.SECONDS);
+		otherWriter.get(60, TimeUnit.SECONDS);
+		executor.shutdown();
+
+		// 남은 기록을 모두 반영
+		store.failAcknowledgements(false);
+		for (int i = 0; i < 100 && store.size() > 0; i++) nodes.get(0).flush();
+
+		assertThat(store.size()).isZero();
+		for (int mentor = 0; mentor < MENTORS; mentor++) {
+			assertThat(rating(mentorIds.get(mentor)))
+					.isEqualTo(INITIAL_RATING - reviews.get(mentor) - externalUpdates.get(mentor));
+		}
+	}
+
+	private MentorRatingService newNode(int flushBatchSize) {
+		return new MentorRatingService(mentorRepository, store,
+				jdbcTemplate, transactionTemplate, mock(ApplicationEventPublisher.class), new SimpleMeterRegistry(),
+				1, -1_000_000, flushBatchSize, Duration.ofSeconds(30), Duration.ofDays(7));
+	}
+
+	private long rating(Long mentorId) {
+		return jdbcTemplate.queryForObject("SELECT rating FROM mentor_tbl WHERE id = ?", Long.class, mentorId);
+	}
+
+	private Mentor saveMentor() {
+		return mentorRepository.save(mentor(INITIAL_RATING).build());
+	}
+
+	// Redis stream 과 flush lock 을 흉내내는 저장소, 모든 노드가 함께 사용
+	// XADD 처럼 기록 id 는 기록된 순서대로 증가하고, 읽기와 지우기는 기록과 섞이지 않음
+	// 지우기가 실패하면 아무것도 지우지 않음 (커밋 이후 지우기 전에 노드가 중단된 경우)
+	private static final class InMemoryRatingStore extends MentorRatingStore {
+
+		private final Map<String, ReviewRecord> stream = new LinkedHashMap<>();
+		private final AtomicReference<String> flushLock = new AtomicReference<>();
+		private final AtomicBoolean failAcknowledgements = new AtomicBoolean(true);
+		private long lastSequence;
+
+		InMemoryRatingStore() {
+			super(null);
+		}
+
+		@Override
+		public synchronized void record(Long mentorId, int score) {
+			String recordId = "1-" + (++lastSequence);
+			stream.put(recordId, new ReviewRecord(recordId, mentorId, score));
+		}
+
+		@Override
+		public boolean tryLockFlush(String token, Duration timeout) {
+			return flushLock.compareAndSet(null, token);
+		}
+
+		@Override
+		public void unlockFlush(String token) {
+			flushLock.compareAndSet(token, null);
+		}
+
+		@Override
+		public synchronized List<ReviewRecord> findOldest(int count) {
+			return stream.values().stream().limit(count).toList();
+		}
+
+		@Override
+		public synchronized void acknowledgeUntil(String lastRecordId) {
+			if (failAcknowledgements.get() && ThreadLocalRandom.current().nextDouble() < ACK_FAILURE_RATE) {
+				throw new IllegalStateException("Simulated failure before trimming the stream");
+			}
+			long last = RecordId.of(lastRecordId).getSequence(); // 모든 기록의 밀리초가 같으므로 순번만 비교
+			stream.keySet().removeIf(recordId -> RecordId.of(recordId).getSequence() <= last);
+		}
+
+		void failAcknowledgements(boolean fail) {
+			failAcknowledgements.set(fail);
+		}
+
+		synchronized int size() {
+			return stream.size();
+		}
+	}
+}
@@ -0,0 +1,179 @@
+package mtmt.MTMT_BE.domain.mentor.application.rating;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import mtmt.MTMT_BE.domain.mentor.domain.entity.Mentor;
+import mtmt.MTMT_BE.domain.mentor.domain.repository.MentorRatingStore;
+import mtmt.MTMT_BE.domain.mentor.domain.repository.MentorRatingStore.ReviewRecord;
+import mtmt.MTMT_BE.domain.mentor.domain.repository.MentorRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static mtmt.MTMT_BE.support.MemberFixtures.mentor;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 후기 기록을 mentor_tbl 에 반영하는 flush 테스트 (H2 메모리 DB, Redis 저장소는 mock)
+// 버전 조건부 UPDATE, rating 이 바뀌지 않는 기록, 이미 반영된 묶음, 버전 충돌 후 rebase 를 확인
+@DataJpaTest
+@ActiveProfiles("h2")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MentorRatingServiceFlushTest {
+
+	private static final AtomicInteger sequence = new AtomicInteger();
+
+	@Autowired
+	private MentorRepository mentorRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	private final MentorRatingStore mentorRatingStore = mock(MentorRatingStore.class);
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private MentorRepository repository;
+	private MentorRatingService mentorRatingService;
+
+	@BeforeEach
+	void setUp() {
+		// 충돌 테스트에서 조회 시점에 끼어들 수 있도록 실제 repository 로 위임하는 mock 사용
+		repository = mock(MentorRepository.class, delegatesTo(mentorRepository));
+		mentorRatingService = new MentorRatingService(repository, mentorRatingStore,
+				jdbcTemplate, transactionTemplate, mock(ApplicationEventPublisher.class), meterRegistry,
+				32, 500, 500, Duration.ofSeconds(30), Duration.ofDays(7));
+		when(mentorRatingStore.tryLockFlush(any(), any())).thenReturn(true);
+	}
+
+	@Test
+	void flushAppliesReviewsWithAVersionedUpdate() {
+		Long mentorId = saveMentor().getId();
+		long version = version(mentorId);
+		List<ReviewRecord> records = List.of(new ReviewRecord(nextRecordId(0), mentorId, 5));
+		when(mentorRatingStore.findOldest(anyInt())).thenReturn(records);
+
+		mentorRatingService.flush();
+
+		// 500 + 32 * (1 - 0.5)
+		assertThat(rating(mentorId)).isEqualTo(516);
+		assertThat(version(mentorId)).isEqualTo(version + 1);
+		assertThat(flushedUntil(records.get(0).recordId())).isEqualTo(records.get(0).recordId());
+		verify(mentorRatingStore).acknowledgeUntil(records.get(0).recordId());
+	}
+
+	@Test
+	void unchangedRatingIsAcknowledgedWithoutUpdate() {
+		Long mentorId = saveMentor().getId();
+		jdbcTemplate.update("UPDATE mentor_tbl SET rating = 1000 WHERE id = ?", mentorId);
+		long version = version(mentorId);
+		List<ReviewRecord> records = List.of(new ReviewRecord(nextRecordId(0), mentorId, 5));
+		when(mentorRatingStore.findOldest(anyInt())).thenReturn(records);
+
+		mentorRatingService.flush();
+
+		// 최대값에서 더 오를 수 없으므로 UPDATE 하지 않음
+		assertThat(rating(mentorId)).isEqualTo(1000);
+		assertThat(version(mentorId)).isEqualTo(version);
+		verify(mentorRatingStore).acknowledgeUntil(records.get(0).recordId());
+	}
+
+	@Test
+	void alreadyFlushedRangeIsOnlyAcknowledged() {
+		Long mentorId = saveMentor().getId();
+		long version = version(mentorId);
+		String first = nextRecordId(0);
+		List<ReviewRecord> records = List.of(new ReviewRecord(first, mentorId, 5), new ReviewRecord(nextRecordId(1), mentorId, 5));
+		// 이전 flush 가 첫번째 기록까지 반영한 뒤 stream 에서 지우기 전에 중단된 상태
+		jdbcTemplate.update("INSERT INTO mentor_rating_flush_tbl (first_record_id, last_record_id, flushed_at) VALUES (?, ?, CURRENT_TIMESTAMP)",
+				first, first);
+		when(mentorRatingStore.findOldest(anyInt())).thenReturn(records);
+
+		mentorRatingService.flush();
+
+		assertThat(rating(mentorId)).isEqualTo(500);
+		assertThat(version(mentorId)).isEqualTo(version);
+		verify(mentorRatingStore).acknowledgeUntil(first);
+	}
+
+	@Test
+	void alreadyFlushedRangeLongerThanTheBatchIsAcknowledgedToItsEnd() {
+		Long mentorId = saveMentor().getId();
+		String first = nextRecordId(0);
+		List<ReviewRecord> records = List.of(new ReviewRecord(first, mentorId, 5), new ReviewRecord(nextRecordId(1), mentorId, 5));
+		// 이전 flush 가 더 큰 batch 크기로 이번에 읽은 기록 이후까지 반영한 상태
+		String appliedUntil = first.substring(0, first.indexOf('-')) + "-9";
+		jdbcTemplate.update("INSERT INTO mentor_rating_flush_tbl (first_record_id, last_record_id, flushed_at) VALUES (?, ?, CURRENT_TIMESTAMP)",
+				first, appliedUntil);
+		when(mentorRatingStore.findOldest(anyInt())).thenReturn(records);
+
+		mentorRatingService.flush();
+
+		assertThat(rating(mentorId)).isEqualTo(500);
+		verify(mentorRatingStore).acknowledgeUntil(appliedUntil);
+	}
+
+	@Test
+	void conflictingUpdateIsRebasedOntoTheCurrentRow() {
+		Long mentorId = saveMentor().getId();
+		long version = version(mentorId);
+		List<ReviewRecord> records = List.of(new ReviewRecord(nextRecordId(0), mentorId, 5));
+		when(mentorRatingStore.findOldest(anyInt())).thenReturn(records);
+
+		// flush 가 현재 값을 읽은 뒤, UPDATE 하기 전에 다른 트랜잭션이 같은 행을 먼저 갱신
+		doAnswer(invocation -> {
+			Object rows = mentorRepository.findRatingsByIdIn(List.of(mentorId));
+			CompletableFuture.runAsync(() -> jdbcTemplate.update(
+					"UPDATE mentor_tbl SET rating = 600, version = version + 1 WHERE id = ?", mentorId)).join();
+			return rows;
+		}).when(repository).findRatingsByIdIn(any());
+
+		mentorRatingService.flush();
+
+		// 다른 트랜잭션이 바꾼 600 위에 이번 후기의 변화량(+16)을 얹음
+		assertThat(rating(mentorId)).isEqualTo(616);
+		assertThat(version(mentorId)).isEqualTo(version + 2);
+		assertThat(meterRegistry.counter("mentor.rating.flush", "result", "conflict").count()).isEqualTo(1);
+		verify(mentorRatingStore).acknowledgeUntil(records.get(0).recordId());
+	}
+
+	// 테스트마다 겹치지 않는 stream 기록 id
+	private static String nextRecordId(int sequenceNumber) {
+		return "1000" + sequence.incrementAndGet() + "-" + sequenceNumber;
+	}
+
+	private String flushedUntil(String firstRecordId) {
+		return jdbcTemplate.queryForObject("SELECT last_record_id FROM mentor_rating_flush_tbl WHERE first_record_id = ?", String.class, firstRecordId);
+	}
+
+	private int rating(Long mentorId) {
+		return jdbcTemplate.queryForObject("SELECT rating FROM mentor_tbl WHERE id = ?", Integer.class, mentorId);
+	}
+
+	private long version(Long mentorId) {
+		return jdbcTemplate.queryForObject("SELECT version FROM mentor_tbl WHERE id = ?", Long.class, mentorId);
+	}
+
+	private Mentor saveMentor() {
+		return mentorRepository.save(mentor(500).build());
+	}
+}
@@ -0,0 +1,119 @@
+package mtmt.MTMT_BE.domain.mentor.domain.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import mtmt.MTMT_BE.domain.mentor.application.dto.search.MentorSearchCondition;
+import mtmt.MTMT_BE.domain.mentor.application.dto.search.MentorSearchCursor;
+import mtmt.MTMT_BE.domain.mentor.application.dto.search.MentorSearchItem;
+import mtmt.MTMT_BE.domain.mentor.domain.entity.Mentor;
+import mtmt.MTMT_BE.domain.user.domain.entity.User;
+import mtmt.MTMT_BE.domain.user.domain.type.Category;
+import mtmt.MTMT_BE.domain.user.domain.type.Gender;
+import mtmt.MTMT_BE.domain.user.domain.type.Location;
+import mtmt.MTMT_BE.domain.user.domain.type.Role;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static mtmt.MTMT_BE.support.MemberFixtures.mentor;
+import static mtmt.MTMT_BE.support.MemberFixtures.user;
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 멘토 검색 쿼리 테스트 (H2 메모리 DB)
+// 페이지마다 SQL 이 정확히 한번만 실행되는지(user_tbl join 이 행마다 추가 쿼리로 풀리지 않는지) Hibernate 통계로 확인
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("h2")
+class MentorSearchRepositoryTest {
+
+	@Autowired
+	private MentorRepository mentorRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		for (int i = 0; i < 30; i++) {
+			int rating = (i % 10) * 100; // 같은 rating 이 여러명 -> 커서의 id 비교도 검증됨
+			User user = user(Role.MENTOR)
+					.location(i % 2 == 0 ? Location.SEOUL : Location.BUSAN)
+					.gender(i % 3 == 0 ? Gender.FEMALE : Gender.MALE)
+					.age(20 + i % 10)
+					.build();
+			entityManager.persist(mentor(rating)
+					.userId(user)
+					.major(i % 2 == 0 ? Category.MUSIC_GUITAR : Category.ART_DRAWING)
+					.build());
+		}
+		entityManager.flush();
+		entityManager.clear(); // 영속성 컨텍스트에 남은 엔티티 없이 조회하도록 비움
+
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+	}
+
+	@Test
+	void eachPageIsOneQueryAndPagesDoNotOverlap() {
+		MentorSearchCondition condition = new MentorSearchCondition(null, null, null, null, null, null, null, 7);
+
+		List<MentorSearchItem> all = new ArrayList<>();
+		MentorSearchCursor after = null;
+		int pages = 0;
+		while (true) {
+			statistics.clear();
+			List<MentorSearchItem> page = mentorRepository.search(condition, after, 7);
+			assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+			pages++;
+
+			all.addAll(page);
+			if (page.size() < 7) break;
+			after = MentorSearchCursor.after(page.get(page.size() - 1));
+		}
+
+		assertThat(pages).isEqualTo(5);
+		assertThat(all).hasSize(30);
+
+		Set<Long> ids = new HashSet<>();
+		all.forEach(item -> ids.add(item.mentorId()));
+		assertThat(ids).hasSize(30); // 페이지 사이에 중복, 누락 없음
+
+		// rating 내림차순, 같은 rating 이면 id 내림차순
+		for (int i = 1; i < all.size(); i++) {
+			MentorSearchItem prev = all.get(i - 1);
+			MentorSearchItem cur = all.get(i);
+			assertThat(prev.rating() > cur.rating()
+					|| (prev.rating() == cur.rating() && prev.mentorId() > cur.mentorId())).isTrue();
+		}
+	}
+
+	@Test
+	void filtersByMentorAndUserColumnsInOneQuery() {
+		MentorSearchCondition condition = new MentorSearchCondition(
+				Category.MUSIC_GUITAR, Location.SEOUL, null, Gender.FEMALE, 20, 25, null, null);
+
+		List<MentorSearchItem> result = mentorRepository.search(condition, null, 100);
+
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+		assertThat(result).isNotEmpty().allSatisfy(item -> {
+			assertThat(item.major()).isEqualTo(Category.MUSIC_GUITAR);
+			assertThat(item.location()).isEqualTo(Location.SEOUL);
+			assertThat(item.gender()).isEqualTo(Gender.FEMALE);
+			assertThat(item.age()).isBetween(20, 25);
+			assertThat(item.name()).isNotNull();
+		});
+	}
+}
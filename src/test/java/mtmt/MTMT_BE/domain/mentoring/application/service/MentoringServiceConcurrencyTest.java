@@ -0,0 +1,190 @@
+package mtmt.MTMT_BE.domain.mentoring.application.service;
+
+import mtmt.MTMT_BE.domain.mentee.domain.entity.Mentee;
+import mtmt.MTMT_BE.domain.mentee.domain.repository.MenteeRepository;
+import mtmt.MTMT_BE.domain.mentor.domain.entity.Mentor;
+import mtmt.MTMT_BE.domain.mentor.domain.repository.MentorRepository;
+import mtmt.MTMT_BE.domain.mentoring.application.dto.MentoringResponse;
+import mtmt.MTMT_BE.domain.mentoring.domain.type.MentoringStatus;
+import mtmt.MTMT_BE.global.exception.domain.mentoring.MentoringCapacityExceededException;
+import mtmt.MTMT_BE.global.exception.domain.mentoring.MentoringStateConflictException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static mtmt.MTMT_BE.support.MemberFixtures.mentee;
+import static mtmt.MTMT_BE.support.MemberFixtures.mentor;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 멘토링 상태 변경의 동시성 테스트 (H2 메모리 DB)
+// 서비스의 트랜잭션이 실제로 커밋되어야 하므로 테스트 트랜잭션 없이 실행하고, 테스트마다 다른 멘토를 사용
+@DataJpaTest(properties = "mentoring.default-capacity=" + MentoringServiceConcurrencyTest.CAPACITY)
+@ActiveProfiles("h2")
+@Import(MentoringService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MentoringServiceConcurrencyTest {
+
+	static final int CAPACITY = 5;
+	private static final int PARALLEL_CALLS = 300;
+	private static final int THREADS = 32;
+
+	@Autowired
+	private MentoringService mentoringService;
+
+	@Autowired
+	private MentorRepository mentorRepository;
+
+	@Autowired
+	private MenteeRepository menteeRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void parallelAcceptsNeverExceedCapacity() throws Exception {
+		Mentor mentor = saveMentor();
+		Long mentorUserId = mentor.getUserId().getId();
+		List<Long> mentoringIds = new ArrayList<>();
+		for (Mentee mentee : saveMentees(PARALLEL_CALLS)) {
+			mentoringIds.add(mentoringService.request(mentee.getUserId().getId(), mentor.getId()).mentoringId());
+		}
+
+		List<Callable<MentoringResponse>> calls = new ArrayList<>();
+		for (Long mentoringId : mentoringIds) calls.add(() -> mentoringService.accept(mentorUserId, mentoringId));
+		Outcome outcome = runInParallel(calls);
+
+		assertThat(outcome.succeeded()).isEqualTo(CAPACITY);
+		assertThat(outcome.capacityExceeded()).isEqualTo(PARALLEL_CALLS - CAPACITY);
+		assertThat(outcome.conflicted()).isZero();
+		assertThat(countByStatus(mentor.getId(), MentoringStatus.ACCEPTED)).isEqualTo(CAPACITY);
+		assertThat(countByStatus(mentor.getId(), MentoringStatus.REQUESTED)).isEqualTo(PARALLEL_CALLS - CAPACITY); // 롤백되어 신청 상태로 남음
+		assertThat(activeCount(mentor.getId())).isEqualTo(CAPACITY);
+	}
+
+	@Test
+	void parallelAcceptsOfTheSameRequestSucceedOnce() throws Exception {
+		Mentor mentor = saveMentor();
+		Long mentorUserId = mentor.getUserId().getId();
+		Mentee mentee = saveMentees(1).get(0);
+		Long mentoringId = mentoringService.request(mentee.getUserId().getId(), mentor.getId()).mentoringId();
+
+		List<Callable<MentoringResponse>> calls = new ArrayList<>();
+		for (int i = 0; i < PARALLEL_CALLS; i++) calls.add(() -> mentoringService.accept(mentorUserId, mentoringId));
+		Outcome outcome = runInParallel(calls);
+
+		assertThat(outcome.succeeded()).isEqualTo(1);
+		assertThat(outcome.conflicted()).isEqualTo(PARALLEL_CALLS - 1);
+		assertThat(activeCount(mentor.getId())).isEqualTo(1);
+		assertThat(jdbcTemplate.queryForObject("SELECT version FROM mentoring_tbl WHERE id = ?", Long.class, mentoringId)).isEqualTo(1L);
+		assertThat(jdbcTemplate.queryForObject("SELECT mentor_accept FROM mentoring_proccess_tbl WHERE id = ?", Boolean.class, mentoringId)).isTrue();
+	}
+
+	@Test
+	void parallelRequestsFromTheSameMenteeOpenOneMentoring() throws Exception {
+		Mentor mentor = saveMentor();
+		Long mentorUserId = mentor.getUserId().getId();
+		Long menteeUserId = saveMentees(1).get(0).getUserId().getId();
+
+		List<Callable<MentoringResponse>> calls = new ArrayList<>();
+		for (int i = 0; i < PARALLEL_CALLS; i++) calls.add(() -> mentoringService.request(menteeUserId, mentor.getId()));
+		Outcome outcome = runInParallel(calls);
+
+		assertThat(outcome.succeeded()).isEqualTo(1);
+		assertThat(outcome.conflicted()).isEqualTo(PARALLEL_CALLS - 1);
+		assertThat(countByStatus(mentor.getId(), MentoringStatus.REQUESTED)).isEqualTo(1);
+
+		// 끝난 멘토링은 unique key 에 걸리지 않으므로 거절된 뒤에는 다시 신청할 수 있음
+		Long mentoringId = jdbcTemplate.queryForObject("SELECT id FROM mentoring_tbl WHERE mentor_id = ?", Long.class, mentor.getId());
+		mentoringService.reject(mentorUserId, mentoringId);
+		assertThat(mentoringService.request(menteeUserId, mentor.getId()).status()).isEqualTo(MentoringStatus.REQUESTED);
+	}
+
+	@Test
+	void completingAMentoringReleasesCapacity() {
+		Mentor mentor = saveMentor();
+		Long mentorUserId = mentor.getUserId().getId();
+		List<Mentee> mentees = saveMentees(CAPACITY + 1);
+		List<Long> mentoringIds = new ArrayList<>();
+		for (Mentee mentee : mentees) {
+			mentoringIds.add(mentoringService.request(mentee.getUserId().getId(), mentor.getId()).mentoringId());
+		}
+
+		for (int i = 0; i < CAPACITY; i++) mentoringService.accept(mentorUserId, mentoringIds.get(i));
+		Long waiting = mentoringIds.get(CAPACITY);
+		assertThatThrownBy(() -> mentoringService.accept(mentorUserId, waiting)).isInstanceOf(MentoringCapacityExceededException.class);
+
+		Long menteeUserId = mentees.get(0).getUserId().getId();
+		mentoringService.start(menteeUserId, mentoringIds.get(0));
+		assertThat(mentoringService.complete(menteeUserId, mentoringIds.get(0)).status()).isEqualTo(MentoringStatus.COMPLETED);
+
+		assertThat(mentoringService.accept(mentorUserId, waiting).status()).isEqualTo(MentoringStatus.ACCEPTED);
+		assertThat(activeCount(mentor.getId())).isEqualTo(CAPACITY);
+	}
+
+	private Outcome runInParallel(List<Callable<MentoringResponse>> calls) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch start = new CountDownLatch(1);
+		AtomicInteger succeeded = new AtomicInteger();
+		AtomicInteger capacityExceeded = new AtomicInteger();
+		AtomicInteger conflicted = new AtomicInteger();
+
+		List<Future<?>> futures = new ArrayList<>();
+		for (Callable<MentoringResponse> call : calls) {
+			futures.add(executor.submit(() -> {
+				start.await();
+				try {
+					call.call();
+					succeeded.incrementAndGet();
+				} catch (MentoringCapacityExceededException e) {
+					capacityExceeded.incrementAndGet();
+				} catch (MentoringStateConflictException e) {
+					conflicted.incrementAndGet();
+				}
+				return null;
+			}));
+		}
+		start.countDown();
+		for (Future<?> future : futures) future.get(60, TimeUnit.SECONDS); // 그 외의 예외(잠금 대기 시간 초과 등)는 테스트 실패
+		executor.shutdown();
+
+		return new Outcome(succeeded.get(), capacityExceeded.get(), conflicted.get());
+	}
+
+	private Mentor saveMentor() {
+		return mentorRepository.save(mentor(500).build());
+	}
+
+	private List<Mentee> saveMentees(int count) {
+		List<Mentee> mentees = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) mentees.add(mentee(0).build());
+		return menteeRepository.saveAll(mentees);
+	}
+
+	private long countByStatus(Long mentorId, MentoringStatus status) {
+		return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM mentoring_tbl WHERE mentor_id = ? AND status = ?",
+				Long.class, mentorId, status.name());
+	}
+
+	private int activeCount(Long mentorId) {
+		return jdbcTemplate.queryForObject("SELECT active_count FROM mentoring_capacity_tbl WHERE mentor_id = ?",
+				Integer.class, mentorId);
+	}
+
+	private record Outcome(int succeeded, int capacityExceeded, int conflicted) { }
+}
@@ -0,0 +1,190 @@
+package mtmt.MTMT_BE.global.idempotency;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import mtmt.MTMT_BE.global.exception.domain.common.IdempotencyKeyMismatchException;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.context.request.async.StandardServletAsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncManager;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// Idempotency-Key 필터 테스트 (Redis 는 메모리 map 으로 흉내낸 mock)
+// 키 선점과 응답 저장, 저장된 응답 replay, 다른 요청에 같은 키 사용(422), 저장하지 않는 응답의 키 해제,
+// 비동기 처리가 error dispatch 로 끝나거나 dispatch 없이 끝났을때의 키 해제를 확인
+class IdempotencyFilterTest {
+
+	private static final String KEY = "key-1";
+	private static final String REDIS_KEY = "idempotency:anonymous:" + KEY;
+	private static final String BODY = "{\"mentorId\":1}";
+	private static final String RESPONSE_BODY = "{\"mentoringId\":10}";
+
+	private final Map<String, byte[]> redis = new ConcurrentHashMap<>();
+	private final AtomicInteger controllerCalls = new AtomicInteger();
+
+	private final IdempotencyFilter filter = new IdempotencyFilter(binaryRedisTemplate(),
+			Duration.ofHours(24), Duration.ofSeconds(60), Duration.ofMillis(200), 65536, List.of("/auth/login"));
+
+	@Test
+	void firstRequestClaimsTheKeyAndStoresTheResponse() throws Exception {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		filter.doFilter(request(BODY), response, controller(201));
+
+		assertThat(controllerCalls.get()).isEqualTo(1);
+		assertThat(response.getStatus()).isEqualTo(201);
+		assertThat(response.getContentAsString()).isEqualTo(RESPONSE_BODY);
+		assertThat(response.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+
+		IdempotentResponse stored = IdempotentResponse.decode(redis.get(REDIS_KEY));
+		assertThat(stored.completed()).isTrue();
+		assertThat(stored.status()).isEqualTo(201);
+		assertThat(new String(stored.body(), StandardCharsets.UTF_8)).isEqualTo(RESPONSE_BODY);
+	}
+
+	@Test
+	void retryReplaysTheStoredResponseWithoutRunningTheController() throws Exception {
+		filter.doFilter(request(BODY), new MockHttpServletResponse(), controller(201));
+
+		MockHttpServletResponse replayed = new MockHttpServletResponse();
+		filter.doFilter(request(BODY), replayed, controller(201));
+
+		assertThat(controllerCalls.get()).isEqualTo(1);
+		assertThat(replayed.getStatus()).isEqualTo(201);
+		assertThat(replayed.getContentAsString()).isEqualTo(RESPONSE_BODY);
+		assertThat(replayed.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+	}
+
+	@Test
+	void sameKeyWithADifferentBodyIsRejected() throws Exception {
+		filter.doFilter(request(BODY), new MockHttpServletResponse(), controller(201));
+
+		assertThatThrownBy(() -> filter.doFilter(request("{\"mentorId\":2}"), new MockHttpServletResponse(), controller(201)))
+				.isInstanceOf(IdempotencyKeyMismatchException.class);
+		assertThat(controllerCalls.get()).isEqualTo(1);
+	}
+
+	@Test
+	void nonReplayableStatusReleasesTheKey() throws Exception {
+		MockHttpServletResponse unavailable = new MockHttpServletResponse();
+		filter.doFilter(request(BODY), unavailable, controller(503));
+
+		assertThat(unavailable.getStatus()).isEqualTo(503);
+		assertThat(redis).doesNotContainKey(REDIS_KEY);
+
+		// 다시 시도하면 컨트롤러가 다시 실행됨
+		MockHttpServletResponse retried = new MockHttpServletResponse();
+		filter.doFilter(request(BODY), retried, controller(201));
+
+		assertThat(controllerCalls.get()).isEqualTo(2);
+		assertThat(retried.getStatus()).isEqualTo(201);
+		assertThat(retried.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+	}
+
+	@Test
+	void asyncRequestEndedByAnErrorDispatchReleasesTheKey() throws Exception {
+		MockHttpServletRequest request = request(BODY);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		filter.doFilter(request, response, asyncController());
+		assertThat(redis).containsKey(REDIS_KEY); // 비동기 처리중에는 처리중 표시가 남아있음
+
+		// 비동기 처리 timeout -> async dispatch 대신 error dispatch
+		request.setAsyncStarted(false);
+		request.setDispatcherType(DispatcherType.ERROR);
+		filter.doFilter(request, response, (req, res) -> ((HttpServletResponse) res).setStatus(503));
+		request.getAsyncContext().complete();
+
+		assertThat(redis).doesNotContainKey(REDIS_KEY);
+		assertRetryRunsTheController();
+	}
+
+	@Test
+	void asyncRequestCompletedWithoutADispatchReleasesTheKey() throws Exception {
+		MockHttpServletRequest request = request(BODY);
+		filter.doFilter(request, new MockHttpServletResponse(), asyncController());
+		assertThat(redis).containsKey(REDIS_KEY);
+
+		// 클라이언트 연결 끊김 등으로 async dispatch 없이 비동기 처리가 끝남
+		request.getAsyncContext().complete();
+
+		assertThat(redis).doesNotContainKey(REDIS_KEY);
+		assertRetryRunsTheController();
+	}
+
+	// 키가 해제되었다면 같은 키의 재시도가 409 없이 컨트롤러를 다시 실행
+	private void assertRetryRunsTheController() throws Exception {
+		MockHttpServletResponse retried = new MockHttpServletResponse();
+		filter.doFilter(request(BODY), retried, controller(201));
+
+		assertThat(controllerCalls.get()).isEqualTo(2);
+		assertThat(retried.getStatus()).isEqualTo(201);
+		assertThat(IdempotentResponse.decode(redis.get(REDIS_KEY)).completed()).isTrue();
+	}
+
+	private static MockHttpServletRequest request(String body) {
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", "/mentorings");
+		request.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, KEY);
+		request.setContentType("application/json");
+		request.setContent(body.getBytes(StandardCharsets.UTF_8));
+		request.setAsyncSupported(true);
+		return request;
+	}
+
+	private FilterChain controller(int status) {
+		return (request, response) -> {
+			controllerCalls.incrementAndGet();
+			((HttpServletResponse) response).setStatus(status);
+			response.setContentType("application/json");
+			response.getOutputStream().write(RESPONSE_BODY.getBytes(StandardCharsets.UTF_8));
+		};
+	}
+
+	// DeferredResult 를 반환한 컨트롤러처럼 비동기 처리를 시작하고 응답 없이 돌아감
+	private FilterChain asyncController() {
+		return (request, response) -> {
+			controllerCalls.incrementAndGet();
+			WebAsyncManager asyncManager = WebAsyncUtils.getAsyncManager(request);
+			asyncManager.setAsyncWebRequest(new StandardServletAsyncWebRequest((HttpServletRequest) request, (HttpServletResponse) response));
+			try {
+				asyncManager.startDeferredResultProcessing(new DeferredResult<>());
+			} catch (Exception e) {
+				throw new ServletException(e);
+			}
+		};
+	}
+
+	@SuppressWarnings("unchecked")
+	private RedisTemplate<String, byte[]> binaryRedisTemplate() {
+		RedisTemplate<String, byte[]> template = mock(RedisTemplate.class);
+		ValueOperations<String, byte[]> valueOperations = mock(ValueOperations.class);
+		when(template.opsForValue()).thenReturn(valueOperations);
+		when(valueOperations.setIfAbsent(anyString(), any(byte[].class), any(Duration.class)))
+				.thenAnswer(invocation -> redis.putIfAbsent(invocation.getArgument(0), invocation.getArgument(1)) == null);
+		when(valueOperations.get(anyString())).thenAnswer(invocation -> redis.get(invocation.<String>getArgument(0)));
+		doAnswer(invocation -> redis.put(invocation.getArgument(0), invocation.getArgument(1)))
+				.when(valueOperations).set(anyString(), any(byte[].class), any(Duration.class));
+		when(template.delete(anyString())).thenAnswer(invocation -> redis.remove(invocation.<String>getArgument(0)) != null);
+		return template;
+	}
+}
@@ -0,0 +1,54 @@
+package mtmt.MTMT_BE.support;
+
+import mtmt.MTMT_BE.domain.mentee.domain.entity.Mentee;
+import mtmt.MTMT_BE.domain.mentor.domain.entity.Mentor;
+import mtmt.MTMT_BE.domain.user.domain.entity.User;
+import mtmt.MTMT_BE.domain.user.domain.type.Category;
+import mtmt.MTMT_BE.domain.user.domain.type.Gender;
+import mtmt.MTMT_BE.domain.user.domain.type.Location;
+import mtmt.MTMT_BE.domain.user.domain.type.Role;
+
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 테스트에서 저장할 회원, 멘토, 멘티의 builder
+// 이메일과 이름은 호출마다 겹치지 않고, 나머지는 기본값이 채워져 있으므로 테스트에 필요한 값만 바꿔서 사용
+// User 는 Mentor, Mentee 를 저장할때 cascade 로 함께 저장됨
+public final class MemberFixtures {
+
+	private static final AtomicInteger sequence = new AtomicInteger();
+
+	private MemberFixtures() {
+	}
+
+	public static User.UserBuilder user(Role role) {
+		String name = role.name().toLowerCase() + sequence.incrementAndGet();
+		return User.builder()
+				.email(name + "@mtmt.com")
+				.password("password")
+				.name(name)
+				.role(role)
+				.location(Location.SEOUL)
+				.birthDate(LocalDate.of(2000, 1, 1))
+				.gender(Gender.MALE)
+				.age(20);
+	}
+
+	public static Mentor.MentorBuilder mentor(int rating) {
+		return Mentor.builder()
+				.userId(user(Role.MENTOR).build())
+				.major(Category.MUSIC_GUITAR)
+				.rating(rating)
+				.ratingSection(Mentor.calculateRatingSectionFromRating(rating));
+	}
+
+	public static Mentee.MenteeBuilder mentee(int exp) {
+		return Mentee.builder()
+				.userId(user(Role.MENTEE).build())
+				.exp(exp)
+				.level(Mentee.calculateLevelFromExp(exp))
+				.interestFirst(Category.MUSIC_GUITAR)
+				.interestSecond(Category.ART_DRAWING)
+				.interestThird(Category.MUSIC_GUITAR);
+	}
+}